@@ -1,10 +1,12 @@
 package com.qhucy.configmanager;
 
+import com.qhucy.configmanager.path.ConfigPath;
 import com.qhucy.configmanager.value.ConfigValue;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Utility class containing static methods to build config field and value maps.
@@ -52,7 +54,7 @@ public final class ConfigBuilder
                 }
                 else if ( fieldValue[ i + 1 ] == null )
                 {
-                    configValueMap.put( field, new ConfigValue( null ) );
+                    configValueMap.put( ConfigPath.intern( field ), new ConfigValue( null ) );
                 }
                 else if ( !( fieldValue[ i + 1 ] instanceof final ConfigValue configValue ) )
                 {
@@ -64,7 +66,7 @@ public final class ConfigBuilder
                 }
                 else
                 {
-                    configValueMap.put( field, configValue );
+                    configValueMap.put( ConfigPath.intern( field ), configValue );
                 }
             }
 
@@ -111,8 +113,9 @@ public final class ConfigBuilder
                 }
                 else
                 {
-                    configValueMap.put( field, new ConfigValue( fieldValues[ i + 1 ],
-                                                                fieldValues[ i + 2 ] ) );
+                    configValueMap.put( ConfigPath.intern( field ),
+                                        new ConfigValue( fieldValues[ i + 1 ],
+                                                         fieldValues[ i + 2 ] ) );
                 }
             }
 
@@ -157,7 +160,8 @@ public final class ConfigBuilder
                 }
                 else
                 {
-                    configValueMap.put( field, new ConfigValue( fieldValue[ i + 1 ] ) );
+                    configValueMap.put( ConfigPath.intern( field ),
+                                        new ConfigValue( fieldValue[ i + 1 ] ) );
                 }
             }
 
@@ -165,4 +169,53 @@ public final class ConfigBuilder
         }
     }
 
+    /**
+     * Returns a flat field and value map from a nested map such as the ones produced by YAML and
+     * JSON parsers. Nested maps are flattened into dotted fields, so a value nested under the keys
+     * "a", "c", and "f" is stored under the field "a.c.f". Fields are interned as ConfigPaths, so
+     * repeated flattening of the same structure reuses the same Strings.
+     *
+     * @param nestedValues The nested field and value map.
+     *
+     * @return A flat field and value map with dotted fields.
+     */
+    @NonNull
+    public static HashMap< String, Object > buildFromNestedMap( @Nullable final Map< ?, ? > nestedValues )
+    {
+        final HashMap< String, Object > flatValues = new HashMap<>();
+
+        if ( nestedValues != null )
+        {
+            flattenInto( flatValues, ConfigPath.ROOT, nestedValues );
+        }
+
+        return flatValues;
+    }
+
+    /**
+     * Recursively copies all values of a nested map into a flat field and value map.
+     *
+     * @param flatValues   The flat field and value map to copy into.
+     * @param parent       The path of the nested map, the root path for the root map.
+     * @param nestedValues The nested map to copy from.
+     */
+    private static void flattenInto( @NonNull final Map< String, Object > flatValues,
+                                     @NonNull final ConfigPath parent,
+                                     @NonNull final Map< ?, ? > nestedValues )
+    {
+        for ( final Map.Entry< ?, ? > entry : nestedValues.entrySet() )
+        {
+            final ConfigPath path = parent.child( String.valueOf( entry.getKey() ) );
+
+            if ( entry.getValue() instanceof final Map< ?, ? > nestedMap && !nestedMap.isEmpty() )
+            {
+                flattenInto( flatValues, path, nestedMap );
+            }
+            else
+            {
+                flatValues.put( path.toString(), entry.getValue() );
+            }
+        }
+    }
+
 }
\ No newline at end of file
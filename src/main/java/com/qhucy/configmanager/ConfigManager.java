@@ -4,8 +4,22 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.qhucy.configmanager.concurrent.ConfigExecutors;
+import com.qhucy.configmanager.event.ConfigChange;
+import com.qhucy.configmanager.event.ConfigChangeDispatcher;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigComments;
 import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.metrics.ConfigFootprint;
+import com.qhucy.configmanager.path.ConfigPath;
+import com.qhucy.configmanager.schema.ConfigSchema;
+import com.qhucy.configmanager.schema.ConfigValidationException;
+import com.qhucy.configmanager.schema.ConfigViolation;
+import com.qhucy.configmanager.snapshot.ConfigSnapshot;
+import com.qhucy.configmanager.value.ConfigConverters;
+import com.qhucy.configmanager.value.ConfigDefaults;
 import com.qhucy.configmanager.value.ConfigValue;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -15,9 +29,9 @@ import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.tomlj.Toml;
 import org.tomlj.TomlParseResult;
+import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -26,10 +40,18 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -63,6 +85,32 @@ public class ConfigManager
 
     // Whether there are missing values in the loaded config field and value map.
     private boolean missingValues = false;
+    // Whether the config field and value map changed since it was last loaded or saved.
+    private volatile boolean dirty = false;
+
+    // The shared defaults that fields without a value or default value of their own fall through
+    // to.
+    @NonNull
+    @Setter( AccessLevel.NONE )
+    private volatile ConfigDefaults sharedDefaults = ConfigDefaults.empty();
+
+    // The resolved effective value of every field, null if unresolved or written to since.
+    @Getter( AccessLevel.NONE )
+    @Setter( AccessLevel.NONE )
+    private volatile Map< String, Object > effectiveValues;
+
+    // The schema that loaded and reloaded config field and value maps are validated against, null
+    // for none.
+    @Nullable
+    private volatile ConfigSchema schema;
+    // Whether the config field and value map satisfied the schema and was not written to since.
+    @Setter( AccessLevel.NONE )
+    private volatile boolean      validated = false;
+
+    // The dispatcher of change sets to subscribed listeners, created on first use.
+    @Getter( AccessLevel.NONE )
+    @Setter( AccessLevel.NONE )
+    private volatile ConfigChangeDispatcher changeDispatcher;
 
     /**
      * Instantiates a ConfigManager from a config field and value map.
@@ -177,6 +225,23 @@ public class ConfigManager
         setValues( ConfigBuilder.buildFromObjects( fieldValueDefaultValue ) );
     }
 
+    /**
+     * Instantiates a ConfigManager without any fields of its own that falls through to shared
+     * defaults. Only fields that are set later are stored per instance.
+     *
+     * @param configSource   The source of the config field and value map.
+     * @param logger         The accessing plugin's logger that is used to log missing and invalid
+     *                       config values.
+     * @param sharedDefaults The shared defaults.
+     */
+    public ConfigManager( @NonNull final ConfigSource configSource, @NonNull final Logger logger,
+                          @NonNull final ConfigDefaults sharedDefaults )
+    {
+        setConfigSource( configSource );
+        setLogger( logger );
+        setSharedDefaults( sharedDefaults );
+    }
+
     /**
      * Instantiates a ConfigManager from a stored config value.
      *
@@ -209,15 +274,28 @@ public class ConfigManager
      *
      * @return The list of nested fields under a given field in the config key and value map.
      */
-    public final List< String > getConfigSectionFields( @NonNull final String parentField,
-                                                        final boolean fullFields,
-                                                        final boolean deepFields )
+    public List< String > getConfigSectionFields( @NonNull final String parentField,
+                                                  final boolean fullFields,
+                                                  final boolean deepFields )
     {
         Validate.notNull( parentField, "Parameter parentField cannot be null." );
 
         final ArrayList< String > fields = new ArrayList<>();
 
-        for ( final String field : getValues().keySet() )
+        final ConfigDefaults       defaults    = getSharedDefaults();
+        final Collection< String > knownFields;
+
+        if ( defaults.isEmpty() )
+        {
+            knownFields = getValues().keySet();
+        }
+        else
+        {
+            knownFields = new LinkedHashSet<>( getValues().keySet() );
+            knownFields.addAll( defaults.getFields() );
+        }
+
+        for ( final String field : knownFields )
         {
             if ( field.startsWith( parentField ) && !field.equalsIgnoreCase( parentField ) )
             {
@@ -246,17 +324,29 @@ public class ConfigManager
      * @see ConfigValue
      */
     @Nullable
-    public final ConfigValue getConfigValue( @NonNull final String field )
+    public ConfigValue getConfigValue( @NonNull final String field )
     {
-        if ( getValues().containsKey( field ) )
+        final ConfigValue configValue = getValues().get( field );
+
+        if ( configValue == null )
         {
-            return getValues().get( field );
+            logMissingConfigValue( field );
         }
-        else
+
+        return configValue;
+    }
+
+    /**
+     * Logs that a field has no ConfigValue, unless the shared defaults provide the field since
+     * fields of the shared defaults are only stored once an instance overrides them.
+     *
+     * @param field The field without a ConfigValue.
+     */
+    protected final void logMissingConfigValue( @NonNull final String field )
+    {
+        if ( !getSharedDefaults().contains( field ) )
         {
             logMissingValue( field );
-
-            return null;
         }
     }
 
@@ -266,12 +356,30 @@ public class ConfigManager
      * @param field       The field to set in the config field and value map.
      * @param configValue The value to attach to the field in the config field and value map.
      */
-    public final void setConfigValue( @NonNull final String field,
-                                      @Nullable final ConfigValue configValue )
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        getValues().put( ConfigPath.intern( field ),
+                         Objects.requireNonNullElseGet( configValue,
+                                                        () -> newConfigValue( null, null ) ) );
+        setDirty( true );
+    }
+
+    /**
+     * Creates the ConfigValue that holds a new field of the config field and value map. Every
+     * mutator that adds a field goes through this method, so subclasses can change how values are
+     * stored.
+     *
+     * @param value        The value of the new field.
+     * @param defaultValue The default value of the new field.
+     *
+     * @return The ConfigValue that holds the new field.
+     */
+    @NonNull
+    protected ConfigValue newConfigValue( @Nullable final Object value,
+                                          @Nullable final Object defaultValue )
     {
-        getValues().put( field, Objects.requireNonNullElseGet( configValue,
-                                                               () -> new ConfigValue( null,
-                                                                                      null ) ) );
+        return new ConfigValue( value, defaultValue );
     }
 
     /**
@@ -279,8 +387,10 @@ public class ConfigManager
      *
      * @param values The config field and value map.
      */
-    public final void setValues( @Nullable final Map< String, ConfigValue > values )
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
     {
+        effectiveValues = null;
+
         if ( values == null )
         {
             this.values.clear();
@@ -293,35 +403,80 @@ public class ConfigManager
 
     /**
      * Returns the value at a given field in the config field and value map. Logs if values are
-     * missing.
+     * missing, unless the effective values are resolved or the shared defaults provide them.
      *
      * @param field The field in the config field and value map.
      *
      * @return The value at a given field in the config field and value map.
      */
     @Nullable
-    public final Object getValue( @NonNull final String field )
+    public Object getValue( @NonNull final String field )
     {
-        if ( getValues().containsKey( field ) )
+        final Map< String, Object > effective = effectiveValues;
+
+        // A resolved config already logged its fallbacks, so a read is a single lookup.
+        if ( effective != null )
         {
-            final ConfigValue configValue = getValues().get( field );
+            final Object resolved = effective.get( field );
 
-            if ( configValue.hasValue() )
+            if ( resolved != null || effective.containsKey( field ) )
             {
-                return configValue.getValue();
+                return resolved;
             }
-            else if ( configValue.hasDefaultValue() )
-            {
-                logMissingValueWithReplacement( field,
-                                                String.valueOf( configValue.getDefaultValue() ) );
+        }
 
-                return configValue.getDefaultValue();
-            }
+        final ConfigValue configValue = getValues().get( field );
+        // Read once, since a validated field always has a value and this is the only check.
+        final Object      value       = ( configValue == null ) ? null : configValue.getValue();
+
+        if ( value != null )
+        {
+            return value;
         }
 
-        logMissingValue( field );
+        return fallbackValue( field, ( configValue == null ) ? null
+                                                             : configValue.getDefaultValue() );
+    }
+
+    /**
+     * Returns the value stored for a field itself, without falling back to default values and
+     * without logging if it is missing.
+     *
+     * @param field The field in the config field and value map.
+     *
+     * @return The value stored for the field, null if there is none.
+     */
+    @Nullable
+    public Object getRawValue( @NonNull final String field )
+    {
+        final ConfigValue configValue = getValues().get( field );
+
+        return ( configValue == null ) ? null : configValue.getValue();
+    }
+
+    /**
+     * Returns the value at a given field converted to a type through the ConfigConverters. A value
+     * stored for the field itself caches its conversion until it is set again, a fallback to a
+     * default value is converted on every read. Subclasses that only hand out detached
+     * ConfigValues convert on every read.
+     *
+     * @param field The field in the config field and value map.
+     * @param type  The type to convert to, primitive types convert to their boxed type.
+     * @param <T>   The type to convert to.
+     *
+     * @return The converted value, null if there is none.
+     *
+     * @throws IllegalArgumentException If the value cannot be converted to the type.
+     * @see ConfigConverters
+     */
+    @Nullable
+    public < T > T getAs( @NonNull final String field, @NonNull final Class< T > type )
+    {
+        final ConfigValue configValue = getValues().get( field );
+        final T           converted   = ( configValue == null ) ? null : configValue.getAs( type );
 
-        return null;
+        return ( converted != null ) ? converted
+                                     : ConfigConverters.convert( getValue( field ), type );
     }
 
     /**
@@ -331,15 +486,25 @@ public class ConfigManager
      * @param field  The field in the config field and value map.
      * @param object The new value for the field in the config field and value map.
      */
-    public final void setValue( @NonNull final String field, @Nullable final Object object )
+    public void setValue( @NonNull final String field, @Nullable final Object object )
     {
-        if ( getValues().containsKey( field ) )
+        final ConfigValue configValue = getValues().get( field );
+        final Object      oldValue    = ( configValue == null ) ? null : configValue.getValue();
+
+        if ( configValue != null )
         {
-            getValues().get( field ).setValue( object );
+            configValue.setValue( object );
         }
         else
         {
-            getValues().put( field, new ConfigValue( object, null ) );
+            getValues().put( ConfigPath.intern( field ), newConfigValue( object, null ) );
+        }
+
+        setDirty( true );
+
+        if ( isListening() && !Objects.equals( oldValue, object ) )
+        {
+            fireChange( ConfigChangeSet.of( this, field, oldValue, object ) );
         }
     }
 
@@ -349,12 +514,22 @@ public class ConfigManager
      *
      * @param values The config field and value map to transfer.
      */
-    public final void transferValues( @Nullable final HashMap< String, Object > values )
+    public void transferValues( @Nullable final HashMap< String, Object > values )
     {
+        final Map< String, ConfigChange > changes = isListening() ? new LinkedHashMap<>() : null;
+
         if ( values == null )
         {
-            for ( final ConfigValue configValue : getValues().values() )
+            for ( final Map.Entry< String, ConfigValue > entry : getValues().entrySet() )
             {
+                final ConfigValue configValue = entry.getValue();
+
+                if ( changes != null && configValue.hasValue() )
+                {
+                    changes.put( entry.getKey(), new ConfigChange( entry.getKey(),
+                                                                   configValue.getValue(), null ) );
+                }
+
                 configValue.setValue( null );
             }
         }
@@ -362,16 +537,34 @@ public class ConfigManager
         {
             for ( final Map.Entry< String, Object > entry : values.entrySet() )
             {
-                if ( getValues().containsKey( entry.getKey() ) )
+                final ConfigValue configValue = getValues().get( entry.getKey() );
+                final Object      oldValue    = ( configValue == null ) ? null
+                                                                        : configValue.getValue();
+
+                if ( configValue != null )
                 {
-                    getValues().get( entry.getKey() ).setValue( entry.getValue() );
+                    configValue.setValue( entry.getValue() );
                 }
                 else
                 {
-                    getValues().put( entry.getKey(), new ConfigValue( entry.getValue(), null ) );
+                    getValues().put( ConfigPath.intern( entry.getKey() ),
+                                     newConfigValue( entry.getValue(), null ) );
+                }
+
+                if ( changes != null && !Objects.equals( oldValue, entry.getValue() ) )
+                {
+                    changes.put( entry.getKey(), new ConfigChange( entry.getKey(), oldValue,
+                                                                   entry.getValue() ) );
                 }
             }
         }
+
+        setDirty( true );
+
+        if ( changes != null )
+        {
+            fireChange( new ConfigChangeSet( this, changes ) );
+        }
     }
 
     /**
@@ -382,19 +575,60 @@ public class ConfigManager
      * @return The default value at a given field in the config field and value map.
      */
     @Nullable
-    public final Object getDefaultValue( @NonNull final String field )
+    public Object getDefaultValue( @NonNull final String field )
     {
-        if ( getValues().containsKey( field ) )
+        final ConfigValue configValue = getValues().get( field );
+
+        return resolveDefaultValue( field, ( configValue == null ) ? null
+                                                                   : configValue.getDefaultValue() );
+    }
+
+    /**
+     * Returns the default value of a field, falling through to the shared defaults if the field
+     * has no default value of its own.
+     *
+     * @param field        The field in the config field and value map.
+     * @param defaultValue The default value stored for the field in this ConfigManager.
+     *
+     * @return The default value of the field, null if it has none.
+     */
+    @Nullable
+    protected final Object resolveDefaultValue( @NonNull final String field,
+                                                @Nullable final Object defaultValue )
+    {
+        return ( defaultValue != null ) ? defaultValue : getSharedDefaults().get( field );
+    }
+
+    /**
+     * Returns the value to read for a field without a value. A default value of the field itself
+     * is logged as a replacement, while a shared default is returned silently since inheriting it
+     * is the point of the shared defaults. The field is only logged as missing if neither layer
+     * has a default value for it.
+     *
+     * @param field        The field in the config field and value map.
+     * @param defaultValue The default value stored for the field in this ConfigManager.
+     *
+     * @return The default value of the field, null if it has none.
+     */
+    @Nullable
+    protected final Object fallbackValue( @NonNull final String field,
+                                          @Nullable final Object defaultValue )
+    {
+        if ( defaultValue != null )
         {
-            final ConfigValue configValue = getValues().get( field );
+            logMissingValueWithReplacement( field, String.valueOf( defaultValue ) );
 
-            if ( configValue.hasDefaultValue() )
-            {
-                return configValue.getDefaultValue();
-            }
+            return defaultValue;
         }
 
-        return null;
+        final Object sharedDefault = getSharedDefaults().get( field );
+
+        if ( sharedDefault == null )
+        {
+            logMissingValue( field );
+        }
+
+        return sharedDefault;
     }
 
     /**
@@ -404,7 +638,7 @@ public class ConfigManager
      * @param field  The field in the config field and value map.
      * @param object The new default value for the field in the config field and value map.
      */
-    public final void setDefaultValue( @NonNull final String field, @Nullable final Object object )
+    public void setDefaultValue( @NonNull final String field, @Nullable final Object object )
     {
         if ( getValues().containsKey( field ) )
         {
@@ -412,8 +646,10 @@ public class ConfigManager
         }
         else
         {
-            getValues().put( field, new ConfigValue( null, object ) );
+            getValues().put( ConfigPath.intern( field ), newConfigValue( null, object ) );
         }
+
+        setDirty( true );
     }
 
     /**
@@ -422,7 +658,7 @@ public class ConfigManager
      *
      * @param defaultValues The config field and value map to transfer for default values.
      */
-    public final void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
     {
         if ( defaultValues == null )
         {
@@ -441,10 +677,516 @@ public class ConfigManager
                 }
                 else
                 {
-                    getValues().put( entry.getKey(), new ConfigValue( null, entry.getValue() ) );
+                    getValues().put( ConfigPath.intern( entry.getKey() ),
+                                     newConfigValue( null, entry.getValue() ) );
+                }
+            }
+        }
+
+        setDirty( true );
+    }
+
+    /**
+     * Puts every field and value of a map into the config field and value map as one mutation. The
+     * config field and value map grows at most once, every field is looked up once, and a single
+     * change set is dispatched for the whole batch. Default values of existing fields are kept.
+     *
+     * @param values The fields and values to put into the config field and value map.
+     */
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        ensureCapacity( values.size() );
+
+        final Map< String, ConfigValue >  target  = getValues();
+        final Map< String, ConfigChange > changes = isListening() ? new LinkedHashMap<>() : null;
+
+        for ( final Map.Entry< String, ? > entry : values.entrySet() )
+        {
+            final Object newValue = entry.getValue();
+
+            target.compute( ConfigPath.intern( entry.getKey() ), ( field, configValue ) ->
+            {
+                if ( configValue == null )
+                {
+                    recordChange( changes, field, null, newValue );
+
+                    return newConfigValue( newValue, null );
+                }
+
+                recordChange( changes, field, configValue.getValue(), newValue );
+                configValue.setValue( newValue );
+
+                return configValue;
+            } );
+        }
+
+        setDirty( true );
+
+        if ( changes != null )
+        {
+            fireChange( new ConfigChangeSet( this, changes ) );
+        }
+    }
+
+    /**
+     * Puts every field and value of a stream into the config field and value map as one mutation.
+     * If a field appears more than once, its last value wins.
+     *
+     * @param values The fields and values to put into the config field and value map.
+     *
+     * @see #putAll(Map)
+     */
+    public void putAll( @NonNull final Stream< ? extends Map.Entry< String, ? > > values )
+    {
+        final Map< String, Object > collected = new LinkedHashMap<>();
+
+        values.forEachOrdered( entry -> collected.put( entry.getKey(), entry.getValue() ) );
+
+        putAll( collected );
+    }
+
+    /**
+     * Puts every field and default value of a map into the config field and value map as one
+     * mutation. The config field and value map grows at most once and every field is looked up
+     * once. Values of existing fields are kept.
+     *
+     * @param defaultValues The fields and default values to put into the config field and value
+     *                      map.
+     */
+    public void putAllDefaults( @NonNull final Map< String, ? > defaultValues )
+    {
+        ensureCapacity( defaultValues.size() );
+
+        final Map< String, ConfigValue > target = getValues();
+
+        for ( final Map.Entry< String, ? > entry : defaultValues.entrySet() )
+        {
+            final Object newDefaultValue = entry.getValue();
+
+            target.compute( ConfigPath.intern( entry.getKey() ), ( field, configValue ) ->
+            {
+                if ( configValue == null )
+                {
+                    return newConfigValue( null, newDefaultValue );
+                }
+
+                configValue.setDefaultValue( newDefaultValue );
+
+                return configValue;
+            } );
+        }
+
+        setDirty( true );
+    }
+
+    /**
+     * Grows the config field and value map in one step if a batch of new fields would make it
+     * rehash several times. Only plain HashMaps are grown, other maps are owned by subclasses.
+     *
+     * @param additionalFields The number of fields that are about to be put.
+     */
+    private void ensureCapacity( final int additionalFields )
+    {
+        final Map< String, ConfigValue > current = this.values;
+
+        // A HashMap doubles its capacity on every resize, so smaller batches rehash at most once.
+        if ( current.getClass() != HashMap.class || additionalFields <= current.size() )
+        {
+            return;
+        }
+
+        final long                       expected = ( long ) current.size() + additionalFields;
+        final Map< String, ConfigValue > resized  =
+                new HashMap<>( ( int ) Math.min( expected * 4 / 3 + 1, 1 << 30 ) );
+
+        resized.putAll( current );
+
+        this.values = resized;
+    }
+
+    /**
+     * Records the change of a field if changes are tracked and the value changed.
+     *
+     * @param changes  The tracked changes, null if changes are not tracked.
+     * @param field    The changed field.
+     * @param oldValue The value before the change.
+     * @param newValue The value after the change.
+     */
+    protected static void recordChange( @Nullable final Map< String, ConfigChange > changes,
+                                        @NonNull final String field,
+                                        @Nullable final Object oldValue,
+                                        @Nullable final Object newValue )
+    {
+        if ( changes != null && !Objects.equals( oldValue, newValue ) )
+        {
+            changes.put( field, new ConfigChange( field, oldValue, newValue ) );
+        }
+    }
+
+    /**
+     * Replaces the config field and value map and comments with the ones of another, fully loaded
+     * ConfigManager. The maps are swapped by reference in one step, so a reader on the same thread
+     * never observes a partially loaded config. The other ConfigManager must no longer be used.
+     * <p>
+     * If this ConfigManager has a schema, the other ConfigManager is validated against it unless
+     * it already was, so a reload that validated off-thread only swaps the maps here.
+     *
+     * @param loaded The fully loaded ConfigManager to take the config field and value map from.
+     */
+    public void reloadFrom( @NonNull final ConfigManager loaded )
+    {
+        final ConfigSchema configSchema = getSchema();
+        final boolean      wasResolved  = isResolved();
+
+        // A config that violates the schema is rejected before it replaces the current one.
+        if ( configSchema != null && loaded != this
+             && !( loaded.isValidated() && loaded.getSchema() == configSchema ) )
+        {
+            loaded.setSchema( configSchema );
+            loaded.validate();
+        }
+
+        final Map< String, ConfigValue > oldValues = isListening() ? getValues() : null;
+
+        setValues( loaded.getValues() );
+        setComments( loaded.getComments() );
+        setMissingValues( loaded.isMissingValues() );
+        setDirty( false );
+
+        validated = loaded.isValidated();
+
+        if ( wasResolved )
+        {
+            resolve();
+        }
+
+        if ( oldValues != null )
+        {
+            fireChange( diff( oldValues, getValues() ) );
+        }
+    }
+
+    /**
+     * Returns a read-only snapshot of the config field and value map. Fields read from the same
+     * snapshot are consistent with each other, even if the ConfigManager is written to or reloaded
+     * in between. This implementation copies the config field and value map, a
+     * VersionedConfigManager returns its latest version without copying.
+     *
+     * @return A read-only snapshot of the config field and value map.
+     *
+     * @see com.qhucy.configmanager.snapshot.VersionedConfigManager
+     */
+    @NonNull
+    public ConfigSnapshot snapshot()
+    {
+        final boolean        wasValidated = isValidated();
+        final ConfigSnapshot snapshot     = ConfigSnapshot.copyOf( getValues() );
+
+        return wasValidated ? snapshot.asValidated() : snapshot;
+    }
+
+    /**
+     * Sets whether the config field and value map changed since it was last loaded or saved. A
+     * change means that the config field and value map is no longer known to satisfy the schema.
+     *
+     * @param dirty Whether the config field and value map changed.
+     */
+    public void setDirty( final boolean dirty )
+    {
+        // Flags are only written when they change, so concurrent writers of unrelated fields
+        // share the cache line holding them instead of invalidating it on every write.
+        if ( this.dirty != dirty )
+        {
+            this.dirty = dirty;
+        }
+
+        if ( dirty && validated )
+        {
+            validated = false;
+        }
+
+        if ( dirty && effectiveValues != null )
+        {
+            effectiveValues = null;
+        }
+    }
+
+    /**
+     * Sets the shared defaults that fields without a value or default value of their own fall
+     * through to.
+     *
+     * @param sharedDefaults The shared defaults.
+     */
+    public void setSharedDefaults( @NonNull final ConfigDefaults sharedDefaults )
+    {
+        this.sharedDefaults  = sharedDefaults;
+        this.effectiveValues = null;
+    }
+
+    /**
+     * Computes the effective value of every field once, falling back to its default value or to
+     * the shared defaults, and logs every fallback and missing value once. Until the next write
+     * through a mutator of this ConfigManager, getValue of a known field is then a single lookup
+     * in the resolved table that neither falls back nor logs. Unknown fields are still logged as
+     * missing. A reload of a resolved ConfigManager resolves again.
+     * <p>
+     * Resolving is opt-in and meant for configs that are read far more often than written. The
+     * table is a snapshot: writes that bypass the mutators, through the map of getValues or
+     * through a ConfigValue, are not seen until resolve is called again. Subclasses that do not
+     * read through the table, or must not keep every value strongly reachable, keep no table.
+     */
+    public void resolve()
+    {
+        if ( isResolvable() )
+        {
+            effectiveValues = computeEffectiveValues( true );
+        }
+    }
+
+    /**
+     * Returns if resolve keeps a table of effective values. Subclasses whose reads do not go
+     * through the table of this class, or that must not keep every value strongly reachable,
+     * return false.
+     *
+     * @return If resolve keeps a table of effective values.
+     */
+    protected boolean isResolvable()
+    {
+        return true;
+    }
+
+    /**
+     * Returns if the effective values are resolved and were not written to since.
+     *
+     * @return If the effective values are resolved.
+     */
+    public boolean isResolved()
+    {
+        return effectiveValues != null;
+    }
+
+    /**
+     * Computes the effective value of every field of the config field and value map and of the
+     * shared defaults.
+     *
+     * @param log Whether to log fallbacks and missing values.
+     *
+     * @return The read-only field and effective value map, mapping fields without any value to
+     *         null.
+     */
+    @NonNull
+    private Map< String, Object > computeEffectiveValues( final boolean log )
+    {
+        final Map< String, ConfigValue > configValues = getValues();
+        final ConfigDefaults             defaults     = getSharedDefaults();
+        final Map< String, Object >      effective    =
+                new HashMap<>( ( configValues.size() + defaults.size() ) * 4 / 3 + 1 );
+
+        for ( final String field : defaults.getFields() )
+        {
+            if ( !configValues.containsKey( field ) )
+            {
+                effective.put( field, defaults.get( field ) );
+            }
+        }
+
+        for ( final Map.Entry< String, ConfigValue > entry : configValues.entrySet() )
+        {
+            final String field = entry.getKey();
+            final Object value = entry.getValue().getValue();
+
+            if ( value != null )
+            {
+                effective.put( field, value );
+
+                continue;
+            }
+
+            final Object ownDefault   = entry.getValue().getDefaultValue();
+            final Object defaultValue = log ? fallbackValue( field, ownDefault )
+                                            : resolveDefaultValue( field, ownDefault );
+
+            // Known fields without any value were logged here, so reads of them do not log again.
+            effective.put( field, defaultValue );
+        }
+
+        return Collections.unmodifiableMap( effective );
+    }
+
+    /**
+     * Validates the config field and value map against the schema in a single pass and fills in
+     * the default values of missing fields. Filling in defaults does not make the ConfigManager
+     * dirty. Once validated, reads of schema fields never fall back to defaults or log.
+     *
+     * @throws ConfigValidationException If the config field and value map violates the schema,
+     *                                   holding every violation.
+     * @throws IllegalStateException     If the ConfigManager has no schema.
+     */
+    public void validate()
+    {
+        final ConfigSchema configSchema = getSchema();
+
+        if ( configSchema == null )
+        {
+            throw new IllegalStateException( "ConfigManager has no schema to validate against." );
+        }
+
+        final List< ConfigViolation > violations = configSchema.validate( this );
+
+        if ( !violations.isEmpty() )
+        {
+            validated = false;
+
+            throw new ConfigValidationException( getConfigSource().getSourcePath(), violations );
+        }
+
+        // Subclasses may return a detached copy, so defaults are written through the mutators.
+        final Map< String, ConfigValue > current  = getValues();
+        final boolean                    wasDirty = isDirty();
+        final boolean                    resolved = isResolved();
+
+        for ( final Map.Entry< String, Object > entry : configSchema.getDefaultValues().entrySet() )
+        {
+            final ConfigValue configValue = current.get( entry.getKey() );
+
+            if ( configValue == null )
+            {
+                setConfigValue( entry.getKey(),
+                                newConfigValue( entry.getValue(), entry.getValue() ) );
+            }
+            else if ( configValue.getValue() == null )
+            {
+                setValue( entry.getKey(), entry.getValue() );
+            }
+        }
+
+        setDirty( wasDirty );
+
+        // The filled in defaults were already logged as fallbacks when the table was resolved.
+        if ( resolved )
+        {
+            effectiveValues = computeEffectiveValues( false );
+        }
+
+        validated = true;
+    }
+
+    /**
+     * Returns an estimate of the heap bytes that the config field and value map and comments
+     * retain, broken down by category and by top-level section. The estimate takes a single pass
+     * over both maps.
+     *
+     * @return The estimate of the retained heap bytes.
+     */
+    @NonNull
+    public ConfigFootprint footprint()
+    {
+        final ConfigFootprint.Builder builder   =
+                new ConfigFootprint.Builder().addValues( getValues() ).addComments( getComments() );
+        final Map< String, Object >   effective = effectiveValues;
+
+        // The resolved table shares its keys and values with the config field and value map.
+        if ( effective != null )
+        {
+            builder.add( null, ConfigFootprint.Category.INDEX,
+                         ConfigFootprint.mapBytes( effective ) );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the dispatcher that delivers the changes of the config field and value map to
+     * subscribed listeners, creating it on the first call. Until a listener subscribes, mutators do
+     * not track any changes.
+     *
+     * @return The dispatcher of change sets to subscribed listeners.
+     */
+    @NonNull
+    public ConfigChangeDispatcher getChangeDispatcher()
+    {
+        ConfigChangeDispatcher dispatcher = changeDispatcher;
+
+        if ( dispatcher == null )
+        {
+            synchronized ( this )
+            {
+                dispatcher = changeDispatcher;
+
+                if ( dispatcher == null )
+                {
+                    dispatcher       = new ConfigChangeDispatcher();
+                    changeDispatcher = dispatcher;
                 }
             }
         }
+
+        return dispatcher;
+    }
+
+    /**
+     * Returns if any listener is subscribed to the changes of the config field and value map.
+     *
+     * @return If any listener is subscribed to the changes of the config field and value map.
+     */
+    protected final boolean isListening()
+    {
+        final ConfigChangeDispatcher dispatcher = changeDispatcher;
+
+        return dispatcher != null && dispatcher.hasSubscriptions();
+    }
+
+    /**
+     * Dispatches the change set of an operation to the subscribed listeners.
+     *
+     * @param changeSet The change set of an operation.
+     */
+    protected final void fireChange( @NonNull final ConfigChangeSet changeSet )
+    {
+        final ConfigChangeDispatcher dispatcher = changeDispatcher;
+
+        if ( dispatcher != null )
+        {
+            dispatcher.dispatch( changeSet );
+        }
+    }
+
+    /**
+     * Returns the change set between two config field and value maps, comparing values only.
+     *
+     * @param oldValues The config field and value map before the change.
+     * @param newValues The config field and value map after the change.
+     *
+     * @return The change set between the two config field and value maps.
+     */
+    @NonNull
+    protected final ConfigChangeSet diff( @NonNull final Map< String, ConfigValue > oldValues,
+                                          @NonNull final Map< String, ConfigValue > newValues )
+    {
+        final Map< String, ConfigChange > changes = new LinkedHashMap<>();
+
+        for ( final Map.Entry< String, ConfigValue > entry : newValues.entrySet() )
+        {
+            final ConfigValue oldValue = oldValues.get( entry.getKey() );
+            final Object      before   = ( oldValue == null ) ? null : oldValue.getValue();
+            final Object      after    = entry.getValue().getValue();
+
+            if ( !Objects.equals( before, after ) )
+            {
+                changes.put( entry.getKey(), new ConfigChange( entry.getKey(), before, after ) );
+            }
+        }
+
+        for ( final Map.Entry< String, ConfigValue > entry : oldValues.entrySet() )
+        {
+            if ( !newValues.containsKey( entry.getKey() ) && entry.getValue().hasValue() )
+            {
+                changes.put( entry.getKey(), new ConfigChange( entry.getKey(),
+                                                               entry.getValue().getValue(), null ) );
+            }
+        }
+
+        return new ConfigChangeSet( this, changes );
     }
 
     /**
@@ -514,13 +1256,21 @@ public class ConfigManager
     }
 
     /**
-     * Saves the ConfigManager data to a config file.
+     * Saves the ConfigManager data to a config file. TOML files cannot be written and are refused
+     * before the file is touched.
      *
      * @param configFile The config file that will be written to.
+     *
+     * @throws IllegalArgumentException If the config file is not a .yml, .yaml, or .json file.
      */
-    public final void saveToFile( @NonNull final File configFile )
+    public void saveToFile( @NonNull final File configFile )
             throws IOException
     {
+        if ( configFile.getPath().endsWith( ".toml" ) )
+        {
+            throw new IllegalArgumentException( "Unable to save configFile at '" + configFile.getAbsolutePath() + "', this API cannot write .toml files." );
+        }
+
         final FileWriter fileWriter = new FileWriter( configFile );
 
         // Load all values into a map.
@@ -534,11 +1284,10 @@ public class ConfigManager
         // Saving hashmap data into the file.
         if ( configFile.getPath().endsWith( ".yml" ) || configFile.getPath().endsWith( ".yaml" ) )
         {
+            final DumperOptions dumperOptions = new DumperOptions();
+            dumperOptions.setDefaultFlowStyle( DumperOptions.FlowStyle.BLOCK );
 
-        }
-        else if ( configFile.getPath().endsWith( ".toml" ) )
-        {
-
+            new Yaml( dumperOptions ).dump( saveValues, fileWriter );
         }
         else if ( configFile.getPath().endsWith( ".json" ) )
         {
@@ -558,10 +1307,99 @@ public class ConfigManager
 
 
         fileWriter.close();
+
+        setDirty( false );
+    }
+
+    /**
+     * Saves the ConfigManager data to a config file on the default asynchronous executor.
+     *
+     * @param configFile The config file that will be written to.
+     *
+     * @return The future that completes once the config file is written.
+     *
+     * @see ConfigExecutors#getDefaultExecutor()
+     */
+    @NonNull
+    public CompletableFuture< Void > saveToFileAsync( @NonNull final File configFile )
+    {
+        return saveToFileAsync( configFile, ConfigExecutors.getDefaultExecutor() );
     }
 
     /**
-     * Loads a ConfigManager from an existing file.
+     * Saves the ConfigManager data to a config file on a given executor. The future completes
+     * exceptionally with a CompletionException wrapping any IOException.
+     *
+     * @param configFile The config file that will be written to.
+     * @param executor   The executor that writes the config file.
+     *
+     * @return The future that completes once the config file is written.
+     */
+    @NonNull
+    public CompletableFuture< Void > saveToFileAsync( @NonNull final File configFile,
+                                                      @NonNull final Executor executor )
+    {
+        return CompletableFuture.runAsync( () ->
+                                           {
+                                               try
+                                               {
+                                                   saveToFile( configFile );
+                                               }
+                                               catch ( final IOException exception )
+                                               {
+                                                   throw new CompletionException( exception );
+                                               }
+                                           }, executor );
+    }
+
+    /**
+     * Loads a ConfigManager from an existing file on the default asynchronous executor.
+     *
+     * @param configFile The config source file.
+     * @param logger     The logger for the plugin.
+     *
+     * @return The future of the loaded ConfigManager.
+     *
+     * @see ConfigExecutors#getDefaultExecutor()
+     */
+    @NonNull
+    public static CompletableFuture< ConfigManager > loadFromFileAsync( @NonNull final File configFile,
+                                                                        @NonNull final Logger logger )
+    {
+        return loadFromFileAsync( configFile, logger, ConfigExecutors.getDefaultExecutor() );
+    }
+
+    /**
+     * Loads a ConfigManager from an existing file on a given executor. The future completes
+     * exceptionally with a CompletionException wrapping any IOException or ParseException.
+     *
+     * @param configFile The config source file.
+     * @param logger     The logger for the plugin.
+     * @param executor   The executor that loads the config file.
+     *
+     * @return The future of the loaded ConfigManager.
+     */
+    @NonNull
+    public static CompletableFuture< ConfigManager > loadFromFileAsync( @NonNull final File configFile,
+                                                                        @NonNull final Logger logger,
+                                                                        @NonNull final Executor executor )
+    {
+        return CompletableFuture.supplyAsync( () ->
+                                              {
+                                                  try
+                                                  {
+                                                      return loadFromFile( configFile, logger );
+                                                  }
+                                                  catch ( final IOException | ParseException exception )
+                                                  {
+                                                      throw new CompletionException( exception );
+                                                  }
+                                              }, executor );
+    }
+
+    /**
+     * Loads a ConfigManager from an existing file. Its effective values are not resolved, call
+     * resolve for a config that is read far more often than it is written.
      *
      * @param configFile The config source file.
      * @param logger     The logger for the plugin.
@@ -587,10 +1425,7 @@ public class ConfigManager
             final Yaml                  yaml        = new Yaml();
             final Map< String, Object > valueMap    = yaml.load( inputStream );
 
-            for ( final String key : valueMap.keySet() )
-            {
-                configManager.setValue( key, valueMap.get( key ) );
-            }
+            configManager.putAll( valueMap );
         }
         else if ( configFile.getPath().endsWith( ".toml" ) )
         {
@@ -619,49 +1454,39 @@ public class ConfigManager
             throw new IllegalArgumentException( "Unable to load configFile at '" + configFile.getAbsolutePath() + "', this API only supports .yml .yaml .toml and .json files." );
         }
 
-        // Load all comments from the file.
-        final FileReader     fileReader     = new FileReader( configFile );
-        final BufferedReader bufferedReader = new BufferedReader( fileReader );
-
-        final Map< String, String[] > comments = new HashMap<>();
-        String                        line;
+        // Only the offsets of the comment lines are recorded, their arrays are created on access.
+        configManager.setComments( new ConfigComments( configFile ) );
 
-        final ArrayList< String > savedComments = new ArrayList<>();
-        String                    savedValue    = "";
-
-        while ( ( line = bufferedReader.readLine() ) != null )
-        {
-            if ( line.isEmpty() || line.startsWith( "#" ) )
-            {
-                if ( savedComments.isEmpty() && !line.startsWith( " " ) )
-                {
-                    savedValue = "";
-                }
-
-                savedComments.add( line.strip() );
-            }
-            else if ( line.contains( ":" ) )
-            {
-                line = line.substring( line.indexOf( ":" ) );
-
-                savedValue += "." + line;
-
-                if ( savedComments.size() > 0 )
-                {
-                    comments.put( savedValue, savedComments.toArray( new String[ 0 ] ) );
+        configManager.setConfigSource( new ConfigSource( configFile ) );
+        configManager.setLogger( logger );
 
-                    savedComments.clear();
-                }
-            }
-        }
+        configManager.setDirty( false );
 
-        configManager.setComments( comments );
+        return configManager;
+    }
 
-        bufferedReader.close();
-        fileReader.close();
+    /**
+     * Loads a ConfigManager from an existing file and validates it against a schema, so that a bad
+     * config fails at load instead of on every read.
+     *
+     * @param configFile The config source file.
+     * @param logger     The logger for the plugin.
+     * @param schema     The schema that the config field and value map must satisfy.
+     *
+     * @return A validated ConfigManager from an existing file.
+     *
+     * @throws ConfigValidationException If the config file violates the schema, holding every
+     *                                   violation.
+     */
+    public static ConfigManager loadFromFile( @NonNull final File configFile,
+                                              @NonNull final Logger logger,
+                                              @NonNull final ConfigSchema schema )
+            throws IOException, ParseException
+    {
+        final ConfigManager configManager = loadFromFile( configFile, logger );
 
-        configManager.setConfigSource( new ConfigSource( configFile ) );
-        configManager.setLogger( logger );
+        configManager.setSchema( schema );
+        configManager.validate();
 
         return configManager;
     }
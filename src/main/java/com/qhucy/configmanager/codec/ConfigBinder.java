@@ -0,0 +1,734 @@
+package com.qhucy.configmanager.codec;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChangeDispatcher;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * Class that binds a config field and value map, or a section of it, onto a record or an object
+ * with a no-argument constructor in a single pass. Code that reads the settings often can then
+ * read plain fields of the bound object instead of looking up and casting config values.
+ * <p>
+ * A class is inspected only once, the first time it is bound, and the resulting constructors and
+ * field setters are cached as method handles. Fields that are records or other non-JDK classes are
+ * bound as nested sections, lists are bound element by element, and enums and numbers are
+ * converted like in a ConfigCodec. A nested section may either be stored as "section.field" keys or
+ * as a map under the section key.
+ * <p>
+ * Binding again rebinds incrementally: a section whose values did not change keeps its bound
+ * object, and only the sections on the path to a change are created anew. The bound object itself
+ * is never modified, so it can be read from any thread.
+ *
+ * @param <T> The type of the bound objects.
+ *
+ * @see ConfigCodec
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigBinder< T >
+{
+
+    // The cached shape of every class that was bound.
+    private final static ClassValue< Shape > SHAPES = new ClassValue<>()
+    {
+        @Override
+        protected Shape computeValue( final Class< ? > type )
+        {
+            return new Shape( type );
+        }
+    };
+
+    /**
+     * Kind of a bound field.
+     */
+    private enum Kind
+    {
+
+        // A single value converted to the type of the field.
+        VALUE,
+        // A nested section bound onto the type of the field.
+        SECTION,
+        // A list of values converted to the element type of the field.
+        LIST
+
+    }
+
+    /**
+     * Bound field of a class.
+     *
+     * @param key         The config field relative to the section of the object.
+     * @param type        The type of the field.
+     * @param kind        The kind of the field.
+     * @param elementType The element type of a list field, Object if unknown.
+     * @param setter      The setter of the field typed (Object,Object)void, null for records.
+     */
+    private record Property( @NonNull String key, @NonNull Class< ? > type, @NonNull Kind kind,
+                             @NonNull Class< ? > elementType, @Nullable MethodHandle setter )
+    {
+
+    }
+
+    /**
+     * Cached metadata of a bound class.
+     */
+    private static final class Shape
+    {
+
+        // The bound class.
+        private final Class< ? >   type;
+        // The bound fields of the class, in constructor order for records.
+        private final Property[]   properties;
+        // The constructor, typed (Object[])Object for records and ()Object otherwise.
+        private final MethodHandle constructor;
+        // Whether the class is a record.
+        private final boolean      record;
+
+        /**
+         * Instantiates a Shape by inspecting a class.
+         *
+         * @param type The class to inspect.
+         */
+        private Shape( @NonNull final Class< ? > type )
+        {
+            final List< Property > propertyList = new ArrayList<>();
+
+            this.type   = type;
+            this.record = type.isRecord();
+
+            try
+            {
+                final MethodHandles.Lookup lookup =
+                        MethodHandles.privateLookupIn( type, MethodHandles.lookup() );
+
+                if ( record )
+                {
+                    final RecordComponent[] components = type.getRecordComponents();
+                    final Class< ? >[]      types      = new Class< ? >[ components.length ];
+
+                    for ( int i = 0; i < components.length; ++i )
+                    {
+                        types[ i ] = components[ i ].getType();
+                        propertyList.add( propertyOf( type.getDeclaredField(
+                                components[ i ].getName() ), null ) );
+                    }
+
+                    final Constructor< ? > canonical = type.getDeclaredConstructor( types );
+
+                    canonical.setAccessible( true );
+
+                    this.constructor = lookup.unreflectConstructor( canonical )
+                                             .asType( MethodType.genericMethodType( types.length ) )
+                                             .asSpreader( Object[].class, types.length );
+                }
+                else
+                {
+                    final MethodType setterType =
+                            MethodType.methodType( void.class, Object.class, Object.class );
+
+                    for ( Class< ? > current = type; current != null && current != Object.class;
+                          current = current.getSuperclass() )
+                    {
+                        for ( final Field field : current.getDeclaredFields() )
+                        {
+                            final int modifiers = field.getModifiers();
+
+                            if ( Modifier.isStatic( modifiers ) || Modifier.isTransient( modifiers )
+                                 || Modifier.isFinal( modifiers ) || field.isSynthetic() )
+                            {
+                                continue;
+                            }
+
+                            field.setAccessible( true );
+                            propertyList.add( propertyOf( field, lookup.unreflectSetter( field )
+                                                                       .asType( setterType ) ) );
+                        }
+                    }
+
+                    final Constructor< ? > noArguments = type.getDeclaredConstructor();
+
+                    noArguments.setAccessible( true );
+
+                    this.constructor = lookup.unreflectConstructor( noArguments )
+                                             .asType( MethodType.methodType( Object.class ) );
+                }
+            }
+            catch ( final ReflectiveOperationException | RuntimeException exception )
+            {
+                throw new IllegalArgumentException( "Unable to create a ConfigBinder for "
+                                                    + type.getName() + ".", exception );
+            }
+
+            this.properties = propertyList.toArray( new Property[ 0 ] );
+        }
+
+        /**
+         * Returns the bound field of a class field.
+         *
+         * @param field  The class field.
+         * @param setter The setter of the class field, null for records.
+         *
+         * @return The bound field.
+         */
+        @NonNull
+        private static Property propertyOf( @NonNull final Field field,
+                                            @Nullable final MethodHandle setter )
+        {
+            final ConfigKey  configKey = field.getAnnotation( ConfigKey.class );
+            final String     key       = ( configKey == null ) ? field.getName()
+                                                               : configKey.value();
+            final Class< ? > type      = field.getType();
+
+            if ( type == List.class || type == Collection.class || type == Iterable.class )
+            {
+                return new Property( key, type, Kind.LIST, elementTypeOf( field.getGenericType() ),
+                                     setter );
+            }
+
+            return new Property( key, type, isSection( type ) ? Kind.SECTION : Kind.VALUE,
+                                 Object.class, setter );
+        }
+
+        /**
+         * Returns the element type of a generic list type, Object if it is unknown.
+         *
+         * @param genericType The generic list type.
+         *
+         * @return The element type of the list.
+         */
+        @NonNull
+        private static Class< ? > elementTypeOf( @NonNull final Type genericType )
+        {
+            if ( genericType instanceof final ParameterizedType parameterized )
+            {
+                final Type argument = parameterized.getActualTypeArguments()[ 0 ];
+
+                if ( argument instanceof final Class< ? > elementType )
+                {
+                    return elementType;
+                }
+                else if ( argument instanceof final ParameterizedType parameterizedArgument )
+                {
+                    return ( Class< ? > ) parameterizedArgument.getRawType();
+                }
+            }
+
+            return Object.class;
+        }
+
+        /**
+         * Returns if a class is bound as a nested section rather than converted as a value.
+         *
+         * @param type The class.
+         *
+         * @return If the class is bound as a nested section.
+         */
+        private static boolean isSection( @NonNull final Class< ? > type )
+        {
+            return type.isRecord() || !( type.isPrimitive() || type.isEnum() || type.isArray()
+                                         || type.isInterface()
+                                         || Modifier.isAbstract( type.getModifiers() )
+                                         || type.getName().startsWith( "java." ) );
+        }
+
+    }
+
+    /**
+     * Read access to the values of a section, either in a ConfigManager or in a nested map.
+     */
+    private interface Source
+    {
+
+        /**
+         * Returns the value of a field of the section, falling back to default values.
+         *
+         * @param key The field relative to the section.
+         *
+         * @return The value of the field, null if there is none.
+         */
+        @Nullable
+        Object get( @NonNull final String key );
+
+        /**
+         * Returns the value stored for a field of the section itself, without logging if it is
+         * missing.
+         *
+         * @param key The field relative to the section.
+         *
+         * @return The value stored for the field, null if there is none.
+         */
+        @Nullable
+        Object getRaw( @NonNull final String key );
+
+        /**
+         * Returns the source of a nested section, which is stored either as a map under the
+         * section key or as keys prefixed by it.
+         *
+         * @param key The nested section relative to the section.
+         *
+         * @return The source of the nested section.
+         */
+        @NonNull
+        Source section( @NonNull final String key );
+
+        /**
+         * Returns the full config field of a field of the section, for error messages.
+         *
+         * @param key The field relative to the section.
+         *
+         * @return The full config field.
+         */
+        @NonNull
+        String path( @NonNull final String key );
+
+    }
+
+    /**
+     * Source of a section stored as prefixed keys in a ConfigManager.
+     *
+     * @param configManager The ConfigManager.
+     * @param prefix        The section, empty for the root of the config field and value map.
+     */
+    private record ManagerSource( @NonNull ConfigManager configManager, @NonNull String prefix )
+            implements Source
+    {
+
+        @Override
+        @Nullable
+        public Object get( @NonNull final String key )
+        {
+            final String field = path( key );
+            final Object value = configManager.getRawValue( field );
+
+            // Absent fields keep the initial value of the bound class, so they are not logged.
+            return ( value != null ) ? value : configManager.getDefaultValue( field );
+        }
+
+        @Override
+        @Nullable
+        public Object getRaw( @NonNull final String key )
+        {
+            return configManager.getRawValue( path( key ) );
+        }
+
+        @Override
+        @NonNull
+        public Source section( @NonNull final String key )
+        {
+            return ( getRaw( key ) instanceof final Map< ?, ? > map )
+                   ? new MapSource( map, path( key ) )
+                   : new ManagerSource( configManager, path( key ) );
+        }
+
+        @Override
+        @NonNull
+        public String path( @NonNull final String key )
+        {
+            return prefix.isEmpty() ? key : prefix + "." + key;
+        }
+
+    }
+
+    /**
+     * Source of a section stored as a nested map.
+     *
+     * @param map    The nested map, empty if the section is missing.
+     * @param prefix The full config field of the section.
+     */
+    private record MapSource( @NonNull Map< ?, ? > map, @NonNull String prefix )
+            implements Source
+    {
+
+        @Override
+        @Nullable
+        public Object get( @NonNull final String key )
+        {
+            return map.get( key );
+        }
+
+        @Override
+        @Nullable
+        public Object getRaw( @NonNull final String key )
+        {
+            return map.get( key );
+        }
+
+        @Override
+        @NonNull
+        public Source section( @NonNull final String key )
+        {
+            return new MapSource( ( map.get( key ) instanceof final Map< ?, ? > nested )
+                                  ? nested : Collections.emptyMap(), path( key ) );
+        }
+
+        @Override
+        @NonNull
+        public String path( @NonNull final String key )
+        {
+            return prefix.isEmpty() ? key : prefix + "." + key;
+        }
+
+    }
+
+    /**
+     * Bound object of a section together with the inputs it was bound from.
+     */
+    private static final class Node
+    {
+
+        // The shape of the bound class.
+        private final Shape    shape;
+        // The raw value or nested bound object of every bound field, from the last binding.
+        private final Object[] inputs;
+        // The nodes of the nested sections, created on first use.
+        private final Node[]   children;
+        // The bound object, null if the section was never bound.
+        private Object         instance;
+
+        /**
+         * Instantiates an unbound Node.
+         *
+         * @param shape The shape of the bound class.
+         */
+        private Node( @NonNull final Shape shape )
+        {
+            this.shape    = shape;
+            this.inputs   = new Object[ shape.properties.length ];
+            this.children = new Node[ shape.properties.length ];
+        }
+
+        /**
+         * Binds the section, reusing the previously bound object if no input changed.
+         *
+         * @param source The source of the section.
+         *
+         * @return The bound object.
+         */
+        @NonNull
+        private Object bind( @NonNull final Source source )
+        {
+            final Property[] properties = shape.properties;
+            final Object[]   current    = new Object[ properties.length ];
+            boolean          changed    = instance == null;
+
+            for ( int i = 0; i < properties.length; ++i )
+            {
+                final Property property = properties[ i ];
+
+                if ( property.kind() == Kind.SECTION )
+                {
+                    if ( children[ i ] == null )
+                    {
+                        children[ i ] = new Node( SHAPES.get( property.type() ) );
+                    }
+
+                    current[ i ] = children[ i ].bind( source.section( property.key() ) );
+                    changed |= current[ i ] != inputs[ i ];
+                }
+                else
+                {
+                    current[ i ] = source.get( property.key() );
+                    changed |= !Objects.equals( current[ i ], inputs[ i ] );
+                }
+            }
+
+            if ( changed )
+            {
+                instance = construct( shape, source, current );
+                System.arraycopy( current, 0, inputs, 0, current.length );
+            }
+
+            return instance;
+        }
+
+    }
+
+    /**
+     * Creates an object of a shape from the raw values and nested bound objects of its fields.
+     *
+     * @param shape  The shape of the object.
+     * @param source The source of the section, for nested maps in lists and error messages.
+     * @param inputs The raw value or nested bound object of every bound field.
+     *
+     * @return The created object.
+     */
+    @NonNull
+    private static Object construct( @NonNull final Shape shape, @NonNull final Source source,
+                                     @NonNull final Object[] inputs )
+    {
+        final Property[] properties = shape.properties;
+        final Object[]   arguments  = new Object[ properties.length ];
+
+        for ( int i = 0; i < properties.length; ++i )
+        {
+            arguments[ i ] = convert( properties[ i ], source, inputs[ i ] );
+        }
+
+        try
+        {
+            if ( shape.record )
+            {
+                for ( int i = 0; i < properties.length; ++i )
+                {
+                    if ( arguments[ i ] == null && properties[ i ].type().isPrimitive() )
+                    {
+                        arguments[ i ] = Array.get( Array.newInstance( properties[ i ].type(), 1 ),
+                                                    0 );
+                    }
+                }
+
+                return ( Object ) shape.constructor.invokeExact( arguments );
+            }
+
+            final Object object = ( Object ) shape.constructor.invokeExact();
+
+            for ( int i = 0; i < properties.length; ++i )
+            {
+                // Missing values leave primitive fields at their initial value.
+                if ( arguments[ i ] != null || !properties[ i ].type().isPrimitive() )
+                {
+                    properties[ i ].setter().invokeExact( object, arguments[ i ] );
+                }
+            }
+
+            return object;
+        }
+        catch ( final Throwable throwable )
+        {
+            throw new IllegalStateException( "Unable to create " + shape.type.getName()
+                                             + " for section '" + source.path( "" ) + "'.",
+                                             throwable );
+        }
+    }
+
+    /**
+     * Returns the raw value of a bound field converted to the type of the field.
+     *
+     * @param property The bound field.
+     * @param source   The source of the section of the field.
+     * @param input    The raw value, or nested bound object for sections.
+     *
+     * @return The converted value.
+     *
+     * @throws IllegalArgumentException If the value cannot be converted to the type of the field.
+     */
+    @Nullable
+    private static Object convert( @NonNull final Property property, @NonNull final Source source,
+                                   @Nullable final Object input )
+    {
+        try
+        {
+            return switch ( property.kind() )
+                    {
+                        case SECTION -> input;
+                        case VALUE -> ConfigCodec.decodeValue( input, property.type() );
+                        case LIST -> convertList( property, source, input );
+                    };
+        }
+        catch ( final IllegalArgumentException exception )
+        {
+            throw new IllegalArgumentException( "Unable to bind field '"
+                                                + source.path( property.key() ) + "'.", exception );
+        }
+    }
+
+    /**
+     * Returns a raw list value with every element converted to the element type of a list field.
+     * Map elements are bound onto the element type if it is bound as a section.
+     *
+     * @param property The bound list field.
+     * @param source   The source of the section of the field.
+     * @param input    The raw list value.
+     *
+     * @return The read-only converted list, null if there is no value.
+     */
+    @Nullable
+    private static List< Object > convertList( @NonNull final Property property,
+                                               @NonNull final Source source,
+                                               @Nullable final Object input )
+    {
+        if ( input == null )
+        {
+            return null;
+        }
+
+        if ( !( input instanceof final List< ? > list ) )
+        {
+            throw new IllegalArgumentException( "Value '" + input + "' is not a list." );
+        }
+
+        final Class< ? >     elementType = property.elementType();
+        final boolean        sections    = Shape.isSection( elementType );
+        final List< Object > elements    = new ArrayList<>( list.size() );
+
+        for ( int i = 0; i < list.size(); ++i )
+        {
+            final Object element = list.get( i );
+
+            elements.add( ( sections && element instanceof final Map< ?, ? > map )
+                          ? new Node( SHAPES.get( elementType ) ).bind(
+                                  new MapSource( map, source.path( property.key() ) + "." + i ) )
+                          : ConfigCodec.decodeValue( element, elementType ) );
+        }
+
+        return Collections.unmodifiableList( elements );
+    }
+
+    // The bound class.
+    private final Class< T > type;
+    // The bound section, empty for the root of the config field and value map.
+    private final String     section;
+    // The root node of the binding.
+    private final Node       root;
+
+    // The last bound object, null if nothing was bound yet.
+    private volatile T bound;
+
+    /**
+     * Instantiates a ConfigBinder of the root of a config field and value map.
+     *
+     * @param type The bound class.
+     *
+     * @throws IllegalArgumentException If the class cannot be bound.
+     */
+    public ConfigBinder( @NonNull final Class< T > type )
+    {
+        this( type, "" );
+    }
+
+    /**
+     * Instantiates a ConfigBinder of a section of a config field and value map.
+     *
+     * @param type    The bound class.
+     * @param section The bound section, empty for the root of the config field and value map.
+     *
+     * @throws IllegalArgumentException If the class cannot be bound.
+     */
+    public ConfigBinder( @NonNull final Class< T > type, @NonNull final String section )
+    {
+        this.type    = type;
+        this.section = section;
+        this.root    = new Node( SHAPES.get( type ) );
+    }
+
+    /**
+     * Returns the bound class.
+     *
+     * @return The bound class.
+     */
+    @NonNull
+    public Class< T > getType()
+    {
+        return type;
+    }
+
+    /**
+     * Returns the bound section, empty for the root of the config field and value map.
+     *
+     * @return The bound section.
+     */
+    @NonNull
+    public String getSection()
+    {
+        return section;
+    }
+
+    /**
+     * Returns the last bound object.
+     *
+     * @return The last bound object, null if nothing was bound yet.
+     */
+    @Nullable
+    public T get()
+    {
+        return bound;
+    }
+
+    /**
+     * Binds the section of a ConfigManager. If no value of the section changed since the last
+     * binding, the last bound object is returned as is.
+     *
+     * @param configManager The ConfigManager to bind.
+     *
+     * @return The bound object.
+     *
+     * @throws IllegalArgumentException If a value cannot be converted to the type of its field.
+     */
+    @NonNull
+    public synchronized T bind( @NonNull final ConfigManager configManager )
+    {
+        final Source rootSource = new ManagerSource( configManager, "" );
+        final Source source     = section.isEmpty() ? rootSource : rootSource.section( section );
+        final T      object     = type.cast( root.bind( source ) );
+
+        bound = object;
+
+        return object;
+    }
+
+    /**
+     * Binds the section of a ConfigManager and rebinds it on the thread that changes or reloads
+     * the ConfigManager, so a ConfigManager that is not thread-safe is never read from another
+     * thread.
+     *
+     * @param configManager The ConfigManager to bind.
+     *
+     * @return The subscription that keeps the binding up to date.
+     */
+    @NonNull
+    public ConfigChangeDispatcher.Subscription bindTo( @NonNull final ConfigManager configManager )
+    {
+        return bindTo( configManager, Runnable::run );
+    }
+
+    /**
+     * Binds the section of a ConfigManager and rebinds it whenever the ConfigManager changes or is
+     * reloaded. A rebinding that fails is logged and keeps the last bound object. An executor
+     * other than the writing thread must only be used with a thread-safe ConfigManager, such as a
+     * ConcurrentConfigManager.
+     *
+     * @param configManager The ConfigManager to bind.
+     * @param executor      The executor the rebinding runs on.
+     *
+     * @return The subscription that keeps the binding up to date.
+     */
+    @NonNull
+    public ConfigChangeDispatcher.Subscription bindTo( @NonNull final ConfigManager configManager,
+                                                       @NonNull final Executor executor )
+    {
+        bind( configManager );
+
+        return configManager.getChangeDispatcher().subscribeAll( changeSet -> {
+            try
+            {
+                bind( configManager );
+            }
+            catch ( final RuntimeException exception )
+            {
+                configManager.logMessage( Level.WARNING,
+                                          "Unable to rebind " + type.getName() + ": "
+                                          + exception.getMessage() );
+            }
+        }, executor );
+    }
+
+}
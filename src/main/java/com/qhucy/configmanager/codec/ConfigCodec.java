@@ -0,0 +1,348 @@
+package com.qhucy.configmanager.codec;
+
+import com.qhucy.configmanager.ConfigManager;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that saves and loads the fields of objects to and from a config field and value map
+ * without hand-written ConfigStorable code. A class is inspected only once, the first time its
+ * codec is requested, and the resulting field accessors are cached as method handles. Every
+ * non-static, non-transient field of the class and its superclasses is stored under
+ * "section.field", or under the name given by its ConfigKey annotation.
+ * <p>
+ * Enum fields are stored by constant name and resolved through a cached name lookup table.
+ * Numeric fields accept any Number from the config field and value map, since YAML, TOML, and JSON
+ * parsers differ in which boxed type they produce.
+ *
+ * @param <T> The type of the objects handled by the codec.
+ *
+ * @see ConfigKey
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigCodec< T >
+{
+
+    // The cached codec of every class that a codec was requested for.
+    private final static ClassValue< ConfigCodec< ? > > CODECS = new ClassValue<>()
+    {
+        @Override
+        protected ConfigCodec< ? > computeValue( final Class< ? > type )
+        {
+            return new ConfigCodec<>( type );
+        }
+    };
+
+    // The cached constant name lookup table of every enum class.
+    private final static ClassValue< Map< String, Object > > ENUM_CONSTANTS = new ClassValue<>()
+    {
+        @Override
+        protected Map< String, Object > computeValue( final Class< ? > type )
+        {
+            final Object[]              constants = type.getEnumConstants();
+            final Map< String, Object > lookup    = new HashMap<>( constants.length * 2 );
+
+            for ( final Object constant : constants )
+            {
+                lookup.put( ( ( Enum< ? > ) constant ).name(), constant );
+            }
+
+            return lookup;
+        }
+    };
+
+    /**
+     * Returns the cached codec of a class, inspecting the class on the first call.
+     *
+     * @param type The class of the objects handled by the codec.
+     * @param <T>  The type of the objects handled by the codec.
+     *
+     * @return The cached codec of the class.
+     */
+    @NonNull
+    @SuppressWarnings( "unchecked" )
+    public static < T > ConfigCodec< T > of( @NonNull final Class< T > type )
+    {
+        return ( ConfigCodec< T > ) CODECS.get( type );
+    }
+
+    /**
+     * Returns the value that is stored in a config field and value map for an object field value.
+     * Enum constants are stored by name and every other value is stored as is.
+     *
+     * @param value The object field value.
+     *
+     * @return The value that is stored in a config field and value map.
+     */
+    @Nullable
+    static Object encodeValue( @Nullable final Object value )
+    {
+        return ( value instanceof final Enum< ? > constant ) ? constant.name() : value;
+    }
+
+    /**
+     * Returns a value from a config field and value map converted to the type of an object field.
+     *
+     * @param value The value from the config field and value map.
+     * @param type  The type of the object field.
+     *
+     * @return The converted value.
+     *
+     * @throws IllegalArgumentException If the value cannot be converted to the type.
+     */
+    @Nullable
+    static Object decodeValue( @Nullable final Object value, @NonNull final Class< ? > type )
+    {
+        final Class< ? > boxedType =
+                type.isPrimitive() ? MethodType.methodType( type ).wrap().returnType() : type;
+
+        if ( value == null || boxedType.isInstance( value ) )
+        {
+            return value;
+        }
+        else if ( type.isEnum() )
+        {
+            final Object constant = ENUM_CONSTANTS.get( type ).get( String.valueOf( value ) );
+
+            if ( constant == null )
+            {
+                throw new IllegalArgumentException( "Value '" + value + "' is not a constant of " + type.getName() + "." );
+            }
+
+            return constant;
+        }
+        else if ( value instanceof final Number number )
+        {
+            if ( type == int.class || type == Integer.class )
+            {
+                return number.intValue();
+            }
+            else if ( type == long.class || type == Long.class )
+            {
+                return number.longValue();
+            }
+            else if ( type == double.class || type == Double.class )
+            {
+                return number.doubleValue();
+            }
+            else if ( type == float.class || type == Float.class )
+            {
+                return number.floatValue();
+            }
+            else if ( type == short.class || type == Short.class )
+            {
+                return number.shortValue();
+            }
+            else if ( type == byte.class || type == Byte.class )
+            {
+                return number.byteValue();
+            }
+        }
+        else if ( value instanceof final String string && ( type == char.class || type == Character.class ) && string.length() == 1 )
+        {
+            return string.charAt( 0 );
+        }
+
+        if ( type == String.class )
+        {
+            return String.valueOf( value );
+        }
+
+        throw new IllegalArgumentException( "Value '" + value + "' cannot be converted to " + type.getName() + "." );
+    }
+
+    /**
+     * Accessor of a single field of a class.
+     *
+     * @param suffix The config field suffix, including the leading dot.
+     * @param type   The type of the field.
+     * @param getter The getter of the field, typed (Object)Object.
+     * @param setter The setter of the field, typed (Object,Object)void.
+     */
+    private record FieldAccessor( String suffix, Class< ? > type, MethodHandle getter,
+                                  MethodHandle setter )
+    {
+
+    }
+
+    // The class of the objects handled by the codec.
+    private final Class< T >      type;
+    // The accessors of every stored field of the class.
+    private final FieldAccessor[] accessors;
+
+    /**
+     * Instantiates a ConfigCodec by inspecting every stored field of a class.
+     *
+     * @param type The class of the objects handled by the codec.
+     */
+    private ConfigCodec( @NonNull final Class< T > type )
+    {
+        this.type = type;
+
+        final List< FieldAccessor > accessorList = new ArrayList<>();
+        final MethodType            getterType   = MethodType.methodType( Object.class, Object.class );
+        final MethodType            setterType   =
+                MethodType.methodType( void.class, Object.class, Object.class );
+
+        try
+        {
+            final MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn( type, MethodHandles.lookup() );
+
+            for ( Class< ? > current = type; current != null && current != Object.class;
+                  current = current.getSuperclass() )
+            {
+                for ( final Field field : current.getDeclaredFields() )
+                {
+                    final int modifiers = field.getModifiers();
+
+                    if ( Modifier.isStatic( modifiers ) || Modifier.isTransient( modifiers ) || field.isSynthetic() )
+                    {
+                        continue;
+                    }
+
+                    field.setAccessible( true );
+
+                    final ConfigKey configKey = field.getAnnotation( ConfigKey.class );
+                    final String    name      = ( configKey == null ) ? field.getName()
+                                                                      : configKey.value();
+
+                    accessorList.add( new FieldAccessor( "." + name, field.getType(),
+                                                         lookup.unreflectGetter( field )
+                                                               .asType( getterType ),
+                                                         Modifier.isFinal( modifiers ) ? null
+                                                                                       : lookup.unreflectSetter( field )
+                                                                                               .asType( setterType ) ) );
+                }
+            }
+        }
+        catch ( final IllegalAccessException | RuntimeException exception )
+        {
+            throw new IllegalArgumentException( "Unable to create a ConfigCodec for " + type.getName() + ".", exception );
+        }
+
+        this.accessors = accessorList.toArray( new FieldAccessor[ 0 ] );
+    }
+
+    /**
+     * Returns the class of the objects handled by the codec.
+     *
+     * @return The class of the objects handled by the codec.
+     */
+    @NonNull
+    public Class< T > getType()
+    {
+        return type;
+    }
+
+    /**
+     * Returns the config fields, relative to the section of an object, that the codec stores.
+     *
+     * @return The config fields that the codec stores.
+     */
+    @NonNull
+    public List< String > getFields()
+    {
+        final List< String > fields = new ArrayList<>( accessors.length );
+
+        for ( final FieldAccessor accessor : accessors )
+        {
+            fields.add( accessor.suffix().substring( 1 ) );
+        }
+
+        return fields;
+    }
+
+    /**
+     * Saves every stored field of an object into a config field and value map under a given
+     * section.
+     *
+     * @param object        The object to save.
+     * @param configManager The ConfigManager to save the object into.
+     * @param section       The section of the config field and value map to save under.
+     */
+    public void encode( @NonNull final T object, @NonNull final ConfigManager configManager,
+                        @NonNull final String section )
+    {
+        for ( final FieldAccessor accessor : accessors )
+        {
+            final Object value;
+
+            try
+            {
+                value = ( Object ) accessor.getter().invokeExact( ( Object ) object );
+            }
+            catch ( final Throwable throwable )
+            {
+                throw new IllegalStateException( "Unable to read field '" + accessor.suffix().substring( 1 ) + "' of " + type.getName() + ".", throwable );
+            }
+
+            configManager.setValue( fieldOf( section, accessor ), encodeValue( value ) );
+        }
+    }
+
+    /**
+     * Loads every stored, non-final field of an object from a config field and value map under a
+     * given section. Missing values leave primitive fields untouched and set other fields to null.
+     *
+     * @param object        The object to load into.
+     * @param configManager The ConfigManager to load the object from.
+     * @param section       The section of the config field and value map to load from.
+     */
+    public void decode( @NonNull final T object, @NonNull final ConfigManager configManager,
+                        @NonNull final String section )
+    {
+        for ( final FieldAccessor accessor : accessors )
+        {
+            if ( accessor.setter() == null )
+            {
+                continue;
+            }
+
+            final Object value = decodeValue( configManager.getValue( fieldOf( section, accessor ) ),
+                                              accessor.type() );
+
+            if ( value == null && accessor.type().isPrimitive() )
+            {
+                continue;
+            }
+
+            try
+            {
+                accessor.setter().invokeExact( ( Object ) object, value );
+            }
+            catch ( final Throwable throwable )
+            {
+                throw new IllegalStateException( "Unable to write field '" + accessor.suffix().substring( 1 ) + "' of " + type.getName() + ".", throwable );
+            }
+        }
+    }
+
+    /**
+     * Returns the full config field of an accessor under a given section. An empty section stores
+     * the field at the root of the config field and value map.
+     *
+     * @param section  The section of the object.
+     * @param accessor The accessor of the field.
+     *
+     * @return The full config field of the accessor.
+     */
+    @NonNull
+    private static String fieldOf( @NonNull final String section,
+                                   @NonNull final FieldAccessor accessor )
+    {
+        return section.isEmpty() ? accessor.suffix().substring( 1 ) : section + accessor.suffix();
+    }
+
+}
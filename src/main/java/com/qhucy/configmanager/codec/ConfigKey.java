@@ -0,0 +1,31 @@
+package com.qhucy.configmanager.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that overrides the config field a class field is stored under by a ConfigCodec. By
+ * default a class field is stored under its own name.
+ *
+ * @see ConfigCodec
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@Documented
+@Retention( RetentionPolicy.RUNTIME )
+@Target( ElementType.FIELD )
+public @interface ConfigKey
+{
+
+    /**
+     * Returns the config field relative to the section of the object. May contain dots to store
+     * the class field in a nested section.
+     *
+     * @return The config field relative to the section of the object.
+     */
+    String value();
+
+}
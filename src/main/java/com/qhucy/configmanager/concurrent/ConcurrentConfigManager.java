@@ -0,0 +1,278 @@
+package com.qhucy.configmanager.concurrent;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChange;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.path.ConfigPath;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Thread-safe ConfigManager backed by a ConcurrentHashMap. Every write to a field runs inside a
+ * compute call on that field, which only locks the bin of its key, so threads writing different
+ * fields never contend with each other. Reads take no lock at all.
+ * <p>
+ * Each field is updated atomically, including the fields of a transferValues call, but a
+ * transferValues call as a whole is not atomic: readers may observe some of its fields updated
+ * before the others. Use a StampedConfigManager where whole batches must be seen at once.
+ *
+ * @see ConfigManager
+ * @see StampedConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class ConcurrentConfigManager
+        extends ConfigManager
+{
+
+    /**
+     * Instantiates a ConcurrentConfigManager from a config field and value map.
+     *
+     * @param values       The config field and value map.
+     * @param configSource The source of the config field and value map.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public ConcurrentConfigManager( @Nullable final HashMap< String, ConfigValue > values,
+                                    @NonNull final ConfigSource configSource,
+                                    @NonNull final Logger logger )
+    {
+        super( values, configSource, logger );
+    }
+
+    /**
+     * Instantiates a ConcurrentConfigManager from an inputted array of config fields, values, and
+     * default values.
+     *
+     * @param configSource           The source of the config field and value map.
+     * @param logger                 The accessing plugin's logger that is used to log missing and
+     *                               invalid config values.
+     * @param fieldValueDefaultValue Alternating String fields and its respective value and default
+     *                               value to build a new config field and value map.
+     */
+    public ConcurrentConfigManager( @NonNull final ConfigSource configSource,
+                                    @NonNull final Logger logger,
+                                    @Nullable final Object... fieldValueDefaultValue )
+    {
+        super( configSource, logger, fieldValueDefaultValue );
+    }
+
+    /**
+     * Instantiates a ConcurrentConfigManager that takes over the config field and value map,
+     * comments, source, and logger of another ConfigManager. The other ConfigManager must no longer
+     * be used.
+     *
+     * @param configManager The ConfigManager to take over.
+     */
+    public ConcurrentConfigManager( @NonNull final ConfigManager configManager )
+    {
+        super( new HashMap<>( configManager.getValues() ), configManager.getConfigSource(),
+               configManager.getLogger() );
+
+        setComments( configManager.getComments() );
+    }
+
+    /**
+     * Returns the concurrent config field and value map, converting the map of the super
+     * constructors on first use.
+     *
+     * @return The concurrent config field and value map.
+     */
+    @NonNull
+    private ConcurrentHashMap< String, ConfigValue > concurrentValues()
+    {
+        if ( getValues() instanceof ConcurrentHashMap< String, ConfigValue > concurrentValues )
+        {
+            return concurrentValues;
+        }
+
+        // Only reached while the super constructors run, before the manager is shared.
+        final ConcurrentHashMap< String, ConfigValue > concurrentValues =
+                new ConcurrentHashMap<>( getValues() );
+
+        super.setValues( concurrentValues );
+
+        return concurrentValues;
+    }
+
+    @Override
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        concurrentValues().put( keyOf( field ),
+                                Objects.requireNonNullElseGet( configValue,
+                                                               () -> newConfigValue( null, null ) ) );
+        setDirty( true );
+    }
+
+    @Override
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        if ( values == null )
+        {
+            getValues().clear();
+        }
+        else
+        {
+            super.setValues( ( values instanceof ConcurrentHashMap ) ? values
+                                                                     : new ConcurrentHashMap<>( values ) );
+        }
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // Reads go through the concurrent map, never through the resolved table.
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Object getValue( @NonNull final String field )
+    {
+        final ConfigValue configValue = getValues().get( field );
+
+        // Each attribute is read once since another thread may change it in between.
+        final Object value = ( configValue == null ) ? null : configValue.getValue();
+
+        if ( value != null )
+        {
+            return value;
+        }
+
+        return fallbackValue( field, ( configValue == null ) ? null
+                                                             : configValue.getDefaultValue() );
+    }
+
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        final Object oldValue = swapValue( field, object );
+
+        setDirty( true );
+
+        if ( isListening() && !Objects.equals( oldValue, object ) )
+        {
+            fireChange( ConfigChangeSet.of( this, field, oldValue, object ) );
+        }
+    }
+
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        final Map< String, ConfigChange > changes = isListening() ? new LinkedHashMap<>() : null;
+
+        if ( values == null )
+        {
+            for ( final String field : concurrentValues().keySet() )
+            {
+                recordChange( changes, field, swapValue( field, null ), null );
+            }
+        }
+        else
+        {
+            for ( final Map.Entry< String, Object > entry : values.entrySet() )
+            {
+                recordChange( changes, entry.getKey(), swapValue( entry.getKey(), entry.getValue() ),
+                              entry.getValue() );
+            }
+        }
+
+        setDirty( true );
+
+        if ( changes != null )
+        {
+            fireChange( new ConfigChangeSet( this, changes ) );
+        }
+    }
+
+    @Override
+    public void setDefaultValue( @NonNull final String field, @Nullable final Object object )
+    {
+        concurrentValues().compute( keyOf( field ), ( key, configValue ) ->
+        {
+            if ( configValue == null )
+            {
+                return newConfigValue( null, object );
+            }
+
+            configValue.setDefaultValue( object );
+
+            return configValue;
+        } );
+
+        setDirty( true );
+    }
+
+    @Override
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    {
+        if ( defaultValues == null )
+        {
+            for ( final String field : concurrentValues().keySet() )
+            {
+                setDefaultValue( field, null );
+            }
+        }
+        else
+        {
+            for ( final Map.Entry< String, Object > entry : defaultValues.entrySet() )
+            {
+                setDefaultValue( entry.getKey(), entry.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Returns the key to store a field under. Only fields new to the map are interned, since the
+     * map keeps the canonical key of an existing entry when it is written again.
+     *
+     * @param field The field in the config field and value map.
+     *
+     * @return The field, or its canonical String if the map does not contain it.
+     */
+    @NonNull
+    private String keyOf( @NonNull final String field )
+    {
+        return concurrentValues().containsKey( field ) ? field : ConfigPath.intern( field );
+    }
+
+    /**
+     * Atomically sets the value of a field and returns the value it replaced.
+     *
+     * @param field  The field in the config field and value map.
+     * @param object The new value for the field in the config field and value map.
+     *
+     * @return The value the new value replaced.
+     */
+    @Nullable
+    private Object swapValue( @NonNull final String field, @Nullable final Object object )
+    {
+        final Object[] oldValue = new Object[ 1 ];
+
+        concurrentValues().compute( keyOf( field ), ( key, configValue ) ->
+        {
+            if ( configValue == null )
+            {
+                return newConfigValue( object, null );
+            }
+
+            oldValue[ 0 ] = configValue.getValue();
+            configValue.setValue( object );
+
+            return configValue;
+        } );
+
+        return oldValue[ 0 ];
+    }
+
+}
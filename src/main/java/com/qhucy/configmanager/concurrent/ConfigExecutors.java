@@ -0,0 +1,123 @@
+package com.qhucy.configmanager.concurrent;
+
+import lombok.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class holding the executor that asynchronous config loads and saves run on. On JDK 21
+ * and newer the default executor starts a virtual thread per task, so hundreds of concurrent file
+ * loads do not need hundreds of platform threads. On older JDKs the default executor is a bounded
+ * pool of daemon threads, one per available processor.
+ *
+ * @see com.qhucy.configmanager.ConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigExecutors
+{
+
+    // The executor used when no executor is given to an asynchronous method.
+    private static volatile Executor defaultExecutor;
+
+    /**
+     * Returns the executor used when no executor is given to an asynchronous method, creating it on
+     * the first call.
+     *
+     * @return The default executor.
+     */
+    @NonNull
+    public static Executor getDefaultExecutor()
+    {
+        Executor executor = defaultExecutor;
+
+        if ( executor == null )
+        {
+            synchronized ( ConfigExecutors.class )
+            {
+                executor = defaultExecutor;
+
+                if ( executor == null )
+                {
+                    executor        = createDefaultExecutor();
+                    defaultExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * Sets the executor used when no executor is given to an asynchronous method. The previous
+     * executor is not shut down.
+     *
+     * @param executor The new default executor.
+     */
+    public static void setDefaultExecutor( @NonNull final Executor executor )
+    {
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Returns a virtual thread per task executor if the running JDK supports virtual threads, or
+     * a bounded pool of daemon threads otherwise.
+     *
+     * @return A new default executor.
+     */
+    @NonNull
+    private static Executor createDefaultExecutor()
+    {
+        try
+        {
+            // Looked up reflectively since the library is compiled against JDK 17.
+            return ( ExecutorService ) java.util.concurrent.Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" )
+                                                                           .invoke( null );
+        }
+        catch ( final ReflectiveOperationException exception )
+        {
+            return createBoundedExecutor( Runtime.getRuntime().availableProcessors() );
+        }
+    }
+
+    /**
+     * Returns a pool with a fixed number of daemon threads and an unbounded task queue.
+     *
+     * @param threads The number of threads of the pool.
+     *
+     * @return A pool with a fixed number of daemon threads.
+     */
+    @NonNull
+    public static ExecutorService createBoundedExecutor( final int threads )
+    {
+        if ( threads <= 0 )
+        {
+            throw new IllegalArgumentException( "Parameter threads must be positive." );
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor( threads, threads, 30,
+                                                                    TimeUnit.SECONDS,
+                                                                    new LinkedBlockingQueue<>(),
+                                                                    runnable ->
+                                                                    {
+                                                                        final Thread thread =
+                                                                                new Thread( runnable, "ConfigManager-IO-" + threadCount.incrementAndGet() );
+
+                                                                        thread.setDaemon( true );
+
+                                                                        return thread;
+                                                                    } );
+
+        executor.allowCoreThreadTimeOut( true );
+
+        return executor;
+    }
+
+}
@@ -0,0 +1,381 @@
+package com.qhucy.configmanager.concurrent;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.snapshot.ConfigSnapshot;
+import com.qhucy.configmanager.value.ConfigConverters;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.logging.Logger;
+
+/**
+ * Thread-safe ConfigManager guarded by a StampedLock. Reads of single fields use optimistic reads,
+ * which take no lock at all unless a write happened at the same time, so read-heavy workloads
+ * scale across threads. Every mutator takes the write lock.
+ * <p>
+ * Optimistic reads never walk the backing HashMap, which a writer may be resizing. They look the
+ * field up in an immutable copy of the map that is published through a volatile field, and only
+ * read the value and default value of the ConfigValue before validating the stamp. Writes to an
+ * existing field change its ConfigValue in place and keep the copy, writes that add or replace
+ * ConfigValues drop it and the next read under the read lock copies the map again.
+ * <p>
+ * The map returned by getValues is the unguarded backing map and must not be used while other
+ * threads are writing, and fields it adds or replaces are not read until the next mutator.
+ * ConfigValue objects returned by getConfigValue are detached copies.
+ *
+ * @see ConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class StampedConfigManager
+        extends ConfigManager
+{
+
+    /**
+     * Snapshot of a single field that was read under the lock.
+     *
+     * @param present      Whether the field exists in the config field and value map.
+     * @param value        The value of the field.
+     * @param defaultValue The default value of the field.
+     */
+    private record FieldRead( boolean present, Object value, Object defaultValue )
+    {
+
+        // The read of a field that does not exist.
+        private final static FieldRead MISSING = new FieldRead( false, null, null );
+
+    }
+
+    // The lock guarding the config field and value map.
+    private final StampedLock                   lock = new StampedLock();
+    // Immutable copy of the config field and value map for optimistic reads, null once stale.
+    private volatile Map< String, ConfigValue > view;
+
+    /**
+     * Instantiates a StampedConfigManager from a config field and value map.
+     *
+     * @param values       The config field and value map.
+     * @param configSource The source of the config field and value map.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public StampedConfigManager( @Nullable final HashMap< String, ConfigValue > values,
+                                 @NonNull final ConfigSource configSource,
+                                 @NonNull final Logger logger )
+    {
+        super( values, configSource, logger );
+    }
+
+    /**
+     * Instantiates a StampedConfigManager from an inputted array of config fields, values, and
+     * default values.
+     *
+     * @param configSource           The source of the config field and value map.
+     * @param logger                 The accessing plugin's logger that is used to log missing and
+     *                               invalid config values.
+     * @param fieldValueDefaultValue Alternating String fields and its respective value and default
+     *                               value to build a new config field and value map.
+     */
+    public StampedConfigManager( @NonNull final ConfigSource configSource,
+                                 @NonNull final Logger logger,
+                                 @Nullable final Object... fieldValueDefaultValue )
+    {
+        super( configSource, logger, fieldValueDefaultValue );
+    }
+
+    /**
+     * Instantiates a StampedConfigManager that takes over the config field and value map, comments,
+     * source, and logger of another ConfigManager. The other ConfigManager must no longer be used.
+     *
+     * @param configManager The ConfigManager to take over.
+     */
+    public StampedConfigManager( @NonNull final ConfigManager configManager )
+    {
+        super( new HashMap<>( configManager.getValues() ), configManager.getConfigSource(),
+               configManager.getLogger() );
+
+        setComments( configManager.getComments() );
+    }
+
+    /**
+     * Reads a single field, optimistically from the immutable copy of the map first and under the
+     * read lock if the copy is stale or a write happened at the same time.
+     *
+     * @param field The field to read.
+     *
+     * @return The read of the field.
+     */
+    @NonNull
+    private FieldRead read( @NonNull final String field )
+    {
+        long                             stamp   = lock.tryOptimisticRead();
+        final Map< String, ConfigValue > current = view;
+
+        if ( stamp != 0 && current != null )
+        {
+            final FieldRead read = readFrom( current, field );
+
+            if ( lock.validate( stamp ) )
+            {
+                return read;
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try
+        {
+            Map< String, ConfigValue > copy = view;
+
+            // Copied under the read lock, so no writer can drop the copy before it is published.
+            if ( copy == null )
+            {
+                copy = Collections.unmodifiableMap( new HashMap<>( getValues() ) );
+                view = copy;
+            }
+
+            return readFrom( copy, field );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Reads a single field from a config field and value map that is not being resized.
+     *
+     * @param values The config field and value map.
+     * @param field  The field to read.
+     *
+     * @return The read of the field.
+     */
+    @NonNull
+    private static FieldRead readFrom( @NonNull final Map< String, ConfigValue > values,
+                                       @NonNull final String field )
+    {
+        final ConfigValue configValue = values.get( field );
+
+        if ( configValue == null )
+        {
+            return FieldRead.MISSING;
+        }
+
+        return new FieldRead( true, configValue.getValue(), configValue.getDefaultValue() );
+    }
+
+    /**
+     * Runs a mutation of the config field and value map under the write lock and drops the
+     * immutable copy of the map.
+     *
+     * @param mutation The mutation to run.
+     */
+    private void writeLocked( @NonNull final Runnable mutation )
+    {
+        writeLocked( null, mutation );
+    }
+
+    /**
+     * Runs a mutation under the write lock. The immutable copy of the map is kept if the mutation
+     * only changes the ConfigValue of an existing field in place.
+     *
+     * @param field    The existing field that the mutation changes in place, null if the mutation
+     *                 may add or replace ConfigValues.
+     * @param mutation The mutation to run.
+     */
+    private void writeLocked( @Nullable final String field, @NonNull final Runnable mutation )
+    {
+        // The super constructors mutate the map before the lock is initialized.
+        if ( lock == null )
+        {
+            mutation.run();
+
+            return;
+        }
+
+        final long stamp = lock.writeLock();
+
+        try
+        {
+            final boolean inPlace = field != null && getValues().get( field ) != null;
+
+            mutation.run();
+
+            if ( !inPlace )
+            {
+                view = null;
+            }
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    @Override
+    @Nullable
+    public ConfigValue getConfigValue( @NonNull final String field )
+    {
+        final FieldRead read = read( field );
+
+        if ( !read.present() )
+        {
+            logMissingConfigValue( field );
+
+            return null;
+        }
+
+        return new ConfigValue( read.value(), read.defaultValue() );
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // Reads go through the stamped lock, never through the resolved table.
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Object getValue( @NonNull final String field )
+    {
+        final FieldRead read = read( field );
+
+        if ( read.value() != null )
+        {
+            return read.value();
+        }
+
+        return fallbackValue( field, read.defaultValue() );
+    }
+
+    @Override
+    @Nullable
+    public Object getRawValue( @NonNull final String field )
+    {
+        return read( field ).value();
+    }
+
+    @Override
+    @Nullable
+    public < T > T getAs( @NonNull final String field, @NonNull final Class< T > type )
+    {
+        // The value is read under the lock, ConfigValues of this class are detached copies.
+        return ConfigConverters.convert( getValue( field ), type );
+    }
+
+    @Override
+    @Nullable
+    public Object getDefaultValue( @NonNull final String field )
+    {
+        return resolveDefaultValue( field, read( field ).defaultValue() );
+    }
+
+    @Override
+    public List< String > getConfigSectionFields( @NonNull final String parentField,
+                                                  final boolean fullFields,
+                                                  final boolean deepFields )
+    {
+        final long stamp = lock.readLock();
+
+        try
+        {
+            return super.getConfigSectionFields( parentField, fullFields, deepFields );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    @Override
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        writeLocked( () -> super.setConfigValue( field, configValue ) );
+    }
+
+    @Override
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        writeLocked( () -> super.setValues( values ) );
+    }
+
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        writeLocked( field, () -> super.setValue( field, object ) );
+    }
+
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        writeLocked( () -> super.transferValues( values ) );
+    }
+
+    @Override
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        writeLocked( () -> super.putAll( values ) );
+    }
+
+    @Override
+    public void putAllDefaults( @NonNull final Map< String, ? > defaultValues )
+    {
+        writeLocked( () -> super.putAllDefaults( defaultValues ) );
+    }
+
+    @Override
+    public void setDefaultValue( @NonNull final String field, @Nullable final Object object )
+    {
+        writeLocked( field, () -> super.setDefaultValue( field, object ) );
+    }
+
+    @Override
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    {
+        writeLocked( () -> super.transferDefaultValues( defaultValues ) );
+    }
+
+    @Override
+    @NonNull
+    public ConfigSnapshot snapshot()
+    {
+        final long stamp = lock.readLock();
+
+        try
+        {
+            return super.snapshot();
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    @Override
+    public void saveToFile( @NonNull final File configFile )
+            throws IOException
+    {
+        final long stamp = lock.readLock();
+
+        try
+        {
+            super.saveToFile( configFile );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+}
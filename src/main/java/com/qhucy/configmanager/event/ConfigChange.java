@@ -0,0 +1,21 @@
+package com.qhucy.configmanager.event;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A change of the value of a single field in a config field and value map.
+ *
+ * @param field    The changed field.
+ * @param oldValue The value of the field before the change.
+ * @param newValue The value of the field after the change.
+ *
+ * @see ConfigChangeSet
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public record ConfigChange( @NonNull String field, @Nullable Object oldValue,
+                            @Nullable Object newValue )
+{
+
+}
@@ -0,0 +1,275 @@
+package com.qhucy.configmanager.event;
+
+import com.qhucy.configmanager.concurrent.ConfigExecutors;
+import lombok.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * Class that dispatches the change sets of a ConfigManager to subscribed listeners. A listener can
+ * subscribe to a single field, to every field under a section, or to every field. Each listener
+ * receives at most one change set per operation, holding only the changes it subscribed to.
+ * <p>
+ * Listeners run on an executor, by default the shared asynchronous executor, so that mutating a
+ * ConfigManager never waits for a listener. Change sets are delivered to each listener one at a
+ * time and in the order the operations happened.
+ *
+ * @see ConfigChangeListener
+ * @see ConfigExecutors#getDefaultExecutor()
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class ConfigChangeDispatcher
+{
+
+    /**
+     * Handle of a listener subscription that delivers change sets to its listener in order.
+     */
+    public static final class Subscription
+    {
+
+        // The dispatcher the subscription belongs to.
+        private final ConfigChangeDispatcher dispatcher;
+        // The filter of the fields the listener subscribed to.
+        private final Predicate< String >    filter;
+        // The subscribed listener.
+        private final ConfigChangeListener   listener;
+        // The executor the listener runs on.
+        private final Executor               executor;
+
+        // The change sets that wait to be delivered.
+        private final Queue< ConfigChangeSet > pending  = new ConcurrentLinkedQueue<>();
+        // Whether a delivery task is scheduled on the executor.
+        private final AtomicBoolean            draining = new AtomicBoolean();
+
+        /**
+         * Instantiates a Subscription.
+         *
+         * @param dispatcher The dispatcher the subscription belongs to.
+         * @param filter     The filter of the fields the listener subscribed to.
+         * @param listener   The subscribed listener.
+         * @param executor   The executor the listener runs on.
+         */
+        private Subscription( @NonNull final ConfigChangeDispatcher dispatcher,
+                              @NonNull final Predicate< String > filter,
+                              @NonNull final ConfigChangeListener listener,
+                              @NonNull final Executor executor )
+        {
+            this.dispatcher = dispatcher;
+            this.filter     = filter;
+            this.listener   = listener;
+            this.executor   = executor;
+        }
+
+        /**
+         * Stops delivering change sets to the listener.
+         */
+        public void unsubscribe()
+        {
+            dispatcher.subscriptions.remove( this );
+        }
+
+        /**
+         * Queues the matching part of a change set for delivery.
+         *
+         * @param changeSet The change set of an operation.
+         */
+        private void offer( @NonNull final ConfigChangeSet changeSet )
+        {
+            final ConfigChangeSet filtered = changeSet.filter( filter );
+
+            if ( filtered.isEmpty() )
+            {
+                return;
+            }
+
+            pending.add( filtered );
+
+            if ( draining.compareAndSet( false, true ) )
+            {
+                executor.execute( this::drain );
+            }
+        }
+
+        /**
+         * Delivers every queued change set to the listener.
+         */
+        private void drain()
+        {
+            do
+            {
+                ConfigChangeSet changeSet;
+
+                while ( ( changeSet = pending.poll() ) != null )
+                {
+                    try
+                    {
+                        listener.onChange( changeSet );
+                    }
+                    catch ( final RuntimeException exception )
+                    {
+                        changeSet.getConfigManager().logMessage( Level.SEVERE, "Config change listener " + listener + " threw " + exception );
+                    }
+                }
+
+                draining.set( false );
+            }
+            // Picks up change sets that were queued after the queue was seen empty.
+            while ( !pending.isEmpty() && draining.compareAndSet( false, true ) );
+        }
+
+    }
+
+    // Every active subscription.
+    private final CopyOnWriteArrayList< Subscription > subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns if any listener is subscribed. Mutators skip building change sets otherwise.
+     *
+     * @return If any listener is subscribed.
+     */
+    public boolean hasSubscriptions()
+    {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Subscribes a listener to the changes of a single field on the default executor.
+     *
+     * @param field    The field to listen to.
+     * @param listener The listener.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    public Subscription subscribeField( @NonNull final String field,
+                                        @NonNull final ConfigChangeListener listener )
+    {
+        return subscribeField( field, listener, ConfigExecutors.getDefaultExecutor() );
+    }
+
+    /**
+     * Subscribes a listener to the changes of a single field.
+     *
+     * @param field    The field to listen to.
+     * @param listener The listener.
+     * @param executor The executor the listener runs on.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    public Subscription subscribeField( @NonNull final String field,
+                                        @NonNull final ConfigChangeListener listener,
+                                        @NonNull final Executor executor )
+    {
+        return subscribe( field::equals, listener, executor );
+    }
+
+    /**
+     * Subscribes a listener to the changes of every field under a section on the default executor.
+     *
+     * @param section  The section to listen to, such as "a.c" for the field "a.c.f".
+     * @param listener The listener.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    public Subscription subscribeSection( @NonNull final String section,
+                                          @NonNull final ConfigChangeListener listener )
+    {
+        return subscribeSection( section, listener, ConfigExecutors.getDefaultExecutor() );
+    }
+
+    /**
+     * Subscribes a listener to the changes of every field under a section.
+     *
+     * @param section  The section to listen to, such as "a.c" for the field "a.c.f".
+     * @param listener The listener.
+     * @param executor The executor the listener runs on.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    public Subscription subscribeSection( @NonNull final String section,
+                                          @NonNull final ConfigChangeListener listener,
+                                          @NonNull final Executor executor )
+    {
+        final String prefix = section + ".";
+
+        return subscribe( field -> field.startsWith( prefix ), listener, executor );
+    }
+
+    /**
+     * Subscribes a listener to the changes of every field on the default executor.
+     *
+     * @param listener The listener.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    public Subscription subscribeAll( @NonNull final ConfigChangeListener listener )
+    {
+        return subscribeAll( listener, ConfigExecutors.getDefaultExecutor() );
+    }
+
+    /**
+     * Subscribes a listener to the changes of every field.
+     *
+     * @param listener The listener.
+     * @param executor The executor the listener runs on.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    public Subscription subscribeAll( @NonNull final ConfigChangeListener listener,
+                                      @NonNull final Executor executor )
+    {
+        return subscribe( field -> true, listener, executor );
+    }
+
+    /**
+     * Dispatches the change set of an operation to every subscribed listener.
+     *
+     * @param changeSet The change set of an operation.
+     */
+    public void dispatch( @NonNull final ConfigChangeSet changeSet )
+    {
+        if ( changeSet.isEmpty() )
+        {
+            return;
+        }
+
+        for ( final Subscription subscription : subscriptions )
+        {
+            subscription.offer( changeSet );
+        }
+    }
+
+    /**
+     * Adds a subscription for a listener.
+     *
+     * @param filter   The filter of the fields the listener subscribed to.
+     * @param listener The listener.
+     * @param executor The executor the listener runs on.
+     *
+     * @return The subscription of the listener.
+     */
+    @NonNull
+    private Subscription subscribe( @NonNull final Predicate< String > filter,
+                                    @NonNull final ConfigChangeListener listener,
+                                    @NonNull final Executor executor )
+    {
+        final Subscription subscription = new Subscription( this, filter, listener, executor );
+
+        subscriptions.add( subscription );
+
+        return subscription;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.qhucy.configmanager.event;
+
+import lombok.NonNull;
+
+/**
+ * Listener that is notified of the changes of a config field and value map. Every mutating
+ * operation of a ConfigManager produces at most one change set per listener.
+ *
+ * @see ConfigChangeDispatcher
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener
+{
+
+    /**
+     * Called with the changes of a single operation that match the subscription of the listener.
+     *
+     * @param changeSet The changes of the operation.
+     */
+    void onChange( @NonNull final ConfigChangeSet changeSet );
+
+}
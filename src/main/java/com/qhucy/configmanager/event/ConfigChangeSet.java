@@ -0,0 +1,174 @@
+package com.qhucy.configmanager.event;
+
+import com.qhucy.configmanager.ConfigManager;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable set of the changes that a single operation made to a config field and value map, such
+ * as a setValue, a transferValues, or a reload.
+ *
+ * @see ConfigChange
+ * @see ConfigChangeListener
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigChangeSet
+{
+
+    /**
+     * Returns a change set holding a single change.
+     *
+     * @param configManager The ConfigManager that was changed.
+     * @param field         The changed field.
+     * @param oldValue      The value of the field before the change.
+     * @param newValue      The value of the field after the change.
+     *
+     * @return A change set holding a single change.
+     */
+    @NonNull
+    public static ConfigChangeSet of( @NonNull final ConfigManager configManager,
+                                      @NonNull final String field,
+                                      @Nullable final Object oldValue,
+                                      @Nullable final Object newValue )
+    {
+        return new ConfigChangeSet( configManager, Collections.singletonMap( field,
+                                                                             new ConfigChange( field, oldValue, newValue ) ) );
+    }
+
+    // The ConfigManager that was changed.
+    private final ConfigManager                configManager;
+    // The field and change map.
+    private final Map< String, ConfigChange > changes;
+
+    /**
+     * Instantiates a ConfigChangeSet from a field and change map. The map must no longer be
+     * modified.
+     *
+     * @param configManager The ConfigManager that was changed.
+     * @param changes       The field and change map.
+     */
+    public ConfigChangeSet( @NonNull final ConfigManager configManager,
+                            @NonNull final Map< String, ConfigChange > changes )
+    {
+        this.configManager = configManager;
+        this.changes       = Collections.unmodifiableMap( changes );
+    }
+
+    /**
+     * Returns the ConfigManager that was changed.
+     *
+     * @return The ConfigManager that was changed.
+     */
+    @NonNull
+    public ConfigManager getConfigManager()
+    {
+        return configManager;
+    }
+
+    /**
+     * Returns the changed fields.
+     *
+     * @return The changed fields.
+     */
+    @NonNull
+    public Set< String > getFields()
+    {
+        return changes.keySet();
+    }
+
+    /**
+     * Returns every change of the change set.
+     *
+     * @return Every change of the change set.
+     */
+    @NonNull
+    public Collection< ConfigChange > getChanges()
+    {
+        return changes.values();
+    }
+
+    /**
+     * Returns the change of a given field.
+     *
+     * @param field The changed field.
+     *
+     * @return The change of the field, null if the field did not change.
+     */
+    @Nullable
+    public ConfigChange getChange( @NonNull final String field )
+    {
+        return changes.get( field );
+    }
+
+    /**
+     * Returns if a given field changed.
+     *
+     * @param field The field.
+     *
+     * @return If the field changed.
+     */
+    public boolean contains( @NonNull final String field )
+    {
+        return changes.containsKey( field );
+    }
+
+    /**
+     * Returns the number of changed fields.
+     *
+     * @return The number of changed fields.
+     */
+    public int size()
+    {
+        return changes.size();
+    }
+
+    /**
+     * Returns if no field changed.
+     *
+     * @return If no field changed.
+     */
+    public boolean isEmpty()
+    {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns a change set holding only the changes of fields that match a filter. Returns this
+     * change set if every field matches.
+     *
+     * @param filter The filter of the fields.
+     *
+     * @return A change set holding only the matching changes.
+     */
+    @NonNull
+    public ConfigChangeSet filter( @NonNull final Predicate< String > filter )
+    {
+        final Map< String, ConfigChange > filtered = new LinkedHashMap<>();
+
+        for ( final Map.Entry< String, ConfigChange > entry : changes.entrySet() )
+        {
+            if ( filter.test( entry.getKey() ) )
+            {
+                filtered.put( entry.getKey(), entry.getValue() );
+            }
+        }
+
+        return ( filtered.size() == changes.size() ) ? this
+                                                     : new ConfigChangeSet( configManager, filtered );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ConfigChangeSet" + changes.values();
+    }
+
+}
@@ -0,0 +1,345 @@
+package com.qhucy.configmanager.file;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import com.qhucy.configmanager.ConfigBuilder;
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.tomlj.Toml;
+import org.tomlj.TomlParseResult;
+import org.tomlj.TomlTable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Utility class containing static methods to save and load whole collections of ConfigStorable
+ * objects at once. Every object is stored in its own section, keyed by a caller supplied key
+ * function, and the whole collection is written to or read from a config file in a single pass.
+ * A single scratch ConfigManager and a single encoder are reused for every object.
+ *
+ * @see ConfigStorable
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigBatch
+{
+
+    /**
+     * Saves every ConfigStorable object into a config field and value map. Every object is saved
+     * under the section returned by the key function.
+     *
+     * @param storables     The objects to save.
+     * @param keyFunction   The function returning the section key of an object.
+     * @param configManager The ConfigManager to save the objects into.
+     * @param <T>           The type of the objects to save.
+     */
+    public static < T extends ConfigStorable > void saveAll( @NonNull final Collection< ? extends T > storables,
+                                                             @NonNull final Function< ? super T, String > keyFunction,
+                                                             @NonNull final ConfigManager configManager )
+    {
+        for ( final T storable : storables )
+        {
+            storable.saveToConfig( configManager, keyFunction.apply( storable ) );
+        }
+    }
+
+    /**
+     * Loads every ConfigStorable object from a config field and value map. Every object is loaded
+     * from the section returned by the key function.
+     *
+     * @param storables     The objects to load.
+     * @param keyFunction   The function returning the section key of an object.
+     * @param configManager The ConfigManager to load the objects from.
+     * @param <T>           The type of the objects to load.
+     */
+    public static < T extends ConfigStorable > void loadAll( @NonNull final Collection< ? extends T > storables,
+                                                             @NonNull final Function< ? super T, String > keyFunction,
+                                                             @NonNull final ConfigManager configManager )
+    {
+        for ( final T storable : storables )
+        {
+            storable.loadFromConfig( configManager, keyFunction.apply( storable ) );
+        }
+    }
+
+    /**
+     * Saves every ConfigStorable object into a single config file. The objects are streamed into
+     * the file one at a time, so the file contents are never held in memory as a whole.
+     *
+     * @param storables   The objects to save.
+     * @param keyFunction The function returning the section key of an object.
+     * @param configFile  The config file that will be written to.
+     * @param logger      The accessing plugin's logger.
+     * @param <T>         The type of the objects to save.
+     *
+     * @throws IOException If unable to write to the config file.
+     */
+    public static < T extends ConfigStorable > void saveAll( @NonNull final Collection< ? extends T > storables,
+                                                             @NonNull final Function< ? super T, String > keyFunction,
+                                                             @NonNull final File configFile,
+                                                             @NonNull final Logger logger )
+            throws IOException
+    {
+        final String path = configFile.getPath();
+
+        if ( path.endsWith( ".json" ) )
+        {
+            saveAllToJson( storables, keyFunction, configFile, logger );
+        }
+        else if ( path.endsWith( ".yml" ) || path.endsWith( ".yaml" ) )
+        {
+            saveAllToYaml( storables, keyFunction, configFile, logger );
+        }
+        else
+        {
+            throw new IllegalArgumentException( "Unable to save configFile at '" + configFile.getAbsolutePath() + "', batch saving only supports .yml .yaml and .json files." );
+        }
+    }
+
+    /**
+     * Loads every ConfigStorable object from a single config file. The config file is parsed only
+     * once. Objects without a section in the config file are logged and skipped.
+     *
+     * @param storables   The objects to load.
+     * @param keyFunction The function returning the section key of an object.
+     * @param configFile  The config file that will be read from.
+     * @param logger      The accessing plugin's logger.
+     * @param <T>         The type of the objects to load.
+     *
+     * @throws IOException    If unable to read from the config file.
+     * @throws ParseException If unable to parse the config file.
+     */
+    public static < T extends ConfigStorable > void loadAll( @NonNull final Collection< ? extends T > storables,
+                                                             @NonNull final Function< ? super T, String > keyFunction,
+                                                             @NonNull final File configFile,
+                                                             @NonNull final Logger logger )
+            throws IOException, ParseException
+    {
+        final ConfigManager scratch = newScratchManager( configFile, logger );
+        final String        path    = configFile.getPath();
+
+        if ( path.endsWith( ".toml" ) )
+        {
+            final TomlParseResult tomlParseResult = Toml.parse( configFile.toPath() );
+
+            for ( final T storable : storables )
+            {
+                final String    key   = keyFunction.apply( storable );
+                final TomlTable table = tomlParseResult.getTable( Toml.joinKeyPath( List.of( key ) ) );
+
+                scratch.getValues().clear();
+
+                if ( table == null )
+                {
+                    scratch.logMissingValue( key );
+                    continue;
+                }
+
+                for ( final String field : table.dottedKeySet( true ) )
+                {
+                    scratch.setValue( key + "." + field, table.get( field ) );
+                }
+
+                storable.loadFromConfig( scratch, key );
+            }
+
+            return;
+        }
+
+        final Map< ?, ? > root;
+
+        try ( final BufferedReader reader = new BufferedReader( new FileReader( configFile ) ) )
+        {
+            if ( path.endsWith( ".json" ) )
+            {
+                root = ( Map< ?, ? > ) new JSONParser().parse( reader );
+            }
+            else if ( path.endsWith( ".yml" ) || path.endsWith( ".yaml" ) )
+            {
+                root = new Yaml().load( reader );
+            }
+            else
+            {
+                throw new IllegalArgumentException( "Unable to load configFile at '" + configFile.getAbsolutePath() + "', this API only supports .yml .yaml .toml and .json files." );
+            }
+        }
+
+        for ( final T storable : storables )
+        {
+            final String key    = keyFunction.apply( storable );
+            final Object record = ( root == null ) ? null : root.get( key );
+
+            scratch.getValues().clear();
+
+            if ( !( record instanceof final Map< ?, ? > recordMap ) )
+            {
+                scratch.logMissingValue( key );
+                continue;
+            }
+
+            for ( final Map.Entry< String, Object > entry :
+                    ConfigBuilder.buildFromNestedMap( recordMap ).entrySet() )
+            {
+                scratch.setValue( key + "." + entry.getKey(), entry.getValue() );
+            }
+
+            storable.loadFromConfig( scratch, key );
+        }
+    }
+
+    /**
+     * Streams every ConfigStorable object into a JSON config file.
+     *
+     * @param storables   The objects to save.
+     * @param keyFunction The function returning the section key of an object.
+     * @param configFile  The config file that will be written to.
+     * @param logger      The accessing plugin's logger.
+     * @param <T>         The type of the objects to save.
+     *
+     * @throws IOException If unable to write to the config file.
+     */
+    private static < T extends ConfigStorable > void saveAllToJson( @NonNull final Collection< ? extends T > storables,
+                                                                    @NonNull final Function< ? super T, String > keyFunction,
+                                                                    @NonNull final File configFile,
+                                                                    @NonNull final Logger logger )
+            throws IOException
+    {
+        final ConfigManager scratch = newScratchManager( configFile, logger );
+        final Gson          gson    = new GsonBuilder().create();
+
+        try ( final JsonWriter jsonWriter = new JsonWriter( new BufferedWriter( new FileWriter( configFile ) ) ) )
+        {
+            jsonWriter.beginObject();
+
+            for ( final T storable : storables )
+            {
+                final String key = keyFunction.apply( storable );
+
+                scratch.getValues().clear();
+                storable.saveToConfig( scratch, key );
+
+                jsonWriter.name( key );
+                jsonWriter.beginObject();
+
+                for ( final Map.Entry< String, ConfigValue > entry : scratch.getValues().entrySet() )
+                {
+                    final Object value = entry.getValue().getValue();
+
+                    jsonWriter.name( relativeField( key, entry.getKey() ) );
+
+                    if ( value == null )
+                    {
+                        jsonWriter.nullValue();
+                    }
+                    else
+                    {
+                        gson.toJson( value, value.getClass(), jsonWriter );
+                    }
+                }
+
+                jsonWriter.endObject();
+            }
+
+            jsonWriter.endObject();
+        }
+    }
+
+    /**
+     * Streams every ConfigStorable object into a YAML config file.
+     *
+     * @param storables   The objects to save.
+     * @param keyFunction The function returning the section key of an object.
+     * @param configFile  The config file that will be written to.
+     * @param logger      The accessing plugin's logger.
+     * @param <T>         The type of the objects to save.
+     *
+     * @throws IOException If unable to write to the config file.
+     */
+    private static < T extends ConfigStorable > void saveAllToYaml( @NonNull final Collection< ? extends T > storables,
+                                                                    @NonNull final Function< ? super T, String > keyFunction,
+                                                                    @NonNull final File configFile,
+                                                                    @NonNull final Logger logger )
+            throws IOException
+    {
+        final ConfigManager scratch = newScratchManager( configFile, logger );
+
+        final DumperOptions dumperOptions = new DumperOptions();
+        dumperOptions.setDefaultFlowStyle( DumperOptions.FlowStyle.BLOCK );
+
+        final Yaml                          yaml   = new Yaml( dumperOptions );
+        final LinkedHashMap< String, Object > record = new LinkedHashMap<>();
+
+        try ( final BufferedWriter writer = new BufferedWriter( new FileWriter( configFile ) ) )
+        {
+            for ( final T storable : storables )
+            {
+                final String key = keyFunction.apply( storable );
+
+                scratch.getValues().clear();
+                storable.saveToConfig( scratch, key );
+
+                record.clear();
+
+                for ( final Map.Entry< String, ConfigValue > entry : scratch.getValues().entrySet() )
+                {
+                    record.put( relativeField( key, entry.getKey() ), entry.getValue().getValue() );
+                }
+
+                yaml.dump( Collections.singletonMap( key, record ), writer );
+            }
+        }
+    }
+
+    /**
+     * Returns a field relative to the section it was saved under.
+     *
+     * @param section The section of the field.
+     * @param field   The full field.
+     *
+     * @return The field relative to the section it was saved under.
+     */
+    @NonNull
+    private static String relativeField( @NonNull final String section, @NonNull final String field )
+    {
+        if ( field.length() > section.length() && field.startsWith( section ) && field.charAt( section.length() ) == '.' )
+        {
+            return field.substring( section.length() + 1 );
+        }
+
+        return field;
+    }
+
+    /**
+     * Returns an empty ConfigManager that is reused for every object of a batch.
+     *
+     * @param configFile The config file of the batch.
+     * @param logger     The accessing plugin's logger.
+     *
+     * @return An empty ConfigManager that is reused for every object of a batch.
+     */
+    @NonNull
+    private static ConfigManager newScratchManager( @NonNull final File configFile,
+                                                    @NonNull final Logger logger )
+    {
+        return new ConfigManager( null, ConfigSource.fromFile( configFile ), logger );
+    }
+
+}
@@ -0,0 +1,318 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.metrics.ConfigFootprint;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Config field and comment map that records the comment lines of a config file while it is loaded
+ * and only creates the String arrays of a field when the field is looked up, so read-only
+ * consumers never pay for them. The text of all comment lines is kept in one shared pool String
+ * with the offset of every line in it.
+ * <p>
+ * The first modification copies the comments into a plain HashMap. Like ConfigManager, this class
+ * is not thread-safe.
+ *
+ * @see com.qhucy.configmanager.ConfigManager#loadFromFile(File, java.util.logging.Logger)
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigComments
+        extends AbstractMap< String, String[] >
+{
+
+    // The text of every comment line, one after the other.
+    private String                  pool;
+    // The offset of every comment line in the pool, followed by the end of the pool.
+    private int[]                   lineOffsets;
+    // The first comment line in the upper half and the number of lines in the lower half, by field.
+    private Map< String, Long >     ranges;
+    // The comments once they were modified, null while they are pooled.
+    private Map< String, String[] > modified;
+
+    /**
+     * Instantiates ConfigComments from the comment lines of a config file. A comment block belongs
+     * to the field on the line that follows it.
+     *
+     * @param file The config file.
+     *
+     * @throws IOException If unable to read the config file.
+     */
+    public ConfigComments( @NonNull final File file )
+            throws IOException
+    {
+        try ( final BufferedReader bufferedReader = new BufferedReader( new FileReader( file ) ) )
+        {
+            scan( bufferedReader );
+        }
+    }
+
+    /**
+     * Instantiates ConfigComments from the comment lines of the text of a config file that was
+     * already read. A comment block belongs to the field on the line that follows it.
+     *
+     * @param text The text of the config file.
+     */
+    public ConfigComments( @NonNull final String text )
+    {
+        try
+        {
+            scan( new BufferedReader( new StringReader( text ) ) );
+        }
+        catch ( final IOException exception )
+        {
+            // A StringReader does not throw.
+            throw new UncheckedIOException( exception );
+        }
+    }
+
+    /**
+     * Records the offset of every comment line and the comment lines of every field.
+     *
+     * @param bufferedReader The reader of the config file.
+     *
+     * @throws IOException If unable to read the config file.
+     */
+    private void scan( @NonNull final BufferedReader bufferedReader )
+            throws IOException
+    {
+        final StringBuilder       text    = new StringBuilder();
+        final Map< String, Long > fields  = new HashMap<>();
+        int[]                     offsets = new int[ 16 ];
+        int                       lines   = 0;
+        int                       pending = 0;
+        String                    field   = "";
+        String                    line;
+
+        while ( ( line = bufferedReader.readLine() ) != null )
+        {
+            if ( line.isEmpty() || line.startsWith( "#" ) )
+            {
+                if ( pending == 0 && !line.startsWith( " " ) )
+                {
+                    field = "";
+                }
+
+                if ( lines + 1 >= offsets.length )
+                {
+                    offsets = Arrays.copyOf( offsets, offsets.length * 2 );
+                }
+
+                offsets[ lines++ ] = text.length();
+                text.append( line.strip() );
+                ++pending;
+            }
+            else if ( line.contains( ":" ) )
+            {
+                field += "." + line.substring( line.indexOf( ":" ) );
+
+                if ( pending > 0 )
+                {
+                    fields.put( field, ( ( long ) ( lines - pending ) << 32 ) | pending );
+                    pending = 0;
+                }
+            }
+        }
+
+        offsets[ lines ] = text.length();
+
+        pool        = text.toString();
+        lineOffsets = Arrays.copyOf( offsets, lines + 1 );
+        ranges      = fields;
+    }
+
+    /**
+     * Returns the comments of a field, created from the pool.
+     *
+     * @param range The first comment line and the number of lines of the field.
+     *
+     * @return The comment lines of the field.
+     */
+    @NonNull
+    private String[] materialize( final long range )
+    {
+        final int      first    = ( int ) ( range >>> 32 );
+        final String[] comments = new String[ ( int ) range ];
+
+        for ( int i = 0; i < comments.length; ++i )
+        {
+            comments[ i ] = pool.substring( lineOffsets[ first + i ], lineOffsets[ first + i + 1 ] );
+        }
+
+        return comments;
+    }
+
+    /**
+     * Returns the comments as a plain map that can be modified, copying them on the first call.
+     *
+     * @return The comments as a plain map.
+     */
+    @NonNull
+    private Map< String, String[] > modifiable()
+    {
+        if ( modified == null )
+        {
+            modified = new HashMap<>( ranges.size() * 4 / 3 + 1 );
+
+            for ( final Map.Entry< String, Long > entry : ranges.entrySet() )
+            {
+                modified.put( entry.getKey(), materialize( entry.getValue() ) );
+            }
+
+            pool        = null;
+            lineOffsets = null;
+            ranges      = null;
+        }
+
+        return modified;
+    }
+
+    @Override
+    public int size()
+    {
+        if ( modified != null )
+        {
+            return modified.size();
+        }
+
+        return ranges.size();
+    }
+
+    @Override
+    public boolean containsKey( @Nullable final Object key )
+    {
+        if ( modified != null )
+        {
+            return modified.containsKey( key );
+        }
+
+        return ranges.containsKey( key );
+    }
+
+    @Override
+    @Nullable
+    public String[] get( @Nullable final Object key )
+    {
+        if ( modified != null )
+        {
+            return modified.get( key );
+        }
+
+        final Long range = ranges.get( key );
+
+        return ( range == null ) ? null : materialize( range );
+    }
+
+    @Override
+    @Nullable
+    public String[] put( @NonNull final String key, @Nullable final String[] value )
+    {
+        return modifiable().put( key, value );
+    }
+
+    @Override
+    @Nullable
+    public String[] remove( @Nullable final Object key )
+    {
+        return modifiable().remove( key );
+    }
+
+    @Override
+    public void clear()
+    {
+        modifiable().clear();
+    }
+
+    @Override
+    @NonNull
+    public Set< Map.Entry< String, String[] > > entrySet()
+    {
+        if ( modified != null )
+        {
+            return modified.entrySet();
+        }
+
+        return new AbstractSet<>()
+        {
+
+            @Override
+            public int size()
+            {
+                return ranges.size();
+            }
+
+            @Override
+            @NonNull
+            public Iterator< Map.Entry< String, String[] > > iterator()
+            {
+                final Iterator< Map.Entry< String, Long > > iterator = ranges.entrySet().iterator();
+
+                return new Iterator<>()
+                {
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    @NonNull
+                    public Map.Entry< String, String[] > next()
+                    {
+                        final Map.Entry< String, Long > entry = iterator.next();
+
+                        return new SimpleImmutableEntry<>( entry.getKey(),
+                                                           materialize( entry.getValue() ) );
+                    }
+
+                };
+            }
+
+        };
+    }
+
+    /**
+     * Returns an estimate of the heap bytes that the comments retain, without creating their
+     * arrays.
+     *
+     * @return The estimate of the retained heap bytes.
+     */
+    public long estimateBytes()
+    {
+        if ( modified != null )
+        {
+            return new ConfigFootprint.Builder().addComments( modified ).build().getBytes();
+        }
+
+        final ConfigFootprint.Builder builder = new ConfigFootprint.Builder();
+
+        builder.addObject( null, ConfigFootprint.Category.COMMENTS, pool );
+        builder.add( null, ConfigFootprint.Category.COMMENTS,
+                     ConfigFootprint.arrayBytes( lineOffsets.length, Integer.BYTES )
+                     + ConfigFootprint.mapBytes( ranges ) );
+
+        for ( final Map.Entry< String, Long > entry : ranges.entrySet() )
+        {
+            builder.addObject( null, ConfigFootprint.Category.COMMENTS, entry.getKey() );
+            builder.addObject( null, ConfigFootprint.Category.COMMENTS, entry.getValue() );
+        }
+
+        return builder.build().getBytes();
+    }
+
+}
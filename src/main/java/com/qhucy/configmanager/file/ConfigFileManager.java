@@ -8,8 +8,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
@@ -24,8 +25,7 @@ public class ConfigFileManager
 {
 
     // The list of supported config file extensions.
-    private final static List< String > VALID_EXTENSIONS =
-            Arrays.asList( "yml", "yaml", "toml", "json" );
+    private final static Set< String > VALID_EXTENSIONS = Set.of( "yml", "yaml", "toml", "json" );
 
     /**
      * Returns true if the given file is a valid configuration file.
@@ -36,20 +36,48 @@ public class ConfigFileManager
      */
     public static boolean isValidConfigFile( @NonNull final File configFile )
     {
-        if ( !configFile.exists() || !configFile.isFile() )
+        // The extension is checked first so that invalid files are rejected without a stat call.
+        if ( !hasValidExtension( configFile.getPath() ) )
         {
             return false;
         }
 
-        for ( final String extension : VALID_EXTENSIONS )
+        try
         {
-            if ( configFile.getPath().endsWith( "." + extension ) )
-            {
-                return true;
-            }
+            return Files.readAttributes( configFile.toPath(), BasicFileAttributes.class )
+                        .isRegularFile();
         }
+        catch ( final IOException exception )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if the given ConfigSource leads to a valid configuration file. A
+     * PathConfigSource answers from its cached file attributes.
+     *
+     * @param configSource The config source.
+     *
+     * @return True if the given ConfigSource leads to a valid configuration file.
+     */
+    public static boolean isValidConfigSource( @NonNull final ConfigSource configSource )
+    {
+        return hasValidExtension( configSource.getSourcePath() ) && configSource.pathHasFile();
+    }
+
+    /**
+     * Returns true if the given path ends with a supported config file extension.
+     *
+     * @param path The text path.
+     *
+     * @return True if the given path ends with a supported config file extension.
+     */
+    public static boolean hasValidExtension( @NonNull final String path )
+    {
+        final int dot = path.lastIndexOf( '.' );
 
-        return false;
+        return dot >= 0 && VALID_EXTENSIONS.contains( path.substring( dot + 1 ) );
     }
 
     // The file that the config field and value map is loaded from.
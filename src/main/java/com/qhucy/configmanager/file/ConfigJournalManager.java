@@ -0,0 +1,531 @@
+package com.qhucy.configmanager.file;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * ConfigFileManager that stores its config field and value map as a JSON snapshot file plus an
+ * append-only journal. Every call to setValue appends a single (field, value) record to the
+ * journal instead of rewriting the whole snapshot, and loading replays the journal over the last
+ * snapshot. Once the journal grows past a configurable size it is compacted in the background into
+ * a fresh snapshot.
+ * <p>
+ * The journal is stored next to the snapshot file with the ".journal" extension appended. While a
+ * compaction is running the previous journal is kept with the ".journal.old" extension, so a crash
+ * during compaction never loses records.
+ *
+ * @see ConfigFileManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class ConfigJournalManager
+        extends ConfigFileManager
+        implements Closeable
+{
+
+    // The default journal size in bytes after which the journal is compacted.
+    public final static long DEFAULT_COMPACT_THRESHOLD = 1024 * 1024;
+
+    // The single background thread that writes compacted snapshots.
+    private final static ExecutorService COMPACTOR =
+            Executors.newSingleThreadExecutor( runnable ->
+                                               {
+                                                   final Thread thread =
+                                                           new Thread( runnable,
+                                                                       "ConfigJournal-Compactor" );
+
+                                                   thread.setDaemon( true );
+
+                                                   return thread;
+                                               } );
+
+    // The encoder used for snapshots and journal records.
+    private final Gson gson = new GsonBuilder().serializeNulls().create();
+
+    // The journal file that records are appended to.
+    private final File journalFile;
+    // The journal file that is kept while a compaction is running.
+    private final File oldJournalFile;
+    // The journal size in bytes after which the journal is compacted.
+    private final long compactThreshold;
+
+    // The writer of the journal file, opened lazily on the first record.
+    private Writer  journalWriter;
+    // The current size of the journal file in bytes.
+    private long    journalSize;
+    // Whether a compaction is currently running.
+    private boolean     compacting = false;
+    // The future of the most recent compaction.
+    private Future< ? > compaction  = CompletableFuture.completedFuture( null );
+
+    // Lock guarding writes of the snapshot file.
+    private final Object snapshotLock       = new Object();
+    // The generation of the most recently taken snapshot.
+    private long         snapshotGeneration = 0;
+    // The generation of the snapshot currently stored in the snapshot file.
+    private long         writtenGeneration  = 0;
+
+    /**
+     * Instantiates a ConfigJournalManager from a JSON snapshot file with the default compaction
+     * threshold.
+     *
+     * @param snapshotFile The JSON snapshot file.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public ConfigJournalManager( @NonNull final File snapshotFile, @NonNull final Logger logger )
+    {
+        this( snapshotFile, logger, DEFAULT_COMPACT_THRESHOLD );
+    }
+
+    /**
+     * Instantiates a ConfigJournalManager from a JSON snapshot file.
+     *
+     * @param snapshotFile     The JSON snapshot file.
+     * @param logger           The accessing plugin's logger that is used to log missing and
+     *                         invalid config values.
+     * @param compactThreshold The journal size in bytes after which the journal is compacted.
+     */
+    public ConfigJournalManager( @NonNull final File snapshotFile, @NonNull final Logger logger,
+                                 final long compactThreshold )
+    {
+        super( snapshotFile, logger );
+
+        if ( !snapshotFile.getPath().endsWith( ".json" ) )
+        {
+            throw new IllegalArgumentException( "Unable to journal configFile at '" + snapshotFile.getAbsolutePath() + "', journaling only supports .json snapshot files." );
+        }
+        else if ( compactThreshold <= 0 )
+        {
+            throw new IllegalArgumentException( "Parameter compactThreshold must be positive." );
+        }
+
+        this.journalFile      = new File( snapshotFile.getPath() + ".journal" );
+        this.oldJournalFile   = new File( snapshotFile.getPath() + ".journal.old" );
+        this.compactThreshold = compactThreshold;
+        this.journalSize      = journalFile.length();
+    }
+
+    /**
+     * Returns the journal file that records are appended to.
+     *
+     * @return The journal file that records are appended to.
+     */
+    @NonNull
+    public final File getJournalFile()
+    {
+        return journalFile;
+    }
+
+    /**
+     * Returns the current size of the journal file in bytes.
+     *
+     * @return The current size of the journal file in bytes.
+     */
+    public final synchronized long getJournalSize()
+    {
+        return journalSize;
+    }
+
+    /**
+     * Sets a specific value for a field in the config field and value map and appends the change
+     * to the journal.
+     *
+     * @param field  The field in the config field and value map.
+     * @param object The new value for the field in the config field and value map.
+     */
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        synchronized ( this )
+        {
+            super.setValue( field, object );
+
+            appendRecord( field, object );
+        }
+    }
+
+    /**
+     * Transfers mappings from a given config field and value map to the current one and appends
+     * every change to the journal. If inputting null, all values will become null.
+     *
+     * @param values The config field and value map to transfer.
+     */
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        synchronized ( this )
+        {
+            super.transferValues( values );
+
+            if ( values == null )
+            {
+                for ( final String field : getValues().keySet() )
+                {
+                    appendRecord( field, null );
+                }
+            }
+            else
+            {
+                for ( final Map.Entry< String, Object > entry : values.entrySet() )
+                {
+                    appendRecord( entry.getKey(), entry.getValue() );
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts every field and value of a map into the config field and value map as one mutation and
+     * appends every change to the journal.
+     *
+     * @param values The fields and values to put into the config field and value map.
+     */
+    @Override
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        synchronized ( this )
+        {
+            super.putAll( values );
+
+            for ( final Map.Entry< String, ? > entry : values.entrySet() )
+            {
+                appendRecord( entry.getKey(), entry.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Loads the config field and value map from the last snapshot and replays the journal over it.
+     */
+    @Override
+    public void loadFromFile()
+    {
+        synchronized ( this )
+        {
+            getValues().clear();
+
+            try
+            {
+                final File snapshotFile = getConfigFile();
+
+                if ( snapshotFile.isFile() )
+                {
+                    try ( final BufferedReader reader = new BufferedReader( new FileReader( snapshotFile ) ) )
+                    {
+                        final Object snapshot = new JSONParser().parse( reader );
+
+                        if ( snapshot instanceof final Map< ?, ? > snapshotMap )
+                        {
+                            for ( final Map.Entry< ?, ? > entry : snapshotMap.entrySet() )
+                            {
+                                super.setValue( String.valueOf( entry.getKey() ), entry.getValue() );
+                            }
+                        }
+                    }
+                }
+
+                replayJournal( oldJournalFile );
+                replayJournal( journalFile );
+
+                setDirty( false );
+            }
+            catch ( final IOException | ParseException exception )
+            {
+                logMessage( Level.SEVERE, "Unable to load journaled config from '" + getConfigFile().getAbsolutePath() + "': " + exception.getMessage() );
+            }
+        }
+    }
+
+    /**
+     * Writes a fresh snapshot of the config field and value map and empties the journal.
+     *
+     * @throws IOException If unable to write the snapshot.
+     */
+    @Override
+    public void saveToFile()
+            throws IOException
+    {
+        synchronized ( this )
+        {
+            closeJournalWriter();
+            // The snapshot write deletes the old journal first, since replaying the old journal
+            // alone over the new snapshot would revert the records of the journal.
+            writeSnapshot( copyValues(), ++snapshotGeneration );
+
+            Files.deleteIfExists( journalFile.toPath() );
+
+            journalSize = 0;
+
+            setDirty( false );
+        }
+    }
+
+    /**
+     * Compacts the journal in the background. The current journal is set aside, a snapshot of the
+     * config field and value map is taken, and new records go to a fresh journal while the snapshot
+     * is written. Returns the running compaction if one is already running.
+     *
+     * @return The future of the background compaction.
+     */
+    @NonNull
+    public synchronized Future< ? > compact()
+    {
+        if ( compacting )
+        {
+            return compaction;
+        }
+
+        final Map< String, Object > snapshot   = copyValues();
+        final long                  generation = ++snapshotGeneration;
+
+        try
+        {
+            closeJournalWriter();
+
+            if ( journalFile.exists() && oldJournalFile.exists() )
+            {
+                // A failed compaction left records that no snapshot holds yet, so keep them.
+                Files.write( oldJournalFile.toPath(), Files.readAllBytes( journalFile.toPath() ),
+                             StandardOpenOption.APPEND );
+                Files.delete( journalFile.toPath() );
+            }
+            else if ( journalFile.exists() )
+            {
+                Files.move( journalFile.toPath(), oldJournalFile.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING );
+            }
+        }
+        catch ( final IOException exception )
+        {
+            logMessage( Level.SEVERE, "Unable to rotate journal '" + journalFile.getAbsolutePath() + "': " + exception.getMessage() );
+
+            return CompletableFuture.completedFuture( null );
+        }
+
+        journalSize = 0;
+        compacting  = true;
+
+        compaction = COMPACTOR.submit( () -> writeCompaction( snapshot, generation ) );
+
+        return compaction;
+    }
+
+    /**
+     * Writes the snapshot of a compaction and removes the journal it replaces.
+     *
+     * @param snapshot   The values to write to the snapshot file.
+     * @param generation The generation of the snapshot.
+     */
+    private void writeCompaction( @NonNull final Map< String, Object > snapshot,
+                                  final long generation )
+    {
+        try
+        {
+            writeSnapshot( snapshot, generation );
+        }
+        catch ( final IOException exception )
+        {
+            logMessage( Level.SEVERE, "Unable to compact journal '" + journalFile.getAbsolutePath() + "': " + exception.getMessage() );
+        }
+        finally
+        {
+            synchronized ( this )
+            {
+                compacting = false;
+            }
+        }
+    }
+
+    /**
+     * Flushes and closes the journal. The journal is reopened on the next record.
+     *
+     * @throws IOException If unable to close the journal.
+     */
+    @Override
+    public synchronized void close()
+            throws IOException
+    {
+        closeJournalWriter();
+    }
+
+    /**
+     * Appends a single record to the journal and starts a compaction if the journal grew past the
+     * compaction threshold.
+     *
+     * @param field  The field of the record.
+     * @param object The new value of the field.
+     */
+    private void appendRecord( @NonNull final String field, @Nullable final Object object )
+    {
+        // Called from the super constructor before the journal is set up.
+        if ( journalFile == null )
+        {
+            return;
+        }
+
+        final String record = gson.toJson( new Object[]{ field, object } ) + '\n';
+
+        try
+        {
+            if ( journalWriter == null )
+            {
+                journalWriter = new BufferedWriter(
+                        new FileWriter( journalFile, StandardCharsets.UTF_8, true ) );
+            }
+
+            journalWriter.write( record );
+            journalWriter.flush();
+        }
+        catch ( final IOException exception )
+        {
+            logMessage( Level.SEVERE, "Unable to append to journal '" + journalFile.getAbsolutePath() + "': " + exception.getMessage() );
+
+            return;
+        }
+
+        journalSize += record.getBytes( StandardCharsets.UTF_8 ).length;
+
+        if ( journalSize >= compactThreshold )
+        {
+            compact();
+        }
+    }
+
+    /**
+     * Replays every record of a journal file over the config field and value map.
+     *
+     * @param file The journal file to replay.
+     *
+     * @throws IOException    If unable to read the journal file.
+     * @throws ParseException If a record of the journal file is invalid.
+     */
+    private void replayJournal( @NonNull final File file )
+            throws IOException, ParseException
+    {
+        if ( !file.isFile() )
+        {
+            return;
+        }
+
+        final JSONParser jsonParser = new JSONParser();
+
+        try ( final BufferedReader reader =
+                      new BufferedReader( new FileReader( file, StandardCharsets.UTF_8 ) ) )
+        {
+            String line;
+
+            while ( ( line = reader.readLine() ) != null )
+            {
+                if ( line.isEmpty() )
+                {
+                    continue;
+                }
+
+                final JSONArray record = ( JSONArray ) jsonParser.parse( line );
+
+                super.setValue( String.valueOf( record.get( 0 ) ), record.get( 1 ) );
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of all values in the config field and value map.
+     *
+     * @return A copy of all values in the config field and value map.
+     */
+    @NonNull
+    private Map< String, Object > copyValues()
+    {
+        final Map< String, Object > copy = new HashMap<>( getValues().size() * 4 / 3 + 1 );
+
+        for ( final Map.Entry< String, ConfigValue > entry : getValues().entrySet() )
+        {
+            copy.put( entry.getKey(), entry.getValue().getValue() );
+        }
+
+        return copy;
+    }
+
+    /**
+     * Atomically replaces the snapshot file with the given values. Does nothing if a newer snapshot
+     * was already written, so a slow background compaction never overwrites a later save.
+     *
+     * @param snapshot   The values to write to the snapshot file.
+     * @param generation The generation of the snapshot.
+     *
+     * @throws IOException If unable to write the snapshot file.
+     */
+    private void writeSnapshot( @NonNull final Map< String, Object > snapshot,
+                                final long generation )
+            throws IOException
+    {
+        synchronized ( snapshotLock )
+        {
+            if ( generation <= writtenGeneration )
+            {
+                return;
+            }
+
+            final File snapshotFile = getConfigFile();
+            final File tempFile     = new File( snapshotFile.getPath() + ".tmp" );
+
+            try ( final Writer writer = new BufferedWriter( new FileWriter( tempFile ) ) )
+            {
+                gson.toJson( snapshot, writer );
+            }
+
+            Files.move( tempFile.toPath(), snapshotFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+
+            // Every snapshot holds the records of the old journal, which must not be replayed
+            // over it once the journal is deleted.
+            Files.deleteIfExists( oldJournalFile.toPath() );
+
+            writtenGeneration = generation;
+        }
+    }
+
+    /**
+     * Flushes and closes the journal writer if it is open.
+     *
+     * @throws IOException If unable to close the journal writer.
+     */
+    private void closeJournalWriter()
+            throws IOException
+    {
+        if ( journalWriter != null )
+        {
+            journalWriter.close();
+            journalWriter = null;
+        }
+    }
+
+}
@@ -0,0 +1,707 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.ConfigManager;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Thread-safe pool of ConfigManagers keyed by their ConfigSource, such as one ConfigManager per
+ * player data file. A lookup of a pooled ConfigManager is a cache hit instead of a file parse, and
+ * concurrent lookups of the same missing ConfigSource share a single load.
+ * <p>
+ * The pool holds at most a maximum number of ConfigManagers and evicts the least recently used one
+ * beyond that. ConfigManagers that were not looked up for the idle timeout are evicted on the next
+ * lookup or cleanUp. Dirty ConfigManagers are saved to the file of their ConfigSource when they
+ * are evicted, and a lookup of a ConfigManager that is being saved waits for the save to finish
+ * and puts it back into the pool instead of loading it again, so it is never used while it is
+ * saved. ConfigManagers are saved through saveToFile, which cannot
+ * write TOML files, so the write-back of a dirty TOML ConfigManager is refused and logged.
+ *
+ * @see ConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigManagerPool
+{
+
+    /**
+     * Loads the ConfigManager of a ConfigSource that is not in the pool.
+     */
+    @FunctionalInterface
+    public interface Loader
+    {
+
+        /**
+         * Loads the ConfigManager of a ConfigSource.
+         *
+         * @param configSource The ConfigSource.
+         *
+         * @return The loaded ConfigManager.
+         */
+        @NonNull
+        ConfigManager load( @NonNull final ConfigSource configSource )
+                throws IOException, ParseException;
+
+    }
+
+    // The maximum number of pooled ConfigManagers.
+    private final int                                                maximumSize;
+    // The time after which a ConfigManager that was not looked up is evicted.
+    private final Duration                                           idleTimeout;
+    // Loads the ConfigManager of a ConfigSource that is not in the pool.
+    private final Loader                                             loader;
+    // The logger used to log failed write-backs.
+    private final Logger                                             logger;
+    // The pooled ConfigManagers, from least to most recently used.
+    private final LinkedHashMap< ConfigSource, Entry >               entries =
+            new LinkedHashMap<>( 16, 0.75F, true );
+    // The loads in progress, shared by every lookup of the same ConfigSource.
+    private final Map< ConfigSource, CompletableFuture< ConfigManager > > loading =
+            new HashMap<>();
+    // The evicted ConfigManagers that are being saved.
+    private final Map< ConfigSource, Saving >                        saving  = new HashMap<>();
+
+    // The number of lookups that found a pooled ConfigManager.
+    private long hits;
+    // The number of lookups that loaded a ConfigManager.
+    private long misses;
+    // The number of evicted ConfigManagers.
+    private long evictions;
+
+    /**
+     * Instantiates a ConfigManagerPool that loads missing ConfigManagers from the file of their
+     * ConfigSource.
+     *
+     * @param maximumSize The maximum number of pooled ConfigManagers.
+     * @param idleTimeout The time after which a ConfigManager that was not looked up is evicted.
+     * @param logger      The logger used for the loaded ConfigManagers and failed write-backs.
+     *
+     * @see ConfigManager#loadFromFile(java.io.File, Logger)
+     */
+    public ConfigManagerPool( final int maximumSize, @NonNull final Duration idleTimeout,
+                              @NonNull final Logger logger )
+    {
+        this( maximumSize, idleTimeout, logger,
+              configSource -> ConfigManager.loadFromFile( configSource.getFileFromPath(),
+                                                          logger ) );
+    }
+
+    /**
+     * Instantiates a ConfigManagerPool that loads missing ConfigManagers with a given loader.
+     *
+     * @param maximumSize The maximum number of pooled ConfigManagers.
+     * @param idleTimeout The time after which a ConfigManager that was not looked up is evicted.
+     * @param logger      The logger used for failed write-backs.
+     * @param loader      Loads the ConfigManager of a ConfigSource that is not in the pool.
+     */
+    public ConfigManagerPool( final int maximumSize, @NonNull final Duration idleTimeout,
+                              @NonNull final Logger logger, @NonNull final Loader loader )
+    {
+        if ( maximumSize < 1 )
+        {
+            throw new IllegalArgumentException( "Parameter maximumSize must be positive." );
+        }
+        else if ( idleTimeout.isNegative() || idleTimeout.isZero() )
+        {
+            throw new IllegalArgumentException( "Parameter idleTimeout must be positive." );
+        }
+
+        this.maximumSize = maximumSize;
+        this.idleTimeout = idleTimeout;
+        this.logger      = logger;
+        this.loader      = loader;
+    }
+
+    /**
+     * Returns the pool key of a ConfigSource, a copy of it with the absolute and normalized path of
+     * its file so that every path to the same file shares a ConfigManager. The copy cannot be
+     * changed, so a caller that later changes its ConfigSource does not corrupt the pool.
+     *
+     * @param configSource The ConfigSource.
+     *
+     * @return The pool key of the ConfigSource.
+     */
+    @NonNull
+    private static ConfigSource keyOf( @NonNull final ConfigSource configSource )
+    {
+        return new Key( configSource.getFileFromPath().toPath() );
+    }
+
+    /**
+     * Returns the ConfigManager of a ConfigSource, loading it if it is not in the pool. Concurrent
+     * lookups of the same missing ConfigSource wait for a single load.
+     *
+     * @param configSource The ConfigSource.
+     *
+     * @return The ConfigManager of the ConfigSource.
+     *
+     * @throws IOException    If the ConfigManager could not be read.
+     * @throws ParseException If the ConfigManager could not be parsed.
+     */
+    @NonNull
+    public ConfigManager get( @NonNull final ConfigSource configSource )
+            throws IOException, ParseException
+    {
+        try
+        {
+            return lookup( keyOf( configSource ) ).join();
+        }
+        catch ( final CompletionException exception )
+        {
+            final Throwable cause = exception.getCause();
+
+            if ( cause instanceof IOException )
+            {
+                throw ( IOException ) cause;
+            }
+            else if ( cause instanceof ParseException )
+            {
+                throw ( ParseException ) cause;
+            }
+            else if ( cause instanceof RuntimeException )
+            {
+                throw ( RuntimeException ) cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the future of the ConfigManager of a ConfigSource, loading it on a given executor if
+     * it is not in the pool. The future completes exceptionally with a CompletionException
+     * wrapping any IOException or ParseException.
+     *
+     * @param configSource The ConfigSource.
+     * @param executor     The executor that loads the ConfigManager.
+     *
+     * @return The future of the ConfigManager of the ConfigSource.
+     */
+    @NonNull
+    public CompletableFuture< ConfigManager > getAsync( @NonNull final ConfigSource configSource,
+                                                        @NonNull final Executor executor )
+    {
+        final ConfigSource key = keyOf( configSource );
+
+        synchronized ( this )
+        {
+            final ConfigManager pooled = hit( key );
+
+            if ( pooled != null )
+            {
+                return CompletableFuture.completedFuture( pooled );
+            }
+        }
+
+        return CompletableFuture.supplyAsync( () -> lookup( key ), executor )
+                                .thenCompose( future -> future );
+    }
+
+    /**
+     * Returns the pooled ConfigManager of a ConfigSource without loading it.
+     *
+     * @param configSource The ConfigSource.
+     *
+     * @return The pooled ConfigManager of the ConfigSource, null if it is not in the pool.
+     */
+    @Nullable
+    public synchronized ConfigManager getIfPresent( @NonNull final ConfigSource configSource )
+    {
+        final Entry entry = entries.get( keyOf( configSource ) );
+
+        if ( entry == null )
+        {
+            return null;
+        }
+
+        entry.lastAccess = System.nanoTime();
+
+        return entry.configManager;
+    }
+
+    /**
+     * Returns the future of the ConfigManager of a pool key, loading it on the calling thread if
+     * no other thread is loading it already.
+     *
+     * @param key The pool key.
+     *
+     * @return The future of the ConfigManager of the pool key.
+     */
+    @NonNull
+    private CompletableFuture< ConfigManager > lookup( @NonNull final ConfigSource key )
+    {
+        final CompletableFuture< ConfigManager > future;
+        final List< Map.Entry< ConfigSource, ConfigManager > > evicted;
+
+        synchronized ( this )
+        {
+            evicted = expire();
+
+            final ConfigManager pooled = hit( key );
+
+            if ( pooled != null )
+            {
+                writeBack( evicted );
+
+                return CompletableFuture.completedFuture( pooled );
+            }
+
+            final Saving unsaved = saving.get( key );
+
+            if ( unsaved != null )
+            {
+                unsaved.wanted = true;
+                writeBack( evicted );
+
+                return unsaved.future;
+            }
+
+            final CompletableFuture< ConfigManager > pending = loading.get( key );
+
+            if ( pending != null )
+            {
+                writeBack( evicted );
+
+                return pending;
+            }
+
+            ++misses;
+            future = new CompletableFuture<>();
+            loading.put( key, future );
+        }
+
+        writeBack( evicted );
+
+        final ConfigManager configManager;
+
+        try
+        {
+            configManager = loader.load( key );
+        }
+        catch ( final IOException | ParseException | RuntimeException exception )
+        {
+            synchronized ( this )
+            {
+                loading.remove( key );
+            }
+
+            future.completeExceptionally( exception );
+
+            return future;
+        }
+
+        final List< Map.Entry< ConfigSource, ConfigManager > > overflow;
+
+        synchronized ( this )
+        {
+            loading.remove( key );
+            entries.put( key, new Entry( configManager ) );
+            overflow = shrink();
+        }
+
+        future.complete( configManager );
+        writeBack( overflow );
+
+        return future;
+    }
+
+    /**
+     * Returns the pooled ConfigManager of a pool key and marks it as used.
+     *
+     * @param key The pool key.
+     *
+     * @return The pooled ConfigManager, null if it is not in the pool.
+     */
+    @Nullable
+    private ConfigManager hit( @NonNull final ConfigSource key )
+    {
+        assert Thread.holdsLock( this );
+
+        final Entry entry = entries.get( key );
+
+        if ( entry == null )
+        {
+            return null;
+        }
+
+        ++hits;
+        entry.lastAccess = System.nanoTime();
+
+        return entry.configManager;
+    }
+
+    /**
+     * Removes the ConfigManagers that were not looked up for the idle timeout.
+     *
+     * @return The removed ConfigManagers, which must be written back.
+     */
+    @NonNull
+    private List< Map.Entry< ConfigSource, ConfigManager > > expire()
+    {
+        assert Thread.holdsLock( this );
+
+        final List< Map.Entry< ConfigSource, ConfigManager > > evicted  = new ArrayList<>();
+        final long                                             deadline =
+                System.nanoTime() - idleTimeout.toNanos();
+        final Iterator< Map.Entry< ConfigSource, Entry > >     iterator =
+                entries.entrySet().iterator();
+
+        while ( iterator.hasNext() )
+        {
+            final Map.Entry< ConfigSource, Entry > entry = iterator.next();
+
+            // Entries are ordered by access, so every later entry was used more recently.
+            if ( entry.getValue().lastAccess - deadline > 0 )
+            {
+                break;
+            }
+
+            iterator.remove();
+            evicted.add( evict( entry.getKey(), entry.getValue() ) );
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Removes the least recently used ConfigManagers beyond the maximum size.
+     *
+     * @return The removed ConfigManagers, which must be written back.
+     */
+    @NonNull
+    private List< Map.Entry< ConfigSource, ConfigManager > > shrink()
+    {
+        assert Thread.holdsLock( this );
+
+        final List< Map.Entry< ConfigSource, ConfigManager > > evicted  = new ArrayList<>();
+        final Iterator< Map.Entry< ConfigSource, Entry > >     iterator =
+                entries.entrySet().iterator();
+
+        while ( entries.size() > maximumSize )
+        {
+            final Map.Entry< ConfigSource, Entry > entry = iterator.next();
+
+            iterator.remove();
+            evicted.add( evict( entry.getKey(), entry.getValue() ) );
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Counts an evicted ConfigManager and registers it as being saved if it is dirty.
+     *
+     * @param key   The pool key.
+     * @param entry The evicted entry.
+     *
+     * @return The evicted pool key and ConfigManager.
+     */
+    @NonNull
+    private Map.Entry< ConfigSource, ConfigManager > evict( @NonNull final ConfigSource key,
+                                                            @NonNull final Entry entry )
+    {
+        ++evictions;
+
+        if ( entry.configManager.isDirty() )
+        {
+            saving.put( key, new Saving( entry.configManager ) );
+        }
+
+        return Map.entry( key, entry.configManager );
+    }
+
+    /**
+     * Saves every dirty evicted ConfigManager to the file of its ConfigSource. A ConfigManager that
+     * was looked up while it was saved is put back into the pool once the save finished. Must be
+     * called without holding the lock of the pool.
+     *
+     * @param evicted The evicted pool keys and ConfigManagers.
+     */
+    private void writeBack(
+            @NonNull final List< Map.Entry< ConfigSource, ConfigManager > > evicted )
+    {
+        for ( final Map.Entry< ConfigSource, ConfigManager > entry : evicted )
+        {
+            final ConfigSource                               key      = entry.getKey();
+            final ConfigManager                              evictee  = entry.getValue();
+            List< Map.Entry< ConfigSource, ConfigManager > > overflow = List.of();
+            Saving                                           saved;
+
+            save( key, evictee );
+
+            synchronized ( this )
+            {
+                saved = saving.get( key );
+
+                if ( saved != null && saved.configManager == evictee )
+                {
+                    saving.remove( key );
+
+                    if ( saved.wanted )
+                    {
+                        entries.put( key, new Entry( evictee ) );
+                        overflow = shrink();
+                    }
+                }
+                else
+                {
+                    saved = null;
+                }
+            }
+
+            if ( saved != null )
+            {
+                saved.future.complete( evictee );
+            }
+
+            writeBack( overflow );
+        }
+    }
+
+    /**
+     * Saves a ConfigManager to the file of its ConfigSource if it is dirty, logging any failure.
+     *
+     * @param key           The pool key.
+     * @param configManager The ConfigManager.
+     */
+    private void save( @NonNull final ConfigSource key, @NonNull final ConfigManager configManager )
+    {
+        if ( !configManager.isDirty() )
+        {
+            return;
+        }
+
+        try
+        {
+            configManager.saveToFile( key.getFileFromPath() );
+
+            if ( key instanceof PathConfigSource )
+            {
+                ( ( PathConfigSource ) key ).invalidate();
+            }
+        }
+        catch ( final IOException | RuntimeException exception )
+        {
+            logger.log( Level.SEVERE, "Unable to write back the config file at '"
+                                      + key.getSourcePath() + "'.", exception );
+        }
+    }
+
+    /**
+     * Evicts the ConfigManagers that were not looked up for the idle timeout and writes back the
+     * dirty ones.
+     */
+    public void cleanUp()
+    {
+        final List< Map.Entry< ConfigSource, ConfigManager > > evicted;
+
+        synchronized ( this )
+        {
+            evicted = expire();
+        }
+
+        writeBack( evicted );
+    }
+
+    /**
+     * Evicts the ConfigManager of a ConfigSource and writes it back if it is dirty.
+     *
+     * @param configSource The ConfigSource.
+     */
+    public void invalidate( @NonNull final ConfigSource configSource )
+    {
+        final ConfigSource                                     key     = keyOf( configSource );
+        final List< Map.Entry< ConfigSource, ConfigManager > > evicted = new ArrayList<>();
+
+        synchronized ( this )
+        {
+            final Entry entry = entries.remove( key );
+
+            if ( entry != null )
+            {
+                evicted.add( evict( key, entry ) );
+            }
+        }
+
+        writeBack( evicted );
+    }
+
+    /**
+     * Evicts every ConfigManager and writes back the dirty ones, for example when the plugin is
+     * disabled.
+     */
+    public void invalidateAll()
+    {
+        final List< Map.Entry< ConfigSource, ConfigManager > > evicted = new ArrayList<>();
+
+        synchronized ( this )
+        {
+            for ( final Map.Entry< ConfigSource, Entry > entry : entries.entrySet() )
+            {
+                evicted.add( evict( entry.getKey(), entry.getValue() ) );
+            }
+
+            entries.clear();
+        }
+
+        writeBack( evicted );
+    }
+
+    /**
+     * Saves every dirty pooled ConfigManager without evicting it.
+     */
+    public void flush()
+    {
+        final List< Map.Entry< ConfigSource, Entry > > pooled;
+
+        synchronized ( this )
+        {
+            pooled = new ArrayList<>( entries.entrySet() );
+        }
+
+        for ( final Map.Entry< ConfigSource, Entry > entry : pooled )
+        {
+            save( entry.getKey(), entry.getValue().configManager );
+        }
+    }
+
+    /**
+     * Returns the number of pooled ConfigManagers.
+     *
+     * @return The number of pooled ConfigManagers.
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a pooled ConfigManager.
+     *
+     * @return The number of cache hits.
+     */
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that loaded a ConfigManager.
+     *
+     * @return The number of cache misses.
+     */
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Returns the number of evicted ConfigManagers.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Pool key, a PathConfigSource whose path is fixed once it is created.
+     */
+    private static final class Key
+            extends PathConfigSource
+    {
+
+        // Whether the path is fixed, false only while the super constructors set it.
+        private final boolean fixed;
+
+        /**
+         * Instantiates a Key.
+         *
+         * @param sourcePath The path of the config source.
+         */
+        private Key( @NonNull final Path sourcePath )
+        {
+            super( sourcePath.toAbsolutePath().normalize() );
+
+            this.fixed = true;
+        }
+
+        @Override
+        public void setSourcePath( @NonNull final String sourcePath )
+        {
+            if ( fixed )
+            {
+                throw new UnsupportedOperationException( "The path of a pool key cannot change." );
+            }
+
+            super.setSourcePath( sourcePath );
+        }
+
+    }
+
+    /**
+     * Evicted ConfigManager that is being saved and the lookups waiting for the save.
+     */
+    private static final class Saving
+    {
+
+        // The ConfigManager that is being saved.
+        private final ConfigManager                      configManager;
+        // Completed with the ConfigManager once it was saved.
+        private final CompletableFuture< ConfigManager > future = new CompletableFuture<>();
+        // Whether the ConfigManager was looked up while it was saved.
+        private boolean                                  wanted;
+
+        /**
+         * Instantiates a Saving for an evicted ConfigManager.
+         *
+         * @param configManager The ConfigManager that is being saved.
+         */
+        private Saving( @NonNull final ConfigManager configManager )
+        {
+            this.configManager = configManager;
+        }
+
+    }
+
+    /**
+     * Pooled ConfigManager and the time it was last looked up.
+     */
+    private static final class Entry
+    {
+
+        // The pooled ConfigManager.
+        private final ConfigManager configManager;
+        // The time of the last lookup, in nanoseconds.
+        private long                lastAccess = System.nanoTime();
+
+        /**
+         * Instantiates an Entry for a ConfigManager that was just looked up.
+         *
+         * @param configManager The pooled ConfigManager.
+         */
+        private Entry( @NonNull final ConfigManager configManager )
+        {
+            this.configManager = configManager;
+        }
+
+    }
+
+}
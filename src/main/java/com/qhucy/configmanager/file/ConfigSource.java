@@ -1,5 +1,6 @@
 package com.qhucy.configmanager.file;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -9,13 +10,15 @@ import java.nio.file.Path;
 
 /**
  * Object that stores the path and file source of where a config field
- * and value map was loaded from.
+ * and value map was loaded from. Two ConfigSources are equal if their
+ * source paths are equal.
  *
  * @see com.qhucy.configmanager.ConfigManager
  * <p>
  * MIT License - Copyright (c) 2022 Qhucy Sijyo.
  */
 @Getter
+@EqualsAndHashCode
 @RequiredArgsConstructor
 public class ConfigSource
 {
@@ -101,7 +104,7 @@ public class ConfigSource
      */
     public void setSourcePath( @NonNull final Path sourcePath )
     {
-        this.sourcePath = sourcePath.toFile().getAbsolutePath();
+        setSourcePath( sourcePath.toFile().getAbsolutePath() );
     }
 
     /**
@@ -111,7 +114,7 @@ public class ConfigSource
      */
     public void setSourcePath( @NonNull final File sourceFile )
     {
-        this.sourcePath = sourceFile.getAbsolutePath();
+        setSourcePath( sourceFile.getAbsolutePath() );
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.qhucy.configmanager.file;
 
 import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.codec.ConfigCodec;
 import lombok.NonNull;
 
 /**
@@ -9,6 +10,7 @@ import lombok.NonNull;
  *
  * @see ConfigManager
  * @see ConfigFileManager
+ * @see ConfigBatch
  * <p>
  * MIT License - Copyright (c) 2022 Qhucy Sijyo.
  */
@@ -23,4 +25,44 @@ public interface ConfigStorable
 
     void loadFromConfig();
 
-}
\ No newline at end of file
+    /**
+     * Saves the contents of the object into a config field and value map under a given section.
+     * Every field should be stored as "section.field". By default, the fields of the object are
+     * saved through its cached ConfigCodec.
+     *
+     * @param configManager The ConfigManager to save the contents into.
+     * @param section       The section of the config field and value map to save under.
+     */
+    default void saveToConfig( @NonNull final ConfigManager configManager,
+                               @NonNull final String section )
+    {
+        codec().encode( this, configManager, section );
+    }
+
+    /**
+     * Loads the contents of the object from a config field and value map under a given section.
+     * Every field is read from "section.field". By default, the fields of the object are loaded
+     * through its cached ConfigCodec.
+     *
+     * @param configManager The ConfigManager to load the contents from.
+     * @param section       The section of the config field and value map to load from.
+     */
+    default void loadFromConfig( @NonNull final ConfigManager configManager,
+                                 @NonNull final String section )
+    {
+        codec().decode( this, configManager, section );
+    }
+
+    /**
+     * Returns the cached ConfigCodec of the class of the object.
+     *
+     * @return The cached ConfigCodec of the class of the object.
+     */
+    @NonNull
+    @SuppressWarnings( "unchecked" )
+    private ConfigCodec< ConfigStorable > codec()
+    {
+        return ( ConfigCodec< ConfigStorable > ) ( ConfigCodec< ? > ) ConfigCodec.of( getClass() );
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.qhucy.configmanager.file;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ConfigSource backed by a resolved Path that caches its File and the BasicFileAttributes of the
+ * file. The attributes are read in a single call and reused until they are older than the time to
+ * live, so pathHasFile and repeated checks of the size or modification time do not stat the file
+ * again. ConfigSources created by scan reuse the attributes of the directory walk and need no stat
+ * call at all.
+ * <p>
+ * Loaders that are given a ConfigSource can check for a PathConfigSource to read the size and
+ * modification time of the file, for example to skip files that did not change.
+ *
+ * @see ConfigSource
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class PathConfigSource
+        extends ConfigSource
+{
+
+    // The time to live of the cached file attributes when no other is given.
+    public final static Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds( 1 );
+
+    /**
+     * Returns a PathConfigSource for every valid config file in a directory and its
+     * subdirectories, seeded with the file attributes read by the directory walk.
+     *
+     * @param directory The directory to scan.
+     *
+     * @return A PathConfigSource for every valid config file in the directory.
+     *
+     * @throws IOException If the directory could not be read.
+     */
+    @NonNull
+    public static List< PathConfigSource > scan( @NonNull final Path directory )
+            throws IOException
+    {
+        final List< PathConfigSource > sources = new ArrayList<>();
+
+        Files.walkFileTree( directory, new SimpleFileVisitor<>()
+        {
+
+            @Override
+            @NonNull
+            public FileVisitResult visitFile( @NonNull final Path file,
+                                              @NonNull final BasicFileAttributes attributes )
+            {
+                if ( attributes.isRegularFile()
+                     && ConfigFileManager.hasValidExtension( file.toString() ) )
+                {
+                    final PathConfigSource configSource = new PathConfigSource( file );
+
+                    configSource.attributes = new Attributes( attributes, System.nanoTime() );
+                    sources.add( configSource );
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+        } );
+
+        return sources;
+    }
+
+    // The time to live of the cached file attributes.
+    private final Duration timeToLive;
+
+    // None of the fields below have initializers, since the super constructors already set the
+    // source path.
+
+    // The resolved absolute path.
+    private Path                path;
+    // The file at the resolved path.
+    private File                file;
+    // The cached file attributes and the time they were read, null if they were not read yet.
+    private volatile Attributes attributes;
+
+    /**
+     * Creates a PathConfigSource from a path with the default time to live.
+     *
+     * @param sourcePath The path of the config source.
+     */
+    public PathConfigSource( @NonNull final Path sourcePath )
+    {
+        this( sourcePath, DEFAULT_TIME_TO_LIVE );
+    }
+
+    /**
+     * Creates a PathConfigSource from a path.
+     *
+     * @param sourcePath The path of the config source.
+     * @param timeToLive The time after which the cached file attributes are read again.
+     */
+    public PathConfigSource( @NonNull final Path sourcePath, @NonNull final Duration timeToLive )
+    {
+        super( sourcePath );
+
+        if ( timeToLive.isNegative() )
+        {
+            throw new IllegalArgumentException( "Parameter timeToLive cannot be negative." );
+        }
+
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Creates a PathConfigSource from a file with the default time to live.
+     *
+     * @param sourceFile The config source file.
+     */
+    public PathConfigSource( @NonNull final File sourceFile )
+    {
+        this( sourceFile.toPath() );
+    }
+
+    @Override
+    public void setSourcePath( @NonNull final String sourcePath )
+    {
+        super.setSourcePath( sourcePath );
+
+        this.path       = Paths.get( sourcePath ).toAbsolutePath().normalize();
+        this.file       = path.toFile();
+        this.attributes = null;
+    }
+
+    /**
+     * Returns the resolved absolute path.
+     *
+     * @return The resolved absolute path.
+     */
+    @NonNull
+    public Path getPath()
+    {
+        return path;
+    }
+
+    @Override
+    @NonNull
+    public File getFileFromPath()
+    {
+        return file;
+    }
+
+    @Override
+    public boolean pathHasFile()
+    {
+        final BasicFileAttributes basicFileAttributes = getAttributes();
+
+        return basicFileAttributes != null && basicFileAttributes.isRegularFile();
+    }
+
+    /**
+     * Returns the attributes of the file, read again if the cached ones are older than the time to
+     * live.
+     *
+     * @return The attributes of the file, null if the file does not exist or cannot be read.
+     */
+    @Nullable
+    public BasicFileAttributes getAttributes()
+    {
+        final long now    = System.nanoTime();
+        Attributes cached = attributes;
+
+        if ( cached == null || now - cached.readAt > timeToLive.toNanos() )
+        {
+            BasicFileAttributes read;
+
+            try
+            {
+                read = Files.readAttributes( path, BasicFileAttributes.class );
+            }
+            catch ( final IOException exception )
+            {
+                read = null;
+            }
+
+            cached     = new Attributes( read, now );
+            attributes = cached;
+        }
+
+        return cached.value;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     *
+     * @return The size of the file, -1 if the file does not exist.
+     */
+    public long getSize()
+    {
+        final BasicFileAttributes basicFileAttributes = getAttributes();
+
+        return ( basicFileAttributes == null ) ? -1 : basicFileAttributes.size();
+    }
+
+    /**
+     * Returns the last modification time of the file.
+     *
+     * @return The last modification time of the file, null if the file does not exist.
+     */
+    @Nullable
+    public FileTime getLastModifiedTime()
+    {
+        final BasicFileAttributes basicFileAttributes = getAttributes();
+
+        return ( basicFileAttributes == null ) ? null : basicFileAttributes.lastModifiedTime();
+    }
+
+    /**
+     * Drops the cached file attributes so that the next check reads them again, for example after
+     * the file was written.
+     */
+    public void invalidate()
+    {
+        attributes = null;
+    }
+
+    /**
+     * File attributes and the time they were read.
+     */
+    private static final class Attributes
+    {
+
+        // The file attributes, null if the file does not exist.
+        private final BasicFileAttributes value;
+        // The time the attributes were read, in nanoseconds.
+        private final long                readAt;
+
+        /**
+         * Instantiates Attributes read at a given time.
+         *
+         * @param value  The file attributes, null if the file does not exist.
+         * @param readAt The time the attributes were read, in nanoseconds.
+         */
+        private Attributes( @Nullable final BasicFileAttributes value, final long readAt )
+        {
+            this.value  = value;
+            this.readAt = readAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,512 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.path.ConfigPath;
+import com.qhucy.configmanager.value.ConfigValue;
+import com.qhucy.configmanager.value.SlicedConfigValue;
+import com.qhucy.configmanager.value.StringSlice;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.parser.ParseException;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Loads YAML config files without creating a String for every string value, for string heavy
+ * files such as message or locale files. The text of the file is kept as one String and string
+ * values are stored as StringSlices of it, which are turned into interned Strings on their first
+ * getValue.
+ * <p>
+ * Only block mappings of plain, single quoted, and double quoted scalars without escapes are read
+ * this way. Nested mappings are stored as nested maps, the same shape ConfigManager.loadFromFile
+ * produces, that keep StringSlices and turn them into interned Strings when they are read. Files
+ * that use any other YAML syntax, such as lists, flow collections, block scalars, anchors, or
+ * tags, and files that are not YAML files are loaded by ConfigManager.loadFromFile instead.
+ *
+ * @see ConfigManager#loadFromFile(File, Logger)
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class SlicedYamlLoader
+{
+
+    // Plain scalars that YAML resolves to booleans or null instead of strings.
+    private final static Set< String > RESOLVED_WORDS =
+            Set.of( "~", "null", "Null", "NULL", "true", "True", "TRUE", "false", "False", "FALSE",
+                    "yes", "Yes", "YES", "no", "No", "NO", "on", "On", "ON", "off", "Off", "OFF" );
+    // First characters of plain scalars that YAML may resolve to numbers, timestamps, or merges.
+    private final static String        RESOLVED_STARTS = "0123456789+-.<";
+    // First characters of YAML syntax that is not read by this loader.
+    private final static String        UNSUPPORTED     = "-?[]{}|>&*!%@`\t";
+
+    /**
+     * Loads a ConfigManager from an existing file, storing string values of YAML files as
+     * StringSlices of the file text.
+     *
+     * @param configFile The config source file.
+     * @param logger     The logger for the plugin.
+     *
+     * @return A ConfigManager from an existing file.
+     */
+    @NonNull
+    public static ConfigManager loadFromFile( @NonNull final File configFile,
+                                              @NonNull final Logger logger )
+            throws IOException, ParseException
+    {
+        final String path = configFile.getPath();
+
+        if ( !path.endsWith( ".yml" ) && !path.endsWith( ".yaml" ) )
+        {
+            return ConfigManager.loadFromFile( configFile, logger );
+        }
+
+        final String                         text;
+        final HashMap< String, ConfigValue > values;
+
+        try
+        {
+            text   = Files.readString( configFile.toPath() );
+            values = parse( text );
+        }
+        catch ( final CharacterCodingException | UnsupportedSyntaxException exception )
+        {
+            return ConfigManager.loadFromFile( configFile, logger );
+        }
+
+        final ConfigManager configManager =
+                new ConfigManager( values, new ConfigSource( configFile ), logger );
+
+        configManager.setComments( new ConfigComments( text ) );
+        configManager.setDirty( false );
+
+        return configManager;
+    }
+
+    /**
+     * Parses the text of a YAML file into a config field and value map of its top level fields.
+     *
+     * @param text The text of the YAML file.
+     *
+     * @return The config field and value map.
+     *
+     * @throws UnsupportedSyntaxException If the text uses YAML syntax that is not read by this
+     *                                    loader.
+     */
+    @NonNull
+    static HashMap< String, ConfigValue > parse( @NonNull final String text )
+    {
+        final HashMap< String, ConfigValue > values   = new HashMap<>();
+        // The nested mapping of every open mapping below the top level.
+        final List< Map< String, Object > >  mappings = new ArrayList<>();
+        final Yaml[]                         yaml     = new Yaml[ 1 ];
+        // The indentation of the keys of every open mapping.
+        int[]                                indents  = { 0 };
+        int                                  depth    = 0;
+        // The last mapping key without a value, null if there is none.
+        String                               pending  = null;
+        int                                  position = text.startsWith( "\uFEFF" ) ? 1 : 0;
+
+        while ( position < text.length() )
+        {
+            final int lineStart = position;
+            int       lineEnd   = text.indexOf( '\n', lineStart );
+
+            position = ( lineEnd < 0 ) ? text.length() : lineEnd + 1;
+            lineEnd  = ( lineEnd < 0 ) ? text.length() : lineEnd;
+
+            if ( lineEnd > lineStart && text.charAt( lineEnd - 1 ) == '\r' )
+            {
+                --lineEnd;
+            }
+
+            int start = lineStart;
+
+            while ( start < lineEnd && text.charAt( start ) == ' ' )
+            {
+                ++start;
+            }
+
+            if ( start == lineEnd || text.charAt( start ) == '#' )
+            {
+                continue;
+            }
+            else if ( UNSUPPORTED.indexOf( text.charAt( start ) ) >= 0
+                      || text.charAt( start ) == '"' || text.charAt( start ) == '\'' )
+            {
+                throw new UnsupportedSyntaxException();
+            }
+
+            final int indent = start - lineStart;
+
+            if ( pending != null )
+            {
+                if ( indent > indents[ depth ] )
+                {
+                    final Map< String, Object > mapping = new SlicedMapping();
+
+                    put( values, mappings, depth, pending, mapping );
+
+                    if ( ++depth == indents.length )
+                    {
+                        indents = Arrays.copyOf( indents, depth * 2 );
+                    }
+
+                    if ( depth > mappings.size() )
+                    {
+                        mappings.add( mapping );
+                    }
+                    else
+                    {
+                        mappings.set( depth - 1, mapping );
+                    }
+
+                    indents[ depth ] = indent;
+                }
+                else
+                {
+                    put( values, mappings, depth, pending, null );
+                }
+
+                pending = null;
+            }
+
+            while ( depth > 0 && indent < indents[ depth ] )
+            {
+                --depth;
+            }
+
+            final int colon = findColon( text, start, lineEnd );
+
+            if ( indent != indents[ depth ] || colon <= start )
+            {
+                throw new UnsupportedSyntaxException();
+            }
+
+            int keyEnd = colon;
+
+            while ( text.charAt( keyEnd - 1 ) == ' ' )
+            {
+                --keyEnd;
+            }
+
+            final String key        = text.substring( start, keyEnd );
+            int          valueStart = colon + 1;
+
+            while ( valueStart < lineEnd && text.charAt( valueStart ) == ' ' )
+            {
+                ++valueStart;
+            }
+
+            if ( valueStart == lineEnd || text.charAt( valueStart ) == '#' )
+            {
+                pending = key;
+            }
+            else
+            {
+                put( values, mappings, depth, key, scalar( text, valueStart, lineEnd, yaml ) );
+            }
+        }
+
+        if ( pending != null )
+        {
+            put( values, mappings, depth, pending, null );
+        }
+
+        return values;
+    }
+
+    /**
+     * Puts a value into the open mapping at a depth. Top level values are stored as ConfigValues,
+     * and as SlicedConfigValues if they are StringSlices.
+     *
+     * @param values   The config field and value map of the top level.
+     * @param mappings The nested mapping of every open mapping below the top level.
+     * @param depth    The depth of the mapping, 0 for the top level.
+     * @param key      The key of the value.
+     * @param value    The value, a nested mapping, a StringSlice, or a resolved scalar.
+     */
+    private static void put( @NonNull final Map< String, ConfigValue > values,
+                             @NonNull final List< Map< String, Object > > mappings,
+                             final int depth, @NonNull final String key,
+                             @Nullable final Object value )
+    {
+        if ( depth > 0 )
+        {
+            mappings.get( depth - 1 ).put( key, value );
+        }
+        else if ( value instanceof final StringSlice slice )
+        {
+            values.put( ConfigPath.intern( key ), new SlicedConfigValue( slice ) );
+        }
+        else
+        {
+            values.put( ConfigPath.intern( key ), new ConfigValue( value ) );
+        }
+    }
+
+    /**
+     * Returns the index of the colon that ends a mapping key.
+     *
+     * @param text  The text of the YAML file.
+     * @param start The index of the first character of the key.
+     * @param end   The index of the end of the line.
+     *
+     * @return The index of the colon, -1 if the line is not a mapping key.
+     */
+    private static int findColon( @NonNull final String text, final int start, final int end )
+    {
+        for ( int i = start; i < end; ++i )
+        {
+            if ( text.charAt( i ) == ':' && ( i + 1 == end || text.charAt( i + 1 ) == ' ' ) )
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the value of a scalar, a StringSlice if the scalar is a string.
+     *
+     * @param text  The text of the YAML file.
+     * @param start The index of the first character of the scalar.
+     * @param end   The index of the end of the line.
+     * @param yaml  The Yaml instance that resolves non-string scalars, created on first use.
+     *
+     * @return The value of the scalar.
+     *
+     * @throws UnsupportedSyntaxException If the scalar is not read by this loader.
+     */
+    @Nullable
+    private static Object scalar( @NonNull final String text, final int start, final int end,
+                                  @NonNull final Yaml[] yaml )
+    {
+        final char first = text.charAt( start );
+
+        if ( first == '"' || first == '\'' )
+        {
+            final int close = text.indexOf( first, start + 1 );
+
+            // Escapes are left to the YAML parser.
+            if ( close < 0 || close >= end
+                 || ( first == '"' && text.lastIndexOf( '\\', close ) > start )
+                 || ( close + 1 < end && text.charAt( close + 1 ) == first ) )
+            {
+                throw new UnsupportedSyntaxException();
+            }
+
+            for ( int i = close + 1; i < end && text.charAt( i ) != '#'; ++i )
+            {
+                if ( text.charAt( i ) != ' ' )
+                {
+                    throw new UnsupportedSyntaxException();
+                }
+            }
+
+            return new StringSlice( text, start + 1, close );
+        }
+
+        // A plain scalar ends before a comment and trailing spaces.
+        int plainEnd = text.indexOf( " #", start );
+
+        plainEnd = ( plainEnd < 0 || plainEnd > end ) ? end : plainEnd;
+
+        while ( text.charAt( plainEnd - 1 ) == ' ' )
+        {
+            --plainEnd;
+        }
+
+        // A dash followed by a space starts a list.
+        final boolean list = first == '-' && ( start + 1 == plainEnd
+                                               || text.charAt( start + 1 ) == ' ' );
+
+        if ( list || ( UNSUPPORTED.indexOf( first ) >= 0 && RESOLVED_STARTS.indexOf( first ) < 0 )
+             || findColon( text, start, plainEnd ) >= 0 )
+        {
+            throw new UnsupportedSyntaxException();
+        }
+        else if ( RESOLVED_STARTS.indexOf( first ) >= 0 || ( plainEnd - start <= 5
+                                                             && RESOLVED_WORDS.contains(
+                text.substring( start, plainEnd ) ) ) )
+        {
+            if ( yaml[ 0 ] == null )
+            {
+                yaml[ 0 ] = new Yaml();
+            }
+
+            return yaml[ 0 ].load( text.substring( start, plainEnd ) );
+        }
+
+        return new StringSlice( text, start, plainEnd );
+    }
+
+    /**
+     * Nested mapping that stores string values as StringSlices and replaces each of them with its
+     * interned String when it is read, so readers, the YAML dumper, and Gson only see Strings.
+     */
+    private final static class SlicedMapping
+            extends AbstractMap< String, Object >
+    {
+
+        // The keys and values of the mapping in insertion order.
+        private final Map< String, Object > entries = new LinkedHashMap<>();
+
+        /**
+         * Returns the String of a value if it is a StringSlice, or the value itself.
+         *
+         * @param value The stored value.
+         *
+         * @return The value with StringSlices turned into Strings.
+         */
+        @Nullable
+        private static Object materialized( @Nullable final Object value )
+        {
+            return ( value instanceof final StringSlice slice ) ? slice.materialize() : value;
+        }
+
+        @Override
+        public int size()
+        {
+            return entries.size();
+        }
+
+        @Override
+        public boolean containsKey( @Nullable final Object key )
+        {
+            return entries.containsKey( key );
+        }
+
+        @Override
+        @Nullable
+        public Object get( @Nullable final Object key )
+        {
+            final Object value = entries.get( key );
+
+            if ( value instanceof final StringSlice slice )
+            {
+                final String string = slice.materialize();
+
+                entries.put( ( String ) key, string );
+
+                return string;
+            }
+
+            return value;
+        }
+
+        @Override
+        @Nullable
+        public Object put( @NonNull final String key, @Nullable final Object value )
+        {
+            return materialized( entries.put( key, value ) );
+        }
+
+        @Override
+        @Nullable
+        public Object remove( @Nullable final Object key )
+        {
+            return materialized( entries.remove( key ) );
+        }
+
+        @Override
+        public void clear()
+        {
+            entries.clear();
+        }
+
+        @Override
+        @NonNull
+        public Set< Map.Entry< String, Object > > entrySet()
+        {
+            return new AbstractSet<>()
+            {
+
+                @Override
+                public int size()
+                {
+                    return entries.size();
+                }
+
+                @Override
+                @NonNull
+                public Iterator< Map.Entry< String, Object > > iterator()
+                {
+                    final Iterator< Map.Entry< String, Object > > iterator =
+                            entries.entrySet().iterator();
+
+                    return new Iterator<>()
+                    {
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        @NonNull
+                        public Map.Entry< String, Object > next()
+                        {
+                            final Map.Entry< String, Object > entry = iterator.next();
+
+                            // Setting the value of an entry is not a structural modification.
+                            if ( entry.getValue() instanceof final StringSlice slice )
+                            {
+                                entry.setValue( slice.materialize() );
+                            }
+
+                            return entry;
+                        }
+
+                        @Override
+                        public void remove()
+                        {
+                            iterator.remove();
+                        }
+
+                    };
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * Thrown when a YAML file uses syntax that is not read by this loader.
+     */
+    static final class UnsupportedSyntaxException
+            extends RuntimeException
+    {
+
+        // The serialization version of the exception.
+        private final static long serialVersionUID = 1L;
+
+        /**
+         * Instantiates an UnsupportedSyntaxException without a stack trace, since it is only used
+         * to fall back to the YAML parser.
+         */
+        UnsupportedSyntaxException()
+        {
+            super( null, null, false, false );
+        }
+
+    }
+
+}
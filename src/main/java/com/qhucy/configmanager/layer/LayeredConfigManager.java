@@ -0,0 +1,288 @@
+package com.qhucy.configmanager.layer;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChange;
+import com.qhucy.configmanager.event.ConfigChangeDispatcher;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * ConfigManager that composes several ConfigManager layers by precedence, such as built-in
+ * defaults, the server file, per-world overrides, and runtime overrides. The effective value of a
+ * field is its value in the highest layer that has one, and its effective default value is the
+ * default value of the highest layer that has one.
+ * <p>
+ * The effective values are kept in a flattened config field and value map, so a read is a single
+ * lookup no matter how many layers there are. The layered manager listens to the changes of every
+ * layer and only re-resolves the fields that changed. Value changes made through setValue,
+ * transferValues, putAll, or reloadFrom on a layer are picked up right away. Default value changes
+ * and direct modifications of a layer's map are not announced by the layers and need a call to
+ * refresh or rebuild.
+ * <p>
+ * Writes to the layered manager go to its top layer. The map returned by getValues is the
+ * flattened view and must not be modified.
+ *
+ * @see ConfigChangeDispatcher
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class LayeredConfigManager
+        extends ConfigManager
+        implements Closeable
+{
+
+    // The layers from the lowest to the highest precedence.
+    private final List< ConfigManager >                       layers;
+    // The subscriptions to the changes of every layer.
+    private final List< ConfigChangeDispatcher.Subscription > subscriptions = new ArrayList<>();
+
+    /**
+     * Instantiates a LayeredConfigManager from layers ordered from the lowest to the highest
+     * precedence.
+     *
+     * @param layers       The layers from the lowest to the highest precedence.
+     * @param configSource The source of the layered config field and value map.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public LayeredConfigManager( @NonNull final List< ? extends ConfigManager > layers,
+                                 @NonNull final ConfigSource configSource,
+                                 @NonNull final Logger logger )
+    {
+        super( null, configSource, logger );
+
+        if ( layers.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Parameter layers must contain at least one layer." );
+        }
+
+        this.layers = List.copyOf( layers );
+
+        for ( final ConfigManager layer : this.layers )
+        {
+            // Runs on the writing thread, so the flattened view is current once a write returns.
+            subscriptions.add( layer.getChangeDispatcher()
+                                    .subscribeAll( changeSet -> refresh( changeSet.getFields() ),
+                                                   Runnable::run ) );
+        }
+
+        rebuild();
+        setDirty( false );
+    }
+
+    /**
+     * Returns the unmodifiable list of layers from the lowest to the highest precedence.
+     *
+     * @return The list of layers from the lowest to the highest precedence.
+     */
+    @NonNull
+    public List< ConfigManager > getLayers()
+    {
+        return layers;
+    }
+
+    /**
+     * Returns the layer with the highest precedence, which receives every write to the layered
+     * manager.
+     *
+     * @return The layer with the highest precedence.
+     */
+    @NonNull
+    public ConfigManager getTopLayer()
+    {
+        return layers.get( layers.size() - 1 );
+    }
+
+    /**
+     * Re-resolves every field of every layer into the flattened config field and value map.
+     */
+    public void rebuild()
+    {
+        final Set< String > fields = new HashSet<>( getValues().keySet() );
+
+        for ( final ConfigManager layer : layers )
+        {
+            fields.addAll( layer.getValues().keySet() );
+            fields.addAll( layer.getSharedDefaults().getFields() );
+        }
+
+        refresh( fields );
+    }
+
+    /**
+     * Re-resolves some fields into the flattened config field and value map and dispatches the
+     * effective changes.
+     *
+     * @param fields The fields to re-resolve.
+     */
+    public void refresh( @NonNull final Collection< String > fields )
+    {
+        final Map< String, ConfigChange > changes = isListening() ? new LinkedHashMap<>() : null;
+
+        synchronized ( this )
+        {
+            final Map< String, ConfigValue > effective = getValues();
+
+            for ( final String field : fields )
+            {
+                final ConfigValue oldValue = effective.get( field );
+                final ConfigValue newValue = resolve( field );
+
+                if ( newValue == null )
+                {
+                    effective.remove( field );
+                }
+                else
+                {
+                    effective.put( field, newValue );
+                }
+
+                recordChange( changes, field, ( oldValue == null ) ? null : oldValue.getValue(),
+                              ( newValue == null ) ? null : newValue.getValue() );
+            }
+        }
+
+        if ( changes != null )
+        {
+            fireChange( new ConfigChangeSet( this, changes ) );
+        }
+    }
+
+    /**
+     * Resolves the effective value and default value of a field over all layers.
+     *
+     * @param field The field.
+     *
+     * @return The effective ConfigValue of the field, null if no layer has a value or default value
+     * for it.
+     */
+    @Nullable
+    private ConfigValue resolve( @NonNull final String field )
+    {
+        Object value        = null;
+        Object defaultValue = null;
+
+        for ( int i = layers.size() - 1; i >= 0 && ( value == null || defaultValue == null ); --i )
+        {
+            final ConfigManager layer = layers.get( i );
+
+            if ( value == null )
+            {
+                value = layer.getRawValue( field );
+            }
+
+            if ( defaultValue == null )
+            {
+                defaultValue = layer.getDefaultValue( field );
+            }
+        }
+
+        return ( value == null && defaultValue == null ) ? null
+                                                         : new ConfigValue( value, defaultValue );
+    }
+
+    /**
+     * Stops listening to the layers. The flattened view is no longer updated afterwards.
+     */
+    @Override
+    public synchronized void close()
+    {
+        for ( final ConfigChangeDispatcher.Subscription subscription : subscriptions )
+        {
+            subscription.unsubscribe();
+        }
+
+        subscriptions.clear();
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // The flattened map already holds the effective values, so a read is a single lookup.
+        return false;
+    }
+
+    @Override
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        // The super constructor installs the empty flattened map before the layers exist.
+        if ( layers == null )
+        {
+            super.setValues( values );
+
+            return;
+        }
+
+        getTopLayer().setValues( values );
+        rebuild();
+    }
+
+    @Override
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        getTopLayer().setConfigValue( field, configValue );
+        refresh( List.of( field ) );
+        setDirty( true );
+    }
+
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        getTopLayer().setValue( field, object );
+        setDirty( true );
+    }
+
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        getTopLayer().transferValues( values );
+        setDirty( true );
+    }
+
+    @Override
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        getTopLayer().putAll( values );
+        setDirty( true );
+    }
+
+    @Override
+    public void setDefaultValue( @NonNull final String field, @Nullable final Object object )
+    {
+        getTopLayer().setDefaultValue( field, object );
+        refresh( List.of( field ) );
+        setDirty( true );
+    }
+
+    @Override
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    {
+        getTopLayer().transferDefaultValues( defaultValues );
+        rebuild();
+        setDirty( true );
+    }
+
+    @Override
+    public void putAllDefaults( @NonNull final Map< String, ? > defaultValues )
+    {
+        getTopLayer().putAllDefaults( defaultValues );
+        refresh( defaultValues.keySet() );
+        setDirty( true );
+    }
+
+}
@@ -0,0 +1,568 @@
+package com.qhucy.configmanager.metrics;
+
+import com.qhucy.configmanager.file.ConfigComments;
+import com.qhucy.configmanager.value.ConfigValue;
+import com.qhucy.configmanager.value.SlicedConfigValue;
+import com.qhucy.configmanager.value.StringSlice;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimate of the heap bytes that a ConfigManager retains, broken down by category and by
+ * top-level section. A top-level section is the part of a field before its first dot, so the
+ * fields "shop.price" and "shop.name" both count towards the section "shop".
+ * <p>
+ * Sizes follow a 64-bit JVM with compressed references and 8 byte alignment, and collections are
+ * assumed to have their default load factors. Every object is counted once per footprint, and the
+ * bytes of the config field and value map and comment map themselves are not attributed to any
+ * section. Strings shared with other ConfigManagers, such as interned field names, are counted by
+ * every ConfigManager that references them.
+ * <p>
+ * Estimating is a single pass over the config field and value map and comment map, so it is cheap
+ * enough to run periodically. toMetrics returns the estimate as flat gauge values for a metrics
+ * library.
+ *
+ * @see com.qhucy.configmanager.ConfigManager#footprint()
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigFootprint
+{
+
+    /**
+     * Category of retained heap bytes.
+     */
+    public enum Category
+    {
+        // The field name Strings and the keys of nested maps.
+        KEYS,
+        // The ConfigValue objects that hold the values and default values.
+        CONFIG_VALUES,
+        // The values and default values, such as Strings and boxed numbers.
+        VALUES,
+        // The Lists, Maps, and arrays nested in values.
+        COLLECTIONS,
+        // The comment map, comment arrays, and comment Strings.
+        COMMENTS,
+        // The config field and value map, or the columns that replace it.
+        INDEX
+    }
+
+    // The heap bytes of a ConfigValue with its three references.
+    public final static long CONFIG_VALUE_BYTES = 24;
+
+    // The number of categories.
+    private final static int CATEGORIES = Category.values().length;
+
+    // The heap bytes by category.
+    private final long[]                totals;
+    // The heap bytes by category of every top-level section.
+    private final Map< String, long[] > sections;
+
+    /**
+     * Instantiates a ConfigFootprint.
+     *
+     * @param totals   The heap bytes by category.
+     * @param sections The heap bytes by category of every top-level section.
+     */
+    private ConfigFootprint( @NonNull final long[] totals,
+                             @NonNull final Map< String, long[] > sections )
+    {
+        this.totals   = totals;
+        this.sections = sections;
+    }
+
+    /**
+     * Returns the estimated heap bytes of all categories.
+     *
+     * @return The estimated heap bytes.
+     */
+    public long getBytes()
+    {
+        return sum( totals );
+    }
+
+    /**
+     * Returns the estimated heap bytes of a category.
+     *
+     * @param category The category.
+     *
+     * @return The estimated heap bytes of the category.
+     */
+    public long getBytes( @NonNull final Category category )
+    {
+        return totals[ category.ordinal() ];
+    }
+
+    /**
+     * Returns the sorted, unmodifiable set of top-level sections.
+     *
+     * @return The set of top-level sections.
+     */
+    @NonNull
+    public Set< String > getSections()
+    {
+        return Collections.unmodifiableSet( sections.keySet() );
+    }
+
+    /**
+     * Returns the estimated heap bytes of all categories of a top-level section.
+     *
+     * @param section The top-level section.
+     *
+     * @return The estimated heap bytes of the section, 0 if the section does not exist.
+     */
+    public long getSectionBytes( @NonNull final String section )
+    {
+        final long[] bytes = sections.get( section );
+
+        return ( bytes == null ) ? 0 : sum( bytes );
+    }
+
+    /**
+     * Returns the estimated heap bytes of a category of a top-level section.
+     *
+     * @param section  The top-level section.
+     * @param category The category.
+     *
+     * @return The estimated heap bytes of the category of the section, 0 if the section does not
+     * exist.
+     */
+    public long getSectionBytes( @NonNull final String section, @NonNull final Category category )
+    {
+        final long[] bytes = sections.get( section );
+
+        return ( bytes == null ) ? 0 : bytes[ category.ordinal() ];
+    }
+
+    /**
+     * Returns the estimate as flat gauge names and values, such as "bytes", "bytes.keys", and
+     * "section.shop.bytes", in a stable order.
+     *
+     * @return The gauge names and values.
+     */
+    @NonNull
+    public Map< String, Long > toMetrics()
+    {
+        final Map< String, Long > metrics = new LinkedHashMap<>();
+
+        metrics.put( "bytes", getBytes() );
+
+        for ( final Category category : Category.values() )
+        {
+            metrics.put( "bytes." + metricName( category ), getBytes( category ) );
+        }
+
+        for ( final Map.Entry< String, long[] > entry : sections.entrySet() )
+        {
+            metrics.put( "section." + entry.getKey() + ".bytes", sum( entry.getValue() ) );
+        }
+
+        return metrics;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ConfigFootprint" + toMetrics();
+    }
+
+    /**
+     * Returns the top-level section of a field.
+     *
+     * @param field The field.
+     *
+     * @return The part of the field before its first dot, or the whole field.
+     */
+    @NonNull
+    public static String sectionOf( @NonNull final String field )
+    {
+        final int separator = field.indexOf( '.' );
+
+        return ( separator < 0 ) ? field : field.substring( 0, separator );
+    }
+
+    /**
+     * Returns the metric name of a category, such as "config_values".
+     *
+     * @param category The category.
+     *
+     * @return The metric name of the category.
+     */
+    @NonNull
+    private static String metricName( @NonNull final Category category )
+    {
+        return category.name().toLowerCase( Locale.ROOT );
+    }
+
+    /**
+     * Returns the sum of some bytes.
+     *
+     * @param bytes The bytes.
+     *
+     * @return The sum of the bytes.
+     */
+    private static long sum( @NonNull final long[] bytes )
+    {
+        long sum = 0;
+
+        for ( final long value : bytes )
+        {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Rounds a number of bytes up to the object alignment.
+     *
+     * @param bytes The number of bytes.
+     *
+     * @return The aligned number of bytes.
+     */
+    private static long align( final long bytes )
+    {
+        return ( bytes + 7 ) & ~7L;
+    }
+
+    /**
+     * Returns the heap bytes of an array.
+     *
+     * @param length      The length of the array.
+     * @param elementSize The size of one element in bytes.
+     *
+     * @return The heap bytes of the array.
+     */
+    public static long arrayBytes( final long length, final long elementSize )
+    {
+        return align( 16 + length * elementSize );
+    }
+
+    /**
+     * Returns the shallow heap bytes of a hash map with its table and entries.
+     *
+     * @param map The map.
+     *
+     * @return The shallow heap bytes of the map.
+     */
+    public static long mapBytes( @NonNull final Map< ?, ? > map )
+    {
+        if ( map instanceof TreeMap )
+        {
+            // A TreeMap has no table, only a node per entry.
+            return 48 + 40L * map.size();
+        }
+
+        final long headerBytes;
+        final long nodeBytes;
+
+        if ( map instanceof LinkedHashMap )
+        {
+            headerBytes = 56;
+            nodeBytes   = 40;
+        }
+        else if ( map instanceof ConcurrentHashMap )
+        {
+            headerBytes = 64;
+            nodeBytes   = 32;
+        }
+        else
+        {
+            headerBytes = 48;
+            nodeBytes   = 32;
+        }
+
+        // The table is a power of two of at least 16 that keeps the load factor at most 3/4.
+        final long tableLength = Math.max( 16, Long.highestOneBit( map.size() * 4L / 3 ) << 1 );
+        final long tableBytes  = map.isEmpty() ? 0 : arrayBytes( tableLength, 4 );
+
+        return headerBytes + tableBytes + nodeBytes * map.size();
+    }
+
+    /**
+     * Accumulator of heap bytes for a ConfigFootprint. Every object is only counted the first time
+     * it is added.
+     */
+    public static final class Builder
+    {
+
+        // The heap bytes by category.
+        private final long[]                totals   = new long[ CATEGORIES ];
+        // The heap bytes by category of every top-level section.
+        private final Map< String, long[] > sections = new TreeMap<>();
+        // The objects that were already counted.
+        private final Set< Object >         counted  =
+                Collections.newSetFromMap( new IdentityHashMap<>() );
+
+        /**
+         * Adds heap bytes to a category.
+         *
+         * @param section  The top-level section that retains the bytes, null for none.
+         * @param category The category.
+         * @param bytes    The heap bytes.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder add( @Nullable final String section, @NonNull final Category category,
+                            final long bytes )
+        {
+            totals[ category.ordinal() ] += bytes;
+
+            if ( section != null )
+            {
+                sections.computeIfAbsent( section, key -> new long[ CATEGORIES ] )
+                        [ category.ordinal() ] += bytes;
+            }
+
+            return this;
+        }
+
+        /**
+         * Adds an object and everything it retains to a category. Keys of nested maps count as
+         * KEYS and nested Lists, Maps, and arrays count as COLLECTIONS.
+         *
+         * @param section  The top-level section that retains the object, null for none.
+         * @param category The category of the object.
+         * @param object   The object, which may be null.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder addObject( @Nullable final String section, @NonNull final Category category,
+                                  @Nullable final Object object )
+        {
+            if ( object == null || isCached( object ) || !counted.add( object ) )
+            {
+                return this;
+            }
+
+            final Category nested = ( category == Category.COMMENTS ) ? Category.COMMENTS
+                                                                       : Category.COLLECTIONS;
+
+            if ( object instanceof String string )
+            {
+                final int bytesPerChar = isLatin1( string ) ? 1 : 2;
+
+                add( section, category, 24 + arrayBytes( string.length(), bytesPerChar ) );
+            }
+            else if ( object instanceof StringSlice slice )
+            {
+                // The loaded text is shared by every slice, so it is not attributed to a section.
+                add( section, category, 24 );
+                addObject( null, category, slice.getSource() );
+            }
+            else if ( object instanceof Long || object instanceof Double )
+            {
+                add( section, category, 24 );
+            }
+            else if ( object instanceof Number || object instanceof Character )
+            {
+                add( section, category, 16 );
+            }
+            else if ( object instanceof Map< ?, ? > map )
+            {
+                add( section, nested, mapBytes( map ) );
+
+                for ( final Map.Entry< ?, ? > entry : map.entrySet() )
+                {
+                    addObject( section, ( nested == Category.COMMENTS ) ? nested : Category.KEYS,
+                               entry.getKey() );
+                    addObject( section, category, entry.getValue() );
+                }
+            }
+            else if ( object instanceof Collection< ? > collection )
+            {
+                add( section, nested, 24 + arrayBytes( collection.size(), 4 ) );
+
+                for ( final Object element : collection )
+                {
+                    addObject( section, category, element );
+                }
+            }
+            else if ( object instanceof Object[] array )
+            {
+                add( section, nested, arrayBytes( array.length, 4 ) );
+
+                for ( final Object element : array )
+                {
+                    addObject( section, category, element );
+                }
+            }
+            else
+            {
+                // Other objects are only counted shallowly.
+                add( section, category, 16 );
+            }
+
+            return this;
+        }
+
+        /**
+         * Adds a field with its key, ConfigValue, value, and default value.
+         *
+         * @param field            The field.
+         * @param value            The value held on the heap, null if there is none.
+         * @param defaultValue     The default value held on the heap, null if there is none.
+         * @param configValueBytes The heap bytes of the object holding the values.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder addField( @NonNull final String field, @Nullable final Object value,
+                                 @Nullable final Object defaultValue, final long configValueBytes )
+        {
+            final String section = sectionOf( field );
+
+            addObject( section, Category.KEYS, field );
+            add( section, Category.CONFIG_VALUES, configValueBytes );
+            addObject( section, Category.VALUES, value );
+            addObject( section, Category.VALUES, defaultValue );
+
+            return this;
+        }
+
+        /**
+         * Adds a config field and value map with all of its fields.
+         *
+         * @param values The config field and value map.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder addValues( @NonNull final Map< String, ConfigValue > values )
+        {
+            add( null, Category.INDEX, mapBytes( values ) );
+
+            for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+            {
+                final ConfigValue configValue = entry.getValue();
+
+                if ( configValue == null )
+                {
+                    addObject( sectionOf( entry.getKey() ), Category.KEYS, entry.getKey() );
+                }
+                else
+                {
+                    // Measuring a sliced value must not turn it into a String.
+                    final Object value = ( configValue instanceof SlicedConfigValue sliced )
+                                         ? sliced.getStoredValue() : configValue.getValue();
+
+                    addField( entry.getKey(), value, configValue.getDefaultValue(),
+                              CONFIG_VALUE_BYTES );
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Adds a config field and comment map with all of its comments. Pooled ConfigComments are
+         * counted as a whole and not attributed to any section.
+         *
+         * @param comments The config field and comment map.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder addComments( @NonNull final Map< String, String[] > comments )
+        {
+            // Pooled comments are counted as a whole, without reading or materializing them.
+            if ( comments instanceof ConfigComments pooled )
+            {
+                return add( null, Category.COMMENTS, pooled.estimateBytes() );
+            }
+
+            add( null, Category.COMMENTS, mapBytes( comments ) );
+
+            for ( final Map.Entry< String, String[] > entry : comments.entrySet() )
+            {
+                final String section = sectionOf( entry.getKey() );
+
+                addObject( section, Category.COMMENTS, entry.getKey() );
+                addObject( section, Category.COMMENTS, entry.getValue() );
+            }
+
+            return this;
+        }
+
+        /**
+         * Builds the ConfigFootprint of everything added so far.
+         *
+         * @return The ConfigFootprint.
+         */
+        @NonNull
+        public ConfigFootprint build()
+        {
+            final Map< String, long[] > sectionsCopy = new TreeMap<>();
+
+            for ( final Map.Entry< String, long[] > entry : sections.entrySet() )
+            {
+                sectionsCopy.put( entry.getKey(), entry.getValue().clone() );
+            }
+
+            return new ConfigFootprint( totals.clone(), sectionsCopy );
+        }
+
+        /**
+         * Returns if an object is a JVM-wide cached constant that no ConfigManager retains.
+         *
+         * @param object The object.
+         *
+         * @return If the object is a cached constant.
+         */
+        private static boolean isCached( @NonNull final Object object )
+        {
+            if ( object instanceof Boolean )
+            {
+                return true;
+            }
+            else if ( object instanceof Integer || object instanceof Long
+                      || object instanceof Short || object instanceof Byte )
+            {
+                final long number = ( ( Number ) object ).longValue();
+
+                return number >= -128 && number <= 127;
+            }
+            else if ( object instanceof Character character )
+            {
+                return character <= 127;
+            }
+
+            return false;
+        }
+
+        /**
+         * Returns if a String is stored with one byte per character.
+         *
+         * @param string The String.
+         *
+         * @return If the String only contains Latin-1 characters.
+         */
+        private static boolean isLatin1( @NonNull final String string )
+        {
+            for ( int i = 0; i < string.length(); ++i )
+            {
+                if ( string.charAt( i ) > 0xFF )
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,383 @@
+package com.qhucy.configmanager.path;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical dotted field name, such as "a.c.f", made of its parent path and its last segment.
+ * ConfigPaths are interned in a global pool: there is exactly one ConfigPath per distinct field
+ * name, and every segment String is shared by all paths that contain it. The full field name of a
+ * ConfigPath is canonical as well, so config field and value maps that store interned field names
+ * share one String per field across all ConfigManagers and reloads, and compare keys by identity
+ * before comparing characters.
+ * <p>
+ * The pool holds its Strings and ConfigPaths weakly. A field name stays canonical as long as a
+ * config field and value map or a ConfigPath still references it, and is dropped from the pool once
+ * nothing does, so fields that are removed at runtime or only existed in an older version of a
+ * config do not accumulate.
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigPath
+{
+
+    // The canonical String, and canonical path if one is in use, of every field name and segment.
+    private final static ConcurrentHashMap< Object, Slot > POOL    = new ConcurrentHashMap<>();
+    // The keys of the pool whose canonical String was garbage collected.
+    private final static ReferenceQueue< String >          CLEARED = new ReferenceQueue<>();
+    // The value of a slot whose String has no canonical path in use.
+    private final static WeakReference< ConfigPath >       NO_PATH = new WeakReference<>( null );
+
+    // The path of the root section, which has no segments.
+    public final static ConfigPath ROOT = new ConfigPath( null, "", "", 0 );
+
+    // The parent path, null for the root path.
+    private final ConfigPath parent;
+    // The last segment of the path.
+    private final String     segment;
+    // The full dotted field name of the path.
+    private final String     path;
+    // The number of segments of the path.
+    private final int        depth;
+
+    /**
+     * Instantiates a ConfigPath.
+     *
+     * @param parent  The parent path, null for the root path.
+     * @param segment The last segment of the path.
+     * @param path    The full dotted field name of the path.
+     * @param depth   The number of segments of the path.
+     */
+    private ConfigPath( @Nullable final ConfigPath parent, @NonNull final String segment,
+                        @NonNull final String path, final int depth )
+    {
+        this.parent  = parent;
+        this.segment = segment;
+        this.path    = path;
+        this.depth   = depth;
+    }
+
+    /**
+     * Returns the canonical path of a dotted field name.
+     *
+     * @param path The dotted field name.
+     *
+     * @return The canonical path of the field name.
+     */
+    @NonNull
+    public static ConfigPath of( @NonNull final String path )
+    {
+        if ( path.isEmpty() )
+        {
+            return ROOT;
+        }
+
+        final Slot       slot     = POOL.get( new Probe( path ) );
+        final ConfigPath existing = ( slot == null ) ? null : slot.path().get();
+
+        if ( existing != null )
+        {
+            return existing;
+        }
+
+        final int        separator = path.lastIndexOf( '.' );
+        final ConfigPath parent    = ( separator < 0 ) ? ROOT : of( path.substring( 0, separator ) );
+
+        return register( parent, path.substring( separator + 1 ), path );
+    }
+
+    /**
+     * Returns the canonical String of a dotted field name. Config field and value maps store field
+     * names through this method.
+     *
+     * @param path The dotted field name.
+     *
+     * @return The canonical String equal to the field name.
+     */
+    @NonNull
+    public static String intern( @NonNull final String path )
+    {
+        final Slot   slot      = POOL.get( new Probe( path ) );
+        final String canonical = ( slot == null ) ? null : slot.key().get();
+
+        return ( canonical != null ) ? canonical : canonical( path );
+    }
+
+    /**
+     * Returns the number of canonical field names and segments in the pool.
+     *
+     * @return The number of canonical field names and segments in the pool.
+     */
+    public static int poolSize()
+    {
+        expunge();
+
+        return POOL.size();
+    }
+
+    /**
+     * Returns the canonical String equal to a String, adding the String to the pool if there is
+     * none.
+     *
+     * @param text The String.
+     *
+     * @return The canonical String.
+     */
+    @NonNull
+    private static String canonical( @NonNull final String text )
+    {
+        expunge();
+
+        final Probe probe = new Probe( text );
+
+        while ( true )
+        {
+            final Slot   slot      = POOL.get( probe );
+            final String canonical = ( slot == null ) ? null : slot.key().get();
+
+            if ( canonical != null )
+            {
+                return canonical;
+            }
+
+            final Key key = new Key( text, probe.hash );
+
+            // Cleared keys never match, so a failed insert means another thread added the String.
+            if ( POOL.putIfAbsent( key, new Slot( key, NO_PATH ) ) == null )
+            {
+                return text;
+            }
+        }
+    }
+
+    /**
+     * Removes the slots of every garbage collected String from the pool.
+     */
+    private static void expunge()
+    {
+        Reference< ? extends String > cleared;
+
+        while ( ( cleared = CLEARED.poll() ) != null )
+        {
+            POOL.remove( cleared );
+        }
+    }
+
+    /**
+     * Adds a path to the pool unless another thread added it first.
+     *
+     * @param parent  The canonical parent path.
+     * @param segment The last segment of the path.
+     * @param path    The full dotted field name of the path.
+     *
+     * @return The canonical path.
+     */
+    @NonNull
+    private static ConfigPath register( @NonNull final ConfigPath parent,
+                                        @NonNull final String segment, @NonNull final String path )
+    {
+        final String canonicalSegment = canonical( segment );
+
+        // A path with a single segment shares its String with the segment.
+        final String canonicalPath = ( parent == ROOT ) ? canonicalSegment : canonical( path );
+
+        final ConfigPath created = new ConfigPath( parent, canonicalSegment, canonicalPath,
+                                                   parent.depth + 1 );
+        final Probe      probe   = new Probe( canonicalPath );
+
+        while ( true )
+        {
+            // The slot cannot be expunged while its canonical String is referenced here.
+            final Slot       slot     = POOL.get( probe );
+            final ConfigPath existing = slot.path().get();
+
+            if ( existing != null )
+            {
+                return existing;
+            }
+            else if ( POOL.replace( slot.key(), slot,
+                                    new Slot( slot.key(), new WeakReference<>( created ) ) ) )
+            {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical path of a child segment under this path.
+     *
+     * @param segment The child segment.
+     *
+     * @return The canonical path of the child.
+     */
+    @NonNull
+    public ConfigPath child( @NonNull final String segment )
+    {
+        final String     childPath = ( this == ROOT ) ? segment : path + "." + segment;
+        final Slot       slot      = POOL.get( new Probe( childPath ) );
+        final ConfigPath existing  = ( slot == null ) ? null : slot.path().get();
+
+        return ( existing != null ) ? existing : register( this, segment, childPath );
+    }
+
+    /**
+     * Returns the parent path.
+     *
+     * @return The parent path, null for the root path.
+     */
+    @Nullable
+    public ConfigPath getParent()
+    {
+        return parent;
+    }
+
+    /**
+     * Returns the last segment of the path.
+     *
+     * @return The last segment of the path, empty for the root path.
+     */
+    @NonNull
+    public String getSegment()
+    {
+        return segment;
+    }
+
+    /**
+     * Returns the number of segments of the path.
+     *
+     * @return The number of segments of the path.
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    /**
+     * Returns if this path is equal to or nested under another path.
+     *
+     * @param ancestor The other path.
+     *
+     * @return If this path is equal to or nested under the other path.
+     */
+    public boolean startsWith( @NonNull final ConfigPath ancestor )
+    {
+        ConfigPath current = this;
+
+        while ( current != null && current.depth > ancestor.depth )
+        {
+            current = current.parent;
+        }
+
+        return current == ancestor;
+    }
+
+    /**
+     * Returns the full dotted field name of the path.
+     *
+     * @return The full dotted field name of the path.
+     */
+    @Override
+    public String toString()
+    {
+        return path;
+    }
+
+    /**
+     * Weak key of the pool, equal to other keys whose canonical String is equal.
+     */
+    private final static class Key
+            extends WeakReference< String >
+    {
+
+        // The hash code of the String, kept since it must not change once the String is cleared.
+        private final int hash;
+
+        /**
+         * Instantiates a Key.
+         *
+         * @param text The canonical String.
+         * @param hash The hash code of the String.
+         */
+        private Key( @NonNull final String text, final int hash )
+        {
+            super( text, CLEARED );
+
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals( final Object object )
+        {
+            if ( this == object )
+            {
+                return true;
+            }
+
+            final String text = get();
+
+            return text != null && object instanceof final Key key && hash == key.hash
+                   && text.equals( key.get() );
+        }
+
+    }
+
+    /**
+     * Lookup key of the pool, equal to the keys whose canonical String is equal to its String. It
+     * saves allocating a weak reference for every lookup.
+     */
+    private final static class Probe
+    {
+
+        // The String to look up.
+        private final String text;
+        // The hash code of the String.
+        private final int    hash;
+
+        /**
+         * Instantiates a Probe.
+         *
+         * @param text The String to look up.
+         */
+        private Probe( @NonNull final String text )
+        {
+            this.text = text;
+            this.hash = text.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals( final Object object )
+        {
+            return object instanceof final Key key && hash == key.hash && text.equals( key.get() );
+        }
+
+    }
+
+    /**
+     * Entry of the pool.
+     *
+     * @param key  The key that holds the canonical String.
+     * @param path The canonical path of the String, cleared if none is in use.
+     */
+    private record Slot( Key key, WeakReference< ConfigPath > path )
+    {
+
+    }
+
+}
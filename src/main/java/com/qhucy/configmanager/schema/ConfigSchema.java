@@ -0,0 +1,431 @@
+package com.qhucy.configmanager.schema;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.path.ConfigPath;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable declaration of the fields a config field and value map must hold, with their type,
+ * default value, numeric range, text pattern, and whether they are required. A ConfigSchema is
+ * compiled once by its Builder, so patterns are compiled and defaults are checked up front, and
+ * validating a config takes a single pass over the declared fields.
+ * <p>
+ * A ConfigManager with a schema validates every config it loads or reloads, fails with every
+ * violation at once, and fills in missing default values. Fields the schema does not declare are
+ * not checked.
+ *
+ * @see ConfigManager#validate()
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigSchema
+{
+
+    /**
+     * Type of the value of a field.
+     */
+    public enum Type
+    {
+
+        // Text values.
+        STRING,
+        // Whole numbers of any size.
+        INTEGER,
+        // Whole or decimal numbers.
+        NUMBER,
+        // True or false values.
+        BOOLEAN,
+        // Lists of values.
+        LIST,
+        // Nested sections of fields.
+        SECTION,
+        // Values of any type.
+        ANY;
+
+        /**
+         * Returns if a value is of this type.
+         *
+         * @param value The value.
+         *
+         * @return If the value is of this type.
+         */
+        public boolean matches( @NonNull final Object value )
+        {
+            return switch ( this )
+                    {
+                        case STRING -> value instanceof String;
+                        case INTEGER -> value instanceof Integer || value instanceof Long
+                                        || value instanceof Short || value instanceof Byte
+                                        || value instanceof BigInteger;
+                        case NUMBER -> value instanceof Number;
+                        case BOOLEAN -> value instanceof Boolean;
+                        case LIST -> value instanceof List< ? >;
+                        case SECTION -> value instanceof Map< ?, ? >;
+                        case ANY -> true;
+                    };
+        }
+
+    }
+
+    /**
+     * Compiled declaration of a field.
+     *
+     * @param field        The field.
+     * @param type         The type of the value.
+     * @param required     Whether the field must hold a value of its own.
+     * @param defaultValue The value used if the field has none, null for none.
+     * @param min          The smallest allowed number.
+     * @param max          The largest allowed number.
+     * @param pattern      The pattern that text must match, null for any text.
+     */
+    private record Rule( @NonNull String field, @NonNull Type type, boolean required,
+                         @Nullable Object defaultValue, double min, double max,
+                         @Nullable Pattern pattern )
+    {
+
+        /**
+         * Returns the violation of a value, null if it satisfies the rule.
+         *
+         * @param value The value, which may be null.
+         *
+         * @return The violation of the value, null if there is none.
+         */
+        @Nullable
+        ConfigViolation check( @Nullable final Object value )
+        {
+            if ( value == null )
+            {
+                return required ? new ConfigViolation( field, "is required but missing." ) : null;
+            }
+            else if ( !type.matches( value ) )
+            {
+                return new ConfigViolation( field, "must be of type " + type + " but is '"
+                                                   + value + "'." );
+            }
+            else if ( value instanceof Number number
+                      && ( number.doubleValue() < min || number.doubleValue() > max ) )
+            {
+                return new ConfigViolation( field, "must be in range [" + min + ", " + max
+                                                   + "] but is " + value + "." );
+            }
+            else if ( pattern != null && !pattern.matcher( ( String ) value ).matches() )
+            {
+                return new ConfigViolation( field, "must match '" + pattern.pattern() + "' but is '"
+                                                   + value + "'." );
+            }
+
+            return null;
+        }
+
+    }
+
+    /**
+     * Returns a new Builder of a ConfigSchema.
+     *
+     * @return A new Builder.
+     */
+    @NonNull
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    // The declared fields, in declaration order.
+    private final Rule[]                rules;
+    // The default values of the declared fields that have one.
+    private final Map< String, Object > defaultValues;
+
+    /**
+     * Instantiates a ConfigSchema from compiled rules.
+     *
+     * @param rules The declared fields, in declaration order.
+     */
+    private ConfigSchema( @NonNull final Rule[] rules )
+    {
+        final Map< String, Object > defaults = new LinkedHashMap<>();
+
+        for ( final Rule rule : rules )
+        {
+            if ( rule.defaultValue() != null )
+            {
+                defaults.put( rule.field(), rule.defaultValue() );
+            }
+        }
+
+        this.rules         = rules;
+        this.defaultValues = Collections.unmodifiableMap( defaults );
+    }
+
+    /**
+     * Validates the fields of a ConfigManager in a single pass. A missing field is valid if it is
+     * not required or if the schema declares a default value for it.
+     *
+     * @param configManager The ConfigManager.
+     *
+     * @return Every violation, empty if the ConfigManager satisfies the schema.
+     */
+    @NonNull
+    public List< ConfigViolation > validate( @NonNull final ConfigManager configManager )
+    {
+        final List< ConfigViolation > violations = new ArrayList<>();
+
+        for ( final Rule rule : rules )
+        {
+            final Object          value     = configManager.getRawValue( rule.field() );
+            final ConfigViolation violation =
+                    rule.check( ( value != null ) ? value : rule.defaultValue() );
+
+            if ( violation != null )
+            {
+                violations.add( violation );
+            }
+        }
+
+        return violations;
+    }
+
+    /**
+     * Returns the declared fields, in declaration order.
+     *
+     * @return The declared fields.
+     */
+    @NonNull
+    public List< String > getFields()
+    {
+        final List< String > fields = new ArrayList<>( rules.length );
+
+        for ( final Rule rule : rules )
+        {
+            fields.add( rule.field() );
+        }
+
+        return fields;
+    }
+
+    /**
+     * Returns the default values of the declared fields that have one.
+     *
+     * @return The read-only field and default value map.
+     */
+    @NonNull
+    public Map< String, Object > getDefaultValues()
+    {
+        return defaultValues;
+    }
+
+    /**
+     * Returns the number of declared fields.
+     *
+     * @return The number of declared fields.
+     */
+    public int size()
+    {
+        return rules.length;
+    }
+
+    /**
+     * Builder of a ConfigSchema. Every modifier applies to the field that was declared last.
+     */
+    public static final class Builder
+    {
+
+        // The compiled rules of the fields declared before the current one.
+        private final List< Rule > rules  = new ArrayList<>();
+        // The declared fields.
+        private final Set< String > fields = new HashSet<>();
+
+        // The current field.
+        private String  field;
+        // The type of the current field.
+        private Type    type;
+        // Whether the current field is required.
+        private boolean required;
+        // The default value of the current field.
+        private Object  defaultValue;
+        // The smallest allowed number of the current field.
+        private double  min;
+        // The largest allowed number of the current field.
+        private double  max;
+        // The pattern of the current field.
+        private Pattern pattern;
+
+        /**
+         * Instantiates an empty Builder.
+         */
+        private Builder()
+        {
+        }
+
+        /**
+         * Declares a field and its type.
+         *
+         * @param field The field.
+         * @param type  The type of the value of the field.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder field( @NonNull final String field, @NonNull final Type type )
+        {
+            if ( !fields.add( field ) )
+            {
+                throw new IllegalArgumentException( "Field '" + field + "' is already declared." );
+            }
+
+            finish();
+
+            this.field        = ConfigPath.intern( field );
+            this.type         = type;
+            this.required     = false;
+            this.defaultValue = null;
+            this.min          = Double.NEGATIVE_INFINITY;
+            this.max          = Double.POSITIVE_INFINITY;
+            this.pattern      = null;
+
+            return this;
+        }
+
+        /**
+         * Requires the current field to hold a value of its own.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder required()
+        {
+            current();
+
+            this.required = true;
+
+            return this;
+        }
+
+        /**
+         * Sets the value used if the current field has none.
+         *
+         * @param defaultValue The default value.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder defaultValue( @NonNull final Object defaultValue )
+        {
+            current();
+
+            this.defaultValue = defaultValue;
+
+            return this;
+        }
+
+        /**
+         * Limits the current numeric field to an inclusive range.
+         *
+         * @param min The smallest allowed number.
+         * @param max The largest allowed number.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder range( final double min, final double max )
+        {
+            current();
+
+            if ( type != Type.INTEGER && type != Type.NUMBER )
+            {
+                throw new IllegalArgumentException( "Field '" + field + "' is not numeric." );
+            }
+            else if ( !( min <= max ) )
+            {
+                throw new IllegalArgumentException( "Parameter min cannot be above max." );
+            }
+
+            this.min = min;
+            this.max = max;
+
+            return this;
+        }
+
+        /**
+         * Requires the current text field to match a regular expression.
+         *
+         * @param regex The regular expression.
+         *
+         * @return This builder.
+         */
+        @NonNull
+        public Builder pattern( @NonNull final String regex )
+        {
+            current();
+
+            if ( type != Type.STRING )
+            {
+                throw new IllegalArgumentException( "Field '" + field + "' is not a string." );
+            }
+
+            this.pattern = Pattern.compile( regex );
+
+            return this;
+        }
+
+        /**
+         * Compiles the declared fields into a ConfigSchema.
+         *
+         * @return The ConfigSchema.
+         */
+        @NonNull
+        public ConfigSchema build()
+        {
+            finish();
+
+            return new ConfigSchema( rules.toArray( new Rule[ 0 ] ) );
+        }
+
+        /**
+         * Throws if no field was declared yet.
+         */
+        private void current()
+        {
+            if ( field == null )
+            {
+                throw new IllegalArgumentException( "No field was declared yet." );
+            }
+        }
+
+        /**
+         * Compiles the current field, checking that its default value satisfies its own rule.
+         */
+        private void finish()
+        {
+            if ( field == null )
+            {
+                return;
+            }
+
+            final Rule            rule      =
+                    new Rule( field, type, required, defaultValue, min, max, pattern );
+            final ConfigViolation violation = rule.check( defaultValue );
+
+            if ( defaultValue != null && violation != null )
+            {
+                throw new IllegalArgumentException( "Default value of field '" + field + "' "
+                                                    + violation.message() );
+            }
+
+            rules.add( rule );
+            field = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.qhucy.configmanager.schema;
+
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Thrown when a config field and value map violates its ConfigSchema. Holds every violation found
+ * in the validation pass, not only the first one.
+ *
+ * @see ConfigSchema
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class ConfigValidationException
+        extends IllegalArgumentException
+{
+
+    // The serialization version of the exception.
+    private final static long serialVersionUID = 1L;
+
+    // Every violation found in the validation pass.
+    private final List< ConfigViolation > violations;
+
+    /**
+     * Instantiates a ConfigValidationException.
+     *
+     * @param source     The text path of the source of the config field and value map.
+     * @param violations Every violation found in the validation pass.
+     */
+    public ConfigValidationException( @NonNull final String source,
+                                      @NonNull final List< ConfigViolation > violations )
+    {
+        super( "Config at '" + source + "' has " + violations.size() + " schema violation"
+               + ( ( violations.size() == 1 ) ? "" : "s" ) + ": " + violations );
+
+        this.violations = List.copyOf( violations );
+    }
+
+    /**
+     * Returns every violation found in the validation pass.
+     *
+     * @return Every violation found in the validation pass.
+     */
+    @NonNull
+    public List< ConfigViolation > getViolations()
+    {
+        return violations;
+    }
+
+}
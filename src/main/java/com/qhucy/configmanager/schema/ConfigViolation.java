@@ -0,0 +1,25 @@
+package com.qhucy.configmanager.schema;
+
+import lombok.NonNull;
+
+/**
+ * Violation of a ConfigSchema by a field of a config field and value map.
+ *
+ * @param field   The field that violates the schema.
+ * @param message The description of the violation.
+ *
+ * @see ConfigSchema
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public record ConfigViolation( @NonNull String field, @NonNull String message )
+{
+
+    @Override
+    @NonNull
+    public String toString()
+    {
+        return "Field '" + field + "' " + message;
+    }
+
+}
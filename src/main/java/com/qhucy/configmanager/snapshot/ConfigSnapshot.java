@@ -0,0 +1,377 @@
+package com.qhucy.configmanager.snapshot;
+
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view of a config field and value map at a single version. A snapshot never changes, so
+ * several related fields read from the same snapshot are always consistent with each other, even
+ * while the ConfigManager it was taken from is being written to or reloaded.
+ * <p>
+ * Snapshots of a VersionedConfigManager share their structure with the live config field and value
+ * map and are taken in constant time. An old version is reclaimed by the garbage collector once no
+ * snapshot references it anymore.
+ *
+ * @see VersionedConfigManager
+ * @see com.qhucy.configmanager.ConfigManager#snapshot()
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigSnapshot
+{
+
+    /**
+     * Immutable value and default value of a field in a snapshot.
+     *
+     * @param value        The value of the field.
+     * @param defaultValue The default value of the field.
+     */
+    record Entry( @Nullable Object value, @Nullable Object defaultValue )
+    {
+
+        // The entry of a field without a value and default value.
+        final static Entry MISSING = new Entry( null, null );
+
+        /**
+         * Returns the entry holding the value and default value of a ConfigValue.
+         *
+         * @param configValue The ConfigValue, null for a field without a value and default value.
+         *
+         * @return The entry holding the value and default value of the ConfigValue.
+         */
+        @NonNull
+        static Entry of( @Nullable final ConfigValue configValue )
+        {
+            return ( configValue == null ) ? MISSING : new Entry( configValue.getValue(),
+                                                                  configValue.getDefaultValue() );
+        }
+
+    }
+
+    /**
+     * Unmodifiable config field and value map over the fields of a snapshot. Lookups go through the
+     * trie and create a detached ConfigValue per call, nothing is copied up front.
+     */
+    private static final class SnapshotMap
+            extends AbstractMap< String, ConfigValue >
+    {
+
+        // The fields of the snapshot.
+        private final HashTrie< ConfigSnapshot.Entry > entries;
+
+        /**
+         * Instantiates a SnapshotMap.
+         *
+         * @param entries The fields of the snapshot.
+         */
+        private SnapshotMap( @NonNull final HashTrie< ConfigSnapshot.Entry > entries )
+        {
+            this.entries = entries;
+        }
+
+        @Override
+        public ConfigValue get( final Object key )
+        {
+            final ConfigSnapshot.Entry entry =
+                    ( key instanceof String field ) ? entries.get( field ) : null;
+
+            return ( entry == null ) ? null
+                                     : new ConfigValue( entry.value(), entry.defaultValue() );
+        }
+
+        @Override
+        public boolean containsKey( final Object key )
+        {
+            return ( key instanceof String field ) && entries.get( field ) != null;
+        }
+
+        @Override
+        public int size()
+        {
+            return entries.size();
+        }
+
+        @Override
+        @NonNull
+        public Set< Map.Entry< String, ConfigValue > > entrySet()
+        {
+            return new AbstractSet<>()
+            {
+                @Override
+                @NonNull
+                public Iterator< Map.Entry< String, ConfigValue > > iterator()
+                {
+                    final List< Map.Entry< String, ConfigValue > > list =
+                            new ArrayList<>( entries.size() );
+
+                    entries.forEach( ( field, entry ) ->
+                    {
+                        final ConfigValue configValue =
+                                new ConfigValue( entry.value(), entry.defaultValue() );
+
+                        list.add( new SimpleImmutableEntry<>( field, configValue ) );
+                    } );
+
+                    return Collections.unmodifiableList( list ).iterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return entries.size();
+                }
+            };
+        }
+
+    }
+
+    // The snapshot without any fields.
+    private final static ConfigSnapshot EMPTY = new ConfigSnapshot( HashTrie.empty(), 0 );
+
+    // The fields of the snapshot.
+    private final HashTrie< Entry > entries;
+    // The version of the snapshot.
+    private final long              version;
+    // Whether the fields of the snapshot satisfied the schema of their ConfigManager.
+    private final boolean           validated;
+
+    /**
+     * Instantiates a ConfigSnapshot that is not validated.
+     *
+     * @param entries The fields of the snapshot.
+     * @param version The version of the snapshot.
+     */
+    ConfigSnapshot( @NonNull final HashTrie< Entry > entries, final long version )
+    {
+        this( entries, version, false );
+    }
+
+    /**
+     * Instantiates a ConfigSnapshot.
+     *
+     * @param entries   The fields of the snapshot.
+     * @param version   The version of the snapshot.
+     * @param validated Whether the fields satisfied the schema of their ConfigManager.
+     */
+    private ConfigSnapshot( @NonNull final HashTrie< Entry > entries, final long version,
+                            final boolean validated )
+    {
+        this.entries   = entries;
+        this.version   = version;
+        this.validated = validated;
+    }
+
+    /**
+     * Returns the snapshot without any fields.
+     *
+     * @return The snapshot without any fields.
+     */
+    @NonNull
+    static ConfigSnapshot empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a snapshot holding a copy of a config field and value map. Unversioned ConfigManagers
+     * take their snapshots this way, which costs time linear in the number of fields.
+     *
+     * @param values The config field and value map.
+     *
+     * @return The snapshot holding a copy of the config field and value map.
+     */
+    @NonNull
+    public static ConfigSnapshot copyOf( @NonNull final Map< String, ConfigValue > values )
+    {
+        HashTrie< Entry > entries = HashTrie.empty();
+
+        for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+        {
+            entries = entries.put( entry.getKey(), Entry.of( entry.getValue() ) );
+        }
+
+        return new ConfigSnapshot( entries, 0 );
+    }
+
+    /**
+     * Returns the fields of the snapshot.
+     *
+     * @return The fields of the snapshot.
+     */
+    @NonNull
+    HashTrie< Entry > getEntries()
+    {
+        return entries;
+    }
+
+    /**
+     * Returns the version of the snapshot. Versions increase with every write to a
+     * VersionedConfigManager. Snapshots of unversioned ConfigManagers are at version 0.
+     *
+     * @return The version of the snapshot.
+     */
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Returns if the fields of the snapshot satisfied the schema of their ConfigManager. Readers of
+     * a validated snapshot can rely on every schema field holding a value of the declared type and
+     * skip their own checks.
+     *
+     * @return If the snapshot is validated.
+     *
+     * @see com.qhucy.configmanager.schema.ConfigSchema
+     */
+    public boolean isValidated()
+    {
+        return validated;
+    }
+
+    /**
+     * Returns this snapshot marked as validated. The fields are shared, not copied.
+     *
+     * @return The validated snapshot.
+     */
+    @NonNull
+    public ConfigSnapshot asValidated()
+    {
+        return validated ? this : new ConfigSnapshot( entries, version, true );
+    }
+
+    /**
+     * Returns the number of fields in the snapshot.
+     *
+     * @return The number of fields in the snapshot.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns if a field exists in the snapshot.
+     *
+     * @param field The field.
+     *
+     * @return If the field exists in the snapshot.
+     */
+    public boolean contains( @NonNull final String field )
+    {
+        return entries.get( field ) != null;
+    }
+
+    /**
+     * Returns the value of a field in the snapshot, or its default value if the value is missing.
+     *
+     * @param field The field.
+     *
+     * @return The value or default value of the field, null if both are missing.
+     */
+    @Nullable
+    public Object getValue( @NonNull final String field )
+    {
+        final Entry entry = entries.get( field );
+
+        if ( entry == null )
+        {
+            return null;
+        }
+
+        return ( entry.value() != null ) ? entry.value() : entry.defaultValue();
+    }
+
+    /**
+     * Returns the default value of a field in the snapshot.
+     *
+     * @param field The field.
+     *
+     * @return The default value of the field, null if it is missing.
+     */
+    @Nullable
+    public Object getDefaultValue( @NonNull final String field )
+    {
+        final Entry entry = entries.get( field );
+
+        return ( entry == null ) ? null : entry.defaultValue();
+    }
+
+    /**
+     * Returns a detached ConfigValue of a field in the snapshot.
+     *
+     * @param field The field.
+     *
+     * @return The detached ConfigValue of the field, null if the field does not exist.
+     */
+    @Nullable
+    public ConfigValue getConfigValue( @NonNull final String field )
+    {
+        final Entry entry = entries.get( field );
+
+        return ( entry == null ) ? null : new ConfigValue( entry.value(), entry.defaultValue() );
+    }
+
+    /**
+     * Returns the fields of the snapshot.
+     *
+     * @return The fields of the snapshot.
+     */
+    @NonNull
+    public Set< String > getFields()
+    {
+        final Set< String > fields = new HashSet<>( entries.size() * 4 / 3 + 1 );
+
+        entries.forEach( ( field, entry ) -> fields.add( field ) );
+
+        return fields;
+    }
+
+    /**
+     * Returns a config field and value map of detached ConfigValues holding the fields of the
+     * snapshot.
+     *
+     * @return The config field and value map of the snapshot.
+     */
+    @NonNull
+    public HashMap< String, ConfigValue > toMap()
+    {
+        final HashMap< String, ConfigValue > values = new HashMap<>( entries.size() * 4 / 3 + 1 );
+
+        entries.forEach( ( field, entry ) -> values.put( field, new ConfigValue( entry.value(),
+                                                                                 entry.defaultValue() ) ) );
+
+        return values;
+    }
+
+    /**
+     * Returns an unmodifiable config field and value map over the fields of the snapshot. Takes
+     * constant time, its ConfigValues are detached and created on access.
+     *
+     * @return The unmodifiable config field and value map of the snapshot.
+     */
+    @NonNull
+    public Map< String, ConfigValue > asMap()
+    {
+        return new SnapshotMap( entries );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ConfigSnapshot{version=" + version + ", size=" + size() + "}";
+    }
+
+}
@@ -0,0 +1,423 @@
+package com.qhucy.configmanager.snapshot;
+
+import com.qhucy.configmanager.path.ConfigPath;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent hash array mapped trie from String keys to values. Every put returns a new trie that
+ * shares all unchanged nodes with the old one, so a write copies only the path to its key, which
+ * is at most seven nodes deep. A trie is never modified after it was built and can be read from any
+ * thread without locking. Keys are interned as ConfigPaths when they are first inserted.
+ *
+ * @param <V> The type of the values.
+ *
+ * @see ConfigSnapshot
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+final class HashTrie< V >
+{
+
+    // The number of hash bits consumed per trie level.
+    private final static int BITS = 5;
+    // The mask of the hash bits of a single trie level.
+    private final static int MASK = ( 1 << BITS ) - 1;
+
+    // The trie without any keys.
+    private final static HashTrie< ? > EMPTY = new HashTrie<>( BitmapNode.EMPTY, 0 );
+
+    /**
+     * Node of the trie.
+     */
+    private interface Node
+    {
+
+        /**
+         * Returns the value of a key under this node.
+         *
+         * @param key   The key.
+         * @param hash  The hash of the key.
+         * @param shift The number of hash bits consumed above this node.
+         *
+         * @return The value of the key, null if the key is absent.
+         */
+        @Nullable
+        Object get( @NonNull String key, int hash, int shift );
+
+        /**
+         * Returns a node with a key mapped to a value, or this node if the key already is mapped to
+         * the same value.
+         *
+         * @param key   The key.
+         * @param hash  The hash of the key.
+         * @param shift The number of hash bits consumed above this node.
+         * @param value The value.
+         * @param added Set to true if the key was absent.
+         *
+         * @return The node with the key mapped to the value.
+         */
+        @NonNull
+        Node put( @NonNull String key, int hash, int shift, @NonNull Object value,
+                  @NonNull boolean[] added );
+
+        /**
+         * Runs an action for every key and value under this node.
+         *
+         * @param action The action.
+         */
+        void forEach( @NonNull BiConsumer< String, Object > action );
+
+    }
+
+    /**
+     * Node holding up to 32 slots, each either a key and value pair or a child node. The bitmap
+     * records which slots are occupied so that the array only holds occupied slots.
+     */
+    private static final class BitmapNode
+            implements Node
+    {
+
+        // The node without any slots.
+        private final static BitmapNode EMPTY = new BitmapNode( 0, new Object[ 0 ] );
+
+        // The bitmap of the occupied slots.
+        private final int      bitmap;
+        // Alternating keys and values, where a null key means the value is a child node.
+        private final Object[] array;
+
+        /**
+         * Instantiates a BitmapNode.
+         *
+         * @param bitmap The bitmap of the occupied slots.
+         * @param array  Alternating keys and values of the occupied slots.
+         */
+        private BitmapNode( final int bitmap, @NonNull final Object[] array )
+        {
+            this.bitmap = bitmap;
+            this.array  = array;
+        }
+
+        @Override
+        @Nullable
+        public Object get( @NonNull final String key, final int hash, final int shift )
+        {
+            final int bit = 1 << ( ( hash >>> shift ) & MASK );
+
+            if ( ( bitmap & bit ) == 0 )
+            {
+                return null;
+            }
+
+            final int    index     = 2 * Integer.bitCount( bitmap & ( bit - 1 ) );
+            final Object slotKey   = array[ index ];
+            final Object slotValue = array[ index + 1 ];
+
+            if ( slotKey == null )
+            {
+                return ( ( Node ) slotValue ).get( key, hash, shift + BITS );
+            }
+
+            return key.equals( slotKey ) ? slotValue : null;
+        }
+
+        @Override
+        @NonNull
+        public Node put( @NonNull final String key, final int hash, final int shift,
+                         @NonNull final Object value, @NonNull final boolean[] added )
+        {
+            final int bit   = 1 << ( ( hash >>> shift ) & MASK );
+            final int index = 2 * Integer.bitCount( bitmap & ( bit - 1 ) );
+
+            if ( ( bitmap & bit ) == 0 )
+            {
+                final Object[] newArray = new Object[ array.length + 2 ];
+
+                System.arraycopy( array, 0, newArray, 0, index );
+                newArray[ index ]     = ConfigPath.intern( key );
+                newArray[ index + 1 ] = value;
+                System.arraycopy( array, index, newArray, index + 2, array.length - index );
+
+                added[ 0 ] = true;
+
+                return new BitmapNode( bitmap | bit, newArray );
+            }
+
+            final Object slotKey   = array[ index ];
+            final Object slotValue = array[ index + 1 ];
+
+            if ( slotKey == null )
+            {
+                final Node child = ( ( Node ) slotValue ).put( key, hash, shift + BITS, value,
+                                                               added );
+
+                return ( child == slotValue ) ? this : withSlot( index, null, child );
+            }
+            else if ( key.equals( slotKey ) )
+            {
+                return ( value == slotValue ) ? this : withSlot( index, slotKey, value );
+            }
+
+            added[ 0 ] = true;
+
+            return withSlot( index, null, createNode( shift + BITS, ( String ) slotKey, slotValue,
+                                                      ConfigPath.intern( key ), hash, value ) );
+        }
+
+        @Override
+        public void forEach( @NonNull final BiConsumer< String, Object > action )
+        {
+            for ( int i = 0; i < array.length; i += 2 )
+            {
+                if ( array[ i ] == null )
+                {
+                    ( ( Node ) array[ i + 1 ] ).forEach( action );
+                }
+                else
+                {
+                    action.accept( ( String ) array[ i ], array[ i + 1 ] );
+                }
+            }
+        }
+
+        /**
+         * Returns a copy of this node with one slot replaced.
+         *
+         * @param index The index of the key of the slot in the array.
+         * @param key   The new key of the slot, null for a child node.
+         * @param value The new value or child node of the slot.
+         *
+         * @return The copy of this node with the slot replaced.
+         */
+        @NonNull
+        private BitmapNode withSlot( final int index, @Nullable final Object key,
+                                     @NonNull final Object value )
+        {
+            final Object[] newArray = array.clone();
+
+            newArray[ index ]     = key;
+            newArray[ index + 1 ] = value;
+
+            return new BitmapNode( bitmap, newArray );
+        }
+
+        /**
+         * Returns a node holding two keys that share all hash bits above a trie level.
+         *
+         * @param shift      The number of hash bits consumed above the new node.
+         * @param firstKey   The first key.
+         * @param firstValue The value of the first key.
+         * @param secondKey  The second key.
+         * @param secondHash The hash of the second key.
+         * @param secondVal  The value of the second key.
+         *
+         * @return The node holding both keys.
+         */
+        @NonNull
+        private static Node createNode( final int shift, @NonNull final String firstKey,
+                                        @NonNull final Object firstValue,
+                                        @NonNull final String secondKey, final int secondHash,
+                                        @NonNull final Object secondVal )
+        {
+            final int firstHash = firstKey.hashCode();
+
+            if ( firstHash == secondHash )
+            {
+                return new CollisionNode( firstHash, new String[]{ firstKey, secondKey },
+                                          new Object[]{ firstValue, secondVal } );
+            }
+
+            final boolean[] added = new boolean[ 1 ];
+
+            return EMPTY.put( firstKey, firstHash, shift, firstValue, added )
+                        .put( secondKey, secondHash, shift, secondVal, added );
+        }
+
+    }
+
+    /**
+     * Node holding keys whose hashes are fully equal.
+     */
+    private static final class CollisionNode
+            implements Node
+    {
+
+        // The hash shared by every key of the node.
+        private final int      hash;
+        // The keys of the node.
+        private final String[] keys;
+        // The values of the node, in the order of the keys.
+        private final Object[] values;
+
+        /**
+         * Instantiates a CollisionNode.
+         *
+         * @param hash   The hash shared by every key of the node.
+         * @param keys   The keys of the node.
+         * @param values The values of the node, in the order of the keys.
+         */
+        private CollisionNode( final int hash, @NonNull final String[] keys,
+                               @NonNull final Object[] values )
+        {
+            this.hash   = hash;
+            this.keys   = keys;
+            this.values = values;
+        }
+
+        @Override
+        @Nullable
+        public Object get( @NonNull final String key, final int hash, final int shift )
+        {
+            for ( int i = 0; i < keys.length; ++i )
+            {
+                if ( keys[ i ].equals( key ) )
+                {
+                    return values[ i ];
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        @NonNull
+        public Node put( @NonNull final String key, final int hash, final int shift,
+                         @NonNull final Object value, @NonNull final boolean[] added )
+        {
+            if ( hash != this.hash )
+            {
+                // Nests this node under a bitmap node that can also hold the new key.
+                final BitmapNode parent =
+                        new BitmapNode( 1 << ( ( this.hash >>> shift ) & MASK ),
+                                        new Object[]{ null, this } );
+
+                return parent.put( key, hash, shift, value, added );
+            }
+
+            for ( int i = 0; i < keys.length; ++i )
+            {
+                if ( keys[ i ].equals( key ) )
+                {
+                    if ( values[ i ] == value )
+                    {
+                        return this;
+                    }
+
+                    final Object[] newValues = values.clone();
+
+                    newValues[ i ] = value;
+
+                    return new CollisionNode( hash, keys, newValues );
+                }
+            }
+
+            final String[] newKeys   = Arrays.copyOf( keys, keys.length + 1 );
+            final Object[] newValues = Arrays.copyOf( values, values.length + 1 );
+
+            newKeys[ keys.length ]     = ConfigPath.intern( key );
+            newValues[ values.length ] = value;
+
+            added[ 0 ] = true;
+
+            return new CollisionNode( hash, newKeys, newValues );
+        }
+
+        @Override
+        public void forEach( @NonNull final BiConsumer< String, Object > action )
+        {
+            for ( int i = 0; i < keys.length; ++i )
+            {
+                action.accept( keys[ i ], values[ i ] );
+            }
+        }
+
+    }
+
+    // The root node of the trie.
+    private final Node root;
+    // The number of keys in the trie.
+    private final int  size;
+
+    /**
+     * Instantiates a HashTrie.
+     *
+     * @param root The root node of the trie.
+     * @param size The number of keys in the trie.
+     */
+    private HashTrie( @NonNull final Node root, final int size )
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the trie without any keys.
+     *
+     * @param <V> The type of the values.
+     *
+     * @return The trie without any keys.
+     */
+    @NonNull
+    @SuppressWarnings( "unchecked" )
+    static < V > HashTrie< V > empty()
+    {
+        return ( HashTrie< V > ) EMPTY;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key The key.
+     *
+     * @return The value of the key, null if the key is absent.
+     */
+    @Nullable
+    @SuppressWarnings( "unchecked" )
+    V get( @NonNull final String key )
+    {
+        return ( V ) root.get( key, key.hashCode(), 0 );
+    }
+
+    /**
+     * Returns a trie with a key mapped to a value. This trie is left unchanged.
+     *
+     * @param key   The key.
+     * @param value The value.
+     *
+     * @return The trie with the key mapped to the value, or this trie if the key already is mapped
+     * to the same value.
+     */
+    @NonNull
+    HashTrie< V > put( @NonNull final String key, @NonNull final V value )
+    {
+        final boolean[] added   = new boolean[ 1 ];
+        final Node      newRoot = root.put( key, key.hashCode(), 0, value, added );
+
+        return ( newRoot == root ) ? this : new HashTrie<>( newRoot, added[ 0 ] ? size + 1 : size );
+    }
+
+    /**
+     * Returns the number of keys in the trie.
+     *
+     * @return The number of keys in the trie.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Runs an action for every key and value of the trie, in no particular order.
+     *
+     * @param action The action.
+     */
+    @SuppressWarnings( "unchecked" )
+    void forEach( @NonNull final BiConsumer< String, ? super V > action )
+    {
+        root.forEach( ( key, value ) -> action.accept( key, ( V ) value ) );
+    }
+
+}
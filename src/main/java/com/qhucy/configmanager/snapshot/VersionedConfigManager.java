@@ -0,0 +1,351 @@
+package com.qhucy.configmanager.snapshot;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChange;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigConverters;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * ConfigManager that keeps its config field and value map as a sequence of immutable versions.
+ * Every write builds a new version that shares all untouched fields with the previous one and
+ * publishes it in a single step, so snapshots are taken in constant time and readers never block
+ * writers. A transferValues or reloadFrom call publishes all of its fields as one version.
+ * <p>
+ * Writes are serialized with each other. Reads always see the latest published version without
+ * locking. The map returned by getValues is an unmodifiable view of the version that was latest
+ * when it was called, and the ConfigValues it and getConfigValue return are detached, so changes
+ * to them are not written back.
+ *
+ * @see ConfigSnapshot
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class VersionedConfigManager
+        extends ConfigManager
+{
+
+    // The latest published version, null until the super constructors write the first one.
+    private volatile ConfigSnapshot current;
+
+    /**
+     * Instantiates a VersionedConfigManager from a config field and value map.
+     *
+     * @param values       The config field and value map.
+     * @param configSource The source of the config field and value map.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public VersionedConfigManager( @Nullable final HashMap< String, ConfigValue > values,
+                                   @NonNull final ConfigSource configSource,
+                                   @NonNull final Logger logger )
+    {
+        super( values, configSource, logger );
+    }
+
+    /**
+     * Instantiates a VersionedConfigManager from an inputted array of config fields, values, and
+     * default values.
+     *
+     * @param configSource           The source of the config field and value map.
+     * @param logger                 The accessing plugin's logger that is used to log missing and
+     *                               invalid config values.
+     * @param fieldValueDefaultValue Alternating String fields and its respective value and default
+     *                               value to build a new config field and value map.
+     */
+    public VersionedConfigManager( @NonNull final ConfigSource configSource,
+                                   @NonNull final Logger logger,
+                                   @Nullable final Object... fieldValueDefaultValue )
+    {
+        super( configSource, logger, fieldValueDefaultValue );
+    }
+
+    /**
+     * Instantiates a VersionedConfigManager holding a copy of the config field and value map,
+     * comments, source, and logger of another ConfigManager.
+     *
+     * @param configManager The ConfigManager to copy.
+     */
+    public VersionedConfigManager( @NonNull final ConfigManager configManager )
+    {
+        super( new HashMap<>( configManager.getValues() ), configManager.getConfigSource(),
+               configManager.getLogger() );
+
+        setComments( configManager.getComments() );
+    }
+
+    /**
+     * Returns the latest published version.
+     *
+     * @return The latest published version.
+     */
+    @NonNull
+    private ConfigSnapshot current()
+    {
+        final ConfigSnapshot snapshot = current;
+
+        return ( snapshot == null ) ? ConfigSnapshot.empty() : snapshot;
+    }
+
+    /**
+     * Publishes the fields of a new version.
+     *
+     * @param entries The fields of the new version.
+     */
+    private void publish( @NonNull final HashTrie< ConfigSnapshot.Entry > entries )
+    {
+        final ConfigSnapshot snapshot = current();
+
+        if ( entries != snapshot.getEntries() )
+        {
+            current = new ConfigSnapshot( entries, snapshot.getVersion() + 1 );
+        }
+    }
+
+    /**
+     * Returns the snapshot of the latest version. Takes constant time and copies nothing.
+     *
+     * @return The snapshot of the latest version.
+     */
+    @Override
+    @NonNull
+    public ConfigSnapshot snapshot()
+    {
+        return current();
+    }
+
+    /**
+     * Returns an unmodifiable view of the config field and value map at the latest version. Takes
+     * constant time and copies nothing, the view keeps showing that version after later writes.
+     *
+     * @return An unmodifiable view of the config field and value map.
+     */
+    @Override
+    @NonNull
+    public Map< String, ConfigValue > getValues()
+    {
+        return current().asMap();
+    }
+
+    @Override
+    public synchronized void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        HashTrie< ConfigSnapshot.Entry > entries = HashTrie.empty();
+
+        if ( values != null )
+        {
+            for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+            {
+                entries = entries.put( entry.getKey(), ConfigSnapshot.Entry.of( entry.getValue() ) );
+            }
+        }
+
+        current = new ConfigSnapshot( entries, current().getVersion() + 1 );
+    }
+
+    @Override
+    @Nullable
+    public ConfigValue getConfigValue( @NonNull final String field )
+    {
+        final ConfigValue configValue = current().getConfigValue( field );
+
+        if ( configValue == null )
+        {
+            logMissingConfigValue( field );
+        }
+
+        return configValue;
+    }
+
+    @Override
+    public synchronized void setConfigValue( @NonNull final String field,
+                                             @Nullable final ConfigValue configValue )
+    {
+        publish( current().getEntries().put( field, ConfigSnapshot.Entry.of( configValue ) ) );
+        setDirty( true );
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // Reads go through the current snapshot, never through the resolved table.
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Object getValue( @NonNull final String field )
+    {
+        final ConfigSnapshot.Entry entry = current().getEntries().get( field );
+
+        if ( entry != null && entry.value() != null )
+        {
+            return entry.value();
+        }
+
+        return fallbackValue( field, ( entry == null ) ? null : entry.defaultValue() );
+    }
+
+    @Override
+    @Nullable
+    public Object getRawValue( @NonNull final String field )
+    {
+        final ConfigSnapshot.Entry entry = current().getEntries().get( field );
+
+        return ( entry == null ) ? null : entry.value();
+    }
+
+    @Override
+    @Nullable
+    public < T > T getAs( @NonNull final String field, @NonNull final Class< T > type )
+    {
+        // The value is read from the current snapshot without copying the map of getValues.
+        return ConfigConverters.convert( getValue( field ), type );
+    }
+
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        final Object oldValue;
+
+        synchronized ( this )
+        {
+            final HashTrie< ConfigSnapshot.Entry > entries = current().getEntries();
+            final ConfigSnapshot.Entry             entry   = entries.get( field );
+
+            oldValue = ( entry == null ) ? null : entry.value();
+
+            publish( entries.put( field, new ConfigSnapshot.Entry( object, ( entry == null ) ? null
+                                                                                             : entry.defaultValue() ) ) );
+            setDirty( true );
+        }
+
+        if ( isListening() && !Objects.equals( oldValue, object ) )
+        {
+            fireChange( ConfigChangeSet.of( this, field, oldValue, object ) );
+        }
+    }
+
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        putAll( ( values == null ) ? nullMapping() : values );
+    }
+
+    /**
+     * Puts every field and value of a map into the config field and value map as one new version.
+     * Default values of existing fields are kept.
+     *
+     * @param values The fields and values to put into the config field and value map.
+     */
+    @Override
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        final Map< String, ConfigChange > changes = isListening() ? new LinkedHashMap<>() : null;
+
+        synchronized ( this )
+        {
+            final HashTrie< ConfigSnapshot.Entry > oldEntries = current().getEntries();
+            HashTrie< ConfigSnapshot.Entry >       entries    = oldEntries;
+
+            for ( final Map.Entry< String, ? > value : values.entrySet() )
+            {
+                final ConfigSnapshot.Entry entry    = oldEntries.get( value.getKey() );
+                final Object               oldValue = ( entry == null ) ? null : entry.value();
+
+                entries = entries.put( value.getKey(),
+                                       new ConfigSnapshot.Entry( value.getValue(),
+                                                                 ( entry == null ) ? null
+                                                                                   : entry.defaultValue() ) );
+
+                recordChange( changes, value.getKey(), oldValue, value.getValue() );
+            }
+
+            publish( entries );
+            setDirty( true );
+        }
+
+        if ( changes != null )
+        {
+            fireChange( new ConfigChangeSet( this, changes ) );
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object getDefaultValue( @NonNull final String field )
+    {
+        return resolveDefaultValue( field, current().getDefaultValue( field ) );
+    }
+
+    @Override
+    public synchronized void setDefaultValue( @NonNull final String field,
+                                              @Nullable final Object object )
+    {
+        final HashTrie< ConfigSnapshot.Entry > entries = current().getEntries();
+        final ConfigSnapshot.Entry             entry   = entries.get( field );
+
+        publish( entries.put( field, new ConfigSnapshot.Entry( ( entry == null ) ? null
+                                                                                 : entry.value(),
+                                                               object ) ) );
+        setDirty( true );
+    }
+
+    @Override
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    {
+        putAllDefaults( ( defaultValues == null ) ? nullMapping() : defaultValues );
+    }
+
+    /**
+     * Puts every field and default value of a map into the config field and value map as one new
+     * version. Values of existing fields are kept.
+     *
+     * @param defaultValues The fields and default values to put into the config field and value
+     *                      map.
+     */
+    @Override
+    public synchronized void putAllDefaults( @NonNull final Map< String, ? > defaultValues )
+    {
+        final HashTrie< ConfigSnapshot.Entry > oldEntries = current().getEntries();
+        HashTrie< ConfigSnapshot.Entry >       entries    = oldEntries;
+
+        for ( final Map.Entry< String, ? > defaultValue : defaultValues.entrySet() )
+        {
+            final ConfigSnapshot.Entry entry = oldEntries.get( defaultValue.getKey() );
+
+            entries = entries.put( defaultValue.getKey(),
+                                   new ConfigSnapshot.Entry( ( entry == null ) ? null
+                                                                               : entry.value(),
+                                                             defaultValue.getValue() ) );
+        }
+
+        publish( entries );
+        setDirty( true );
+    }
+
+    /**
+     * Returns a map from every field of the latest version to null.
+     *
+     * @return The map from every field of the latest version to null.
+     */
+    @NonNull
+    private Map< String, Object > nullMapping()
+    {
+        final Map< String, Object > nulls = new HashMap<>();
+
+        current().getEntries().forEach( ( field, entry ) -> nulls.put( field, null ) );
+
+        return nulls;
+    }
+
+}
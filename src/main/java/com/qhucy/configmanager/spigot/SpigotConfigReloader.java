@@ -0,0 +1,179 @@
+package com.qhucy.configmanager.spigot;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.schema.ConfigSchema;
+import lombok.NonNull;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Class that reloads a live ConfigManager of a Spigot plugin without parsing on the main thread.
+ * The config file is parsed and validated on an asynchronous scheduler task, and the resulting
+ * snapshot is applied to the live ConfigManager in a single main thread task. Readers on the main
+ * thread therefore see either the old or the new config, never a partially loaded one.
+ * <p>
+ * Only one reload runs at a time. Requesting a reload while one is running returns the future of
+ * the running reload.
+ *
+ * @see ConfigManager#reloadFrom(ConfigManager)
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class SpigotConfigReloader
+{
+
+    // The plugin that owns the scheduler tasks.
+    private final Plugin        plugin;
+    // The live ConfigManager that reloads are applied to.
+    private final ConfigManager configManager;
+    // The config file that is reloaded.
+    private final File          configFile;
+
+    // The future of the running reload, null if no reload is running.
+    private CompletableFuture< ConfigManager > runningReload;
+
+    /**
+     * Instantiates a SpigotConfigReloader for a live ConfigManager.
+     *
+     * @param plugin        The plugin that owns the scheduler tasks.
+     * @param configManager The live ConfigManager that reloads are applied to.
+     * @param configFile    The config file that is reloaded.
+     */
+    public SpigotConfigReloader( @NonNull final Plugin plugin,
+                                 @NonNull final ConfigManager configManager,
+                                 @NonNull final File configFile )
+    {
+        this.plugin        = plugin;
+        this.configManager = configManager;
+        this.configFile    = configFile;
+    }
+
+    /**
+     * Returns the live ConfigManager that reloads are applied to.
+     *
+     * @return The live ConfigManager that reloads are applied to.
+     */
+    @NonNull
+    public ConfigManager getConfigManager()
+    {
+        return configManager;
+    }
+
+    /**
+     * Reloads the config file without validation.
+     *
+     * @return The future of the live ConfigManager, completed on the main thread once the reload
+     * was applied.
+     */
+    @NonNull
+    public CompletableFuture< ConfigManager > reload()
+    {
+        return reload( loaded -> true );
+    }
+
+    /**
+     * Reloads the config file. The freshly loaded ConfigManager is validated against the schema of
+     * the live ConfigManager, if it has one, and the validator runs against it, both on the
+     * asynchronous task. If it returns false or the file cannot be loaded, the live
+     * ConfigManager is left untouched and the future completes exceptionally.
+     *
+     * @param validator The validator of the freshly loaded ConfigManager.
+     *
+     * @return The future of the live ConfigManager, completed on the main thread once the reload
+     * was applied.
+     */
+    @NonNull
+    public synchronized CompletableFuture< ConfigManager > reload( @NonNull final Predicate< ConfigManager > validator )
+    {
+        if ( runningReload != null )
+        {
+            return runningReload;
+        }
+
+        final CompletableFuture< ConfigManager > future    = new CompletableFuture<>();
+        final BukkitScheduler                    scheduler = plugin.getServer().getScheduler();
+
+        runningReload = future;
+
+        future.whenComplete( ( result, throwable ) -> finishReload( future ) );
+
+        scheduler.runTaskAsynchronously( plugin, () ->
+        {
+            final ConfigSchema  schema = configManager.getSchema();
+            final ConfigManager loaded;
+
+            try
+            {
+                // Validated here, so that applying the reload on the main thread only swaps maps.
+                loaded = ( schema == null )
+                         ? ConfigManager.loadFromFile( configFile, configManager.getLogger() )
+                         : ConfigManager.loadFromFile( configFile, configManager.getLogger(),
+                                                       schema );
+
+                if ( !validator.test( loaded ) )
+                {
+                    throw new IllegalStateException( "Reloaded config '" + configFile.getAbsolutePath() + "' failed validation." );
+                }
+            }
+            catch ( final Exception exception )
+            {
+                future.completeExceptionally( exception );
+
+                return;
+            }
+
+            try
+            {
+                scheduler.runTask( plugin, () -> applyReload( loaded, future ) );
+            }
+            catch ( final RuntimeException exception )
+            {
+                // The plugin was disabled while the config file was loading.
+                future.completeExceptionally( exception );
+            }
+        } );
+
+        return future;
+    }
+
+    /**
+     * Applies a freshly loaded ConfigManager to the live ConfigManager. Runs on the main thread.
+     *
+     * @param loaded The freshly loaded ConfigManager.
+     * @param future The future of the reload.
+     */
+    private void applyReload( @NonNull final ConfigManager loaded,
+                              @NonNull final CompletableFuture< ConfigManager > future )
+    {
+        try
+        {
+            configManager.reloadFrom( loaded );
+        }
+        catch ( final RuntimeException exception )
+        {
+            future.completeExceptionally( exception );
+
+            return;
+        }
+
+        future.complete( configManager );
+    }
+
+    /**
+     * Clears the running reload once it completed.
+     *
+     * @param future The future of the completed reload.
+     */
+    private synchronized void finishReload( @NonNull final CompletableFuture< ConfigManager > future )
+    {
+        if ( runningReload == future )
+        {
+            runningReload = null;
+        }
+    }
+
+}
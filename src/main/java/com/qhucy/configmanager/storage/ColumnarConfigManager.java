@@ -0,0 +1,929 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChange;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.metrics.ConfigFootprint;
+import com.qhucy.configmanager.metrics.ConfigFootprint.Category;
+import com.qhucy.configmanager.path.ConfigPath;
+import com.qhucy.configmanager.value.ConfigConverters;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * ConfigManager that stores its config field and value map in columns instead of one HashMap node
+ * and one ConfigValue object per field. Fields are kept in an open-addressing hash table of keys
+ * with parallel columns for the values and default values. Integer, Long, and Double values are
+ * stored unboxed in a primitive column, which is only allocated once the first number is stored.
+ * <p>
+ * ConfigValues are only created on demand. The map returned by getValues and the ConfigValues
+ * returned by getConfigValue are views that read and write the columns, so ConfigValues put into
+ * the map are copied into the columns rather than stored.
+ * <p>
+ * Like ConfigManager, this class is not thread-safe.
+ *
+ * @see ConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class ColumnarConfigManager
+        extends ConfigManager
+{
+
+    // The kind of a value stored in the object column.
+    private final static byte OBJECT = 0;
+    // The kind of an Integer value stored in the primitive column.
+    private final static byte INT    = 1;
+    // The kind of a Long value stored in the primitive column.
+    private final static byte LONG   = 2;
+    // The kind of a Double value stored in the primitive column.
+    private final static byte DOUBLE = 3;
+
+    // The capacity of an empty table.
+    private final static int INITIAL_CAPACITY = 16;
+
+    // None of the fields below have initializers, since the super constructors already store
+    // fields before the initializers of this class would run.
+
+    // The key column, where a null key marks a free slot.
+    private String[]  keys;
+    // The value column for values that are not stored in the primitive column.
+    private Object[]  values;
+    // The default value column.
+    private Object[]  defaults;
+    // The primitive value column, null until the first number is stored.
+    private long[]    numbers;
+    // The kind of every value, null until the first number is stored.
+    private byte[]    kinds;
+    // The number of fields.
+    private int       size;
+    // The map view of the columns.
+    private ColumnMap view;
+
+    /**
+     * Instantiates a ColumnarConfigManager from a config field and value map.
+     *
+     * @param values       The config field and value map.
+     * @param configSource The source of the config field and value map.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public ColumnarConfigManager( @Nullable final HashMap< String, ConfigValue > values,
+                                  @NonNull final ConfigSource configSource,
+                                  @NonNull final Logger logger )
+    {
+        super( values, configSource, logger );
+    }
+
+    /**
+     * Instantiates a ColumnarConfigManager from an inputted array of config fields, values, and
+     * default values.
+     *
+     * @param configSource           The source of the config field and value map.
+     * @param logger                 The accessing plugin's logger that is used to log missing and
+     *                               invalid config values.
+     * @param fieldValueDefaultValue Alternating String fields and its respective value and default
+     *                               value to build a new config field and value map.
+     */
+    public ColumnarConfigManager( @NonNull final ConfigSource configSource,
+                                  @NonNull final Logger logger,
+                                  @Nullable final Object... fieldValueDefaultValue )
+    {
+        super( configSource, logger, fieldValueDefaultValue );
+    }
+
+    /**
+     * Instantiates a ColumnarConfigManager holding a copy of the config field and value map,
+     * comments, source, and logger of another ConfigManager.
+     *
+     * @param configManager The ConfigManager to copy.
+     */
+    public ColumnarConfigManager( @NonNull final ConfigManager configManager )
+    {
+        super( new HashMap<>( configManager.getValues() ), configManager.getConfigSource(),
+               configManager.getLogger() );
+
+        setComments( configManager.getComments() );
+    }
+
+    /**
+     * Returns the slot of a field in the key column.
+     *
+     * @param field The field.
+     *
+     * @return The slot of the field, or -1 if the field does not exist.
+     */
+    private int indexOf( @NonNull final Object field )
+    {
+        if ( keys == null )
+        {
+            return -1;
+        }
+
+        final int mask = keys.length - 1;
+
+        for ( int slot = hash( field ) & mask; ; slot = ( slot + 1 ) & mask )
+        {
+            final String key = keys[ slot ];
+
+            if ( key == null )
+            {
+                return -1;
+            }
+            else if ( key == field || key.equals( field ) )
+            {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of a field in the key column, adding the field if it does not exist.
+     *
+     * @param field The field.
+     *
+     * @return The slot of the field.
+     */
+    private int slotFor( @NonNull final String field )
+    {
+        ensureCapacity( size + 1 );
+
+        final int mask = keys.length - 1;
+
+        for ( int slot = hash( field ) & mask; ; slot = ( slot + 1 ) & mask )
+        {
+            final String key = keys[ slot ];
+
+            if ( key == null )
+            {
+                keys[ slot ] = ConfigPath.intern( field );
+                ++size;
+
+                if ( kinds != null )
+                {
+                    kinds[ slot ] = OBJECT;
+                }
+
+                return slot;
+            }
+            else if ( key == field || key.equals( field ) )
+            {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Grows the columns so that they hold a number of fields at a load factor of at most 3/4.
+     *
+     * @param expectedSize The number of fields the columns must hold.
+     */
+    private void ensureCapacity( final int expectedSize )
+    {
+        if ( keys == null )
+        {
+            allocate( tableSizeFor( Math.max( expectedSize, INITIAL_CAPACITY * 3 / 4 ) ) );
+        }
+        else if ( expectedSize > keys.length * 3 / 4 )
+        {
+            final String[] oldKeys     = keys;
+            final Object[] oldValues   = values;
+            final Object[] oldDefaults = defaults;
+            final long[]   oldNumbers  = numbers;
+            final byte[]   oldKinds    = kinds;
+
+            allocate( tableSizeFor( expectedSize ) );
+
+            if ( oldNumbers != null )
+            {
+                numbers = new long[ keys.length ];
+                kinds   = new byte[ keys.length ];
+            }
+
+            final int mask = keys.length - 1;
+
+            for ( int oldSlot = 0; oldSlot < oldKeys.length; ++oldSlot )
+            {
+                if ( oldKeys[ oldSlot ] == null )
+                {
+                    continue;
+                }
+
+                int slot = hash( oldKeys[ oldSlot ] ) & mask;
+
+                while ( keys[ slot ] != null )
+                {
+                    slot = ( slot + 1 ) & mask;
+                }
+
+                keys[ slot ]     = oldKeys[ oldSlot ];
+                values[ slot ]   = oldValues[ oldSlot ];
+                defaults[ slot ] = oldDefaults[ oldSlot ];
+
+                if ( oldNumbers != null )
+                {
+                    numbers[ slot ] = oldNumbers[ oldSlot ];
+                    kinds[ slot ]   = oldKinds[ oldSlot ];
+                }
+
+                ++size;
+            }
+        }
+    }
+
+    /**
+     * Replaces the columns with empty columns of a given capacity.
+     *
+     * @param capacity The capacity of the new columns, a power of two.
+     */
+    private void allocate( final int capacity )
+    {
+        keys     = new String[ capacity ];
+        values   = new Object[ capacity ];
+        defaults = new Object[ capacity ];
+        numbers  = null;
+        kinds    = null;
+        size     = 0;
+    }
+
+    /**
+     * Removes the field at a slot and shifts the following fields of its probe sequence back, so
+     * that no tombstones are needed.
+     *
+     * @param slot The slot of the field to remove.
+     */
+    private void removeAt( int slot )
+    {
+        final int mask = keys.length - 1;
+
+        for ( int next = ( slot + 1 ) & mask; keys[ next ] != null; next = ( next + 1 ) & mask )
+        {
+            final int home = hash( keys[ next ] ) & mask;
+
+            // Moves the field back if its home slot does not lie cyclically in (slot, next].
+            if ( ( ( next - home ) & mask ) >= ( ( next - slot ) & mask ) )
+            {
+                moveSlot( next, slot );
+                slot = next;
+            }
+        }
+
+        keys[ slot ]     = null;
+        values[ slot ]   = null;
+        defaults[ slot ] = null;
+        --size;
+
+        if ( kinds != null )
+        {
+            kinds[ slot ] = OBJECT;
+        }
+    }
+
+    /**
+     * Copies the field at one slot to another slot.
+     *
+     * @param from The slot to copy from.
+     * @param to   The slot to copy to.
+     */
+    private void moveSlot( final int from, final int to )
+    {
+        keys[ to ]     = keys[ from ];
+        values[ to ]   = values[ from ];
+        defaults[ to ] = defaults[ from ];
+
+        if ( numbers != null )
+        {
+            numbers[ to ] = numbers[ from ];
+            kinds[ to ]   = kinds[ from ];
+        }
+    }
+
+    /**
+     * Returns the value at a slot, boxing it if it is stored in the primitive column.
+     *
+     * @param slot The slot.
+     *
+     * @return The value at the slot.
+     */
+    @Nullable
+    private Object readValue( final int slot )
+    {
+        if ( kinds == null )
+        {
+            return values[ slot ];
+        }
+
+        return switch ( kinds[ slot ] )
+        {
+            case INT -> ( int ) numbers[ slot ];
+            case LONG -> numbers[ slot ];
+            case DOUBLE -> Double.longBitsToDouble( numbers[ slot ] );
+            default -> values[ slot ];
+        };
+    }
+
+    /**
+     * Stores a value at a slot, unboxed if it is an Integer, Long, or Double.
+     *
+     * @param slot  The slot.
+     * @param value The value.
+     */
+    private void writeValue( final int slot, @Nullable final Object value )
+    {
+        final byte kind;
+
+        if ( value instanceof Integer integer )
+        {
+            kind = INT;
+            ensureNumbers()[ slot ] = integer;
+        }
+        else if ( value instanceof Long number )
+        {
+            kind = LONG;
+            ensureNumbers()[ slot ] = number;
+        }
+        else if ( value instanceof Double number )
+        {
+            kind = DOUBLE;
+            ensureNumbers()[ slot ] = Double.doubleToRawLongBits( number );
+        }
+        else
+        {
+            kind = OBJECT;
+        }
+
+        values[ slot ] = ( kind == OBJECT ) ? value : null;
+
+        if ( kinds != null )
+        {
+            kinds[ slot ] = kind;
+        }
+    }
+
+    /**
+     * Returns the primitive column, allocating it and the kind column on first use.
+     *
+     * @return The primitive column.
+     */
+    @NonNull
+    private long[] ensureNumbers()
+    {
+        if ( numbers == null )
+        {
+            numbers = new long[ keys.length ];
+            kinds   = new byte[ keys.length ];
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Returns the number of fields in the columns.
+     *
+     * @return The number of fields in the columns.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the map view of the columns. The view creates ConfigValues on demand that read and
+     * write the columns.
+     *
+     * @return The map view of the columns.
+     */
+    @Override
+    @NonNull
+    public Map< String, ConfigValue > getValues()
+    {
+        if ( view == null )
+        {
+            view = new ColumnMap();
+        }
+
+        return view;
+    }
+
+    @Override
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        // Leaves the map of the super class empty and immutable, so it never grows in the
+        // background.
+        super.setValues( Collections.emptyMap() );
+
+        // Detaches the values first, since the given map may be the view of these columns.
+        final Map< String, ConfigValue > copy = ( values == null ) ? null : detach( values );
+
+        allocate( tableSizeFor( Math.max( ( copy == null ) ? 0 : copy.size(),
+                                          INITIAL_CAPACITY * 3 / 4 ) ) );
+
+        if ( copy != null )
+        {
+            for ( final Map.Entry< String, ConfigValue > entry : copy.entrySet() )
+            {
+                store( entry.getKey(), entry.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of a config field and value map with ConfigValues that are independent of the
+     * columns.
+     *
+     * @param values The config field and value map.
+     *
+     * @return The copy of the config field and value map.
+     */
+    @NonNull
+    private static Map< String, ConfigValue > detach(
+            @NonNull final Map< String, ConfigValue > values )
+    {
+        final Map< String, ConfigValue > copy = new HashMap<>( values.size() * 4 / 3 + 1 );
+
+        for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+        {
+            final ConfigValue configValue = entry.getValue();
+            final ConfigValue detached    =
+                    ( configValue == null ) ? null : new ConfigValue( configValue.getValue(),
+                                                                      configValue.getDefaultValue() );
+
+            copy.put( entry.getKey(), detached );
+        }
+
+        return copy;
+    }
+
+    /**
+     * Copies the value and default value of a ConfigValue into the columns.
+     *
+     * @param field       The field.
+     * @param configValue The ConfigValue, null for a field without a value and default value.
+     */
+    private void store( @NonNull final String field, @Nullable final ConfigValue configValue )
+    {
+        final Object value        = ( configValue == null ) ? null : configValue.getValue();
+        final Object defaultValue = ( configValue == null ) ? null : configValue.getDefaultValue();
+        final int    slot         = slotFor( field );
+
+        writeValue( slot, value );
+        defaults[ slot ] = defaultValue;
+    }
+
+    @Override
+    @Nullable
+    public ConfigValue getConfigValue( @NonNull final String field )
+    {
+        final int slot = indexOf( field );
+
+        if ( slot < 0 )
+        {
+            logMissingConfigValue( field );
+
+            return null;
+        }
+
+        return new ColumnValue( keys[ slot ] );
+    }
+
+    @Override
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        store( field, configValue );
+        setDirty( true );
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // Reads go through the columns, never through the resolved table.
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Object getValue( @NonNull final String field )
+    {
+        final int    slot  = indexOf( field );
+        final Object value = ( slot < 0 ) ? null : readValue( slot );
+
+        if ( value != null )
+        {
+            return value;
+        }
+
+        return fallbackValue( field, ( slot < 0 ) ? null : defaults[ slot ] );
+    }
+
+    @Override
+    @Nullable
+    public Object getRawValue( @NonNull final String field )
+    {
+        final int slot = indexOf( field );
+
+        return ( slot < 0 ) ? null : readValue( slot );
+    }
+
+    @Override
+    @Nullable
+    public < T > T getAs( @NonNull final String field, @NonNull final Class< T > type )
+    {
+        // The value is read from its column, ConfigValues of this class are fresh views.
+        return ConfigConverters.convert( getValue( field ), type );
+    }
+
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        final int    slot     = slotFor( field );
+        final Object oldValue = readValue( slot );
+
+        writeValue( slot, object );
+        setDirty( true );
+
+        if ( isListening() && !Objects.equals( oldValue, object ) )
+        {
+            fireChange( ConfigChangeSet.of( this, keys[ slot ], oldValue, object ) );
+        }
+    }
+
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        putAll( ( values == null ) ? nullMapping() : values );
+    }
+
+    @Override
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        ensureCapacity( size + values.size() );
+
+        final Map< String, ConfigChange > changes = isListening() ? new LinkedHashMap<>() : null;
+
+        for ( final Map.Entry< String, ? > entry : values.entrySet() )
+        {
+            final int    slot     = slotFor( entry.getKey() );
+            final Object oldValue = readValue( slot );
+
+            writeValue( slot, entry.getValue() );
+            recordChange( changes, keys[ slot ], oldValue, entry.getValue() );
+        }
+
+        setDirty( true );
+
+        if ( changes != null )
+        {
+            fireChange( new ConfigChangeSet( this, changes ) );
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object getDefaultValue( @NonNull final String field )
+    {
+        final int slot = indexOf( field );
+
+        return resolveDefaultValue( field, ( slot < 0 ) ? null : defaults[ slot ] );
+    }
+
+    @Override
+    public void setDefaultValue( @NonNull final String field, @Nullable final Object object )
+    {
+        // The slot is found first, since finding it may replace the default value column.
+        final int slot = slotFor( field );
+
+        defaults[ slot ] = object;
+        setDirty( true );
+    }
+
+    @Override
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    {
+        putAllDefaults( ( defaultValues == null ) ? nullMapping() : defaultValues );
+    }
+
+    @Override
+    public void putAllDefaults( @NonNull final Map< String, ? > defaultValues )
+    {
+        ensureCapacity( size + defaultValues.size() );
+
+        for ( final Map.Entry< String, ? > entry : defaultValues.entrySet() )
+        {
+            final int slot = slotFor( entry.getKey() );
+
+            defaults[ slot ] = entry.getValue();
+        }
+
+        setDirty( true );
+    }
+
+    /**
+     * Returns a map of every field to null.
+     *
+     * @return A map of every field to null.
+     */
+    @NonNull
+    private Map< String, Object > nullMapping()
+    {
+        final Map< String, Object > nullMapping = new HashMap<>( size * 4 / 3 + 1 );
+
+        for ( final String key : ( keys == null ) ? new String[ 0 ] : keys )
+        {
+            if ( key != null )
+            {
+                nullMapping.put( key, null );
+            }
+        }
+
+        return nullMapping;
+    }
+
+    /**
+     * Returns an estimate of the heap bytes that the columns and comments retain. Numbers stored in
+     * the primitive column are only counted as part of the column.
+     *
+     * @return The estimate of the retained heap bytes.
+     */
+    @Override
+    @NonNull
+    public ConfigFootprint footprint()
+    {
+        final ConfigFootprint.Builder builder = new ConfigFootprint.Builder();
+
+        if ( keys != null )
+        {
+            long columnBytes = 3 * ConfigFootprint.arrayBytes( keys.length, 4 );
+
+            if ( numbers != null )
+            {
+                columnBytes += ConfigFootprint.arrayBytes( keys.length, Long.BYTES )
+                               + ConfigFootprint.arrayBytes( keys.length, 1 );
+            }
+
+            builder.add( null, Category.INDEX, columnBytes );
+
+            for ( int slot = 0; slot < keys.length; ++slot )
+            {
+                if ( keys[ slot ] != null )
+                {
+                    builder.addField( keys[ slot ], values[ slot ], defaults[ slot ], 0 );
+                }
+            }
+        }
+
+        return builder.addComments( getComments() ).build();
+    }
+
+    /**
+     * Returns the spread hash of a field.
+     *
+     * @param field The field.
+     *
+     * @return The spread hash of the field.
+     */
+    private static int hash( @NonNull final Object field )
+    {
+        final int hash = field.hashCode();
+
+        return hash ^ ( hash >>> 16 );
+    }
+
+    /**
+     * Returns the smallest power of two capacity that holds a number of fields at a load factor of
+     * at most 3/4.
+     *
+     * @param expectedSize The number of fields.
+     *
+     * @return The capacity.
+     */
+    private static int tableSizeFor( final int expectedSize )
+    {
+        final long minimum = ( long ) expectedSize * 4 / 3 + 1;
+
+        if ( minimum > ( 1 << 30 ) )
+        {
+            throw new IllegalArgumentException(
+                    "Unable to store " + expectedSize + " fields in columns." );
+        }
+
+        return Math.max( INITIAL_CAPACITY, Integer.highestOneBit( ( int ) minimum - 1 ) << 1 );
+    }
+
+    /**
+     * ConfigValue view of a field that reads and writes the columns.
+     */
+    private final class ColumnValue
+            extends ConfigValue
+    {
+
+        // The field of the view, null while the super constructor runs.
+        private final String field;
+
+        /**
+         * Instantiates a ColumnValue.
+         *
+         * @param field The field of the view.
+         */
+        private ColumnValue( @NonNull final String field )
+        {
+            super( null, null );
+
+            this.field = field;
+        }
+
+        @Override
+        @Nullable
+        public Object getValue()
+        {
+            final int slot = indexOf( field );
+
+            return ( slot < 0 ) ? null : readValue( slot );
+        }
+
+        @Override
+        public void setValue( @Nullable final Object value )
+        {
+            // The super constructor initializes the view before the field is known.
+            if ( field != null )
+            {
+                writeValue( slotFor( field ), value );
+            }
+        }
+
+        @Override
+        @Nullable
+        public Object getDefaultValue()
+        {
+            final int slot = indexOf( field );
+
+            return ( slot < 0 ) ? null : defaults[ slot ];
+        }
+
+        @Override
+        public void setDefaultValue( @Nullable final Object defaultValue )
+        {
+            if ( field != null )
+            {
+                final int slot = slotFor( field );
+
+                defaults[ slot ] = defaultValue;
+            }
+        }
+
+    }
+
+    /**
+     * Map view of the columns.
+     */
+    private final class ColumnMap
+            extends AbstractMap< String, ConfigValue >
+    {
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey( @Nullable final Object key )
+        {
+            return key != null && indexOf( key ) >= 0;
+        }
+
+        @Override
+        @Nullable
+        public ConfigValue get( @Nullable final Object key )
+        {
+            final int slot = ( key == null ) ? -1 : indexOf( key );
+
+            return ( slot < 0 ) ? null : new ColumnValue( keys[ slot ] );
+        }
+
+        @Override
+        @Nullable
+        public ConfigValue put( @NonNull final String key, @Nullable final ConfigValue value )
+        {
+            final int         slot     = indexOf( key );
+            final ConfigValue previous =
+                    ( slot < 0 ) ? null : new ConfigValue( readValue( slot ), defaults[ slot ] );
+
+            store( key, value );
+
+            return previous;
+        }
+
+        @Override
+        @Nullable
+        public ConfigValue remove( @Nullable final Object key )
+        {
+            final int slot = ( key == null ) ? -1 : indexOf( key );
+
+            if ( slot < 0 )
+            {
+                return null;
+            }
+
+            final ConfigValue previous = new ConfigValue( readValue( slot ), defaults[ slot ] );
+
+            removeAt( slot );
+
+            return previous;
+        }
+
+        @Override
+        public void clear()
+        {
+            if ( keys != null )
+            {
+                Arrays.fill( keys, null );
+                Arrays.fill( values, null );
+                Arrays.fill( defaults, null );
+                size = 0;
+
+                if ( kinds != null )
+                {
+                    Arrays.fill( kinds, OBJECT );
+                }
+            }
+        }
+
+        @Override
+        @NonNull
+        public Set< Map.Entry< String, ConfigValue > > entrySet()
+        {
+            return new AbstractSet<>()
+            {
+
+                @Override
+                public int size()
+                {
+                    return size;
+                }
+
+                @Override
+                @NonNull
+                public Iterator< Map.Entry< String, ConfigValue > > iterator()
+                {
+                    return new SlotIterator();
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * Iterator over the occupied slots of the key column.
+     */
+    private final class SlotIterator
+            implements Iterator< Map.Entry< String, ConfigValue > >
+    {
+
+        // The next slot to check.
+        private int next = 0;
+
+        @Override
+        public boolean hasNext()
+        {
+            while ( keys != null && next < keys.length && keys[ next ] == null )
+            {
+                ++next;
+            }
+
+            return keys != null && next < keys.length;
+        }
+
+        @Override
+        @NonNull
+        public Map.Entry< String, ConfigValue > next()
+        {
+            if ( !hasNext() )
+            {
+                throw new NoSuchElementException();
+            }
+
+            final String field = keys[ next++ ];
+
+            return new AbstractMap.SimpleImmutableEntry<>( field, new ColumnValue( field ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,586 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.metrics.ConfigFootprint;
+import com.qhucy.configmanager.snapshot.ConfigSnapshot;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.parser.ParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * ConfigManager that drops top-level sections which were not accessed for a while, such as large
+ * loot tables that are only read occasionally. An evicted section is only held through a soft
+ * reference, so the garbage collector frees it under memory pressure, and it is transparently
+ * restored on the next access to one of its fields. If the garbage collector already freed it, the
+ * section is reloaded from the file of the ConfigSource.
+ * <p>
+ * A top-level section is the part of a field before its first dot. Only sections that match the
+ * config file are evicted: every section is dirty until the config field and value map is loaded
+ * from or saved to the file, for example through loadFromFile or reloadFrom, and a write makes its
+ * section dirty again. Dirty sections are never evicted.
+ * <p>
+ * The map returned by getValues only holds the sections that are not evicted. Call restoreAll
+ * before working on the map directly. Like ConfigManager, this class is not thread-safe.
+ *
+ * @see ConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class EvictingConfigManager
+        extends ConfigManager
+{
+
+    // The time after which a section that was not accessed is evicted.
+    private final Duration idleTime;
+
+    // None of the fields below have initializers, since the super constructors already use them.
+
+    // The state of every known top-level section.
+    private Map< String, Section > sections;
+    // The time of the last search for idle sections, in nanoseconds.
+    private long                   lastSweep;
+
+    /**
+     * Instantiates an EvictingConfigManager from a config field and value map. The sections are
+     * dirty until the map is loaded from or saved to the file of the ConfigSource.
+     *
+     * @param values       The config field and value map.
+     * @param configSource The source of the config field and value map, which evicted sections are
+     *                     reloaded from.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     * @param idleTime     The time after which a section that was not accessed is evicted.
+     */
+    public EvictingConfigManager( @Nullable final HashMap< String, ConfigValue > values,
+                                  @NonNull final ConfigSource configSource,
+                                  @NonNull final Logger logger, @NonNull final Duration idleTime )
+    {
+        super( values, configSource, logger );
+
+        if ( idleTime.isNegative() )
+        {
+            throw new IllegalArgumentException( "Parameter idleTime cannot be negative." );
+        }
+
+        this.idleTime = idleTime;
+    }
+
+    /**
+     * Loads an EvictingConfigManager from an existing file, which evicted sections are reloaded
+     * from.
+     *
+     * @param configFile The config source file.
+     * @param logger     The logger for the plugin.
+     * @param idleTime   The time after which a section that was not accessed is evicted.
+     *
+     * @return An EvictingConfigManager from an existing file.
+     */
+    @NonNull
+    public static EvictingConfigManager loadFromFile( @NonNull final File configFile,
+                                                      @NonNull final Logger logger,
+                                                      @NonNull final Duration idleTime )
+            throws IOException, ParseException
+    {
+        final EvictingConfigManager configManager =
+                new EvictingConfigManager( null, new ConfigSource( configFile ), logger, idleTime );
+
+        configManager.reloadFrom( ConfigManager.loadFromFile( configFile, logger ) );
+
+        return configManager;
+    }
+
+    /**
+     * Returns the state of every known top-level section, creating the map on first use.
+     *
+     * @return The state of every known top-level section.
+     */
+    @NonNull
+    private Map< String, Section > sections()
+    {
+        if ( sections == null )
+        {
+            sections = new HashMap<>();
+        }
+
+        return sections;
+    }
+
+    /**
+     * Restores the section of a field if it is evicted and marks it as accessed.
+     *
+     * @param field The field.
+     *
+     * @return The state of the section of the field.
+     */
+    @NonNull
+    private Section access( @NonNull final String field )
+    {
+        final long now = System.nanoTime();
+
+        // Searches for idle sections at most twice per idle time, before the accessed section is
+        // restored so that it is never evicted right away.
+        if ( idleTime != null && now - lastSweep >= idleTime.toNanos() / 2 )
+        {
+            lastSweep = now;
+            evictIdle();
+        }
+
+        final String  name    = ConfigFootprint.sectionOf( field );
+        final Section section = sections().computeIfAbsent( name, key -> new Section() );
+
+        if ( section.evicted != null )
+        {
+            restore( name, section );
+        }
+
+        section.lastAccess = now;
+
+        return section;
+    }
+
+    /**
+     * Restores the section of a field, marks it as accessed, and marks it as dirty.
+     *
+     * @param field The field that is about to be written.
+     */
+    private void write( @NonNull final String field )
+    {
+        access( field ).dirty = true;
+    }
+
+    /**
+     * Puts the fields of an evicted section back into the config field and value map, reloading
+     * them from the config file if the garbage collector freed them.
+     *
+     * @param name    The name of the section.
+     * @param section The state of the section.
+     */
+    private void restore( @NonNull final String name, @NonNull final Section section )
+    {
+        Map< String, ConfigValue > fields = section.evicted.get();
+
+        if ( fields == null )
+        {
+            reloadEvicted();
+            fields = section.evicted.get();
+        }
+
+        section.evicted = null;
+
+        if ( fields != null )
+        {
+            getValues().putAll( fields );
+        }
+    }
+
+    /**
+     * Reloads the config file and hands the fields of every evicted section that the garbage
+     * collector freed to a new soft reference.
+     */
+    private void reloadEvicted()
+    {
+        final ConfigManager loaded;
+
+        try
+        {
+            loaded = ConfigManager.loadFromFile( getConfigSource().getFileFromPath(), getLogger() );
+        }
+        catch ( final IOException exception )
+        {
+            throw new UncheckedIOException( exception );
+        }
+        catch ( final ParseException exception )
+        {
+            throw new IllegalStateException( "Unable to reload evicted config sections.",
+                                             exception );
+        }
+
+        final Map< String, Map< String, ConfigValue > > reloaded = new HashMap<>();
+
+        for ( final Map.Entry< String, ConfigValue > entry : loaded.getValues().entrySet() )
+        {
+            final String  name    = ConfigFootprint.sectionOf( entry.getKey() );
+            final Section section = sections().get( name );
+
+            if ( section != null && section.evicted != null && section.evicted.get() == null )
+            {
+                reloaded.computeIfAbsent( name, key -> new HashMap<>() )
+                        .put( entry.getKey(), entry.getValue() );
+            }
+        }
+
+        for ( final Map.Entry< String, Section > entry : sections().entrySet() )
+        {
+            final Section section = entry.getValue();
+
+            if ( section.evicted != null && section.evicted.get() == null )
+            {
+                // Sections missing from the file are restored empty.
+                section.evicted = new SoftReference<>(
+                        reloaded.getOrDefault( entry.getKey(), new HashMap<>() ) );
+            }
+        }
+    }
+
+    /**
+     * Evicts every clean section that was not accessed for the idle time.
+     *
+     * @return The number of evicted sections.
+     */
+    public int evictIdle()
+    {
+        final long                                      now     = System.nanoTime();
+        final Map< String, Map< String, ConfigValue > > evicted = new HashMap<>();
+
+        for ( final Map.Entry< String, Section > entry : sections().entrySet() )
+        {
+            final Section section = entry.getValue();
+
+            if ( section.evicted == null && !section.dirty
+                 && now - section.lastAccess >= idleTime.toNanos() )
+            {
+                evicted.put( entry.getKey(), new HashMap<>() );
+            }
+        }
+
+        if ( evicted.isEmpty() )
+        {
+            return 0;
+        }
+
+        final Iterator< Map.Entry< String, ConfigValue > > iterator =
+                getValues().entrySet().iterator();
+
+        while ( iterator.hasNext() )
+        {
+            final Map.Entry< String, ConfigValue > entry  = iterator.next();
+            final Map< String, ConfigValue >       fields =
+                    evicted.get( ConfigFootprint.sectionOf( entry.getKey() ) );
+
+            if ( fields != null )
+            {
+                fields.put( entry.getKey(), entry.getValue() );
+                iterator.remove();
+            }
+        }
+
+        for ( final Map.Entry< String, Map< String, ConfigValue > > entry : evicted.entrySet() )
+        {
+            sections().get( entry.getKey() ).evicted = new SoftReference<>( entry.getValue() );
+        }
+
+        return evicted.size();
+    }
+
+    /**
+     * Drops the soft references of all evicted sections, so that they are reloaded from the config
+     * file on their next access. This bounds the heap regardless of the garbage collector.
+     */
+    public void discardEvicted()
+    {
+        for ( final Section section : sections().values() )
+        {
+            if ( section.evicted != null )
+            {
+                section.evicted.clear();
+            }
+        }
+    }
+
+    /**
+     * Restores every evicted section.
+     */
+    public void restoreAll()
+    {
+        for ( final Map.Entry< String, Section > entry : sections().entrySet() )
+        {
+            if ( entry.getValue().evicted != null )
+            {
+                restore( entry.getKey(), entry.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Returns the number of evicted sections.
+     *
+     * @return The number of evicted sections.
+     */
+    public int getEvictedSections()
+    {
+        int evicted = 0;
+
+        for ( final Section section : sections().values() )
+        {
+            if ( section.evicted != null )
+            {
+                ++evicted;
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Returns if a top-level section is evicted.
+     *
+     * @param section The top-level section.
+     *
+     * @return If the section is evicted.
+     */
+    public boolean isEvicted( @NonNull final String section )
+    {
+        final Section state = sections().get( section );
+
+        return state != null && state.evicted != null;
+    }
+
+    /**
+     * Returns if a top-level section has writes that are not saved to the config file.
+     *
+     * @param section The top-level section.
+     *
+     * @return If the section is dirty.
+     */
+    public boolean isDirty( @NonNull final String section )
+    {
+        final Section state = sections().get( section );
+
+        return state == null || state.dirty;
+    }
+
+    @Override
+    public void setDirty( final boolean dirty )
+    {
+        super.setDirty( dirty );
+
+        // Loading or saving the whole map makes every section match the config file.
+        if ( !dirty )
+        {
+            for ( final Section section : sections().values() )
+            {
+                section.dirty = false;
+            }
+        }
+    }
+
+    @Override
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        super.setValues( values );
+
+        final long now = System.nanoTime();
+
+        sections().clear();
+
+        for ( final String field : getValues().keySet() )
+        {
+            sections().computeIfAbsent( ConfigFootprint.sectionOf( field ), key -> new Section() )
+                      .lastAccess = now;
+        }
+    }
+
+    @Override
+    public List< String > getConfigSectionFields( @NonNull final String parentField,
+                                                  final boolean fullFields,
+                                                  final boolean deepFields )
+    {
+        if ( parentField.isEmpty() )
+        {
+            restoreAll();
+        }
+        else
+        {
+            access( parentField );
+        }
+
+        return super.getConfigSectionFields( parentField, fullFields, deepFields );
+    }
+
+    @Override
+    @Nullable
+    public ConfigValue getConfigValue( @NonNull final String field )
+    {
+        access( field );
+
+        return super.getConfigValue( field );
+    }
+
+    @Override
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        write( field );
+        super.setConfigValue( field, configValue );
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // The table would keep the values of evicted sections strongly reachable.
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Object getValue( @NonNull final String field )
+    {
+        access( field );
+
+        return super.getValue( field );
+    }
+
+    @Override
+    @Nullable
+    public Object getRawValue( @NonNull final String field )
+    {
+        access( field );
+
+        return super.getRawValue( field );
+    }
+
+    @Override
+    @Nullable
+    public < T > T getAs( @NonNull final String field, @NonNull final Class< T > type )
+    {
+        access( field );
+
+        return super.getAs( field, type );
+    }
+
+    @Override
+    public void setValue( @NonNull final String field, @Nullable final Object object )
+    {
+        write( field );
+        super.setValue( field, object );
+    }
+
+    @Override
+    public void transferValues( @Nullable final HashMap< String, Object > values )
+    {
+        writeAll( ( values == null ) ? null : values.keySet() );
+        super.transferValues( values );
+    }
+
+    @Override
+    public void putAll( @NonNull final Map< String, ? > values )
+    {
+        writeAll( values.keySet() );
+        super.putAll( values );
+    }
+
+    @Override
+    @Nullable
+    public Object getDefaultValue( @NonNull final String field )
+    {
+        access( field );
+
+        return super.getDefaultValue( field );
+    }
+
+    @Override
+    public void setDefaultValue( @NonNull final String field, @Nullable final Object object )
+    {
+        write( field );
+        super.setDefaultValue( field, object );
+    }
+
+    @Override
+    public void transferDefaultValues( @Nullable final HashMap< String, Object > defaultValues )
+    {
+        writeAll( ( defaultValues == null ) ? null : defaultValues.keySet() );
+        super.transferDefaultValues( defaultValues );
+    }
+
+    @Override
+    public void putAllDefaults( @NonNull final Map< String, ? > defaultValues )
+    {
+        writeAll( defaultValues.keySet() );
+        super.putAllDefaults( defaultValues );
+    }
+
+    /**
+     * Restores and marks the sections of some fields as dirty before they are written.
+     *
+     * @param fields The fields that are about to be written, null for every field.
+     */
+    private void writeAll( @Nullable final Collection< String > fields )
+    {
+        if ( fields == null )
+        {
+            restoreAll();
+
+            for ( final Section section : sections().values() )
+            {
+                section.dirty = true;
+            }
+        }
+        else
+        {
+            for ( final String field : fields )
+            {
+                write( field );
+            }
+        }
+    }
+
+    @Override
+    public void reloadFrom( @NonNull final ConfigManager loaded )
+    {
+        // The change set is computed against every section.
+        if ( isListening() )
+        {
+            restoreAll();
+        }
+
+        super.reloadFrom( loaded );
+    }
+
+    @Override
+    @NonNull
+    public ConfigSnapshot snapshot()
+    {
+        restoreAll();
+
+        return super.snapshot();
+    }
+
+    @Override
+    public void saveToFile( @NonNull final File configFile )
+            throws IOException
+    {
+        restoreAll();
+        super.saveToFile( configFile );
+    }
+
+    /**
+     * State of a top-level section.
+     */
+    private static final class Section
+    {
+
+        // The fields of the section while it is evicted, null while it is in the config field and
+        // value map.
+        private SoftReference< Map< String, ConfigValue > > evicted;
+        // The time of the last access to the section, in nanoseconds.
+        private long                                        lastAccess = System.nanoTime();
+        // Whether the section has writes that do not match the config file.
+        private boolean                                     dirty      = true;
+
+    }
+
+}
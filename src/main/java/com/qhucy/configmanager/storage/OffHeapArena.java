@@ -0,0 +1,420 @@
+package com.qhucy.configmanager.storage;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only store of encoded config values in direct ByteBuffer chunks outside the Java heap. A
+ * stored value is addressed by a handle made of its chunk and offset, and is decoded into new
+ * objects on every load.
+ * <p>
+ * Nulls, Booleans, Integers, Longs, Floats, Doubles, Strings, and Lists and Maps of those can be
+ * encoded. Space of released values is only reclaimed by copying the live values into a new arena.
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+final class OffHeapArena
+{
+
+    // The handle of a value that is not stored in an arena.
+    final static long NONE = 0L;
+
+    // The encoding tags of the supported types.
+    private final static byte NULL   = 0;
+    private final static byte TRUE   = 1;
+    private final static byte FALSE  = 2;
+    private final static byte INT    = 3;
+    private final static byte LONG   = 4;
+    private final static byte FLOAT  = 5;
+    private final static byte DOUBLE = 6;
+    private final static byte STRING = 7;
+    private final static byte LIST   = 8;
+    private final static byte MAP    = 9;
+
+    // The size of the chunks that values are appended to.
+    private final int                   chunkSize;
+    // The chunks, where the chunk of a handle is at the index of its upper half minus one.
+    private final List< ByteBuffer >    chunks  = new ArrayList<>();
+    // The reused buffer that values are encoded into before they are copied into a chunk.
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+
+    // The chunk that values are currently appended to.
+    private ByteBuffer current;
+    // The index of the chunk that values are currently appended to.
+    private int        currentIndex;
+    // The number of bytes of all chunks.
+    private long       allocatedBytes;
+    // The number of bytes of all values that were not released.
+    private long       liveBytes;
+
+    /**
+     * Instantiates an empty OffHeapArena.
+     *
+     * @param chunkSize The size of the chunks that values are appended to.
+     */
+    OffHeapArena( final int chunkSize )
+    {
+        if ( chunkSize < Integer.BYTES )
+        {
+            throw new IllegalArgumentException( "Parameter chunkSize must be at least 4 bytes." );
+        }
+
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Encodes a value into the arena.
+     *
+     * @param value The value.
+     *
+     * @return The handle of the stored value, NONE for null and for values that cannot be encoded.
+     */
+    long store( @Nullable final Object value )
+    {
+        if ( value == null )
+        {
+            return NONE;
+        }
+
+        scratch.reset();
+
+        try
+        {
+            if ( !encode( new DataOutputStream( scratch ), value ) )
+            {
+                return NONE;
+            }
+        }
+        catch ( final IOException exception )
+        {
+            // A ByteArrayOutputStream never throws.
+            throw new UncheckedIOException( exception );
+        }
+
+        final byte[]     bytes  = scratch.toByteArray();
+        final long       handle = allocate( Integer.BYTES + bytes.length );
+        final ByteBuffer chunk  = chunkOf( handle );
+        final int        offset = offsetOf( handle );
+
+        chunk.putInt( offset, bytes.length );
+        chunk.put( offset + Integer.BYTES, bytes );
+
+        return handle;
+    }
+
+    /**
+     * Decodes the value of a handle into new objects.
+     *
+     * @param handle The handle.
+     *
+     * @return The decoded value, null for NONE.
+     */
+    @Nullable
+    Object load( final long handle )
+    {
+        if ( handle == NONE )
+        {
+            return null;
+        }
+
+        final ByteBuffer buffer = chunkOf( handle ).duplicate();
+
+        buffer.position( offsetOf( handle ) + Integer.BYTES );
+
+        return decode( buffer );
+    }
+
+    /**
+     * Marks the value of a handle as garbage.
+     *
+     * @param handle The handle, which may be NONE.
+     */
+    void release( final long handle )
+    {
+        if ( handle != NONE )
+        {
+            liveBytes -= Integer.BYTES + chunkOf( handle ).getInt( offsetOf( handle ) );
+        }
+    }
+
+    /**
+     * Copies the encoded value of a handle into another arena without decoding it.
+     *
+     * @param handle The handle, which may be NONE.
+     * @param target The arena to copy into.
+     *
+     * @return The handle of the copy in the other arena.
+     */
+    long copyTo( final long handle, @NonNull final OffHeapArena target )
+    {
+        if ( handle == NONE )
+        {
+            return NONE;
+        }
+
+        final ByteBuffer source = chunkOf( handle );
+        final int        offset = offsetOf( handle );
+        final int        length = Integer.BYTES + source.getInt( offset );
+        final long       copy   = target.allocate( length );
+
+        target.chunkOf( copy ).put( target.offsetOf( copy ), source, offset, length );
+
+        return copy;
+    }
+
+    /**
+     * Returns the number of bytes of all chunks.
+     *
+     * @return The number of bytes of all chunks.
+     */
+    long getAllocatedBytes()
+    {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the number of bytes of all values that were not released.
+     *
+     * @return The number of bytes of all values that were not released.
+     */
+    long getLiveBytes()
+    {
+        return liveBytes;
+    }
+
+    /**
+     * Reserves space for an encoded value, appending a new chunk if the current one is full. Values
+     * larger than the chunk size get a chunk of their own.
+     *
+     * @param length The number of bytes to reserve.
+     *
+     * @return The handle of the reserved space.
+     */
+    private long allocate( final int length )
+    {
+        final int index;
+        final int offset;
+
+        if ( length > chunkSize )
+        {
+            index  = addChunk( length );
+            offset = 0;
+        }
+        else
+        {
+            if ( current == null || current.remaining() < length )
+            {
+                currentIndex = addChunk( chunkSize );
+                current      = chunks.get( currentIndex );
+            }
+
+            index  = currentIndex;
+            offset = current.position();
+            current.position( offset + length );
+        }
+
+        liveBytes += length;
+
+        return ( ( long ) ( index + 1 ) << 32 ) | offset;
+    }
+
+    /**
+     * Appends a new direct chunk.
+     *
+     * @param capacity The capacity of the chunk.
+     *
+     * @return The index of the chunk.
+     */
+    private int addChunk( final int capacity )
+    {
+        chunks.add( ByteBuffer.allocateDirect( capacity ) );
+        allocatedBytes += capacity;
+
+        return chunks.size() - 1;
+    }
+
+    /**
+     * Returns the chunk of a handle.
+     *
+     * @param handle The handle.
+     *
+     * @return The chunk of the handle.
+     */
+    @NonNull
+    private ByteBuffer chunkOf( final long handle )
+    {
+        return chunks.get( ( int ) ( handle >>> 32 ) - 1 );
+    }
+
+    /**
+     * Returns the offset of a handle in its chunk.
+     *
+     * @param handle The handle.
+     *
+     * @return The offset of the handle in its chunk.
+     */
+    private int offsetOf( final long handle )
+    {
+        return ( int ) handle;
+    }
+
+    /**
+     * Writes the encoding of a value.
+     *
+     * @param output The output to write to.
+     * @param value  The value.
+     *
+     * @return If the value could be encoded.
+     *
+     * @throws IOException Never, since the output writes into memory.
+     */
+    private static boolean encode( @NonNull final DataOutputStream output,
+                                   @Nullable final Object value ) throws IOException
+    {
+        if ( value == null )
+        {
+            output.writeByte( NULL );
+        }
+        else if ( value instanceof Boolean bool )
+        {
+            output.writeByte( bool ? TRUE : FALSE );
+        }
+        else if ( value instanceof Integer integer )
+        {
+            output.writeByte( INT );
+            output.writeInt( integer );
+        }
+        else if ( value instanceof Long number )
+        {
+            output.writeByte( LONG );
+            output.writeLong( number );
+        }
+        else if ( value instanceof Float number )
+        {
+            output.writeByte( FLOAT );
+            output.writeFloat( number );
+        }
+        else if ( value instanceof Double number )
+        {
+            output.writeByte( DOUBLE );
+            output.writeDouble( number );
+        }
+        else if ( value instanceof String string )
+        {
+            final byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+
+            output.writeByte( STRING );
+            output.writeInt( bytes.length );
+            output.write( bytes );
+        }
+        else if ( value instanceof List< ? > list )
+        {
+            output.writeByte( LIST );
+            output.writeInt( list.size() );
+
+            for ( final Object element : list )
+            {
+                if ( !encode( output, element ) )
+                {
+                    return false;
+                }
+            }
+        }
+        else if ( value instanceof Map< ?, ? > map )
+        {
+            output.writeByte( MAP );
+            output.writeInt( map.size() );
+
+            for ( final Map.Entry< ?, ? > entry : map.entrySet() )
+            {
+                if ( !encode( output, entry.getKey() ) || !encode( output, entry.getValue() ) )
+                {
+                    return false;
+                }
+            }
+        }
+        else
+        {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the encoding of a value at the position of a buffer into new objects.
+     *
+     * @param buffer The buffer to read from.
+     *
+     * @return The decoded value.
+     */
+    @Nullable
+    private static Object decode( @NonNull final ByteBuffer buffer )
+    {
+        final byte tag = buffer.get();
+
+        switch ( tag )
+        {
+            case NULL:
+                return null;
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case FLOAT:
+                return buffer.getFloat();
+            case DOUBLE:
+                return buffer.getDouble();
+            case STRING:
+            {
+                final byte[] bytes = new byte[ buffer.getInt() ];
+
+                buffer.get( bytes );
+
+                return new String( bytes, StandardCharsets.UTF_8 );
+            }
+            case LIST:
+            {
+                final int            size = buffer.getInt();
+                final List< Object > list = new ArrayList<>( size );
+
+                for ( int i = 0; i < size; ++i )
+                {
+                    list.add( decode( buffer ) );
+                }
+
+                return list;
+            }
+            case MAP:
+            {
+                final int                   size = buffer.getInt();
+                final Map< Object, Object > map  = new LinkedHashMap<>( size * 4 / 3 + 1 );
+
+                for ( int i = 0; i < size; ++i )
+                {
+                    map.put( decode( buffer ), decode( buffer ) );
+                }
+
+                return map;
+            }
+            default:
+                throw new IllegalStateException( "Unknown value encoding " + tag + "." );
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.metrics.ConfigFootprint;
+import com.qhucy.configmanager.metrics.ConfigFootprint.Category;
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * ConfigManager for very large datasets that keeps its values and default values encoded in direct
+ * ByteBuffers outside the Java heap. The config field and value map on the heap only holds the
+ * field names and small ConfigValues with the handles of the encoded values, so the garbage
+ * collector does not have to trace the values themselves. Values are decoded on every read.
+ * <p>
+ * Strings, Booleans, Integers, Longs, Floats, Doubles, and Lists and Maps of those are stored off
+ * the heap. Other values are kept on the heap. Since every read decodes new objects, a returned
+ * List or Map must be set again after modifying it.
+ * <p>
+ * Overwritten values leave garbage in the off-heap chunks, which is reclaimed by compact. Like
+ * ConfigManager, this class is not thread-safe.
+ *
+ * @see ConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class OffHeapConfigManager
+        extends ConfigManager
+{
+
+    // The default size of the off-heap chunks that values are appended to.
+    public final static int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    // The arena of the current config field and value map, created by the first setValues call of
+    // the super constructors, so it has no initializer.
+    private OffHeapArena arena;
+
+    /**
+     * Instantiates an OffHeapConfigManager from a config field and value map.
+     *
+     * @param values       The config field and value map.
+     * @param configSource The source of the config field and value map.
+     * @param logger       The accessing plugin's logger that is used to log missing and invalid
+     *                     config values.
+     */
+    public OffHeapConfigManager( @Nullable final HashMap< String, ConfigValue > values,
+                                 @NonNull final ConfigSource configSource,
+                                 @NonNull final Logger logger )
+    {
+        super( values, configSource, logger );
+    }
+
+    /**
+     * Instantiates an OffHeapConfigManager from an inputted array of config fields, values, and
+     * default values.
+     *
+     * @param configSource           The source of the config field and value map.
+     * @param logger                 The accessing plugin's logger that is used to log missing and
+     *                               invalid config values.
+     * @param fieldValueDefaultValue Alternating String fields and its respective value and default
+     *                               value to build a new config field and value map.
+     */
+    public OffHeapConfigManager( @NonNull final ConfigSource configSource,
+                                 @NonNull final Logger logger,
+                                 @Nullable final Object... fieldValueDefaultValue )
+    {
+        super( configSource, logger, fieldValueDefaultValue );
+    }
+
+    /**
+     * Instantiates an OffHeapConfigManager holding a copy of the config field and value map,
+     * comments, source, and logger of another ConfigManager.
+     *
+     * @param configManager The ConfigManager to copy.
+     */
+    public OffHeapConfigManager( @NonNull final ConfigManager configManager )
+    {
+        super( new HashMap<>( configManager.getValues() ), configManager.getConfigSource(),
+               configManager.getLogger() );
+
+        setComments( configManager.getComments() );
+    }
+
+    /**
+     * Returns the arena of the current config field and value map, creating it on first use.
+     *
+     * @return The arena of the current config field and value map.
+     */
+    @NonNull
+    private OffHeapArena arena()
+    {
+        if ( arena == null )
+        {
+            arena = new OffHeapArena( DEFAULT_CHUNK_SIZE );
+        }
+
+        return arena;
+    }
+
+    @Override
+    @NonNull
+    protected ConfigValue newConfigValue( @Nullable final Object value,
+                                          @Nullable final Object defaultValue )
+    {
+        return new OffHeapValue( arena(), value, defaultValue );
+    }
+
+    /**
+     * Sets the config field and value map, encoding all of its values into a new arena. The
+     * ConfigValues of the given map are copied, so later changes to them are not reflected.
+     *
+     * @param values The config field and value map.
+     */
+    @Override
+    public void setValues( @Nullable final Map< String, ConfigValue > values )
+    {
+        final OffHeapArena target = new OffHeapArena( DEFAULT_CHUNK_SIZE );
+
+        if ( values == null )
+        {
+            super.setValues( null );
+        }
+        else
+        {
+            final HashMap< String, ConfigValue > copy = new HashMap<>( values.size() * 4 / 3 + 1 );
+
+            for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+            {
+                copy.put( entry.getKey(), copyTo( entry.getValue(), target ) );
+            }
+
+            super.setValues( copy );
+        }
+
+        // The old arena is freed once no ConfigValue of the old map references it.
+        arena = target;
+    }
+
+    @Override
+    protected boolean isResolvable()
+    {
+        // The table would keep a decoded copy of every off-heap value on the heap.
+        return false;
+    }
+
+    @Override
+    public void setConfigValue( @NonNull final String field,
+                                @Nullable final ConfigValue configValue )
+    {
+        super.setConfigValue( field, ( configValue == null ) ? null
+                                                             : copyTo( configValue, arena() ) );
+    }
+
+    /**
+     * Copies the live values of the config field and value map into a new arena, so that the space
+     * of overwritten values is freed.
+     */
+    public void compact()
+    {
+        setValues( getValues() );
+    }
+
+    /**
+     * Returns the number of off-heap bytes that the arena of the config field and value map
+     * reserved.
+     *
+     * @return The number of off-heap bytes reserved.
+     */
+    public long getOffHeapBytes()
+    {
+        return arena().getAllocatedBytes();
+    }
+
+    /**
+     * Returns the number of off-heap bytes that hold values that were not overwritten.
+     *
+     * @return The number of off-heap bytes that hold live values.
+     */
+    public long getLiveOffHeapBytes()
+    {
+        return arena().getLiveBytes();
+    }
+
+    /**
+     * Returns an estimate of the heap bytes that the config field and value map and comments
+     * retain. Values stored off the heap are not counted, see getOffHeapBytes for those.
+     *
+     * @return The estimate of the retained heap bytes.
+     */
+    @Override
+    @NonNull
+    public ConfigFootprint footprint()
+    {
+        final ConfigFootprint.Builder builder = new ConfigFootprint.Builder();
+
+        builder.add( null, Category.INDEX, ConfigFootprint.mapBytes( getValues() ) );
+
+        for ( final Map.Entry< String, ConfigValue > entry : getValues().entrySet() )
+        {
+            if ( entry.getValue() instanceof OffHeapValue offHeapValue )
+            {
+                builder.addField( entry.getKey(), offHeapValue.getHeapValue(),
+                                  offHeapValue.getHeapDefaultValue(), OffHeapValue.HEAP_BYTES );
+            }
+            else if ( entry.getValue() != null )
+            {
+                builder.addField( entry.getKey(), entry.getValue().getValue(),
+                                  entry.getValue().getDefaultValue(),
+                                  ConfigFootprint.CONFIG_VALUE_BYTES );
+            }
+        }
+
+        return builder.addComments( getComments() ).build();
+    }
+
+    /**
+     * Returns a copy of a ConfigValue with its values encoded in an arena.
+     *
+     * @param configValue The ConfigValue.
+     * @param target      The arena to encode into.
+     *
+     * @return The copy of the ConfigValue.
+     */
+    @NonNull
+    private static OffHeapValue copyTo( @Nullable final ConfigValue configValue,
+                                        @NonNull final OffHeapArena target )
+    {
+        if ( configValue instanceof OffHeapValue offHeapValue )
+        {
+            return offHeapValue.copyTo( target );
+        }
+        else if ( configValue == null )
+        {
+            return new OffHeapValue( target, null, null );
+        }
+
+        return new OffHeapValue( target, configValue.getValue(), configValue.getDefaultValue() );
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.value.ConfigValue;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * ConfigValue that keeps its value and default value encoded in an OffHeapArena and decodes them
+ * on every read. Values that the arena cannot encode are kept on the heap instead.
+ * <p>
+ * Since every read decodes new objects, modifying a returned List or Map does not change the
+ * stored value. Set the modified value again to store it.
+ *
+ * @see OffHeapArena
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+final class OffHeapValue
+        extends ConfigValue
+{
+
+    // The heap bytes of an OffHeapValue with its four references and two handles.
+    final static long HEAP_BYTES = 48;
+
+    // The arena holding the encoded values, null while the super constructor runs.
+    private final OffHeapArena arena;
+
+    // The handle of the encoded value, NONE if the value is null or kept on the heap.
+    private long valueHandle;
+    // The handle of the encoded default value, NONE if it is null or kept on the heap.
+    private long defaultHandle;
+
+    /**
+     * Instantiates an OffHeapValue from a value and default value.
+     *
+     * @param arena        The arena to encode the values into.
+     * @param value        The value for the field in a config field and value map.
+     * @param defaultValue The default value for the field in a config field and value map.
+     */
+    OffHeapValue( @NonNull final OffHeapArena arena, @Nullable final Object value,
+                  @Nullable final Object defaultValue )
+    {
+        super( null, null );
+
+        this.arena = arena;
+
+        setValue( value );
+        setDefaultValue( defaultValue );
+    }
+
+    @Override
+    @Nullable
+    public Object getValue()
+    {
+        return ( valueHandle == OffHeapArena.NONE ) ? super.getValue() : arena.load( valueHandle );
+    }
+
+    @Override
+    public void setValue( @Nullable final Object value )
+    {
+        // The super constructor only stores nulls.
+        if ( arena == null )
+        {
+            super.setValue( value );
+
+            return;
+        }
+
+        arena.release( valueHandle );
+        valueHandle = arena.store( value );
+
+        super.setValue( ( valueHandle == OffHeapArena.NONE ) ? value : null );
+    }
+
+    @Override
+    @Nullable
+    public Object getDefaultValue()
+    {
+        return ( defaultHandle == OffHeapArena.NONE ) ? super.getDefaultValue()
+                                                      : arena.load( defaultHandle );
+    }
+
+    @Override
+    public void setDefaultValue( @Nullable final Object defaultValue )
+    {
+        if ( arena == null )
+        {
+            super.setDefaultValue( defaultValue );
+
+            return;
+        }
+
+        arena.release( defaultHandle );
+        defaultHandle = arena.store( defaultValue );
+
+        super.setDefaultValue( ( defaultHandle == OffHeapArena.NONE ) ? defaultValue : null );
+    }
+
+    /**
+     * Returns the value if it is kept on the heap.
+     *
+     * @return The value if it is kept on the heap, otherwise null.
+     */
+    @Nullable
+    Object getHeapValue()
+    {
+        return super.getValue();
+    }
+
+    /**
+     * Returns the default value if it is kept on the heap.
+     *
+     * @return The default value if it is kept on the heap, otherwise null.
+     */
+    @Nullable
+    Object getHeapDefaultValue()
+    {
+        return super.getDefaultValue();
+    }
+
+    /**
+     * Returns a copy of this OffHeapValue in another arena. Encoded values are copied without
+     * decoding them.
+     *
+     * @param target The arena to copy into.
+     *
+     * @return The copy in the other arena.
+     */
+    @NonNull
+    OffHeapValue copyTo( @NonNull final OffHeapArena target )
+    {
+        // Only values kept on the heap are passed, the arena does not encode them again.
+        final OffHeapValue copy = new OffHeapValue( target, super.getValue(),
+                                                    super.getDefaultValue() );
+
+        copy.valueHandle   = arena.copyTo( valueHandle, target );
+        copy.defaultHandle = arena.copyTo( defaultHandle, target );
+
+        return copy;
+    }
+
+}
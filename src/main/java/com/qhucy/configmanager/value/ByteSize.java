@@ -0,0 +1,113 @@
+package com.qhucy.configmanager.value;
+
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Size in bytes read from a config value such as "512", "64KB", "1.5 MB", or "2GiB". Units are
+ * powers of 1024, with or without the "i", and are case-insensitive.
+ *
+ * @param bytes The number of bytes.
+ *
+ * @see ConfigConverters
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public record ByteSize( long bytes )
+{
+
+    // The unit suffixes, indexed by their power of 1024.
+    private final static String[] UNITS = { "B", "KB", "MB", "GB", "TB", "PB" };
+
+    /**
+     * Instantiates a ByteSize.
+     *
+     * @param bytes The number of bytes.
+     *
+     * @throws IllegalArgumentException If the number of bytes is negative.
+     */
+    public ByteSize
+    {
+        if ( bytes < 0 )
+        {
+            throw new IllegalArgumentException( "Parameter bytes cannot be negative." );
+        }
+    }
+
+    /**
+     * Parses a ByteSize from text.
+     *
+     * @param text The text, a number followed by an optional unit.
+     *
+     * @return The parsed ByteSize.
+     *
+     * @throws IllegalArgumentException If the text is not a size in bytes.
+     */
+    @NonNull
+    public static ByteSize parse( @NonNull final CharSequence text )
+    {
+        final String trimmed = text.toString().trim().toUpperCase( Locale.ROOT ).replace( "I", "" );
+        int          end     = trimmed.length();
+
+        while ( end > 0 && Character.isLetter( trimmed.charAt( end - 1 ) ) )
+        {
+            --end;
+        }
+
+        final String unit  = trimmed.substring( end );
+        final int    power = unit.isEmpty() ? 0 : indexOfUnit( unit );
+
+        if ( power < 0 || end == 0 )
+        {
+            throw new IllegalArgumentException( "Value '" + text + "' is not a byte size." );
+        }
+
+        final double number = Double.parseDouble( trimmed.substring( 0, end ).trim() );
+        final double bytes  = number * Math.pow( 1024, power );
+
+        if ( !( bytes >= 0 && bytes < Long.MAX_VALUE ) )
+        {
+            throw new IllegalArgumentException( "Value '" + text + "' is out of range." );
+        }
+
+        return new ByteSize( Math.round( bytes ) );
+    }
+
+    /**
+     * Returns the power of 1024 of a unit suffix.
+     *
+     * @param unit The upper case unit suffix without "i".
+     *
+     * @return The power of 1024, -1 for an unknown unit.
+     */
+    private static int indexOfUnit( @NonNull final String unit )
+    {
+        for ( int i = 0; i < UNITS.length; ++i )
+        {
+            if ( UNITS[ i ].equals( unit ) || ( i > 0 && UNITS[ i ].startsWith( unit ) ) )
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    @NonNull
+    public String toString()
+    {
+        int  power = 0;
+        long value = bytes;
+
+        while ( power < UNITS.length - 1 && value >= 1024 && value % 1024 == 0 )
+        {
+            value /= 1024;
+            ++power;
+        }
+
+        return value + UNITS[ power ];
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.qhucy.configmanager.value;
+
+import lombok.NonNull;
+
+/**
+ * Converter of a raw config value, as produced by the YAML, TOML, or JSON parser, to a typed
+ * value.
+ *
+ * @param <T> The type that the converter produces.
+ *
+ * @see ConfigConverters
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@FunctionalInterface
+public interface ConfigConverter< T >
+{
+
+    /**
+     * Converts a raw config value to the type of the converter.
+     *
+     * @param value The raw config value.
+     *
+     * @return The converted value.
+     *
+     * @throws IllegalArgumentException If the value cannot be converted.
+     */
+    @NonNull
+    T convert( @NonNull final Object value );
+
+}
@@ -0,0 +1,357 @@
+package com.qhucy.configmanager.value;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the converters from raw config values to typed values. YAML, TOML, and JSON parsers
+ * differ in which boxed number type they produce and often leave values such as durations as
+ * text, so every typed read goes through the converter registered for its type.
+ * <p>
+ * Converters are registered for String, the boxed primitives, Duration, UUID, and ByteSize. Enums
+ * are converted by constant name without registering them. Since a ConfigValue caches converted
+ * values by type, a converter cannot be replaced once registered.
+ *
+ * @see ConfigValue#getAs(Class)
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigConverters
+{
+
+    // The registered converter of every type.
+    private final static Map< Class< ? >, ConfigConverter< ? > > CONVERTERS =
+            new ConcurrentHashMap<>();
+
+    // The pattern of a duration part such as "5s" in "1m 5s".
+    private final static Pattern DURATION_PART = Pattern.compile( "(\\d+)\\s*(ms|s|m|h|d)" );
+
+    // The cached constant name lookup table of every enum class.
+    private final static ClassValue< Map< String, Object > > ENUM_CONSTANTS = new ClassValue<>()
+    {
+        @Override
+        protected Map< String, Object > computeValue( final Class< ? > type )
+        {
+            final Object[]              constants = type.getEnumConstants();
+            final Map< String, Object > lookup    = new HashMap<>( constants.length * 2 );
+
+            for ( final Object constant : constants )
+            {
+                lookup.put( ( ( Enum< ? > ) constant ).name(), constant );
+            }
+
+            return lookup;
+        }
+    };
+
+    static
+    {
+        CONVERTERS.put( String.class, String::valueOf );
+        CONVERTERS.put( Integer.class, value -> Math.toIntExact( toLong( value ) ) );
+        CONVERTERS.put( Long.class, ConfigConverters::toLong );
+        CONVERTERS.put( Short.class, value -> ( short ) toIntegral( value, Short.MIN_VALUE,
+                                                                     Short.MAX_VALUE ) );
+        CONVERTERS.put( Byte.class, value -> ( byte ) toIntegral( value, Byte.MIN_VALUE,
+                                                                   Byte.MAX_VALUE ) );
+        CONVERTERS.put( Double.class, ConfigConverters::toDouble );
+        CONVERTERS.put( Float.class, value -> ( float ) toDouble( value ) );
+        CONVERTERS.put( Boolean.class, ConfigConverters::toBoolean );
+        CONVERTERS.put( Character.class, ConfigConverters::toCharacter );
+        CONVERTERS.put( Duration.class, ConfigConverters::toDuration );
+        CONVERTERS.put( UUID.class, value -> UUID.fromString( value.toString().trim() ) );
+        CONVERTERS.put( ByteSize.class, value -> ( value instanceof final Number number )
+                                                 ? new ByteSize( toLong( number ) )
+                                                 : ByteSize.parse( value.toString() ) );
+    }
+
+    /**
+     * Static utility class.
+     */
+    private ConfigConverters()
+    {
+    }
+
+    /**
+     * Registers the converter of a type.
+     *
+     * @param type      The type that the converter produces.
+     * @param converter The converter.
+     * @param <T>       The type that the converter produces.
+     *
+     * @throws IllegalArgumentException If a converter is already registered for the type.
+     */
+    public static < T > void register( @NonNull final Class< T > type,
+                                       @NonNull final ConfigConverter< ? extends T > converter )
+    {
+        if ( CONVERTERS.putIfAbsent( boxed( type ), converter ) != null )
+        {
+            throw new IllegalArgumentException( "A converter for " + type.getName()
+                                                + " is already registered." );
+        }
+    }
+
+    /**
+     * Returns if a value of a type can be converted to, either through a registered converter or
+     * because the type is an enum.
+     *
+     * @param type The type.
+     *
+     * @return If values can be converted to the type.
+     */
+    public static boolean canConvert( @NonNull final Class< ? > type )
+    {
+        return type.isEnum() || CONVERTERS.containsKey( boxed( type ) );
+    }
+
+    /**
+     * Converts a raw config value to a type. Values that already are of the type are returned as
+     * is.
+     *
+     * @param value The raw config value.
+     * @param type  The type to convert to, primitive types convert to their boxed type.
+     * @param <T>   The type to convert to.
+     *
+     * @return The converted value, null if the raw value is null.
+     *
+     * @throws IllegalArgumentException If the value cannot be converted to the type.
+     */
+    @Nullable
+    @SuppressWarnings( "unchecked" )
+    public static < T > T convert( @Nullable final Object value, @NonNull final Class< T > type )
+    {
+        final Class< ? > boxedType = boxed( type );
+
+        if ( value == null || boxedType.isInstance( value ) )
+        {
+            return ( T ) value;
+        }
+
+        final ConfigConverter< ? > converter = CONVERTERS.get( boxedType );
+
+        try
+        {
+            if ( converter != null )
+            {
+                return ( T ) converter.convert( value );
+            }
+            else if ( type.isEnum() )
+            {
+                return ( T ) toConstant( value, type );
+            }
+        }
+        catch ( final ArithmeticException | DateTimeParseException exception )
+        {
+            throw new IllegalArgumentException( "Value '" + value + "' cannot be converted to "
+                                                + type.getName() + ".", exception );
+        }
+
+        throw new IllegalArgumentException( "No converter is registered for " + type.getName()
+                                            + "." );
+    }
+
+    /**
+     * Returns the boxed type of a primitive type, or the type itself.
+     *
+     * @param type The type.
+     *
+     * @return The boxed type.
+     */
+    @NonNull
+    static Class< ? > boxed( @NonNull final Class< ? > type )
+    {
+        return type.isPrimitive() ? MethodType.methodType( type ).wrap().returnType() : type;
+    }
+
+    /**
+     * Converts a whole number or numeric text to a long.
+     *
+     * @param value The raw config value.
+     *
+     * @return The long value.
+     */
+    private static long toLong( @NonNull final Object value )
+    {
+        if ( value instanceof final Number number )
+        {
+            final double doubleValue = number.doubleValue();
+
+            if ( !( number instanceof Long ) && doubleValue != Math.rint( doubleValue ) )
+            {
+                throw new IllegalArgumentException( "Value '" + value + "' is not whole." );
+            }
+
+            return ( number instanceof Double || number instanceof Float )
+                   ? ( long ) doubleValue : number.longValue();
+        }
+
+        return Long.parseLong( value.toString().trim() );
+    }
+
+    /**
+     * Converts a whole number or numeric text to a long within a range.
+     *
+     * @param value The raw config value.
+     * @param min   The smallest allowed value.
+     * @param max   The largest allowed value.
+     *
+     * @return The long value.
+     */
+    private static long toIntegral( @NonNull final Object value, final long min, final long max )
+    {
+        final long longValue = toLong( value );
+
+        if ( longValue < min || longValue > max )
+        {
+            throw new IllegalArgumentException( "Value '" + value + "' is out of range." );
+        }
+
+        return longValue;
+    }
+
+    /**
+     * Converts a number or numeric text to a double.
+     *
+     * @param value The raw config value.
+     *
+     * @return The double value.
+     */
+    private static double toDouble( @NonNull final Object value )
+    {
+        return ( value instanceof final Number number ) ? number.doubleValue()
+                                                        : Double.parseDouble(
+                                                                value.toString().trim() );
+    }
+
+    /**
+     * Converts text such as "true", "yes", or "off" to a Boolean.
+     *
+     * @param value The raw config value.
+     *
+     * @return The Boolean value.
+     */
+    @NonNull
+    private static Boolean toBoolean( @NonNull final Object value )
+    {
+        return switch ( value.toString().trim().toLowerCase( Locale.ROOT ) )
+                {
+                    case "true", "yes", "on" -> Boolean.TRUE;
+                    case "false", "no", "off" -> Boolean.FALSE;
+                    default -> throw new IllegalArgumentException( "Value '" + value
+                                                                   + "' is not a boolean." );
+                };
+    }
+
+    /**
+     * Converts text of a single character to a Character.
+     *
+     * @param value The raw config value.
+     *
+     * @return The Character value.
+     */
+    @NonNull
+    private static Character toCharacter( @NonNull final Object value )
+    {
+        final String text = value.toString();
+
+        if ( text.length() != 1 )
+        {
+            throw new IllegalArgumentException( "Value '" + value
+                                                + "' is not a single character." );
+        }
+
+        return text.charAt( 0 );
+    }
+
+    /**
+     * Converts a number of seconds, ISO-8601 text such as "PT5S", or text such as "1h 30m" or
+     * "500ms" to a Duration.
+     *
+     * @param value The raw config value.
+     *
+     * @return The Duration value.
+     */
+    @NonNull
+    private static Duration toDuration( @NonNull final Object value )
+    {
+        if ( value instanceof final Number number )
+        {
+            return Duration.ofMillis( Math.round( number.doubleValue() * 1000 ) );
+        }
+
+        final String text = value.toString().trim().toLowerCase( Locale.ROOT );
+
+        if ( text.startsWith( "p" ) || text.startsWith( "-p" ) )
+        {
+            return Duration.parse( text.toUpperCase( Locale.ROOT ) );
+        }
+
+        final Matcher matcher  = DURATION_PART.matcher( text );
+        Duration      duration = Duration.ZERO;
+        int           end      = 0;
+
+        while ( matcher.find() && text.substring( end, matcher.start() ).isBlank() )
+        {
+            final long amount = Long.parseLong( matcher.group( 1 ) );
+
+            duration = duration.plus( switch ( matcher.group( 2 ) )
+                                              {
+                                                  case "ms" -> Duration.ofMillis( amount );
+                                                  case "s" -> Duration.ofSeconds( amount );
+                                                  case "m" -> Duration.ofMinutes( amount );
+                                                  case "h" -> Duration.ofHours( amount );
+                                                  default -> Duration.ofDays( amount );
+                                              } );
+            end      = matcher.end();
+        }
+
+        if ( end == 0 || end != text.length() )
+        {
+            throw new IllegalArgumentException( "Value '" + value + "' is not a duration." );
+        }
+
+        return duration;
+    }
+
+    /**
+     * Converts a constant name to an enum constant, ignoring case and treating dashes and spaces as
+     * underscores if there is no exact match.
+     *
+     * @param value The raw config value.
+     * @param type  The enum class.
+     *
+     * @return The enum constant.
+     */
+    @NonNull
+    private static Object toConstant( @NonNull final Object value, @NonNull final Class< ? > type )
+    {
+        final Map< String, Object > constants = ENUM_CONSTANTS.get( type );
+        final String                name      = value.toString().trim();
+        Object                      constant  = constants.get( name );
+
+        if ( constant == null )
+        {
+            constant = constants.get( name.toUpperCase( Locale.ROOT ).replace( '-', '_' )
+                                          .replace( ' ', '_' ) );
+        }
+
+        if ( constant == null )
+        {
+            throw new IllegalArgumentException( "Value '" + value + "' is not a constant of "
+                                                + type.getName() + "." );
+        }
+
+        return constant;
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.qhucy.configmanager.value;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable field and default value map that many ConfigManagers can share. A ConfigManager that
+ * references a ConfigDefaults falls through to it for every field without a value or default value
+ * of its own, so the per-instance config field and value map only has to hold overridden fields.
+ * <p>
+ * The default values themselves are shared as well and must not be modified.
+ *
+ * @see com.qhucy.configmanager.ConfigManager#setSharedDefaults(ConfigDefaults)
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class ConfigDefaults
+{
+
+    // The defaults without any fields.
+    private final static ConfigDefaults EMPTY = new ConfigDefaults( Collections.emptyMap() );
+
+    // The field and default value map.
+    private final Map< String, Object > defaultValues;
+
+    /**
+     * Instantiates ConfigDefaults from an unmodifiable field and default value map.
+     *
+     * @param defaultValues The unmodifiable field and default value map.
+     */
+    private ConfigDefaults( @NonNull final Map< String, Object > defaultValues )
+    {
+        this.defaultValues = defaultValues;
+    }
+
+    /**
+     * Returns the defaults without any fields.
+     *
+     * @return The defaults without any fields.
+     */
+    @NonNull
+    public static ConfigDefaults empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Returns defaults holding a copy of a field and default value map. Fields mapped to null are
+     * left out.
+     *
+     * @param defaultValues The field and default value map.
+     *
+     * @return The defaults holding a copy of the field and default value map.
+     */
+    @NonNull
+    public static ConfigDefaults of( @NonNull final Map< String, ? > defaultValues )
+    {
+        final Map< String, Object > copy = new HashMap<>( defaultValues.size() * 4 / 3 + 1 );
+
+        for ( final Map.Entry< String, ? > entry : defaultValues.entrySet() )
+        {
+            if ( entry.getValue() != null )
+            {
+                copy.put( entry.getKey(), entry.getValue() );
+            }
+        }
+
+        return copy.isEmpty() ? EMPTY : new ConfigDefaults( Collections.unmodifiableMap( copy ) );
+    }
+
+    /**
+     * Returns defaults holding the default values of a config field and value map.
+     *
+     * @param values The config field and value map.
+     *
+     * @return The defaults holding the default values of the config field and value map.
+     */
+    @NonNull
+    public static ConfigDefaults fromConfigValues( @NonNull final Map< String, ConfigValue > values )
+    {
+        final Map< String, Object > defaultValues = new HashMap<>( values.size() * 4 / 3 + 1 );
+
+        for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+        {
+            defaultValues.put( entry.getKey(), entry.getValue().getDefaultValue() );
+        }
+
+        return of( defaultValues );
+    }
+
+    /**
+     * Returns the default value of a field.
+     *
+     * @param field The field.
+     *
+     * @return The default value of the field, null if the field has none.
+     */
+    @Nullable
+    public Object get( @NonNull final String field )
+    {
+        return defaultValues.get( field );
+    }
+
+    /**
+     * Returns if a field has a default value.
+     *
+     * @param field The field.
+     *
+     * @return If the field has a default value.
+     */
+    public boolean contains( @NonNull final String field )
+    {
+        return defaultValues.containsKey( field );
+    }
+
+    /**
+     * Returns the unmodifiable set of fields with a default value.
+     *
+     * @return The unmodifiable set of fields with a default value.
+     */
+    @NonNull
+    public Set< String > getFields()
+    {
+        return defaultValues.keySet();
+    }
+
+    /**
+     * Returns the number of fields with a default value.
+     *
+     * @return The number of fields with a default value.
+     */
+    public int size()
+    {
+        return defaultValues.size();
+    }
+
+    /**
+     * Returns if there are no fields with a default value.
+     *
+     * @return If there are no fields with a default value.
+     */
+    public boolean isEmpty()
+    {
+        return defaultValues.isEmpty();
+    }
+
+}
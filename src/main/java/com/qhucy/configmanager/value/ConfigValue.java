@@ -1,11 +1,19 @@
 package com.qhucy.configmanager.value;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Class that stores a value and default value for a field in a config field and value map.
+ * Class that stores a value and default value for a field in a config field and value map. Both
+ * attributes are volatile so that a write on one thread is visible to readers on other threads.
+ * <p>
+ * The last typed conversion of the value is cached until the value is set again, so repeated typed
+ * reads of a field only convert once.
+ *
+ * @see ConfigConverters
  * <p>
  * MIT License - Copyright (c) 2022 Qhucy Sijyo.
  */
@@ -14,12 +22,30 @@ import org.jetbrains.annotations.Nullable;
 public class ConfigValue
 {
 
+    /**
+     * Typed conversion of a value.
+     *
+     * @param type      The boxed type converted to.
+     * @param source    The value that was converted.
+     * @param converted The converted value.
+     */
+    private record Conversion( @NonNull Class< ? > type, @NonNull Object source,
+                               @NonNull Object converted )
+    {
+
+    }
+
     // The value for a field in a config field and value map.
     @Nullable
-    private Object value;
+    private volatile Object value;
     // The default value for a field in a config field and value map.
     @Nullable
-    private Object defaultValue;
+    private volatile Object defaultValue;
+    // The last typed conversion of the value, null if none was made since the value was set.
+    @Nullable
+    @Getter( AccessLevel.NONE )
+    @Setter( AccessLevel.NONE )
+    private volatile Conversion conversion;
 
     /**
      * Instantiates ConfigValue from a value and default value.
@@ -44,6 +70,57 @@ public class ConfigValue
         setDefaultValue( null );
     }
 
+    /**
+     * Sets the value for the field and drops the cached typed conversion of the previous value.
+     *
+     * @param value The value for the field in a config field and value map.
+     */
+    public void setValue( @Nullable final Object value )
+    {
+        this.value      = value;
+        this.conversion = null;
+    }
+
+    /**
+     * Returns the value converted to a type through the ConfigConverters. The conversion is cached,
+     * so reading the same type again costs a single comparison until the value is set again.
+     *
+     * @param type The type to convert to, primitive types convert to their boxed type.
+     * @param <T>  The type to convert to.
+     *
+     * @return The converted value, null if there is no value.
+     *
+     * @throws IllegalArgumentException If the value cannot be converted to the type.
+     */
+    @Nullable
+    @SuppressWarnings( "unchecked" )
+    public < T > T getAs( @NonNull final Class< T > type )
+    {
+        final Object current = getValue();
+
+        if ( current == null )
+        {
+            return null;
+        }
+
+        final Class< ? > boxedType = ConfigConverters.boxed( type );
+        final Conversion cached    = conversion;
+
+        // Subclasses may store the value elsewhere and decode a new object on every read, so the
+        // cache is used for an equal value.
+        if ( cached != null && cached.type() == boxedType
+             && ( cached.source() == current || cached.source().equals( current ) ) )
+        {
+            return ( T ) cached.converted();
+        }
+
+        final T converted = ConfigConverters.convert( current, type );
+
+        conversion = new Conversion( boxedType, current, converted );
+
+        return converted;
+    }
+
     /**
      * Returns if the value class attribute is stored without a null value.
      *
@@ -0,0 +1,68 @@
+package com.qhucy.configmanager.value;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * ConfigValue whose string value is held as a StringSlice of the loaded config file until it is
+ * first read. The first getValue turns the slice into an interned String and stores it in place of
+ * the slice, so callers only ever see Strings.
+ *
+ * @see StringSlice
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public class SlicedConfigValue
+        extends ConfigValue
+{
+
+    /**
+     * Instantiates a SlicedConfigValue holding a StringSlice and no default value.
+     *
+     * @param value The StringSlice of the value.
+     */
+    public SlicedConfigValue( @NonNull final StringSlice value )
+    {
+        super( value );
+    }
+
+    @Override
+    @Nullable
+    public Object getValue()
+    {
+        final Object value = super.getValue();
+
+        if ( value instanceof StringSlice slice )
+        {
+            final String string = slice.materialize();
+
+            setValue( string );
+
+            return string;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value without turning a StringSlice into a String, for example to measure it.
+     *
+     * @return The stored value, which may still be a StringSlice.
+     */
+    @Nullable
+    public Object getStoredValue()
+    {
+        return super.getValue();
+    }
+
+    /**
+     * Returns if the value is still held as a StringSlice.
+     *
+     * @return If the value was not read yet.
+     */
+    public boolean isSliced()
+    {
+        return super.getValue() instanceof StringSlice;
+    }
+
+}
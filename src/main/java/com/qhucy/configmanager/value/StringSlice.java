@@ -0,0 +1,135 @@
+package com.qhucy.configmanager.value;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read-only CharSequence view of a range of a larger String, such as the text of a loaded config
+ * file. Creating a StringSlice copies no characters, so string values that are never read never
+ * become Strings of their own.
+ * <p>
+ * Two StringSlices are equal if they hold the same characters.
+ *
+ * @see SlicedConfigValue
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+public final class StringSlice
+        implements CharSequence
+{
+
+    // The String that holds the characters of the slice.
+    private final String source;
+    // The index of the first character of the slice in the source.
+    private final int    offset;
+    // The number of characters of the slice.
+    private final int    length;
+
+    /**
+     * Instantiates a StringSlice of a range of a String.
+     *
+     * @param source The String that holds the characters of the slice.
+     * @param start  The index of the first character, inclusive.
+     * @param end    The index of the last character, exclusive.
+     */
+    public StringSlice( @NonNull final String source, final int start, final int end )
+    {
+        if ( start < 0 || end < start || end > source.length() )
+        {
+            throw new IllegalArgumentException( "Range [" + start + ", " + end
+                                                + ") is out of bounds for length "
+                                                + source.length() + "." );
+        }
+
+        this.source = source;
+        this.offset = start;
+        this.length = end - start;
+    }
+
+    /**
+     * Returns the String that holds the characters of the slice, which the slice keeps reachable.
+     *
+     * @return The source String.
+     */
+    @NonNull
+    public String getSource()
+    {
+        return source;
+    }
+
+    @Override
+    public int length()
+    {
+        return length;
+    }
+
+    @Override
+    public char charAt( final int index )
+    {
+        if ( index < 0 || index >= length )
+        {
+            throw new IndexOutOfBoundsException( index );
+        }
+
+        return source.charAt( offset + index );
+    }
+
+    @Override
+    @NonNull
+    public StringSlice subSequence( final int start, final int end )
+    {
+        if ( start < 0 || end < start || end > length )
+        {
+            throw new IndexOutOfBoundsException( "Range [" + start + ", " + end
+                                                 + ") is out of bounds for length " + length
+                                                 + "." );
+        }
+
+        return new StringSlice( source, offset + start, offset + end );
+    }
+
+    /**
+     * Returns the characters of the slice as an interned String.
+     *
+     * @return The characters of the slice as an interned String.
+     */
+    @NonNull
+    public String materialize()
+    {
+        return toString().intern();
+    }
+
+    @Override
+    @NonNull
+    public String toString()
+    {
+        return source.substring( offset, offset + length );
+    }
+
+    @Override
+    public boolean equals( @Nullable final Object object )
+    {
+        if ( this == object )
+        {
+            return true;
+        }
+
+        return object instanceof StringSlice other && other.length == length
+               && source.regionMatches( offset, other.source, other.offset, length );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        // Same hash code as the String of the slice.
+        int hash = 0;
+
+        for ( int i = offset; i < offset + length; ++i )
+        {
+            hash = 31 * hash + source.charAt( i );
+        }
+
+        return hash;
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.qhucy.configmanager;
 
+import com.qhucy.configmanager.event.ConfigChangeSet;
 import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.storage.EvictingConfigManager;
 import com.qhucy.configmanager.util.TestingUtil;
 import com.qhucy.configmanager.value.ConfigValue;
 import org.junit.jupiter.api.BeforeAll;
@@ -10,16 +12,24 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -742,4 +752,238 @@ final class ConfigManagerTest
 
     }
 
+    @Nested
+    @DisplayName( "Asynchronous Loading and Saving Testing" )
+    final class AsyncLoadingAndSavingTesting
+    {
+
+        @Test
+        @DisplayName( "Loading asynchronously returns the loaded ConfigManager" )
+        void loadingAsynchronouslyReturnsLoadedConfigManager()
+                throws Exception
+        {
+            final ConfigManager configManager =
+                    ConfigManager.loadFromFileAsync( CONFIG_FILE, LOGGER ).get();
+
+            assertEquals( true, configManager.getValue( "boolean" ) );
+        }
+
+        @Test
+        @DisplayName( "Loading asynchronously runs on the given executor" )
+        void loadingAsynchronouslyRunsOnGivenExecutor()
+                throws Exception
+        {
+            final ArrayList< Runnable > tasks = new ArrayList<>();
+
+            final CompletableFuture< ConfigManager > future =
+                    ConfigManager.loadFromFileAsync( CONFIG_FILE, LOGGER, tasks::add );
+
+            assertFalse( future.isDone() );
+            assertEquals( 1, tasks.size() );
+
+            tasks.get( 0 ).run();
+
+            assertTrue( future.isDone() );
+        }
+
+        @Test
+        @DisplayName( "Loading a missing file completes exceptionally" )
+        void loadingMissingFileCompletesExceptionally()
+        {
+            final ExecutionException exception =
+                    assertThrows( ExecutionException.class,
+                                  () -> ConfigManager.loadFromFileAsync( new File( "missing.yml" ),
+                                                                         LOGGER ).get() );
+
+            assertTrue( exception.getCause() instanceof IOException );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Bulk Mutation Testing" )
+    final class BulkMutationTesting
+    {
+
+        // ConfigManager object used for testing the bulk mutation methods.
+        private ConfigManager configManager;
+
+        @BeforeEach
+        void setUp()
+        {
+            configManager = new ConfigManager( CONFIG_SOURCE, LOGGER, "kept", 1, 2 );
+        }
+
+        @Test
+        @DisplayName( "Putting a map keeps default values and marks dirty" )
+        void puttingMapKeepsDefaultValuesAndMarksDirty()
+        {
+            final Map< String, Object > values = new HashMap<>();
+
+            for ( int i = 0; i < 1_000; ++i )
+            {
+                values.put( "field" + i, i );
+            }
+
+            values.put( "kept", 10 );
+
+            assertFalse( configManager.isDirty() );
+
+            configManager.putAll( values );
+
+            assertTrue( configManager.isDirty() );
+            assertEquals( 1_001, configManager.getValues().size() );
+            assertEquals( 10, configManager.getValue( "kept" ) );
+            assertEquals( 2, configManager.getDefaultValue( "kept" ) );
+            assertEquals( 999, configManager.getValue( "field999" ) );
+        }
+
+        @Test
+        @DisplayName( "Putting a stream lets the last value win" )
+        void puttingStreamLetsLastValueWin()
+        {
+            configManager.putAll( Stream.of( Map.entry( "a", 1 ), Map.entry( "a", 2 ) ) );
+
+            assertEquals( 2, configManager.getValue( "a" ) );
+        }
+
+        @Test
+        @DisplayName( "Putting default values keeps values" )
+        void puttingDefaultValuesKeepsValues()
+        {
+            configManager.putAllDefaults( Map.of( "kept", 20, "new", 30 ) );
+
+            assertEquals( 1, configManager.getValue( "kept" ) );
+            assertEquals( 20, configManager.getDefaultValue( "kept" ) );
+            assertEquals( 30, configManager.getValue( "new" ) );
+        }
+
+        @Test
+        @DisplayName( "Putting a map dispatches one change set" )
+        void puttingMapDispatchesOneChangeSet()
+        {
+            final ArrayList< ConfigChangeSet > received = new ArrayList<>();
+
+            configManager.getChangeDispatcher().subscribeAll( received::add, Runnable::run );
+            configManager.putAll( Map.of( "kept", 1, "a", 2, "b", 3 ) );
+
+            assertEquals( 1, received.size() );
+            assertEquals( 2, received.get( 0 ).size() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Effective Value Resolving Testing" )
+    final class EffectiveValueResolvingTesting
+    {
+
+        // Log records published while resolving and reading.
+        private final ArrayList< LogRecord > records = new ArrayList<>();
+
+        // ConfigManager object used for testing the effective value methods.
+        private ConfigManager configManager;
+
+        @BeforeEach
+        void setUp()
+        {
+            final Logger logger = Logger.getAnonymousLogger();
+
+            logger.setUseParentHandlers( false );
+            logger.addHandler( new Handler()
+            {
+                @Override
+                public void publish( final LogRecord record )
+                {
+                    records.add( record );
+                }
+
+                @Override
+                public void flush()
+                {
+                }
+
+                @Override
+                public void close()
+                {
+                }
+            } );
+
+            configManager = new ConfigManager( CONFIG_SOURCE, logger, "value", 1, 2, "fallback",
+                                               null, 3, "missing", null, null );
+        }
+
+        @Test
+        @DisplayName( "Resolving logs every fallback once" )
+        void resolvingLogsEveryFallbackOnce()
+        {
+            configManager.resolve();
+
+            assertTrue( configManager.isResolved() );
+            assertEquals( 2, records.size() );
+
+            for ( int i = 0; i < 3; ++i )
+            {
+                assertEquals( 1, configManager.getValue( "value" ) );
+                assertEquals( 3, configManager.getValue( "fallback" ) );
+                assertNull( configManager.getValue( "missing" ) );
+            }
+
+            assertEquals( 2, records.size() );
+            assertEquals( 3, configManager.getDefaultValue( "fallback" ) );
+        }
+
+        @Test
+        @DisplayName( "Writing invalidates the resolved values" )
+        void writingInvalidatesTheResolvedValues()
+        {
+            configManager.resolve();
+            configManager.setValue( "fallback", 4 );
+
+            assertFalse( configManager.isResolved() );
+            assertEquals( 4, configManager.getValue( "fallback" ) );
+        }
+
+        @Test
+        @DisplayName( "Reloading resolves again" )
+        void reloadingResolvesAgain()
+        {
+            configManager.resolve();
+            configManager.reloadFrom(
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "value", null, 5 ) );
+
+            assertTrue( configManager.isResolved() );
+            assertEquals( 5, configManager.getValue( "value" ) );
+            assertNull( configManager.getValue( "fallback" ) );
+        }
+
+        @Test
+        @DisplayName( "Resolving still logs unknown fields" )
+        void resolvingStillLogsUnknownFields()
+        {
+            configManager.resolve();
+            records.clear();
+
+            assertNull( configManager.getValue( "unknown" ) );
+            assertEquals( 1, records.size() );
+            assertEquals( Level.SEVERE, records.get( 0 ).getLevel() );
+        }
+
+        @Test
+        @DisplayName( "Evicting ConfigManagers keep no resolved values" )
+        void evictingConfigManagersKeepNoResolvedValues()
+        {
+            final EvictingConfigManager evicting =
+                    new EvictingConfigManager( null, CONFIG_SOURCE, LOGGER,
+                                               Duration.ofMinutes( 1 ) );
+
+            evicting.setValue( "value", 1 );
+            evicting.resolve();
+
+            assertFalse( evicting.isResolved() );
+            assertEquals( 1, evicting.getValue( "value" ) );
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+package com.qhucy.configmanager.codec;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChangeDispatcher;
+import com.qhucy.configmanager.file.ConfigSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit Testing for the ConfigBinder class.
+ *
+ * @see ConfigBinder
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigBinder Class Testing" )
+final class ConfigBinderTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConfigBinderTest.class.getName() );
+
+    /**
+     * Enum used for unit testing enum fields.
+     */
+    private enum Mode
+    {
+        SURVIVAL,
+        CREATIVE
+    }
+
+    /**
+     * Nested record used for unit testing nested sections.
+     */
+    private record Limits( int players, double radius )
+    {
+
+    }
+
+    /**
+     * Record used for unit testing list elements bound from maps.
+     */
+    private record Reward( String item, int amount )
+    {
+
+    }
+
+    /**
+     * Record used for unit testing.
+     */
+    private record Settings( String name, Mode mode, Limits limits, List< String > worlds,
+                             List< Reward > rewards, @ConfigKey( "owner.name" ) String owner )
+    {
+
+    }
+
+    /**
+     * Object with a no-argument constructor used for unit testing.
+     */
+    private static final class Shop
+    {
+
+        private String  title;
+        private long    price = 5;
+        private boolean open;
+
+    }
+
+    // The ConfigManager used for unit testing.
+    private ConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new ConfigManager( CONFIG_SOURCE, LOGGER );
+        configManager.putAll( Map.of( "name", "Lobby", "mode", "CREATIVE", "limits.players", 20,
+                                      "limits.radius", 1.5, "worlds", List.of( "world", "nether" ),
+                                      "rewards", List.of( Map.of( "item", "gold", "amount", 3 ) ),
+                                      "owner.name", "Qhucy" ) );
+    }
+
+    @Nested
+    @DisplayName( "Binding Testing" )
+    final class BindingTest
+    {
+
+        @Test
+        @DisplayName( "Binds a record with nested sections, lists and enums" )
+        void bindsARecordWithNestedSectionsListsAndEnums()
+        {
+            final ConfigBinder< Settings > binder   = new ConfigBinder<>( Settings.class );
+            final Settings                 settings = binder.bind( configManager );
+
+            assertEquals( new Settings( "Lobby", Mode.CREATIVE, new Limits( 20, 1.5 ),
+                                        List.of( "world", "nether" ),
+                                        List.of( new Reward( "gold", 3 ) ), "Qhucy" ), settings );
+            assertSame( settings, binder.get() );
+        }
+
+        @Test
+        @DisplayName( "Binds a nested section stored as a map" )
+        void bindsANestedSectionStoredAsAMap()
+        {
+            configManager.setValue( "server", Map.of( "players", 8, "radius", 2 ) );
+
+            assertEquals( new Limits( 8, 2.0 ),
+                          new ConfigBinder<>( Limits.class, "server" ).bind( configManager ) );
+        }
+
+        @Test
+        @DisplayName( "Binds an object with a no-argument constructor" )
+        void bindsAnObjectWithANoArgumentConstructor()
+        {
+            configManager.setValue( "shop.title", "Market" );
+            configManager.setValue( "shop.open", true );
+
+            final Shop shop = new ConfigBinder<>( Shop.class, "shop" ).bind( configManager );
+
+            assertEquals( "Market", shop.title );
+            assertEquals( 5, shop.price );
+            assertEquals( true, shop.open );
+        }
+
+        @Test
+        @DisplayName( "Throws on invalid values and classes" )
+        void throwsOnInvalidValuesAndClasses()
+        {
+            configManager.setValue( "mode", "ADVENTURE" );
+
+            final ConfigBinder< Settings > binder = new ConfigBinder<>( Settings.class );
+
+            assertThrows( IllegalArgumentException.class, () -> binder.bind( configManager ) );
+            assertNull( binder.get() );
+            assertThrows( IllegalArgumentException.class, () -> new ConfigBinder<>( List.class ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Rebinding Testing" )
+    final class RebindingTest
+    {
+
+        @Test
+        @DisplayName( "Reuses unchanged sections" )
+        void reusesUnchangedSections()
+        {
+            final ConfigBinder< Settings > binder = new ConfigBinder<>( Settings.class );
+            final Settings                 first  = binder.bind( configManager );
+
+            assertSame( first, binder.bind( configManager ) );
+
+            configManager.setValue( "name", "Hub" );
+
+            final Settings second = binder.bind( configManager );
+
+            assertNotSame( first, second );
+            assertEquals( "Hub", second.name() );
+            assertSame( first.limits(), second.limits() );
+
+            configManager.setValue( "limits.players", 30 );
+
+            assertEquals( 30, binder.bind( configManager ).limits().players() );
+        }
+
+        @Test
+        @DisplayName( "Rebinds on changes and reloads" )
+        void rebindsOnChangesAndReloads()
+        {
+            final ConfigBinder< Limits >              binder       =
+                    new ConfigBinder<>( Limits.class, "limits" );
+            final ConfigChangeDispatcher.Subscription subscription =
+                    binder.bindTo( configManager, Runnable::run );
+
+            configManager.setValue( "limits.players", 40 );
+
+            assertEquals( 40, binder.get().players() );
+
+            configManager.reloadFrom( new ConfigManager( CONFIG_SOURCE, LOGGER, "limits.players",
+                                                         50, null ) );
+
+            assertEquals( new Limits( 50, 0.0 ), binder.get() );
+
+            subscription.unsubscribe();
+            configManager.setValue( "limits.players", 60 );
+
+            assertEquals( 50, binder.get().players() );
+        }
+
+        @Test
+        @DisplayName( "Rebinds on the writing thread without logging absent fields" )
+        void rebindsOnTheWritingThreadWithoutLoggingAbsentFields()
+        {
+            final Logger                 logger  = Logger.getAnonymousLogger();
+            final List< LogRecord >      records = new ArrayList<>();
+            final ConfigManager          manager =
+                    new ConfigManager( CONFIG_SOURCE, logger, "limits.players", 20, null );
+            final ConfigBinder< Limits > binder  = new ConfigBinder<>( Limits.class, "limits" );
+
+            logger.setUseParentHandlers( false );
+            logger.addHandler( new Handler()
+            {
+                @Override
+                public void publish( final LogRecord record )
+                {
+                    records.add( record );
+                }
+
+                @Override
+                public void flush()
+                {
+                }
+
+                @Override
+                public void close()
+                {
+                }
+            } );
+
+            binder.bindTo( manager );
+            manager.setValue( "limits.players", 30 );
+
+            assertEquals( new Limits( 30, 0.0 ), binder.get() );
+            assertEquals( List.of(), records );
+        }
+
+    }
+
+}
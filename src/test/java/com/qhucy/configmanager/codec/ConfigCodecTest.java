@@ -0,0 +1,162 @@
+package com.qhucy.configmanager.codec;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.util.TestingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigCodec class.
+ *
+ * @see ConfigCodec
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigCodec Class Testing" )
+final class ConfigCodecTest
+{
+
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger LOGGER = Logger.getLogger( ConfigCodecTest.class.getName() );
+
+    /**
+     * Enum used for unit testing enum fields.
+     */
+    private enum Color
+    {
+        RED,
+        GREEN
+    }
+
+    /**
+     * Simple object used for unit testing.
+     */
+    private static final class Cat
+    {
+
+        private String  name;
+        private int     lives;
+        private double  weight;
+        private boolean indoor;
+        private Color   color;
+
+        @ConfigKey( "owner.name" )
+        private String owner;
+
+        private transient int cachedHash;
+
+    }
+
+    // The ConfigManager used for unit testing.
+    private ConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new ConfigManager( null, ConfigSource.fromString( "cats.yml" ), LOGGER );
+    }
+
+    @Nested
+    @DisplayName( "Static method of Testing" )
+    final class StaticMethodOfTesting
+    {
+
+        @Test
+        @DisplayName( "Throws exception if param type is null" )
+        void throwsExceptionIfParamTypeIsNull()
+        {
+            TestingUtil.assertParameter( () -> ConfigCodec.of( null ) );
+        }
+
+        @Test
+        @DisplayName( "Returns the cached codec" )
+        void returnsCachedCodec()
+        {
+            assertSame( ConfigCodec.of( Cat.class ), ConfigCodec.of( Cat.class ) );
+        }
+
+        @Test
+        @DisplayName( "Skips transient fields and uses ConfigKey names" )
+        void skipsTransientFieldsAndUsesConfigKeyNames()
+        {
+            final List< String > fields = ConfigCodec.of( Cat.class ).getFields();
+
+            assertTrue( fields.contains( "owner.name" ) );
+            assertFalse( fields.contains( "owner" ) );
+            assertFalse( fields.contains( "cachedHash" ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Encoding and decoding Testing" )
+    final class EncodingAndDecodingTesting
+    {
+
+        @Test
+        @DisplayName( "Encodes fields under the section" )
+        void encodesFieldsUnderSection()
+        {
+            final Cat cat = new Cat();
+
+            cat.name  = "Tom";
+            cat.lives = 9;
+            cat.color = Color.GREEN;
+            cat.owner = "Qhucy";
+
+            ConfigCodec.of( Cat.class ).encode( cat, configManager, "cats.tom" );
+
+            assertEquals( "Tom", configManager.getValue( "cats.tom.name" ) );
+            assertEquals( 9, configManager.getValue( "cats.tom.lives" ) );
+            assertEquals( "GREEN", configManager.getValue( "cats.tom.color" ) );
+            assertEquals( "Qhucy", configManager.getValue( "cats.tom.owner.name" ) );
+        }
+
+        @Test
+        @DisplayName( "Decodes fields with numeric conversion and enum lookup" )
+        void decodesFieldsWithNumericConversionAndEnumLookup()
+        {
+            configManager.setValue( "name", "Tom" );
+            configManager.setValue( "lives", 7L );
+            configManager.setValue( "weight", 4 );
+            configManager.setValue( "indoor", true );
+            configManager.setValue( "color", "RED" );
+            configManager.setValue( "owner.name", "Qhucy" );
+
+            final Cat cat = new Cat();
+
+            ConfigCodec.of( Cat.class ).decode( cat, configManager, "" );
+
+            assertEquals( "Tom", cat.name );
+            assertEquals( 7, cat.lives );
+            assertEquals( 4.0, cat.weight );
+            assertTrue( cat.indoor );
+            assertSame( Color.RED, cat.color );
+            assertEquals( "Qhucy", cat.owner );
+        }
+
+        @Test
+        @DisplayName( "Throws if enum constant is unknown" )
+        void throwsIfEnumConstantIsUnknown()
+        {
+            configManager.setValue( "color", "PURPLE" );
+
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigCodec.of( Cat.class ).decode( new Cat(), configManager, "" ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.qhucy.configmanager.concurrent;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConcurrentConfigManager class.
+ *
+ * @see ConcurrentConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConcurrentConfigManager Class Testing" )
+final class ConcurrentConfigManagerTest
+{
+
+    // Random config source file path used for constructing a ConcurrentConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConcurrentConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConcurrentConfigManagerTest.class.getName() );
+
+    // The ConcurrentConfigManager used for unit testing.
+    private ConcurrentConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new ConcurrentConfigManager( CONFIG_SOURCE, LOGGER, "int", 3, 7, "def",
+                                                     null, 1.5 );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Instantiates with no exception" )
+        void instantiatesWithNoException()
+        {
+            assertDoesNotThrow( () -> new ConcurrentConfigManager( null, CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new ConcurrentConfigManager( CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new ConcurrentConfigManager( new ConfigManager( CONFIG_SOURCE,
+                                                                                      LOGGER ) ) );
+        }
+
+        @Test
+        @DisplayName( "Stores values in a ConcurrentHashMap" )
+        void storesValuesInAConcurrentHashMap()
+        {
+            assertTrue( configManager.getValues() instanceof ConcurrentHashMap );
+
+            configManager.setValues( new HashMap<>() );
+
+            assertTrue( configManager.getValues() instanceof ConcurrentHashMap );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Reading and writing Testing" )
+    final class ReadingAndWritingTesting
+    {
+
+        @Test
+        @DisplayName( "Reads values and default values" )
+        void readsValuesAndDefaultValues()
+        {
+            assertEquals( 3, configManager.getValue( "int" ) );
+            assertEquals( 7, configManager.getDefaultValue( "int" ) );
+            assertEquals( 1.5, configManager.getValue( "def" ) );
+            assertNull( configManager.getValue( "missing" ) );
+        }
+
+        @Test
+        @DisplayName( "Transfers values and default values" )
+        void transfersValuesAndDefaultValues()
+        {
+            final HashMap< String, Object > values = new HashMap<>();
+
+            values.put( "int", 4 );
+            values.put( "new", "value" );
+
+            configManager.transferValues( values );
+            configManager.transferDefaultValues( values );
+
+            assertEquals( 4, configManager.getValue( "int" ) );
+            assertEquals( "value", configManager.getValue( "new" ) );
+            assertEquals( "value", configManager.getDefaultValue( "new" ) );
+
+            configManager.transferValues( null );
+
+            assertNull( configManager.getValues().get( "int" ).getValue() );
+        }
+
+        @Test
+        @DisplayName( "Concurrent writes to separate and shared fields are not lost" )
+        void concurrentWritesAreNotLost()
+                throws Exception
+        {
+            final ExecutorService     executor = Executors.newFixedThreadPool( 8 );
+            final List< Future< ? > > futures  = new ArrayList<>();
+
+            try
+            {
+                for ( int thread = 0; thread < 8; ++thread )
+                {
+                    final String field = "field" + thread;
+
+                    futures.add( executor.submit( () ->
+                                                  {
+                                                      for ( int i = 0; i < 10_000; ++i )
+                                                      {
+                                                          configManager.setValue( field, i );
+                                                          configManager.setDefaultValue( "shared." + ( i % 16 ), i );
+                                                          configManager.getValue( "int" );
+                                                      }
+                                                  } ) );
+                }
+
+                for ( final Future< ? > future : futures )
+                {
+                    future.get();
+                }
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+
+            for ( int thread = 0; thread < 8; ++thread )
+            {
+                assertEquals( 9_999, configManager.getValue( "field" + thread ) );
+            }
+
+            assertEquals( 16, configManager.getConfigSectionFields( "shared", true, false ).size() );
+        }
+
+        @Test
+        @DisplayName( "New fields are created through the newConfigValue hook" )
+        void newFieldsAreCreatedThroughTheNewConfigValueHook()
+        {
+            final class TaggedValue
+                    extends ConfigValue
+            {
+
+                private TaggedValue( final Object value, final Object defaultValue )
+                {
+                    super( value, defaultValue );
+                }
+
+            }
+
+            final ConcurrentConfigManager tagged =
+                    new ConcurrentConfigManager( CONFIG_SOURCE, LOGGER )
+                    {
+                        @Override
+                        protected ConfigValue newConfigValue( final Object value,
+                                                              final Object defaultValue )
+                        {
+                            return new TaggedValue( value, defaultValue );
+                        }
+                    };
+
+            tagged.setValue( "a", 1 );
+            tagged.setDefaultValue( "b", 2 );
+            tagged.setConfigValue( "c", null );
+
+            assertTrue( tagged.getValues().get( "a" ) instanceof TaggedValue );
+            assertTrue( tagged.getValues().get( "b" ) instanceof TaggedValue );
+            assertTrue( tagged.getValues().get( "c" ) instanceof TaggedValue );
+        }
+
+        @Test
+        @DisplayName( "Writing keeps the dirty flag set" )
+        void writingKeepsTheDirtyFlagSet()
+        {
+            configManager.setDirty( false );
+            configManager.setValue( "int", 4 );
+            configManager.setValue( "int", 5 );
+
+            assertTrue( configManager.isDirty() );
+
+            configManager.setDirty( false );
+
+            assertFalse( configManager.isDirty() );
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.qhucy.configmanager.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigExecutors class.
+ *
+ * @see ConfigExecutors
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigExecutors Class Testing" )
+final class ConfigExecutorsTest
+{
+
+    // The default executor before a test replaced it.
+    private final Executor previousExecutor = ConfigExecutors.getDefaultExecutor();
+
+    @AfterEach
+    void tearDown()
+    {
+        ConfigExecutors.setDefaultExecutor( previousExecutor );
+    }
+
+    @Nested
+    @DisplayName( "Default executor Testing" )
+    final class DefaultExecutorTesting
+    {
+
+        @Test
+        @DisplayName( "Returns the same default executor" )
+        void returnsSameDefaultExecutor()
+        {
+            assertNotNull( ConfigExecutors.getDefaultExecutor() );
+            assertSame( ConfigExecutors.getDefaultExecutor(), ConfigExecutors.getDefaultExecutor() );
+        }
+
+        @Test
+        @DisplayName( "Setting the default executor replaces it" )
+        void settingDefaultExecutorReplacesIt()
+        {
+            final Executor executor = Runnable::run;
+
+            ConfigExecutors.setDefaultExecutor( executor );
+
+            assertSame( executor, ConfigExecutors.getDefaultExecutor() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Bounded executor Testing" )
+    final class BoundedExecutorTesting
+    {
+
+        @Test
+        @DisplayName( "Throws if threads is not positive" )
+        void throwsIfThreadsIsNotPositive()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigExecutors.createBoundedExecutor( 0 ) );
+        }
+
+        @Test
+        @DisplayName( "Runs tasks on daemon threads" )
+        void runsTasksOnDaemonThreads()
+                throws Exception
+        {
+            final ExecutorService executor = ConfigExecutors.createBoundedExecutor( 2 );
+
+            try
+            {
+                assertTrue( executor.submit( () -> Thread.currentThread().isDaemon() ).get() );
+                assertEquals( Boolean.TRUE, executor.submit( () -> Thread.currentThread()
+                                                                         .getName()
+                                                                         .startsWith( "ConfigManager-IO-" ) )
+                                                    .get() );
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+        }
+
+    }
+
+}
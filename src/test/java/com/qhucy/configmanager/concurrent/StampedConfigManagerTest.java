@@ -0,0 +1,206 @@
+package com.qhucy.configmanager.concurrent;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+/**
+ * Unit Testing for the StampedConfigManager class.
+ *
+ * @see StampedConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "StampedConfigManager Class Testing" )
+final class StampedConfigManagerTest
+{
+
+    // Random config source file path used for constructing a StampedConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a StampedConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( StampedConfigManagerTest.class.getName() );
+
+    // The StampedConfigManager used for unit testing.
+    private StampedConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new StampedConfigManager( CONFIG_SOURCE, LOGGER, "int", 3, 7, "def", null,
+                                                  1.5 );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Instantiates with no exception" )
+        void instantiatesWithNoException()
+        {
+            assertDoesNotThrow( () -> new StampedConfigManager( null, CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new StampedConfigManager( CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new StampedConfigManager( new ConfigManager( CONFIG_SOURCE,
+                                                                                   LOGGER ) ) );
+        }
+
+        @Test
+        @DisplayName( "Takes over another ConfigManager" )
+        void takesOverAnotherConfigManager()
+        {
+            final ConfigManager other = new ConfigManager( CONFIG_SOURCE, LOGGER, "int", 3, 7 );
+
+            assertEquals( 3, new StampedConfigManager( other ).getValue( "int" ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Reading and writing Testing" )
+    final class ReadingAndWritingTesting
+    {
+
+        @Test
+        @DisplayName( "Reads values and default values" )
+        void readsValuesAndDefaultValues()
+        {
+            assertEquals( 3, configManager.getValue( "int" ) );
+            assertEquals( 7, configManager.getDefaultValue( "int" ) );
+            assertEquals( 1.5, configManager.getValue( "def" ) );
+        }
+
+        @Test
+        @DisplayName( "Returns detached ConfigValue copies" )
+        void returnsDetachedConfigValueCopies()
+        {
+            final ConfigValue configValue = configManager.getConfigValue( "int" );
+
+            assertNotSame( configManager.getValues().get( "int" ), configValue );
+
+            configValue.setValue( 100 );
+
+            assertEquals( 3, configManager.getValue( "int" ) );
+        }
+
+        @Test
+        @DisplayName( "Concurrent reads and writes stay consistent" )
+        void concurrentReadsAndWritesStayConsistent()
+                throws Exception
+        {
+            final ExecutorService     executor = Executors.newFixedThreadPool( 8 );
+            final List< Future< ? > > futures  = new ArrayList<>();
+
+            try
+            {
+                for ( int thread = 0; thread < 8; ++thread )
+                {
+                    final String field = "field" + thread;
+
+                    futures.add( executor.submit( () ->
+                                                  {
+                                                      for ( int i = 0; i < 10_000; ++i )
+                                                      {
+                                                          configManager.setValue( field, i );
+                                                          configManager.getValue( "int" );
+                                                      }
+                                                  } ) );
+                }
+
+                for ( final Future< ? > future : futures )
+                {
+                    future.get();
+                }
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+
+            for ( int thread = 0; thread < 8; ++thread )
+            {
+                assertEquals( 9_999, configManager.getValue( "field" + thread ) );
+            }
+        }
+
+        @Test
+        @DisplayName( "Reads fields that writers add and replace" )
+        void readsFieldsThatWritersAddAndReplace()
+        {
+            assertEquals( 3, configManager.getValue( "int" ) );
+
+            configManager.setValue( "added", 1 );
+            configManager.setConfigValue( "int", new ConfigValue( 4, 8 ) );
+            configManager.setValue( "added", 2 );
+
+            assertEquals( 2, configManager.getValue( "added" ) );
+            assertEquals( 4, configManager.getValue( "int" ) );
+            assertEquals( 8, configManager.getDefaultValue( "int" ) );
+        }
+
+        @Test
+        @DisplayName( "Reads while writers grow the map" )
+        void readsWhileWritersGrowTheMap()
+                throws Exception
+        {
+            final ExecutorService     executor = Executors.newFixedThreadPool( 8 );
+            final List< Future< ? > > futures  = new ArrayList<>();
+
+            try
+            {
+                for ( int thread = 0; thread < 8; ++thread )
+                {
+                    final int writer = thread;
+
+                    futures.add( executor.submit( () ->
+                                                  {
+                                                      for ( int i = 0; i < 5_000; ++i )
+                                                      {
+                                                          if ( writer % 2 == 0 )
+                                                          {
+                                                              configManager.setValue(
+                                                                      writer + "." + i, i );
+                                                          }
+                                                          else
+                                                          {
+                                                              assertEquals( 3,
+                                                                            configManager.getValue(
+                                                                                    "int" ) );
+                                                          }
+                                                      }
+                                                  } ) );
+                }
+
+                for ( final Future< ? > future : futures )
+                {
+                    future.get( 30, TimeUnit.SECONDS );
+                }
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+
+            assertEquals( 4_999, configManager.getValue( "6.4999" ) );
+        }
+
+    }
+
+}
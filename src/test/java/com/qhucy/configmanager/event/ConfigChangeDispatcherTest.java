@@ -0,0 +1,168 @@
+package com.qhucy.configmanager.event;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigChangeDispatcher class.
+ *
+ * @see ConfigChangeDispatcher
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigChangeDispatcher Class Testing" )
+final class ConfigChangeDispatcherTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConfigChangeDispatcherTest.class.getName() );
+    // Executor that runs listeners on the calling thread.
+    private final static Executor     DIRECT        = Runnable::run;
+
+    // The ConfigManager used for unit testing.
+    private ConfigManager           configManager;
+    // The change sets received by the listener under test.
+    private List< ConfigChangeSet > received;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new ConfigManager( CONFIG_SOURCE, LOGGER, "a.b", 1, null, "a.c", 2, null,
+                                           "d", 3, null );
+        received      = new ArrayList<>();
+    }
+
+    @Nested
+    @DisplayName( "Subscription Testing" )
+    final class SubscriptionTesting
+    {
+
+        @Test
+        @DisplayName( "Field listeners only receive their field" )
+        void fieldListenersOnlyReceiveTheirField()
+        {
+            configManager.getChangeDispatcher().subscribeField( "a.b", received::add, DIRECT );
+
+            configManager.setValue( "a.c", 20 );
+            configManager.setValue( "a.b", 10 );
+
+            assertEquals( 1, received.size() );
+            assertEquals( new ConfigChange( "a.b", 1, 10 ), received.get( 0 ).getChange( "a.b" ) );
+        }
+
+        @Test
+        @DisplayName( "Section listeners receive every field under the section" )
+        void sectionListenersReceiveEveryFieldUnderTheSection()
+        {
+            configManager.getChangeDispatcher().subscribeSection( "a", received::add, DIRECT );
+
+            configManager.setValue( "a.b", 10 );
+            configManager.setValue( "a.c", 20 );
+            configManager.setValue( "d", 30 );
+
+            assertEquals( 2, received.size() );
+        }
+
+        @Test
+        @DisplayName( "Unchanged values are not dispatched" )
+        void unchangedValuesAreNotDispatched()
+        {
+            configManager.getChangeDispatcher().subscribeAll( received::add, DIRECT );
+
+            configManager.setValue( "d", 3 );
+
+            assertTrue( received.isEmpty() );
+        }
+
+        @Test
+        @DisplayName( "Unsubscribed listeners receive nothing" )
+        void unsubscribedListenersReceiveNothing()
+        {
+            final ConfigChangeDispatcher dispatcher = configManager.getChangeDispatcher();
+
+            dispatcher.subscribeAll( received::add, DIRECT ).unsubscribe();
+
+            configManager.setValue( "d", 30 );
+
+            assertTrue( received.isEmpty() );
+            assertFalse( dispatcher.hasSubscriptions() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Batching Testing" )
+    final class BatchingTesting
+    {
+
+        @Test
+        @DisplayName( "Transferring values dispatches one change set" )
+        void transferringValuesDispatchesOneChangeSet()
+        {
+            configManager.getChangeDispatcher().subscribeAll( received::add, DIRECT );
+
+            final HashMap< String, Object > values = new HashMap<>();
+
+            values.put( "a.b", 10 );
+            values.put( "a.c", 2 );
+            values.put( "e", 5 );
+
+            configManager.transferValues( values );
+
+            assertEquals( 1, received.size() );
+            assertEquals( Set.of( "a.b", "e" ), received.get( 0 ).getFields() );
+        }
+
+        @Test
+        @DisplayName( "Section listeners receive the filtered part of a batch" )
+        void sectionListenersReceiveTheFilteredPartOfABatch()
+        {
+            configManager.getChangeDispatcher().subscribeSection( "a", received::add, DIRECT );
+
+            final HashMap< String, Object > values = new HashMap<>();
+
+            values.put( "a.b", 10 );
+            values.put( "d", 30 );
+
+            configManager.transferValues( values );
+
+            assertEquals( 1, received.size() );
+            assertEquals( Set.of( "a.b" ), received.get( 0 ).getFields() );
+        }
+
+        @Test
+        @DisplayName( "Reloading dispatches the difference" )
+        void reloadingDispatchesTheDifference()
+        {
+            configManager.getChangeDispatcher().subscribeAll( received::add, DIRECT );
+
+            configManager.reloadFrom( new ConfigManager( CONFIG_SOURCE, LOGGER, "a.b", 1, null,
+                                                         "d", 4, null ) );
+
+            assertEquals( 1, received.size() );
+            assertEquals( new ConfigChange( "a.c", 2, null ), received.get( 0 ).getChange( "a.c" ) );
+            assertEquals( new ConfigChange( "d", 3, 4 ), received.get( 0 ).getChange( "d" ) );
+            assertEquals( 2, received.get( 0 ).size() );
+        }
+
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.util.TestingUtil;
+import lombok.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit Testing for the ConfigBatch class.
+ *
+ * @see ConfigBatch
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigBatch Class Testing" )
+final class ConfigBatchTest
+{
+
+    // Basic logger used for batch saving and loading.
+    private final static Logger LOGGER = Logger.getLogger( ConfigBatchTest.class.getName() );
+
+    /**
+     * Simple ConfigStorable object used for unit testing.
+     */
+    private static final class Pet
+            implements ConfigStorable
+    {
+
+        private final String id;
+        private       String name;
+        private       int    age;
+
+        private Pet( final String id, final String name, final int age )
+        {
+            this.id   = id;
+            this.name = name;
+            this.age  = age;
+        }
+
+        @Override
+        public void saveToConfig( @NonNull final StorageType storageType ) {}
+
+        @Override
+        public void saveToConfig() {}
+
+        @Override
+        public void loadFromConfig( @NonNull final StorageType storageType ) {}
+
+        @Override
+        public void loadFromConfig() {}
+
+        @Override
+        public void saveToConfig( @NonNull final ConfigManager configManager,
+                                  @NonNull final String section )
+        {
+            configManager.setValue( section + ".name", name );
+            configManager.setValue( section + ".age", age );
+        }
+
+        @Override
+        public void loadFromConfig( @NonNull final ConfigManager configManager,
+                                    @NonNull final String section )
+        {
+            name = ( String ) configManager.getValue( section + ".name" );
+            age  = ( ( Number ) configManager.getValue( section + ".age" ) ).intValue();
+        }
+
+    }
+
+    /**
+     * ConfigStorable object that relies on the default section methods, used for unit testing.
+     */
+    private static final class Toy
+            implements ConfigStorable
+    {
+
+        private String color;
+        private int    size;
+
+        @Override
+        public void saveToConfig( @NonNull final StorageType storageType ) {}
+
+        @Override
+        public void saveToConfig() {}
+
+        @Override
+        public void loadFromConfig( @NonNull final StorageType storageType ) {}
+
+        @Override
+        public void loadFromConfig() {}
+
+    }
+
+    // Temporary directory for the saved config files.
+    @TempDir
+    Path tempDir;
+
+    // Objects that are saved for unit testing.
+    private List< Pet > saved;
+
+    @BeforeEach
+    void setUp()
+    {
+        saved = new ArrayList<>();
+
+        for ( int i = 0; i < 100; ++i )
+        {
+            saved.add( new Pet( "pet" + i, "Name " + i, i ) );
+        }
+    }
+
+    /**
+     * Returns a copy of every saved object with its contents cleared.
+     *
+     * @return A copy of every saved object with its contents cleared.
+     */
+    private List< Pet > emptyCopies()
+    {
+        final List< Pet > copies = new ArrayList<>();
+
+        for ( final Pet pet : saved )
+        {
+            copies.add( new Pet( pet.id, null, -1 ) );
+        }
+
+        return copies;
+    }
+
+    @Nested
+    @DisplayName( "Saving and loading with a file" )
+    final class FileTesting
+    {
+
+        @Test
+        @DisplayName( "Throws exception if required params are null" )
+        void throwsExceptionIfReqParamsNull()
+        {
+            final File file = tempDir.resolve( "pets.json" ).toFile();
+
+            TestingUtil.assertParameter( () -> ConfigBatch.saveAll( null, pet -> "", file, LOGGER ) );
+            TestingUtil.assertParameter( () -> ConfigBatch.saveAll( saved, pet -> "", ( File ) null,
+                                                                    LOGGER ) );
+        }
+
+        @Test
+        @DisplayName( "Round trips through a JSON file" )
+        void roundTripsThroughJsonFile()
+                throws Exception
+        {
+            roundTrip( tempDir.resolve( "pets.json" ).toFile() );
+        }
+
+        @Test
+        @DisplayName( "Round trips through a YAML file" )
+        void roundTripsThroughYamlFile()
+                throws Exception
+        {
+            roundTrip( tempDir.resolve( "pets.yml" ).toFile() );
+        }
+
+        @Test
+        @DisplayName( "Throws if saving to an unsupported file" )
+        void throwsIfSavingToUnsupportedFile()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigBatch.saveAll( saved, pet -> pet.id,
+                                                     tempDir.resolve( "pets.txt" ).toFile(),
+                                                     LOGGER ) );
+        }
+
+        @Test
+        @DisplayName( "Skips objects missing from the file" )
+        void skipsObjectsMissingFromFile()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "pets.json" ).toFile();
+
+            ConfigBatch.saveAll( saved.subList( 0, 1 ), pet -> pet.id, file, LOGGER );
+
+            final Pet missing = new Pet( "missing", null, -1 );
+
+            assertDoesNotThrow( () -> ConfigBatch.loadAll( List.of( missing ), pet -> pet.id, file,
+                                                           LOGGER ) );
+            assertNull( missing.name );
+        }
+
+        private void roundTrip( final File file )
+                throws Exception
+        {
+            ConfigBatch.saveAll( saved, pet -> pet.id, file, LOGGER );
+
+            final List< Pet > loaded = emptyCopies();
+
+            ConfigBatch.loadAll( loaded, pet -> pet.id, file, LOGGER );
+
+            for ( int i = 0; i < saved.size(); ++i )
+            {
+                assertEquals( saved.get( i ).name, loaded.get( i ).name );
+                assertEquals( saved.get( i ).age, loaded.get( i ).age );
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Saving and loading with a ConfigManager" )
+    final class ConfigManagerTesting
+    {
+
+        @Test
+        @DisplayName( "Round trips through a ConfigManager" )
+        void roundTripsThroughConfigManager()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( null, ConfigSource.fromString( "pets.yml" ), LOGGER );
+
+            ConfigBatch.saveAll( saved, pet -> pet.id, configManager );
+
+            assertEquals( saved.size() * 2, configManager.getValues().size() );
+
+            final List< Pet > loaded = emptyCopies();
+
+            ConfigBatch.loadAll( loaded, pet -> pet.id, configManager );
+
+            assertEquals( saved.get( 42 ).name, loaded.get( 42 ).name );
+            assertEquals( 42, loaded.get( 42 ).age );
+        }
+
+        @Test
+        @DisplayName( "Round trips through the default section methods" )
+        void roundTripsThroughTheDefaultSectionMethods()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( null, ConfigSource.fromString( "toys.yml" ), LOGGER );
+            final Toy           toy           = new Toy();
+            final Toy           loaded        = new Toy();
+
+            toy.color = "red";
+            toy.size  = 3;
+            toy.saveToConfig( configManager, "toy" );
+            loaded.loadFromConfig( configManager, "toy" );
+
+            assertEquals( "red", configManager.getValue( "toy.color" ) );
+            assertEquals( "red", loaded.color );
+            assertEquals( 3, loaded.size );
+        }
+
+    }
+
+}
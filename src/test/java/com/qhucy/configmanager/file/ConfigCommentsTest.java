@@ -0,0 +1,167 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.ConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigComments class.
+ *
+ * @see ConfigComments
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigComments Class Testing" )
+final class ConfigCommentsTest
+{
+
+    // Basic logger used for loading a ConfigManager.
+    private final static Logger LOGGER = Logger.getLogger( ConfigCommentsTest.class.getName() );
+
+    // Temporary directory for the config file.
+    @TempDir
+    Path tempDir;
+
+    // The config file with comments used for unit testing.
+    private File file;
+
+    @BeforeEach
+    void setUp()
+            throws Exception
+    {
+        file = tempDir.resolve( "config.yml" ).toFile();
+
+        Files.write( file.toPath(), List.of( "# The shop name.", "shop: Market", "price: 10",
+                                             "# The amount.", "#   More text.", "amount: 3" ) );
+    }
+
+    @Nested
+    @DisplayName( "Lazy loading Testing" )
+    final class LazyLoadingTest
+    {
+
+        @Test
+        @DisplayName( "Describes the config file at the time it was read" )
+        void describesTheConfigFileAtTheTimeItWasRead()
+                throws Exception
+        {
+            final ConfigComments comments = new ConfigComments( file );
+
+            assertTrue( file.delete() );
+            assertEquals( 2, comments.size() );
+            assertThrows( FileNotFoundException.class, () -> new ConfigComments( file ) );
+        }
+
+        @Test
+        @DisplayName( "Reads comment blocks" )
+        void readsCommentBlocks()
+                throws Exception
+        {
+            final ConfigComments comments = new ConfigComments( file );
+
+            assertEquals( 2, comments.size() );
+            assertTrue( comments.estimateBytes() > 0 );
+            assertEquals( comments.keySet(),
+                          new ConfigComments( Files.readString( file.toPath() ) ).keySet() );
+
+            final List< String[] > blocks = new ArrayList<>( comments.values() );
+
+            blocks.sort( ( first, second ) -> first.length - second.length );
+
+            assertArrayEquals( new String[]{ "# The shop name." }, blocks.get( 0 ) );
+            assertArrayEquals( new String[]{ "# The amount.", "#   More text." }, blocks.get( 1 ) );
+        }
+
+        @Test
+        @DisplayName( "Creates arrays from the pool on every lookup" )
+        void createsArraysFromThePoolOnEveryLookup()
+                throws Exception
+        {
+            final ConfigComments comments = new ConfigComments( file );
+            final String         field    = comments.keySet().iterator().next();
+
+            assertArrayEquals( comments.get( field ), comments.get( field ) );
+            assertNotSame( comments.get( field ), comments.get( field ) );
+            assertNull( comments.get( "missing" ) );
+        }
+
+        @Test
+        @DisplayName( "Loading a config file pools its comments" )
+        void loadingAConfigFilePoolsItsComments()
+                throws Exception
+        {
+            final ConfigManager configManager = ConfigManager.loadFromFile( file, LOGGER );
+
+            assertTrue( configManager.getComments() instanceof ConfigComments );
+            assertEquals( 2, configManager.getComments().size() );
+        }
+
+        @Test
+        @DisplayName( "Saving over the config file keeps the comments" )
+        void savingOverTheConfigFileKeepsTheComments()
+                throws Exception
+        {
+            final ConfigManager configManager = ConfigManager.loadFromFile( file, LOGGER );
+
+            configManager.saveToFile( file );
+
+            assertEquals( 2, configManager.getComments().size() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Modification Testing" )
+    final class ModificationTest
+    {
+
+        @Test
+        @DisplayName( "Copies the comments on the first modification" )
+        void copiesTheCommentsOnTheFirstModification()
+                throws Exception
+        {
+            final ConfigComments comments = new ConfigComments( file );
+            final String[]       added    = { "# Added." };
+
+            comments.put( "added", added );
+
+            assertEquals( 3, comments.size() );
+            assertEquals( added, comments.get( "added" ) );
+
+            comments.remove( "added" );
+
+            assertFalse( comments.containsKey( "added" ) );
+
+            for ( final Map.Entry< String, String[] > entry : comments.entrySet() )
+            {
+                assertTrue( entry.getValue().length > 0 );
+            }
+
+            comments.clear();
+
+            assertTrue( comments.isEmpty() );
+        }
+
+    }
+
+}
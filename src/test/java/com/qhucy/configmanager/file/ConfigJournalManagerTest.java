@@ -0,0 +1,180 @@
+package com.qhucy.configmanager.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigJournalManager class.
+ *
+ * @see ConfigJournalManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigJournalManager Class Testing" )
+final class ConfigJournalManagerTest
+{
+
+    // Basic logger used for constructing a ConfigJournalManager.
+    private final static Logger LOGGER = Logger.getLogger( ConfigJournalManagerTest.class.getName() );
+
+    // Temporary directory for the snapshot and journal files.
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Throws if snapshot file is not JSON" )
+        void throwsIfSnapshotFileIsNotJson()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> new ConfigJournalManager( tempDir.resolve( "data.yml" ).toFile(),
+                                                          LOGGER ) );
+        }
+
+        @Test
+        @DisplayName( "Throws if compact threshold is not positive" )
+        void throwsIfCompactThresholdIsNotPositive()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> new ConfigJournalManager( tempDir.resolve( "data.json" ).toFile(),
+                                                          LOGGER, 0 ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Journaling Testing" )
+    final class JournalingTest
+    {
+
+        @Test
+        @DisplayName( "Setting values appends to the journal" )
+        void settingValuesAppendsToJournal()
+                throws Exception
+        {
+            try ( final ConfigJournalManager manager =
+                          new ConfigJournalManager( tempDir.resolve( "data.json" ).toFile(), LOGGER ) )
+            {
+                manager.setValue( "coins", 10L );
+
+                final long size = manager.getJournalSize();
+
+                manager.setValue( "coins", 11L );
+
+                assertTrue( manager.getJournalSize() > size );
+                assertFalse( manager.getConfigFile().exists() );
+            }
+        }
+
+        @Test
+        @DisplayName( "Journal size counts encoded bytes" )
+        void journalSizeCountsEncodedBytes()
+                throws Exception
+        {
+            try ( final ConfigJournalManager manager =
+                          new ConfigJournalManager( tempDir.resolve( "data.json" ).toFile(), LOGGER ) )
+            {
+                manager.setValue( "name", "\u00e9\u00e8\u4e16\u754c" );
+
+                assertEquals( manager.getJournalFile().length(), manager.getJournalSize() );
+            }
+        }
+
+        @Test
+        @DisplayName( "Saving removes the old journal" )
+        void savingRemovesTheOldJournal()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "data.json" ).toFile();
+
+            try ( final ConfigJournalManager manager = new ConfigJournalManager( file, LOGGER ) )
+            {
+                manager.setValue( "coins", 10L );
+                Files.writeString( Path.of( file.getPath() + ".journal.old" ),
+                                   "[\"coins\",1]\n" );
+                manager.saveToFile();
+
+                assertFalse( new File( file.getPath() + ".journal.old" ).exists() );
+            }
+
+            try ( final ConfigJournalManager manager = new ConfigJournalManager( file, LOGGER ) )
+            {
+                manager.loadFromFile();
+
+                assertEquals( 10L, manager.getValue( "coins" ) );
+            }
+        }
+
+        @Test
+        @DisplayName( "Loading replays the journal over the snapshot" )
+        void loadingReplaysJournalOverSnapshot()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "data.json" ).toFile();
+
+            try ( final ConfigJournalManager manager = new ConfigJournalManager( file, LOGGER ) )
+            {
+                manager.setValue( "coins", 10L );
+                manager.setValue( "name", "Qhucy" );
+                manager.saveToFile();
+                manager.setValue( "coins", 25L );
+            }
+
+            try ( final ConfigJournalManager manager = new ConfigJournalManager( file, LOGGER ) )
+            {
+                manager.loadFromFile();
+
+                assertEquals( 25L, manager.getValue( "coins" ) );
+                assertEquals( "Qhucy", manager.getValue( "name" ) );
+            }
+        }
+
+        @Test
+        @DisplayName( "Compaction writes a snapshot and empties the journal" )
+        void compactionWritesSnapshotAndEmptiesJournal()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "data.json" ).toFile();
+
+            try ( final ConfigJournalManager manager = new ConfigJournalManager( file, LOGGER, 64 ) )
+            {
+                for ( long i = 0; i < 100; ++i )
+                {
+                    manager.setValue( "coins", i );
+                }
+
+                // Waits for a running compaction before compacting the remaining records.
+                manager.compact().get();
+                manager.compact().get();
+
+                assertTrue( file.exists() );
+                assertEquals( 0, manager.getJournalSize() );
+            }
+
+            try ( final ConfigJournalManager manager = new ConfigJournalManager( file, LOGGER ) )
+            {
+                manager.loadFromFile();
+
+                assertEquals( 99L, manager.getValue( "coins" ) );
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,390 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.ConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigManagerPool class.
+ *
+ * @see ConfigManagerPool
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigManagerPool Class Testing" )
+final class ConfigManagerPoolTest
+{
+
+    // Basic logger used for constructing a ConfigManagerPool.
+    private final static Logger   LOGGER =
+            Logger.getLogger( ConfigManagerPoolTest.class.getName() );
+    // Idle timeout that never expires during a test.
+    private final static Duration HOUR   = Duration.ofHours( 1 );
+
+    // Temporary directory for the player data files.
+    @TempDir
+    Path tempDir;
+
+    // The number of loaded ConfigManagers.
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp()
+    {
+        loads = new AtomicInteger();
+    }
+
+    /**
+     * Loads a clean ConfigManager without reading a file and counts the load.
+     *
+     * @param configSource The ConfigSource.
+     *
+     * @return The loaded ConfigManager.
+     */
+    private ConfigManager load( final ConfigSource configSource )
+    {
+        loads.incrementAndGet();
+
+        final ConfigManager configManager =
+                new ConfigManager( configSource, LOGGER, "lives", 3, 3 );
+
+        configManager.setDirty( false );
+
+        return configManager;
+    }
+
+    /**
+     * Returns the ConfigSource of a player data file in the temporary directory.
+     *
+     * @param player The name of the player.
+     *
+     * @return The ConfigSource of the player data file.
+     */
+    private ConfigSource player( final String player )
+    {
+        return ConfigSource.fromFile( tempDir.resolve( player + ".json" ).toFile() );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Throws on invalid bounds" )
+        void throwsOnInvalidBounds()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> new ConfigManagerPool( 0, HOUR, LOGGER ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> new ConfigManagerPool( 1, Duration.ZERO, LOGGER ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Lookup Testing" )
+    final class LookupTest
+    {
+
+        @Test
+        @DisplayName( "Returns the pooled ConfigManager on a hit" )
+        void returnsThePooledConfigManagerOnAHit()
+                throws Exception
+        {
+            final ConfigManagerPool pool  = new ConfigManagerPool( 4, HOUR, LOGGER,
+                                                                   source -> load( source ) );
+            final ConfigManager     first = pool.get( player( "alex" ) );
+
+            assertSame( first, pool.get( player( "alex" ) ) );
+            assertSame( first, pool.getIfPresent( new ConfigSource( tempDir.resolve( "alex.json" )
+                                                                             .toString() ) ) );
+            assertNull( pool.getIfPresent( player( "sam" ) ) );
+            assertEquals( 1, loads.get() );
+            assertEquals( 1, pool.getHits() );
+            assertEquals( 1, pool.getMisses() );
+        }
+
+        @Test
+        @DisplayName( "Keys by a normalized copy of the ConfigSource" )
+        void keysByANormalizedCopyOfTheConfigSource()
+                throws Exception
+        {
+            final ConfigManagerPool pool   = new ConfigManagerPool( 4, HOUR, LOGGER,
+                                                                    source -> load( source ) );
+            final ConfigSource      source =
+                    new PathConfigSource( tempDir.resolve( "sub/../alex.json" ) );
+            final ConfigManager     first  = pool.get( source );
+
+            source.setSourcePath( tempDir.resolve( "sam.json" ).toString() );
+
+            assertSame( first, pool.get( player( "alex" ) ) );
+            assertNull( pool.getIfPresent( player( "sam" ) ) );
+            assertEquals( 1, loads.get() );
+        }
+
+        @Test
+        @DisplayName( "Shares a single load between concurrent lookups" )
+        void sharesASingleLoadBetweenConcurrentLookups()
+                throws Exception
+        {
+            final CountDownLatch    started  = new CountDownLatch( 1 );
+            final CountDownLatch    release  = new CountDownLatch( 1 );
+            final ConfigManagerPool pool     = new ConfigManagerPool( 4, HOUR, LOGGER, source ->
+            {
+                started.countDown();
+
+                try
+                {
+                    release.await();
+                }
+                catch ( final InterruptedException exception )
+                {
+                    throw new IllegalStateException( exception );
+                }
+
+                return load( source );
+            } );
+            final ExecutorService   executor = Executors.newFixedThreadPool( 4 );
+
+            try
+            {
+                final CompletableFuture< ConfigManager > first =
+                        pool.getAsync( player( "alex" ), executor );
+
+                assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+
+                final CompletableFuture< ConfigManager > second =
+                        pool.getAsync( player( "alex" ), executor );
+
+                release.countDown();
+
+                assertSame( first.get( 5, TimeUnit.SECONDS ), second.get( 5, TimeUnit.SECONDS ) );
+                assertEquals( 1, loads.get() );
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName( "Rethrows load failures" )
+        void rethrowsLoadFailures()
+        {
+            final ConfigManagerPool pool = new ConfigManagerPool( 4, HOUR, LOGGER, source ->
+            {
+                throw new IOException( "Missing file." );
+            } );
+
+            assertThrows( IOException.class, () -> pool.get( player( "alex" ) ) );
+            assertEquals( 0, pool.size() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Eviction Testing" )
+    final class EvictionTest
+    {
+
+        @Test
+        @DisplayName( "Evicts the least recently used ConfigManager" )
+        void evictsTheLeastRecentlyUsedConfigManager()
+                throws Exception
+        {
+            final ConfigManagerPool pool = new ConfigManagerPool( 2, HOUR, LOGGER,
+                                                                  source -> load( source ) );
+
+            pool.get( player( "alex" ) );
+            pool.get( player( "sam" ) );
+            pool.get( player( "alex" ) );
+            pool.get( player( "kim" ) );
+
+            assertEquals( 2, pool.size() );
+            assertEquals( 1, pool.getEvictions() );
+            assertNull( pool.getIfPresent( player( "sam" ) ) );
+            assertTrue( pool.getIfPresent( player( "alex" ) ) != null );
+        }
+
+        @Test
+        @DisplayName( "Evicts idle ConfigManagers" )
+        void evictsIdleConfigManagers()
+                throws Exception
+        {
+            final ConfigManagerPool pool  = new ConfigManagerPool( 4, Duration.ofMillis( 1 ),
+                                                                   LOGGER,
+                                                                   source -> load( source ) );
+            final ConfigManager     first = pool.get( player( "alex" ) );
+
+            Thread.sleep( 5 );
+            pool.cleanUp();
+
+            assertEquals( 0, pool.size() );
+            assertNotSame( first, pool.get( player( "alex" ) ) );
+            assertEquals( 2, loads.get() );
+        }
+
+        @Test
+        @DisplayName( "Writes back dirty ConfigManagers" )
+        void writesBackDirtyConfigManagers()
+                throws Exception
+        {
+            final ConfigManagerPool pool  = new ConfigManagerPool( 4, HOUR, LOGGER,
+                                                                   source -> load( source ) );
+            final File              alex  = tempDir.resolve( "alex.json" ).toFile();
+            final File              sam   = tempDir.resolve( "sam.json" ).toFile();
+
+            pool.get( player( "alex" ) ).setValue( "lives", 2 );
+            pool.get( player( "sam" ) );
+            pool.invalidateAll();
+
+            assertEquals( 0, pool.size() );
+            assertTrue( Files.readString( alex.toPath() ).contains( "\"lives\":2" ) );
+            assertFalse( sam.exists() );
+        }
+
+        @Test
+        @DisplayName( "Writes back dirty YAML ConfigManagers" )
+        void writesBackDirtyYamlConfigManagers()
+                throws Exception
+        {
+            final ConfigManagerPool pool   =
+                    new ConfigManagerPool( 4, HOUR, LOGGER, source -> load( source ) );
+            final File              alex   = tempDir.resolve( "alex.yml" ).toFile();
+            final ConfigSource      source = ConfigSource.fromFile( alex );
+
+            pool.get( source ).setValue( "lives", 2 );
+            pool.invalidate( source );
+
+            assertEquals( 2, ConfigManager.loadFromFile( alex, LOGGER ).getValue( "lives" ) );
+        }
+
+        @Test
+        @DisplayName( "Refuses to write back TOML ConfigManagers" )
+        void refusesToWriteBackTomlConfigManagers()
+                throws Exception
+        {
+            final ConfigManagerPool pool   =
+                    new ConfigManagerPool( 4, HOUR, LOGGER, source -> load( source ) );
+            final File              alex   = tempDir.resolve( "alex.toml" ).toFile();
+            final ConfigSource      source = ConfigSource.fromFile( alex );
+
+            Files.writeString( alex.toPath(), "lives = 3\n" );
+
+            pool.get( source ).setValue( "lives", 2 );
+            pool.invalidate( source );
+
+            assertEquals( "lives = 3\n", Files.readString( alex.toPath() ) );
+        }
+
+        @Test
+        @DisplayName( "Hands out a ConfigManager that is being saved once it was saved" )
+        void handsOutAConfigManagerThatIsBeingSavedOnceItWasSaved()
+                throws Exception
+        {
+            final CountDownLatch    started  = new CountDownLatch( 1 );
+            final CountDownLatch    release  = new CountDownLatch( 1 );
+            final ConfigManagerPool pool     = new ConfigManagerPool( 4, HOUR, LOGGER, source ->
+            {
+                loads.incrementAndGet();
+
+                return new ConfigManager( source, LOGGER, "lives", 3, 3 )
+                {
+                    @Override
+                    public void saveToFile( final File configFile )
+                            throws IOException
+                    {
+                        started.countDown();
+
+                        try
+                        {
+                            release.await();
+                        }
+                        catch ( final InterruptedException exception )
+                        {
+                            throw new IllegalStateException( exception );
+                        }
+
+                        super.saveToFile( configFile );
+                    }
+                };
+            } );
+            final ExecutorService   executor = Executors.newFixedThreadPool( 2 );
+
+            try
+            {
+                final ConfigManager          configManager = pool.get( player( "alex" ) );
+
+                configManager.setValue( "lives", 2 );
+
+                final CompletableFuture< ? > evicting =
+                        CompletableFuture.runAsync( () -> pool.invalidate( player( "alex" ) ),
+                                                    executor );
+
+                assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+
+                final CompletableFuture< ConfigManager > lookup =
+                        pool.getAsync( player( "alex" ), executor );
+
+                Thread.sleep( 100 );
+                assertFalse( lookup.isDone() );
+
+                release.countDown();
+                evicting.get( 5, TimeUnit.SECONDS );
+
+                assertSame( configManager, lookup.get( 5, TimeUnit.SECONDS ) );
+                assertFalse( configManager.isDirty() );
+                assertEquals( 1, loads.get() );
+                assertEquals( 1, pool.size() );
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName( "Flushes dirty ConfigManagers without evicting them" )
+        void flushesDirtyConfigManagersWithoutEvictingThem()
+                throws Exception
+        {
+            final ConfigManagerPool pool          =
+                    new ConfigManagerPool( 4, HOUR, LOGGER, source -> load( source ) );
+            final ConfigManager     configManager = pool.get( player( "alex" ) );
+
+            configManager.setValue( "lives", 1 );
+            pool.flush();
+
+            assertFalse( configManager.isDirty() );
+            assertEquals( 1, pool.size() );
+            assertTrue( tempDir.resolve( "alex.json" ).toFile().exists() );
+        }
+
+    }
+
+}
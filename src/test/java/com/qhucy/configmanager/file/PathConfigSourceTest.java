@@ -0,0 +1,164 @@
+package com.qhucy.configmanager.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the PathConfigSource class.
+ *
+ * @see PathConfigSource
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "PathConfigSource Class Testing" )
+final class PathConfigSourceTest
+{
+
+    // Time to live that never expires during a test.
+    private final static Duration HOUR = Duration.ofHours( 1 );
+
+    // Temporary directory for the config files.
+    @TempDir
+    Path tempDir;
+
+    // The config file used for unit testing.
+    private Path config;
+
+    @BeforeEach
+    void setUp()
+            throws Exception
+    {
+        config = Files.writeString( tempDir.resolve( "config.yml" ), "lives: 3" );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Throws on a negative time to live" )
+        void throwsOnANegativeTimeToLive()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> new PathConfigSource( config, Duration.ofSeconds( -1 ) ) );
+        }
+
+        @Test
+        @DisplayName( "Equals a ConfigSource of the same file" )
+        void equalsAConfigSourceOfTheSameFile()
+        {
+            final PathConfigSource configSource = new PathConfigSource( config );
+
+            assertEquals( ConfigSource.fromPath( config ), configSource );
+            assertEquals( ConfigSource.fromPath( config ).hashCode(), configSource.hashCode() );
+            assertSame( configSource.getFileFromPath(), configSource.getFileFromPath() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Attribute caching Testing" )
+    final class AttributeCachingTest
+    {
+
+        @Test
+        @DisplayName( "Reuses the attributes within the time to live" )
+        void reusesTheAttributesWithinTheTimeToLive()
+                throws Exception
+        {
+            final PathConfigSource configSource = new PathConfigSource( config, HOUR );
+
+            assertTrue( configSource.pathHasFile() );
+            assertEquals( 8, configSource.getSize() );
+            assertSame( configSource.getAttributes(), configSource.getAttributes() );
+
+            Files.delete( config );
+
+            assertTrue( configSource.pathHasFile() );
+
+            configSource.invalidate();
+
+            assertFalse( configSource.pathHasFile() );
+            assertEquals( -1, configSource.getSize() );
+            assertNull( configSource.getLastModifiedTime() );
+        }
+
+        @Test
+        @DisplayName( "Reads the attributes again after the time to live" )
+        void readsTheAttributesAgainAfterTheTimeToLive()
+                throws Exception
+        {
+            final PathConfigSource configSource = new PathConfigSource( config, Duration.ZERO );
+
+            assertTrue( configSource.pathHasFile() );
+
+            Files.writeString( config, "lives: 10" );
+            Thread.sleep( 1 );
+
+            assertEquals( 9, configSource.getSize() );
+        }
+
+        @Test
+        @DisplayName( "Rejects directories" )
+        void rejectsDirectories()
+        {
+            assertFalse( new PathConfigSource( tempDir ).pathHasFile() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Scanning Testing" )
+    final class ScanningTest
+    {
+
+        @Test
+        @DisplayName( "Finds valid config files in subdirectories" )
+        void findsValidConfigFilesInSubdirectories()
+                throws Exception
+        {
+            final Path players = Files.createDirectory( tempDir.resolve( "players" ) );
+
+            Files.writeString( players.resolve( "alex.json" ), "{}" );
+            Files.writeString( players.resolve( "notes.txt" ), "text" );
+
+            final List< PathConfigSource > sources = PathConfigSource.scan( tempDir );
+
+            assertEquals( 2, sources.size() );
+
+            for ( final PathConfigSource configSource : sources )
+            {
+                assertTrue( configSource.pathHasFile() );
+                assertTrue( ConfigFileManager.isValidConfigSource( configSource ) );
+            }
+        }
+
+        @Test
+        @DisplayName( "Checks the extension before the file" )
+        void checksTheExtensionBeforeTheFile()
+        {
+            assertTrue( ConfigFileManager.hasValidExtension( "players/alex.yaml" ) );
+            assertFalse( ConfigFileManager.hasValidExtension( "players/alex" ) );
+            assertFalse( ConfigFileManager.isValidConfigSource(
+                    ConfigSource.fromPath( tempDir.resolve( "missing.toml" ) ) ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.qhucy.configmanager.file;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.metrics.ConfigFootprint;
+import com.qhucy.configmanager.value.ConfigValue;
+import com.qhucy.configmanager.value.SlicedConfigValue;
+import com.qhucy.configmanager.value.StringSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the SlicedYamlLoader class.
+ *
+ * @see SlicedYamlLoader
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "SlicedYamlLoader Class Testing" )
+final class SlicedYamlLoaderTest
+{
+
+    // Basic logger used for loading a ConfigManager.
+    private final static Logger LOGGER =
+            Logger.getLogger( SlicedYamlLoaderTest.class.getName() );
+
+    // Temporary directory for the config files.
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName( "Parsing Testing" )
+    final class ParsingTest
+    {
+
+        @Test
+        @DisplayName( "Reads strings of nested mappings as Strings" )
+        void readsStringsOfNestedMappingsAsStrings()
+        {
+            final Map< String, ConfigValue > values = SlicedYamlLoader.parse(
+                    "# Messages.\r\nmessages:\r\n  join: Welcome, friend # A comment.\r\n"
+                    + "  quit: 'Goodbye'\r\n  deep:\r\n    title: \"The Shop\"\r\n"
+                    + "prefix: '>'\r\n" );
+
+            final Map< ?, ? > messages = ( Map< ?, ? > ) values.get( "messages" ).getValue();
+
+            assertEquals( 2, values.size() );
+            assertEquals( "Welcome, friend", messages.get( "join" ) );
+            assertEquals( "Goodbye", ( String ) messages.get( "quit" ) );
+            assertEquals( Map.of( "title", "The Shop" ), messages.get( "deep" ) );
+            assertTrue( messages.values().stream().noneMatch( StringSlice.class::isInstance ) );
+            assertTrue( values.get( "prefix" ) instanceof SlicedConfigValue );
+            assertEquals( ">", values.get( "prefix" ).getValue() );
+        }
+
+        @Test
+        @DisplayName( "Produces the same shape as the YAML parser" )
+        void producesTheSameShapeAsTheYamlParser()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "shop.yml" ).toFile();
+
+            Files.write( file.toPath(), List.of( "shop:", "  name: Market", "  prices:",
+                                                 "    apple: 2", "    pear:", "  open: yes",
+                                                 "title: Shop" ) );
+
+            final ConfigManager parsed = ConfigManager.loadFromFile( file, LOGGER );
+            final ConfigManager sliced = SlicedYamlLoader.loadFromFile( file, LOGGER );
+
+            assertEquals( parsed.getValues().keySet(), sliced.getValues().keySet() );
+            assertEquals( parsed.getValue( "shop" ), sliced.getValue( "shop" ) );
+            assertEquals( sliced.getValue( "shop" ), parsed.getValue( "shop" ) );
+            assertEquals( parsed.getValue( "title" ), sliced.getValue( "title" ) );
+        }
+
+        @Test
+        @DisplayName( "Resolves numbers, booleans, and null like YAML" )
+        void resolvesNumbersBooleansAndNullLikeYaml()
+        {
+            final Map< String, ConfigValue > values = SlicedYamlLoader.parse(
+                    "lives: 3\nprice: -1.5\nenabled: yes\nempty: ~\nsection:\nlast:" );
+
+            assertEquals( 3, values.get( "lives" ).getValue() );
+            assertEquals( -1.5, values.get( "price" ).getValue() );
+            assertEquals( true, values.get( "enabled" ).getValue() );
+            assertNull( values.get( "empty" ).getValue() );
+            assertTrue( values.containsKey( "section" ) );
+            assertNull( values.get( "last" ).getValue() );
+            assertFalse( values.get( "lives" ) instanceof SlicedConfigValue );
+        }
+
+        @Test
+        @DisplayName( "Rejects syntax outside of the subset" )
+        void rejectsSyntaxOutsideOfTheSubset()
+        {
+            for ( final String text : List.of( "items:\n  - apple", "items: [apple]",
+                                               "text: |\n  line", "text: \"a\\nb\"",
+                                               "text: 'it''s'", "base: &base value",
+                                               "text: a: b", "a: 1\n   b: 2" ) )
+            {
+                assertThrows( SlicedYamlLoader.UnsupportedSyntaxException.class,
+                              () -> SlicedYamlLoader.parse( text ), text );
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Loading Testing" )
+    final class LoadingTest
+    {
+
+        @Test
+        @DisplayName( "Loads a clean ConfigManager of slices" )
+        void loadsACleanConfigManagerOfSlices()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "messages.yml" ).toFile();
+
+            Files.write( file.toPath(), List.of( "# The join message.", "join: Welcome",
+                                                 "quit: Goodbye" ) );
+
+            final ConfigManager configManager = SlicedYamlLoader.loadFromFile( file, LOGGER );
+
+            assertFalse( configManager.isDirty() );
+            assertEquals( 1, configManager.getComments().size() );
+            assertTrue( configManager.footprint().getBytes( ConfigFootprint.Category.VALUES )
+                        > file.length() );
+            assertTrue( ( ( SlicedConfigValue ) configManager.getValues().get( "join" ) )
+                                .isSliced() );
+            assertEquals( "Welcome", configManager.getValue( "join" ) );
+            assertTrue( configManager.getValues().get( "quit" ) instanceof SlicedConfigValue );
+        }
+
+        @Test
+        @DisplayName( "Falls back to the YAML parser" )
+        void fallsBackToTheYamlParser()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "items.yml" ).toFile();
+
+            Files.write( file.toPath(), List.of( "items:", "  - apple", "  - pear" ) );
+
+            final ConfigManager configManager = SlicedYamlLoader.loadFromFile( file, LOGGER );
+
+            assertEquals( List.of( "apple", "pear" ), configManager.getValue( "items" ) );
+        }
+
+        @Test
+        @DisplayName( "Saves nested strings that are reloaded unchanged" )
+        void savesNestedStringsThatAreReloadedUnchanged()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "shop.yml" ).toFile();
+
+            Files.write( file.toPath(), List.of( "shop:", "  name: Market", "  greeting:",
+                                                 "    join: 'Welcome in'", "title: Shop" ) );
+
+            final ConfigManager sliced = SlicedYamlLoader.loadFromFile( file, LOGGER );
+
+            sliced.saveToFile( file );
+
+            final ConfigManager reloaded = ConfigManager.loadFromFile( file, LOGGER );
+
+            assertEquals( Map.of( "name", "Market", "greeting", Map.of( "join", "Welcome in" ) ),
+                          reloaded.getValue( "shop" ) );
+            assertEquals( "Shop", reloaded.getValue( "title" ) );
+        }
+
+    }
+
+}
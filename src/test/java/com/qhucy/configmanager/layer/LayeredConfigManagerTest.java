@@ -0,0 +1,137 @@
+package com.qhucy.configmanager.layer;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit Testing for the LayeredConfigManager class.
+ *
+ * @see LayeredConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "LayeredConfigManager Class Testing" )
+final class LayeredConfigManagerTest
+{
+
+    // Random config source file path used for constructing the layers.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing the layers.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( LayeredConfigManagerTest.class.getName() );
+
+    // The layer of built-in defaults.
+    private ConfigManager        defaults;
+    // The layer of the server file.
+    private ConfigManager        server;
+    // The layer of runtime overrides.
+    private ConfigManager        runtime;
+    // The LayeredConfigManager used for unit testing.
+    private LayeredConfigManager layered;
+
+    @BeforeEach
+    void setUp()
+    {
+        defaults = new ConfigManager( CONFIG_SOURCE, LOGGER, "a", null, 1, "b", null, 2, "c", 3,
+                                      null );
+        server   = new ConfigManager( CONFIG_SOURCE, LOGGER, "a", 10, null );
+        runtime  = new ConfigManager( CONFIG_SOURCE, LOGGER );
+        layered  = new LayeredConfigManager( List.of( defaults, server, runtime ), CONFIG_SOURCE,
+                                             LOGGER );
+    }
+
+    @Nested
+    @DisplayName( "Resolution Testing" )
+    final class ResolutionTesting
+    {
+
+        @Test
+        @DisplayName( "Rejects an empty list of layers" )
+        void rejectsAnEmptyListOfLayers()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> new LayeredConfigManager( List.of(), CONFIG_SOURCE, LOGGER ) );
+        }
+
+        @Test
+        @DisplayName( "Resolves values by precedence" )
+        void resolvesValuesByPrecedence()
+        {
+            assertEquals( 10, layered.getValue( "a" ) );
+            assertEquals( 1, layered.getDefaultValue( "a" ) );
+            assertEquals( 2, layered.getValue( "b" ) );
+            assertEquals( 3, layered.getValue( "c" ) );
+        }
+
+        @Test
+        @DisplayName( "Follows value changes of any layer" )
+        void followsValueChangesOfAnyLayer()
+        {
+            runtime.setValue( "a", 100 );
+
+            assertEquals( 100, layered.getValue( "a" ) );
+
+            server.putAll( Map.of( "b", 20, "d", 40 ) );
+
+            assertEquals( 20, layered.getValue( "b" ) );
+            assertEquals( 40, layered.getValue( "d" ) );
+
+            runtime.setValue( "a", null );
+
+            assertEquals( 10, layered.getValue( "a" ) );
+        }
+
+        @Test
+        @DisplayName( "Writes go to the top layer" )
+        void writesGoToTheTopLayer()
+        {
+            layered.setValue( "c", 30 );
+
+            assertEquals( 30, runtime.getValue( "c" ) );
+            assertEquals( 30, layered.getValue( "c" ) );
+            assertEquals( 3, defaults.getValue( "c" ) );
+        }
+
+        @Test
+        @DisplayName( "Dispatches effective changes only" )
+        void dispatchesEffectiveChangesOnly()
+        {
+            final List< ConfigChangeSet > received = new ArrayList<>();
+
+            layered.getChangeDispatcher().subscribeAll( received::add, Runnable::run );
+
+            // Shadowed by the server layer, the effective value does not change.
+            defaults.setValue( "a", 5 );
+            server.setValue( "a", 11 );
+
+            assertEquals( 1, received.size() );
+            assertEquals( 11, received.get( 0 ).getChange( "a" ).newValue() );
+        }
+
+        @Test
+        @DisplayName( "Stops following the layers once closed" )
+        void stopsFollowingTheLayersOnceClosed()
+        {
+            layered.close();
+            runtime.setValue( "e", 1 );
+
+            assertNull( layered.getValues().get( "e" ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.qhucy.configmanager.metrics;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.metrics.ConfigFootprint.Category;
+import com.qhucy.configmanager.storage.ColumnarConfigManager;
+import com.qhucy.configmanager.storage.OffHeapConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigFootprint class.
+ *
+ * @see ConfigFootprint
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigFootprint Class Testing" )
+final class ConfigFootprintTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConfigFootprintTest.class.getName() );
+
+    // The ConfigManager used for unit testing.
+    private ConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Market", null,
+                                           "shop.price", 1000L, 5L, "enabled", true, false );
+    }
+
+    @Nested
+    @DisplayName( "Estimating Testing" )
+    final class EstimatingTest
+    {
+
+        @Test
+        @DisplayName( "Breaks the total down by category" )
+        void breaksTheTotalDownByCategory()
+        {
+            final ConfigFootprint footprint = configManager.footprint();
+
+            long sum = 0;
+
+            for ( final Category category : Category.values() )
+            {
+                sum += footprint.getBytes( category );
+            }
+
+            assertEquals( footprint.getBytes(), sum );
+            assertEquals( 3 * ConfigFootprint.CONFIG_VALUE_BYTES,
+                          footprint.getBytes( Category.CONFIG_VALUES ) );
+            assertEquals( ConfigFootprint.mapBytes( new HashMap<>() ),
+                          footprint.getBytes( Category.COMMENTS ) );
+            assertTrue( footprint.getBytes( Category.INDEX ) > 0 );
+        }
+
+        @Test
+        @DisplayName( "Sizes Strings and boxed values" )
+        void sizesStringsAndBoxedValues()
+        {
+            final ConfigFootprint footprint = configManager.footprint();
+
+            // "Market" is 24 + 24 bytes, 1000L is 24 bytes, the cached 5L and Booleans are free.
+            assertEquals( 72, footprint.getBytes( Category.VALUES ) );
+        }
+
+        @Test
+        @DisplayName( "Groups fields by top-level section" )
+        void groupsFieldsByTopLevelSection()
+        {
+            final ConfigFootprint footprint = configManager.footprint();
+
+            assertEquals( Set.of( "shop", "enabled" ), footprint.getSections() );
+            assertEquals( 72, footprint.getSectionBytes( "shop", Category.VALUES ) );
+            assertEquals( 0, footprint.getSectionBytes( "missing" ) );
+            assertTrue( footprint.getSectionBytes( "shop" )
+                        > footprint.getSectionBytes( "enabled" ) );
+        }
+
+        @Test
+        @DisplayName( "Counts nested collections and their keys" )
+        void countsNestedCollectionsAndTheirKeys()
+        {
+            final Map< String, Object > nested = new HashMap<>();
+            final long                  keys   =
+                    configManager.footprint().getSectionBytes( "shop", Category.KEYS );
+
+            nested.put( "items", List.of( "apple", "pear" ) );
+            configManager.getValues().get( "shop.name" ).setValue( nested );
+
+            final ConfigFootprint footprint = configManager.footprint();
+
+            assertTrue( footprint.getSectionBytes( "shop", Category.COLLECTIONS ) > 0 );
+            assertTrue( footprint.getSectionBytes( "shop", Category.KEYS ) > keys );
+        }
+
+        @Test
+        @DisplayName( "Counts shared objects once" )
+        void countsSharedObjectsOnce()
+        {
+            final String shared = "a value shared by two fields";
+
+            configManager.setValue( "first", shared );
+
+            final long before = configManager.footprint().getBytes( Category.VALUES );
+
+            configManager.setValue( "second", shared );
+
+            assertEquals( before, configManager.footprint().getBytes( Category.VALUES ) );
+        }
+
+        @Test
+        @DisplayName( "Counts comments" )
+        void countsComments()
+        {
+            configManager.getComments().put( "shop.name", new String[]{ "# The shop name." } );
+
+            final ConfigFootprint footprint = configManager.footprint();
+
+            assertTrue( footprint.getBytes( Category.COMMENTS ) > 0 );
+            assertTrue( footprint.getSectionBytes( "shop", Category.COMMENTS ) > 0 );
+        }
+
+        @Test
+        @DisplayName( "Reports flat metrics" )
+        void reportsFlatMetrics()
+        {
+            final Map< String, Long > metrics = configManager.footprint().toMetrics();
+
+            assertEquals( configManager.footprint().getBytes(), metrics.get( "bytes" ) );
+            assertTrue( metrics.containsKey( "bytes.config_values" ) );
+            assertTrue( metrics.containsKey( "section.shop.bytes" ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Storage modes Testing" )
+    final class StorageModesTest
+    {
+
+        @Test
+        @DisplayName( "Columnar storage holds no ConfigValues" )
+        void columnarStorageHoldsNoConfigValues()
+        {
+            final ConfigFootprint footprint =
+                    new ColumnarConfigManager( configManager ).footprint();
+
+            assertEquals( 0, footprint.getBytes( Category.CONFIG_VALUES ) );
+            assertEquals( 48, footprint.getBytes( Category.VALUES ) );
+        }
+
+        @Test
+        @DisplayName( "Off-heap storage holds no values" )
+        void offHeapStorageHoldsNoValues()
+        {
+            final ConfigFootprint footprint =
+                    new OffHeapConfigManager( configManager ).footprint();
+
+            assertEquals( 0, footprint.getBytes( Category.VALUES ) );
+            assertTrue( footprint.getBytes( Category.CONFIG_VALUES ) > 0 );
+        }
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.qhucy.configmanager.path;
+
+import com.qhucy.configmanager.ConfigBuilder;
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit Testing for the ConfigPath class.
+ *
+ * @see ConfigPath
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigPath Class Testing" )
+final class ConfigPathTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConfigPathTest.class.getName() );
+
+    /**
+     * Returns the key instance a map stores for a field.
+     *
+     * @param map   The map.
+     * @param field The field.
+     *
+     * @return The key instance equal to the field, null if the map does not contain it.
+     */
+    private static String storedKey( final Map< String, ? > map, final String field )
+    {
+        for ( final String key : map.keySet() )
+        {
+            if ( key.equals( field ) )
+            {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    @Nested
+    @DisplayName( "Interning Testing" )
+    final class InterningTesting
+    {
+
+        @Test
+        @DisplayName( "Equal field names return the same path" )
+        void equalFieldNamesReturnTheSamePath()
+        {
+            final ConfigPath path = ConfigPath.of( new String( "intern.a.c.f" ) );
+
+            assertSame( path, ConfigPath.of( new String( "intern.a.c.f" ) ) );
+            assertSame( path, ConfigPath.ROOT.child( "intern" ).child( "a" ).child( "c" )
+                                             .child( "f" ) );
+            assertSame( path.toString(), ConfigPath.intern( new String( "intern.a.c.f" ) ) );
+        }
+
+        @Test
+        @DisplayName( "Paths know their parent, segment, and depth" )
+        void pathsKnowTheirParentSegmentAndDepth()
+        {
+            final ConfigPath path = ConfigPath.of( "intern.b.c" );
+
+            assertEquals( "c", path.getSegment() );
+            assertEquals( 3, path.getDepth() );
+            assertSame( ConfigPath.of( "intern.b" ), path.getParent() );
+            assertSame( ConfigPath.ROOT, ConfigPath.of( "" ) );
+            assertNull( ConfigPath.ROOT.getParent() );
+            assertTrue( path.startsWith( ConfigPath.of( "intern" ) ) );
+            assertFalse( path.startsWith( ConfigPath.of( "intern.a" ) ) );
+        }
+
+        @Test
+        @DisplayName( "Segments are shared between paths" )
+        void segmentsAreSharedBetweenPaths()
+        {
+            assertSame( ConfigPath.of( "intern.x.shared" ).getSegment(),
+                        ConfigPath.of( "intern.y.shared" ).getSegment() );
+        }
+
+        @Test
+        @DisplayName( "Unreferenced field names leave the pool" )
+        void unreferencedFieldNamesLeaveThePool() throws InterruptedException
+        {
+            final WeakReference< String > canonical =
+                    new WeakReference<>( ConfigPath.of( new String( "intern.unused.field" ) )
+                                                   .toString() );
+
+            for ( int i = 0; i < 50 && canonical.get() != null; ++i )
+            {
+                System.gc();
+                Thread.sleep( 10 );
+            }
+
+            // System.gc() is only a hint, so the test is skipped if the collector ignored it.
+            assumeTrue( canonical.get() == null, "The field name was not collected" );
+
+            final String fieldName = new String( "intern.unused.field" );
+
+            assertSame( fieldName, ConfigPath.intern( fieldName ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Usage Testing" )
+    final class UsageTesting
+    {
+
+        @Test
+        @DisplayName( "ConfigManagers store interned field names" )
+        void configManagersStoreInternedFieldNames()
+        {
+            final ConfigManager first  = new ConfigManager( CONFIG_SOURCE, LOGGER );
+            final ConfigManager second = new ConfigManager( CONFIG_SOURCE, LOGGER );
+
+            first.setValue( new String( "intern.stored" ), 1 );
+            second.putAll( Map.of( new String( "intern.stored" ), 2 ) );
+
+            assertSame( storedKey( first.getValues(), "intern.stored" ),
+                        storedKey( second.getValues(), "intern.stored" ) );
+        }
+
+        @Test
+        @DisplayName( "Flattened nested maps use interned field names" )
+        void flattenedNestedMapsUseInternedFieldNames()
+        {
+            final Map< String, Object > flat =
+                    ConfigBuilder.buildFromNestedMap( Map.of( "intern", Map.of( "nested", 1 ) ) );
+
+            assertSame( ConfigPath.intern( "intern.nested" ), storedKey( flat, "intern.nested" ) );
+        }
+
+    }
+
+}
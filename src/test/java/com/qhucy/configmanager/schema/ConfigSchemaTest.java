@@ -0,0 +1,249 @@
+package com.qhucy.configmanager.schema;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.schema.ConfigSchema.Type;
+import com.qhucy.configmanager.snapshot.VersionedConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigSchema class.
+ *
+ * @see ConfigSchema
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigSchema Class Testing" )
+final class ConfigSchemaTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConfigSchemaTest.class.getName() );
+
+    // Temporary directory for the config files.
+    @TempDir
+    Path tempDir;
+
+    // The ConfigSchema used for unit testing.
+    private ConfigSchema schema;
+
+    @BeforeEach
+    void setUp()
+    {
+        schema = ConfigSchema.builder()
+                             .field( "shop.name", Type.STRING ).required().pattern( "[A-Za-z ]+" )
+                             .field( "shop.price", Type.INTEGER ).defaultValue( 10 ).range( 0, 100 )
+                             .field( "enabled", Type.BOOLEAN )
+                             .build();
+    }
+
+    @Nested
+    @DisplayName( "Building Testing" )
+    final class BuildingTest
+    {
+
+        @Test
+        @DisplayName( "Compiles the declared fields" )
+        void compilesTheDeclaredFields()
+        {
+            assertEquals( 3, schema.size() );
+            assertEquals( List.of( "shop.name", "shop.price", "enabled" ), schema.getFields() );
+            assertEquals( 10, schema.getDefaultValues().get( "shop.price" ) );
+        }
+
+        @Test
+        @DisplayName( "Throws on invalid declarations" )
+        void throwsOnInvalidDeclarations()
+        {
+            final ConfigSchema.Builder builder = ConfigSchema.builder();
+
+            assertThrows( IllegalArgumentException.class, builder::required );
+            assertThrows( IllegalArgumentException.class,
+                          () -> builder.field( "name", Type.STRING ).range( 0, 1 ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> builder.field( "lives", Type.INTEGER ).pattern( "[0-9]+" ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> builder.field( "lives", Type.ANY ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigSchema.builder().field( "lives", Type.INTEGER )
+                                            .defaultValue( 500 ).range( 0, 10 ).build() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Validation Testing" )
+    final class ValidationTest
+    {
+
+        @Test
+        @DisplayName( "Reports every violation in one pass" )
+        void reportsEveryViolationInOnePass()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.price", 500, null, "enabled",
+                                       "yes", null );
+
+            final List< ConfigViolation > violations = schema.validate( configManager );
+
+            assertEquals( 3, violations.size() );
+            assertEquals( "shop.name", violations.get( 0 ).field() );
+            assertEquals( "shop.price", violations.get( 1 ).field() );
+            assertEquals( "enabled", violations.get( 2 ).field() );
+        }
+
+        @Test
+        @DisplayName( "Fills in defaults without making the ConfigManager dirty" )
+        void fillsInDefaultsWithoutMakingTheConfigManagerDirty()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Market", null );
+
+            configManager.setDirty( false );
+            configManager.setSchema( schema );
+            configManager.validate();
+
+            assertTrue( configManager.isValidated() );
+            assertFalse( configManager.isDirty() );
+            assertEquals( 10, configManager.getValue( "shop.price" ) );
+            assertTrue( configManager.snapshot().isValidated() );
+
+            configManager.setValue( "shop.price", 20 );
+
+            assertFalse( configManager.isValidated() );
+            assertFalse( configManager.snapshot().isValidated() );
+        }
+
+        @Test
+        @DisplayName( "Fills in defaults of ConfigManagers with detached value maps" )
+        void fillsInDefaultsOfConfigManagersWithDetachedValueMaps()
+        {
+            final ConfigManager configManager = new VersionedConfigManager(
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Market", null,
+                                       "enabled", null, null ) );
+
+            configManager.setDirty( false );
+            configManager.setSchema( schema );
+            configManager.validate();
+
+            assertTrue( configManager.isValidated() );
+            assertFalse( configManager.isDirty() );
+            assertEquals( 10, configManager.getValue( "shop.price" ) );
+            assertEquals( 10, configManager.getDefaultValue( "shop.price" ) );
+        }
+
+        @Test
+        @DisplayName( "Throws on violations" )
+        void throwsOnViolations()
+        {
+            final ConfigManager configManager = new ConfigManager( CONFIG_SOURCE, LOGGER );
+
+            assertThrows( IllegalStateException.class, configManager::validate );
+
+            configManager.setSchema( schema );
+
+            final ConfigValidationException exception =
+                    assertThrows( ConfigValidationException.class, configManager::validate );
+
+            assertEquals( 1, exception.getViolations().size() );
+            assertFalse( configManager.isValidated() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Loading Testing" )
+    final class LoadingTest
+    {
+
+        @Test
+        @DisplayName( "Validates when loading a config file" )
+        void validatesWhenLoadingAConfigFile()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "config.yml" ).toFile();
+
+            Files.write( file.toPath(), List.of( "shop.name: Market", "shop.price: 50" ) );
+
+            final ConfigManager configManager = ConfigManager.loadFromFile( file, LOGGER, schema );
+
+            assertTrue( configManager.isValidated() );
+            assertEquals( 50, configManager.getValue( "shop.price" ) );
+
+            Files.write( file.toPath(), List.of( "shop.name: Market 2", "shop.price: 500" ) );
+
+            assertThrows( ConfigValidationException.class,
+                          () -> ConfigManager.loadFromFile( file, LOGGER, schema ) );
+        }
+
+        @Test
+        @DisplayName( "Keeps the current config on an invalid reload" )
+        void keepsTheCurrentConfigOnAnInvalidReload()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Market", null );
+
+            configManager.setSchema( schema );
+            configManager.validate();
+
+            assertThrows( ConfigValidationException.class, () -> configManager.reloadFrom(
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.price", 5, null ) ) );
+            assertEquals( "Market", configManager.getValue( "shop.name" ) );
+
+            configManager.reloadFrom(
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Bazaar", null ) );
+
+            assertEquals( "Bazaar", configManager.getValue( "shop.name" ) );
+            assertEquals( 10, configManager.getValue( "shop.price" ) );
+            assertTrue( configManager.isValidated() );
+        }
+
+        @Test
+        @DisplayName( "Does not validate a reload that was validated already" )
+        void doesNotValidateAReloadThatWasValidatedAlready()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Market", null );
+            final int[]         validations   = { 0 };
+            final ConfigManager loaded        =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "shop.name", "Bazaar", null )
+                    {
+                        @Override
+                        public void validate()
+                        {
+                            ++validations[ 0 ];
+                            super.validate();
+                        }
+                    };
+
+            configManager.setSchema( schema );
+            loaded.setSchema( schema );
+            loaded.validate();
+            configManager.reloadFrom( loaded );
+
+            assertEquals( 1, validations[ 0 ] );
+            assertEquals( "Bazaar", configManager.getValue( "shop.name" ) );
+            assertTrue( configManager.isValidated() );
+        }
+
+    }
+
+}
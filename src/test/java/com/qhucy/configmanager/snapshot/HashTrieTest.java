@@ -0,0 +1,84 @@
+package com.qhucy.configmanager.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit Testing for the HashTrie class.
+ *
+ * @see HashTrie
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "HashTrie Class Testing" )
+final class HashTrieTest
+{
+
+    @Nested
+    @DisplayName( "Put and get Testing" )
+    final class PutAndGetTesting
+    {
+
+        @Test
+        @DisplayName( "Holds many keys and leaves old versions unchanged" )
+        void holdsManyKeysAndLeavesOldVersionsUnchanged()
+        {
+            HashTrie< Integer > trie = HashTrie.empty();
+
+            for ( int i = 0; i < 10_000; ++i )
+            {
+                trie = trie.put( "field" + i, i );
+            }
+
+            final HashTrie< Integer > updated = trie.put( "field5", -5 );
+
+            assertEquals( 10_000, trie.size() );
+            assertEquals( 10_000, updated.size() );
+            assertEquals( 5, trie.get( "field5" ) );
+            assertEquals( -5, updated.get( "field5" ) );
+            assertNull( trie.get( "missing" ) );
+
+            final Map< String, Integer > copy = new HashMap<>();
+
+            updated.forEach( copy::put );
+
+            assertEquals( 10_000, copy.size() );
+            assertEquals( 9_999, copy.get( "field9999" ) );
+        }
+
+        @Test
+        @DisplayName( "Handles keys with equal hashes" )
+        void handlesKeysWithEqualHashes()
+        {
+            // "Aa" and "BB" share the same String hash.
+            final HashTrie< String > trie = HashTrie.< String >empty().put( "Aa", "first" )
+                                                    .put( "BB", "second" ).put( "C", "third" )
+                                                    .put( "Aa", "replaced" );
+
+            assertEquals( 3, trie.size() );
+            assertEquals( "replaced", trie.get( "Aa" ) );
+            assertEquals( "second", trie.get( "BB" ) );
+            assertEquals( "third", trie.get( "C" ) );
+        }
+
+        @Test
+        @DisplayName( "Returns the same trie for unchanged puts" )
+        void returnsTheSameTrieForUnchangedPuts()
+        {
+            final String             value = "value";
+            final HashTrie< String > trie  = HashTrie.< String >empty().put( "field", value );
+
+            assertSame( trie, trie.put( "field", value ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.qhucy.configmanager.snapshot;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the VersionedConfigManager class.
+ *
+ * @see VersionedConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "VersionedConfigManager Class Testing" )
+final class VersionedConfigManagerTest
+{
+
+    // Random config source file path used for constructing a VersionedConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a VersionedConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( VersionedConfigManagerTest.class.getName() );
+
+    // The VersionedConfigManager used for unit testing.
+    private VersionedConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new VersionedConfigManager( CONFIG_SOURCE, LOGGER, "a.b", 1, null, "a.c.f",
+                                                    2, 20 );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Instantiates with no exception" )
+        void instantiatesWithNoException()
+        {
+            assertDoesNotThrow( () -> new VersionedConfigManager( null, CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new VersionedConfigManager( CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new VersionedConfigManager( new ConfigManager( CONFIG_SOURCE,
+                                                                                     LOGGER ) ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Snapshot Testing" )
+    final class SnapshotTesting
+    {
+
+        @Test
+        @DisplayName( "Snapshots are pinned to their version" )
+        void snapshotsArePinnedToTheirVersion()
+        {
+            final ConfigSnapshot before = configManager.snapshot();
+
+            final HashMap< String, Object > values = new HashMap<>();
+
+            values.put( "a.b", 10 );
+            values.put( "a.c.f", 30 );
+
+            configManager.transferValues( values );
+
+            final ConfigSnapshot after = configManager.snapshot();
+
+            assertEquals( 1, before.getValue( "a.b" ) );
+            assertEquals( 2, before.getValue( "a.c.f" ) );
+            assertEquals( 10, after.getValue( "a.b" ) );
+            assertEquals( 30, after.getValue( "a.c.f" ) );
+            assertEquals( 20, after.getDefaultValue( "a.c.f" ) );
+            assertEquals( before.getVersion() + 1, after.getVersion() );
+        }
+
+        @Test
+        @DisplayName( "Snapshots without writes in between are the same" )
+        void snapshotsWithoutWritesInBetweenAreTheSame()
+        {
+            assertSame( configManager.snapshot(), configManager.snapshot() );
+        }
+
+        @Test
+        @DisplayName( "Unversioned ConfigManagers return copied snapshots" )
+        void unversionedConfigManagersReturnCopiedSnapshots()
+        {
+            final ConfigManager  plain    = new ConfigManager( CONFIG_SOURCE, LOGGER, "a", 1, null );
+            final ConfigSnapshot snapshot = plain.snapshot();
+
+            plain.setValue( "a", 2 );
+
+            assertEquals( 1, snapshot.getValue( "a" ) );
+            assertEquals( 0, snapshot.getVersion() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Reading and writing Testing" )
+    final class ReadingAndWritingTesting
+    {
+
+        @Test
+        @DisplayName( "Reads and writes values and default values" )
+        void readsAndWritesValuesAndDefaultValues()
+        {
+            configManager.setValue( "a.b", 5 );
+            configManager.setDefaultValue( "a.b", 6 );
+            configManager.setDefaultValue( "new", 7 );
+
+            assertEquals( 5, configManager.getValue( "a.b" ) );
+            assertEquals( 6, configManager.getDefaultValue( "a.b" ) );
+            assertEquals( 7, configManager.getValue( "new" ) );
+            assertEquals( 3, configManager.getValues().size() );
+        }
+
+        @Test
+        @DisplayName( "Returned ConfigValues are detached" )
+        void returnedConfigValuesAreDetached()
+        {
+            final ConfigValue configValue = configManager.getConfigValue( "a.b" );
+
+            configValue.setValue( 100 );
+            configManager.getValues().get( "a.b" ).setValue( 100 );
+
+            assertEquals( 1, configManager.getValue( "a.b" ) );
+        }
+
+        @Test
+        @DisplayName( "Returns an unmodifiable view of the version that was read" )
+        void returnsAnUnmodifiableViewOfTheVersionThatWasRead()
+        {
+            final Map< String, ConfigValue > values = configManager.getValues();
+
+            configManager.setValue( "new", 2 );
+
+            assertThrows( UnsupportedOperationException.class, values::clear );
+            assertThrows( UnsupportedOperationException.class,
+                          () -> values.put( "x", new ConfigValue( 1, null ) ) );
+            assertFalse( values.containsKey( "new" ) );
+            assertEquals( 1, values.get( "a.b" ).getValue() );
+            assertEquals( configManager.snapshot().size() - 1, values.size() );
+            assertEquals( values.size(), values.entrySet().size() );
+        }
+
+        @Test
+        @DisplayName( "Reloading publishes one version" )
+        void reloadingPublishesOneVersion()
+        {
+            final long version = configManager.snapshot().getVersion();
+
+            configManager.reloadFrom( new ConfigManager( CONFIG_SOURCE, LOGGER, "x", 1, null ) );
+
+            assertEquals( version + 1, configManager.snapshot().getVersion() );
+            assertTrue( configManager.snapshot().contains( "x" ) );
+            assertFalse( configManager.snapshot().contains( "a.b" ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.qhucy.configmanager.spigot;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the SpigotConfigReloader class. The Spigot scheduler is replaced by queues of
+ * asynchronous and main thread tasks that the tests run by hand.
+ *
+ * @see SpigotConfigReloader
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "SpigotConfigReloader Class Testing" )
+final class SpigotConfigReloaderTest
+{
+
+    // Default config file.
+    private final static File   CONFIG_FILE = new File( "src/test/resources/dummy_config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger LOGGER      =
+            Logger.getLogger( SpigotConfigReloaderTest.class.getName() );
+
+    // Tasks scheduled to run asynchronously.
+    private final Queue< Runnable > asyncTasks = new ArrayDeque<>();
+    // Tasks scheduled to run on the main thread.
+    private final Queue< Runnable > mainTasks  = new ArrayDeque<>();
+
+    // The live ConfigManager that reloads are applied to.
+    private ConfigManager        configManager;
+    // The SpigotConfigReloader used for unit testing.
+    private SpigotConfigReloader reloader;
+
+    @BeforeEach
+    void setUp()
+    {
+        final BukkitScheduler scheduler = ( BukkitScheduler ) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class< ? >[]{ BukkitScheduler.class },
+                ( proxy, method, args ) ->
+                {
+                    switch ( method.getName() )
+                    {
+                        case "runTaskAsynchronously" -> asyncTasks.add( ( Runnable ) args[ 1 ] );
+                        case "runTask" -> mainTasks.add( ( Runnable ) args[ 1 ] );
+                        default -> throw new UnsupportedOperationException( method.getName() );
+                    }
+
+                    return null;
+                } );
+        final Server server = ( Server ) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class< ? >[]{ Server.class },
+                ( proxy, method, args ) -> scheduler );
+        final Plugin plugin = ( Plugin ) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class< ? >[]{ Plugin.class },
+                ( proxy, method, args ) -> server );
+
+        configManager = new ConfigManager( ConfigSource.fromFile( CONFIG_FILE ), LOGGER, "old", 1,
+                                           null );
+        reloader      = new SpigotConfigReloader( plugin, configManager, CONFIG_FILE );
+    }
+
+    @Nested
+    @DisplayName( "Reloading Testing" )
+    final class ReloadingTesting
+    {
+
+        @Test
+        @DisplayName( "Applies the reload only on the main thread task" )
+        void appliesReloadOnlyOnMainThreadTask()
+        {
+            final CompletableFuture< ConfigManager > future = reloader.reload();
+
+            asyncTasks.poll().run();
+
+            assertEquals( 1, configManager.getValue( "old" ) );
+            assertFalse( future.isDone() );
+
+            mainTasks.poll().run();
+
+            assertTrue( future.isDone() );
+            assertNull( configManager.getValues().get( "old" ) );
+            assertEquals( true, configManager.getValue( "boolean" ) );
+        }
+
+        @Test
+        @DisplayName( "Leaves the live config untouched on failed validation" )
+        void leavesLiveConfigUntouchedOnFailedValidation()
+        {
+            final CompletableFuture< ConfigManager > future = reloader.reload( loaded -> false );
+
+            asyncTasks.poll().run();
+
+            assertTrue( future.isCompletedExceptionally() );
+            assertTrue( mainTasks.isEmpty() );
+            assertEquals( 1, configManager.getValue( "old" ) );
+        }
+
+        @Test
+        @DisplayName( "Returns the running reload while one is running" )
+        void returnsRunningReloadWhileOneIsRunning()
+        {
+            final CompletableFuture< ConfigManager > future = reloader.reload();
+
+            assertSame( future, reloader.reload() );
+            assertEquals( 1, asyncTasks.size() );
+        }
+
+    }
+
+}
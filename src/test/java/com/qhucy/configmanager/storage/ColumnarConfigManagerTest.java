@@ -0,0 +1,257 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.event.ConfigChangeSet;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ColumnarConfigManager class.
+ *
+ * @see ColumnarConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ColumnarConfigManager Class Testing" )
+final class ColumnarConfigManagerTest
+{
+
+    // Random config source file path used for constructing a ColumnarConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ColumnarConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ColumnarConfigManagerTest.class.getName() );
+
+    // The ColumnarConfigManager used for unit testing.
+    private ColumnarConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new ColumnarConfigManager( CONFIG_SOURCE, LOGGER, "int", 3, 7, "def", null,
+                                                   1.5, "text", "a", "b" );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Instantiates with no exception" )
+        void instantiatesWithNoException()
+        {
+            assertDoesNotThrow( () -> new ColumnarConfigManager( null, CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new ColumnarConfigManager( CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new ColumnarConfigManager( new ConfigManager( CONFIG_SOURCE,
+                                                                                    LOGGER ) ) );
+        }
+
+        @Test
+        @DisplayName( "Copies the values of another ConfigManager" )
+        void copiesTheValuesOfAnotherConfigManager()
+        {
+            final ConfigManager         original =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "a", 1L, 2L );
+            final ColumnarConfigManager copy     = new ColumnarConfigManager( original );
+
+            assertEquals( 1L, copy.getValue( "a" ) );
+            assertEquals( 2L, copy.getDefaultValue( "a" ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Reading and writing Testing" )
+    final class ReadingAndWritingTest
+    {
+
+        @Test
+        @DisplayName( "Reads values and default values" )
+        void readsValuesAndDefaultValues()
+        {
+            assertEquals( 3, configManager.getValue( "int" ) );
+            assertEquals( 1.5, configManager.getValue( "def" ) );
+            assertEquals( "a", configManager.getValue( "text" ) );
+            assertEquals( 7, configManager.getDefaultValue( "int" ) );
+            assertNull( configManager.getRawValue( "def" ) );
+            assertNull( configManager.getValue( "missing" ) );
+            assertEquals( 3, configManager.size() );
+        }
+
+        @Test
+        @DisplayName( "Keeps the exact type of unboxed numbers" )
+        void keepsTheExactTypeOfUnboxedNumbers()
+        {
+            configManager.setValue( "long", Long.MAX_VALUE );
+            configManager.setValue( "double", -0.25 );
+            configManager.setValue( "int", Integer.MIN_VALUE );
+
+            assertEquals( Long.MAX_VALUE, configManager.getValue( "long" ) );
+            assertEquals( -0.25, configManager.getValue( "double" ) );
+            assertEquals( Integer.MIN_VALUE, configManager.getValue( "int" ) );
+
+            configManager.setValue( "int", "text" );
+
+            assertEquals( "text", configManager.getValue( "int" ) );
+        }
+
+        @Test
+        @DisplayName( "Creates ConfigValue views on demand" )
+        void createsConfigValueViewsOnDemand()
+        {
+            final ConfigValue configValue = configManager.getConfigValue( "int" );
+
+            assertEquals( 3, configValue.getValue() );
+
+            configValue.setValue( 4 );
+            configValue.setDefaultValue( 8 );
+
+            assertEquals( 4, configManager.getValue( "int" ) );
+            assertEquals( 8, configManager.getDefaultValue( "int" ) );
+
+            configManager.setValue( "int", 5 );
+
+            assertEquals( 5, configValue.getValue() );
+            assertNull( configManager.getConfigValue( "missing" ) );
+        }
+
+        @Test
+        @DisplayName( "Grows and removes fields" )
+        void growsAndRemovesFields()
+        {
+            for ( int i = 0; i < 1000; ++i )
+            {
+                configManager.setValue( "field." + i, i );
+            }
+
+            for ( int i = 0; i < 1000; i += 2 )
+            {
+                configManager.getValues().remove( "field." + i );
+            }
+
+            assertEquals( 503, configManager.size() );
+
+            for ( int i = 0; i < 1000; ++i )
+            {
+                final Object expected = ( i % 2 == 0 ) ? null : i;
+
+                assertEquals( expected, configManager.getRawValue( "field." + i ) );
+            }
+
+            configManager.setDefaultValue( "field.0", "reinserted" );
+
+            assertNull( configManager.getRawValue( "field.0" ) );
+            assertEquals( "reinserted", configManager.getValue( "field.0" ) );
+        }
+
+        @Test
+        @DisplayName( "Puts many values as one change set" )
+        void putsManyValuesAsOneChangeSet()
+        {
+            final List< ConfigChangeSet > changeSets = new ArrayList<>();
+
+            configManager.getChangeDispatcher().subscribeAll( changeSets::add, Runnable::run );
+
+            final Map< String, Object > values = new HashMap<>();
+
+            for ( int i = 0; i < 100; ++i )
+            {
+                values.put( "bulk." + i, ( long ) i );
+            }
+
+            values.put( "int", 3 );
+            configManager.putAll( values );
+
+            assertEquals( 1, changeSets.size() );
+            assertEquals( 100, changeSets.get( 0 ).size() );
+            assertEquals( 42L, configManager.getValue( "bulk.42" ) );
+            assertTrue( configManager.isDirty() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Map view Testing" )
+    final class MapViewTest
+    {
+
+        @Test
+        @DisplayName( "Iterates every field" )
+        void iteratesEveryField()
+        {
+            final Set< String >              fields = new HashSet<>();
+            final Map< String, ConfigValue > values = configManager.getValues();
+
+            for ( final Map.Entry< String, ConfigValue > entry : values.entrySet() )
+            {
+                fields.add( entry.getKey() );
+
+                assertEquals( configManager.getRawValue( entry.getKey() ),
+                              entry.getValue().getValue() );
+            }
+
+            assertEquals( Set.of( "int", "def", "text" ), fields );
+        }
+
+        @Test
+        @DisplayName( "Copies ConfigValues that are put into the map" )
+        void copiesConfigValuesThatArePutIntoTheMap()
+        {
+            final ConfigValue configValue = new ConfigValue( 10, 20 );
+
+            configManager.getValues().put( "put", configValue );
+            configValue.setValue( 11 );
+
+            assertEquals( 10, configManager.getValue( "put" ) );
+            assertEquals( 20, configManager.getDefaultValue( "put" ) );
+        }
+
+        @Test
+        @DisplayName( "Replaces and clears the columns" )
+        void replacesAndClearsTheColumns()
+        {
+            configManager.setValues( new HashMap<>( Map.of( "a", new ConfigValue( 1, null ) ) ) );
+
+            assertEquals( 1, configManager.size() );
+            assertFalse( configManager.getValues().containsKey( "int" ) );
+
+            configManager.setValues( configManager.getValues() );
+
+            assertEquals( 1, configManager.getValue( "a" ) );
+
+            configManager.getValues().clear();
+
+            assertTrue( configManager.getValues().isEmpty() );
+            assertNull( configManager.getRawValue( "a" ) );
+        }
+
+        @Test
+        @DisplayName( "Takes snapshots of the columns" )
+        void takesSnapshotsOfTheColumns()
+        {
+            assertEquals( 3, configManager.snapshot().getValue( "int" ) );
+            assertEquals( 1.5, configManager.snapshot().getValue( "def" ) );
+        }
+
+    }
+
+}
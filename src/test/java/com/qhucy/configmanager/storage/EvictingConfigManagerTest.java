@@ -0,0 +1,181 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.file.ConfigSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the EvictingConfigManager class.
+ *
+ * @see EvictingConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "EvictingConfigManager Class Testing" )
+final class EvictingConfigManagerTest
+{
+
+    // Basic logger used for constructing an EvictingConfigManager.
+    private final static Logger LOGGER =
+            Logger.getLogger( EvictingConfigManagerTest.class.getName() );
+
+    // Temporary directory for the config file.
+    @TempDir
+    Path tempDir;
+
+    // The config file used for unit testing.
+    private File file;
+
+    @BeforeEach
+    void setUp()
+            throws Exception
+    {
+        file = tempDir.resolve( "config.yml" ).toFile();
+
+        Files.write( file.toPath(), List.of( "shop.name: Market", "shop.price: 10",
+                                             "loot.common: 5", "loot.rare: 1" ) );
+    }
+
+    /**
+     * Returns an EvictingConfigManager loaded from the config file that evicts every section that
+     * is not accessed in between.
+     *
+     * @return An EvictingConfigManager loaded from the config file.
+     */
+    private EvictingConfigManager load()
+            throws Exception
+    {
+        return EvictingConfigManager.loadFromFile( file, LOGGER, Duration.ZERO );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Throws on a negative idle time" )
+        void throwsOnANegativeIdleTime()
+        {
+            assertThrows( IllegalArgumentException.class,
+                          () -> new EvictingConfigManager( null, new ConfigSource( file ), LOGGER,
+                                                           Duration.ofSeconds( -1 ) ) );
+        }
+
+        @Test
+        @DisplayName( "Loaded sections start clean" )
+        void loadedSectionsStartClean()
+                throws Exception
+        {
+            final EvictingConfigManager configManager = load();
+
+            assertFalse( configManager.isDirty( "shop" ) );
+            assertFalse( configManager.isDirty( "loot" ) );
+            assertEquals( 0, configManager.getEvictedSections() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Eviction Testing" )
+    final class EvictionTest
+    {
+
+        @Test
+        @DisplayName( "Evicts idle sections and restores them on access" )
+        void evictsIdleSectionsAndRestoresThemOnAccess()
+                throws Exception
+        {
+            final EvictingConfigManager configManager = load();
+
+            assertEquals( 2, configManager.evictIdle() );
+            assertTrue( configManager.isEvicted( "loot" ) );
+            assertFalse( configManager.getValues().containsKey( "loot.rare" ) );
+
+            assertEquals( 1, configManager.getValue( "loot.rare" ) );
+            assertFalse( configManager.isEvicted( "loot" ) );
+            assertTrue( configManager.getValues().containsKey( "loot.common" ) );
+        }
+
+        @Test
+        @DisplayName( "Reloads discarded sections from the config file" )
+        void reloadsDiscardedSectionsFromTheConfigFile()
+                throws Exception
+        {
+            final EvictingConfigManager configManager = load();
+
+            configManager.evictIdle();
+            configManager.discardEvicted();
+
+            assertEquals( "Market", configManager.getValue( "shop.name" ) );
+            assertEquals( 5, configManager.getValue( "loot.common" ) );
+            assertFalse( configManager.isEvicted( "loot" ) );
+        }
+
+        @Test
+        @DisplayName( "Never evicts dirty sections" )
+        void neverEvictsDirtySections()
+                throws Exception
+        {
+            final EvictingConfigManager configManager = load();
+
+            configManager.setValue( "shop.price", 20 );
+            configManager.evictIdle();
+
+            assertTrue( configManager.isDirty( "shop" ) );
+            assertFalse( configManager.isEvicted( "shop" ) );
+            assertTrue( configManager.isEvicted( "loot" ) );
+            assertEquals( 20, configManager.getValue( "shop.price" ) );
+        }
+
+        @Test
+        @DisplayName( "Lists the fields of evicted sections" )
+        void listsTheFieldsOfEvictedSections()
+                throws Exception
+        {
+            final EvictingConfigManager configManager = load();
+
+            configManager.evictIdle();
+
+            assertEquals( 2, configManager.getConfigSectionFields( "loot", false, false ).size() );
+
+            configManager.evictIdle();
+
+            assertEquals( 4, configManager.getConfigSectionFields( "", true, true ).size() );
+        }
+
+        @Test
+        @DisplayName( "Saves evicted sections" )
+        void savesEvictedSections()
+                throws Exception
+        {
+            final EvictingConfigManager configManager = load();
+            final File                  saved         = tempDir.resolve( "saved.json" ).toFile();
+
+            configManager.setValue( "shop.price", 20 );
+            configManager.evictIdle();
+            configManager.saveToFile( saved );
+
+            assertEquals( 0, configManager.getEvictedSections() );
+            assertFalse( configManager.isDirty( "shop" ) );
+            assertTrue( Files.readString( saved.toPath() ).contains( "rare" ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.qhucy.configmanager.storage;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.value.ConfigValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the OffHeapConfigManager class.
+ *
+ * @see OffHeapConfigManager
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "OffHeapConfigManager Class Testing" )
+final class OffHeapConfigManagerTest
+{
+
+    // Random config source file path used for constructing an OffHeapConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing an OffHeapConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( OffHeapConfigManagerTest.class.getName() );
+
+    // Temporary directory for saved config files.
+    @TempDir
+    Path tempDir;
+
+    // The OffHeapConfigManager used for unit testing.
+    private OffHeapConfigManager configManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        configManager = new OffHeapConfigManager( CONFIG_SOURCE, LOGGER, "int", 3, 7, "text", "a",
+                                                  null );
+    }
+
+    @Nested
+    @DisplayName( "Constructor Testing" )
+    final class ConstructorTest
+    {
+
+        @Test
+        @DisplayName( "Instantiates with no exception" )
+        void instantiatesWithNoException()
+        {
+            assertDoesNotThrow( () -> new OffHeapConfigManager( null, CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new OffHeapConfigManager( CONFIG_SOURCE, LOGGER ) );
+            assertDoesNotThrow( () -> new OffHeapConfigManager( new ConfigManager( CONFIG_SOURCE,
+                                                                                   LOGGER ) ) );
+        }
+
+        @Test
+        @DisplayName( "Stores every field off the heap" )
+        void storesEveryFieldOffTheHeap()
+        {
+            for ( final ConfigValue configValue : configManager.getValues().values() )
+            {
+                assertTrue( configValue instanceof OffHeapValue );
+            }
+
+            assertEquals( OffHeapConfigManager.DEFAULT_CHUNK_SIZE,
+                          configManager.getOffHeapBytes() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Reading and writing Testing" )
+    final class ReadingAndWritingTest
+    {
+
+        @Test
+        @DisplayName( "Round-trips every supported type" )
+        void roundTripsEverySupportedType()
+        {
+            final Map< String, Object > nested = new LinkedHashMap<>();
+
+            nested.put( "list", List.of( 1, 2L, 3.5, 4.5f, "five", true ) );
+            nested.put( "empty", new ArrayList<>() );
+            nested.put( "unicode", "h\u00e9llo \u2603" );
+
+            configManager.setValue( "nested", nested );
+            configManager.setValue( "bool", false );
+            configManager.setDefaultValue( "long", Long.MIN_VALUE );
+
+            assertEquals( nested, configManager.getValue( "nested" ) );
+            assertEquals( false, configManager.getValue( "bool" ) );
+            assertEquals( Long.MIN_VALUE, configManager.getValue( "long" ) );
+            assertEquals( 3, configManager.getValue( "int" ) );
+            assertEquals( 7, configManager.getDefaultValue( "int" ) );
+        }
+
+        @Test
+        @DisplayName( "Decodes new objects on every read" )
+        void decodesNewObjectsOnEveryRead()
+        {
+            configManager.setValue( "list", List.of( "a", "b" ) );
+
+            final Object first = configManager.getValue( "list" );
+
+            assertEquals( first, configManager.getValue( "list" ) );
+            assertNotSame( first, configManager.getValue( "list" ) );
+        }
+
+        @Test
+        @DisplayName( "Keeps unsupported values on the heap" )
+        void keepsUnsupportedValuesOnTheHeap()
+        {
+            final Object object = new Object();
+
+            configManager.setValue( "object", object );
+            configManager.setValue( "mixed", List.of( "a", object ) );
+
+            assertSame( object, configManager.getValue( "object" ) );
+            assertEquals( List.of( "a", object ), configManager.getValue( "mixed" ) );
+
+            configManager.compact();
+
+            assertSame( object, configManager.getValue( "object" ) );
+        }
+
+        @Test
+        @DisplayName( "Compacts overwritten values" )
+        void compactsOverwrittenValues()
+        {
+            for ( int i = 0; i < 100_000; ++i )
+            {
+                configManager.setValue( "text", "value " + i );
+            }
+
+            final long chunkSize = OffHeapConfigManager.DEFAULT_CHUNK_SIZE;
+
+            assertTrue( configManager.getOffHeapBytes() > chunkSize );
+
+            final long liveBytes = configManager.getLiveOffHeapBytes();
+
+            configManager.compact();
+
+            assertEquals( liveBytes, configManager.getLiveOffHeapBytes() );
+            assertEquals( chunkSize, configManager.getOffHeapBytes() );
+            assertEquals( "value 99999", configManager.getValue( "text" ) );
+            assertEquals( 3, configManager.getValue( "int" ) );
+        }
+
+        @Test
+        @DisplayName( "Copies ConfigValues from other ConfigManagers" )
+        void copiesConfigValuesFromOtherConfigManagers()
+        {
+            final HashMap< String, ConfigValue > values = new HashMap<>();
+
+            values.put( "a", new ConfigValue( "b", "c" ) );
+            configManager.setValues( values );
+
+            assertTrue( configManager.getValues().get( "a" ) instanceof OffHeapValue );
+            assertEquals( "b", configManager.getValue( "a" ) );
+            assertEquals( "c", configManager.getDefaultValue( "a" ) );
+        }
+
+        @Test
+        @DisplayName( "Saves decoded values to a file" )
+        void savesDecodedValuesToAFile()
+                throws Exception
+        {
+            final File file = tempDir.resolve( "data.json" ).toFile();
+
+            configManager.setValue( "list", List.of( "x", "y" ) );
+            configManager.saveToFile( file );
+
+            final String json = Files.readString( file.toPath() );
+
+            assertTrue( json.contains( "\"list\":[\"x\",\"y\"]" ) );
+            assertTrue( json.contains( "\"text\":\"a\"" ) );
+        }
+
+    }
+
+}
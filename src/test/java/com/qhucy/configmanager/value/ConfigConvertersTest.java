@@ -0,0 +1,221 @@
+package com.qhucy.configmanager.value;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.concurrent.StampedConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import com.qhucy.configmanager.snapshot.VersionedConfigManager;
+import com.qhucy.configmanager.storage.ColumnarConfigManager;
+import com.qhucy.configmanager.storage.OffHeapConfigManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigConverters and ByteSize classes.
+ *
+ * @see ConfigConverters
+ * @see ByteSize
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigConverters Class Testing" )
+final class ConfigConvertersTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger       LOGGER        =
+            Logger.getLogger( ConfigConvertersTest.class.getName() );
+
+    /**
+     * Enum used for unit testing enum conversion.
+     */
+    private enum Difficulty
+    {
+        EASY,
+        VERY_HARD
+    }
+
+    /**
+     * Class used for unit testing registered converters.
+     *
+     * @param name The name.
+     */
+    private record Tag( String name )
+    {
+
+    }
+
+    @Nested
+    @DisplayName( "Converting Testing" )
+    final class ConvertingTest
+    {
+
+        @Test
+        @DisplayName( "Converts numbers and numeric text" )
+        void convertsNumbersAndNumericText()
+        {
+            assertEquals( 5, ConfigConverters.convert( 5L, int.class ) );
+            assertEquals( 5L, ConfigConverters.convert( " 5 ", Long.class ) );
+            assertEquals( 2.5, ConfigConverters.convert( "2.5", Double.class ) );
+            assertEquals( ( short ) 7, ConfigConverters.convert( 7.0, Short.class ) );
+            assertEquals( "12", ConfigConverters.convert( 12, String.class ) );
+            assertNull( ConfigConverters.convert( null, Integer.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( 2.5, Integer.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( Long.MAX_VALUE, Integer.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( 300, Byte.class ) );
+        }
+
+        @Test
+        @DisplayName( "Converts booleans, enums and UUIDs" )
+        void convertsBooleansEnumsAndUuids()
+        {
+            final UUID uuid = UUID.randomUUID();
+
+            assertEquals( true, ConfigConverters.convert( "yes", boolean.class ) );
+            assertEquals( false, ConfigConverters.convert( "OFF", Boolean.class ) );
+            assertEquals( Difficulty.EASY, ConfigConverters.convert( "EASY", Difficulty.class ) );
+            assertEquals( Difficulty.VERY_HARD,
+                          ConfigConverters.convert( "very-hard", Difficulty.class ) );
+            assertEquals( uuid, ConfigConverters.convert( uuid.toString(), UUID.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( "maybe", Boolean.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( "HARD", Difficulty.class ) );
+        }
+
+        @Test
+        @DisplayName( "Converts durations" )
+        void convertsDurations()
+        {
+            assertEquals( Duration.ofSeconds( 30 ),
+                          ConfigConverters.convert( 30, Duration.class ) );
+            assertEquals( Duration.ofMillis( 1500 ),
+                          ConfigConverters.convert( 1.5, Duration.class ) );
+            assertEquals( Duration.ofMinutes( 90 ),
+                          ConfigConverters.convert( "1h 30m", Duration.class ) );
+            assertEquals( Duration.ofMillis( 250 ),
+                          ConfigConverters.convert( "250ms", Duration.class ) );
+            assertEquals( Duration.ofSeconds( 5 ),
+                          ConfigConverters.convert( "PT5S", Duration.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( "5 hours", Duration.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( "PTX", Duration.class ) );
+        }
+
+        @Test
+        @DisplayName( "Converts byte sizes" )
+        void convertsByteSizes()
+        {
+            assertEquals( new ByteSize( 512 ), ConfigConverters.convert( 512, ByteSize.class ) );
+            assertEquals( new ByteSize( 64 * 1024 ),
+                          ConfigConverters.convert( "64KB", ByteSize.class ) );
+            assertEquals( new ByteSize( 1536 * 1024 ),
+                          ConfigConverters.convert( "1.5 MiB", ByteSize.class ) );
+            assertEquals( "2GB", ByteSize.parse( "2g" ).toString() );
+            assertEquals( "1000B", new ByteSize( 1000 ).toString() );
+            assertThrows( IllegalArgumentException.class, () -> ByteSize.parse( "12 apples" ) );
+            assertThrows( IllegalArgumentException.class, () -> ByteSize.parse( "KB" ) );
+            assertThrows( IllegalArgumentException.class, () -> new ByteSize( -1 ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Registering Testing" )
+    final class RegisteringTest
+    {
+
+        @Test
+        @DisplayName( "Registers a converter once" )
+        void registersAConverterOnce()
+        {
+            assertFalse( ConfigConverters.canConvert( Tag.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.convert( "vip", Tag.class ) );
+
+            ConfigConverters.register( Tag.class, value -> new Tag( value.toString() ) );
+
+            assertTrue( ConfigConverters.canConvert( Tag.class ) );
+            assertEquals( new Tag( "vip" ), ConfigConverters.convert( "vip", Tag.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.register( Tag.class, value -> new Tag( "" ) ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> ConfigConverters.register( int.class, value -> 0 ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "ConfigManager Reading Testing" )
+    final class ManagerReadingTest
+    {
+
+        @Test
+        @DisplayName( "Reads typed values and defaults" )
+        void readsTypedValuesAndDefaults()
+        {
+            final ConfigManager configManager =
+                    new ConfigManager( CONFIG_SOURCE, LOGGER, "timeout", "10s", null, "size", null,
+                                       "1KB", "names", List.of( "a" ), null );
+            final Duration      timeout       = configManager.getAs( "timeout", Duration.class );
+
+            assertEquals( Duration.ofSeconds( 10 ), timeout );
+            assertSame( timeout, configManager.getAs( "timeout", Duration.class ) );
+            assertEquals( new ByteSize( 1024 ), configManager.getAs( "size", ByteSize.class ) );
+            assertEquals( List.of( "a" ), configManager.getAs( "names", List.class ) );
+            assertNull( configManager.getAs( "unknown", Integer.class ) );
+        }
+
+        @Test
+        @DisplayName( "Caches conversions of decoded values" )
+        void cachesConversionsOfDecodedValues()
+        {
+            final ConfigManager configManager =
+                    new OffHeapConfigManager( CONFIG_SOURCE, LOGGER, "timeout", "10s", null );
+            final Duration      timeout       = configManager.getAs( "timeout", Duration.class );
+
+            assertEquals( Duration.ofSeconds( 10 ), timeout );
+            assertSame( timeout, configManager.getAs( "timeout", Duration.class ) );
+        }
+
+        @Test
+        @DisplayName( "Reads typed values of detached ConfigManagers" )
+        void readsTypedValuesOfDetachedConfigManagers()
+        {
+            final List< ConfigManager > configManagers =
+                    List.of( new StampedConfigManager( CONFIG_SOURCE, LOGGER, "size", "1KB", null ),
+                             new VersionedConfigManager( CONFIG_SOURCE, LOGGER, "size", "1KB",
+                                                         null ),
+                             new ColumnarConfigManager( CONFIG_SOURCE, LOGGER, "size", "1KB",
+                                                        null ) );
+
+            for ( final ConfigManager configManager : configManagers )
+            {
+                configManager.setValue( "size", "2KB" );
+
+                assertEquals( new ByteSize( 2048 ), configManager.getAs( "size", ByteSize.class ) );
+                assertNull( configManager.getAs( "unknown", ByteSize.class ) );
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.qhucy.configmanager.value;
+
+import com.qhucy.configmanager.ConfigManager;
+import com.qhucy.configmanager.file.ConfigSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the ConfigDefaults class.
+ *
+ * @see ConfigDefaults
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "ConfigDefaults Class Testing" )
+final class ConfigDefaultsTest
+{
+
+    // Random config source file path used for constructing a ConfigManager.
+    private final static ConfigSource   CONFIG_SOURCE = new ConfigSource( "plugins/config.yml" );
+    // Basic logger used for constructing a ConfigManager.
+    private final static Logger         LOGGER        =
+            Logger.getLogger( ConfigDefaultsTest.class.getName() );
+    // ConfigDefaults constant shared by the ConfigManagers under test.
+    private final static ConfigDefaults DEFAULTS      =
+            ConfigDefaults.of( Map.of( "a.b", 1, "a.c", 2, "d", "text" ) );
+
+    @Nested
+    @DisplayName( "Construction Testing" )
+    final class ConstructionTesting
+    {
+
+        @Test
+        @DisplayName( "Copies the map and leaves out null defaults" )
+        void copiesTheMapAndLeavesOutNullDefaults()
+        {
+            final Map< String, Object > defaultValues = new HashMap<>();
+
+            defaultValues.put( "a", 1 );
+            defaultValues.put( "b", null );
+
+            final ConfigDefaults defaults = ConfigDefaults.of( defaultValues );
+
+            defaultValues.put( "c", 3 );
+
+            assertEquals( 1, defaults.size() );
+            assertTrue( defaults.contains( "a" ) );
+            assertFalse( defaults.contains( "b" ) );
+            assertThrows( UnsupportedOperationException.class,
+                          () -> defaults.getFields().add( "c" ) );
+        }
+
+        @Test
+        @DisplayName( "Empty maps return the empty defaults" )
+        void emptyMapsReturnTheEmptyDefaults()
+        {
+            assertSame( ConfigDefaults.empty(), ConfigDefaults.of( Map.of() ) );
+        }
+
+        @Test
+        @DisplayName( "Takes the default values of a config field and value map" )
+        void takesTheDefaultValuesOfAConfigFieldAndValueMap()
+        {
+            final Map< String, ConfigValue > values = new HashMap<>();
+
+            values.put( "a", new ConfigValue( 1, 2 ) );
+            values.put( "b", new ConfigValue( 3, null ) );
+
+            final ConfigDefaults defaults = ConfigDefaults.fromConfigValues( values );
+
+            assertEquals( 2, defaults.get( "a" ) );
+            assertNull( defaults.get( "b" ) );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "Fall Through Testing" )
+    final class FallThroughTesting
+    {
+
+        @Test
+        @DisplayName( "Managers fall through to the shared defaults" )
+        void managersFallThroughToTheSharedDefaults()
+        {
+            final ConfigManager first  = new ConfigManager( CONFIG_SOURCE, LOGGER, DEFAULTS );
+            final ConfigManager second = new ConfigManager( CONFIG_SOURCE, LOGGER, DEFAULTS );
+
+            first.setValue( "a.b", 10 );
+
+            assertEquals( 10, first.getValue( "a.b" ) );
+            assertEquals( 1, second.getValue( "a.b" ) );
+            assertEquals( 1, first.getDefaultValue( "a.b" ) );
+            assertEquals( "text", second.getValue( "d" ) );
+            assertEquals( 1, first.getValues().size() );
+            assertTrue( second.getValues().isEmpty() );
+        }
+
+        @Test
+        @DisplayName( "Own default values take precedence" )
+        void ownDefaultValuesTakePrecedence()
+        {
+            final ConfigManager configManager = new ConfigManager( CONFIG_SOURCE, LOGGER, DEFAULTS );
+
+            configManager.setDefaultValue( "a.c", 20 );
+
+            assertEquals( 20, configManager.getValue( "a.c" ) );
+        }
+
+        @Test
+        @DisplayName( "Shared defaults are read without flagging missing values" )
+        void sharedDefaultsAreReadWithoutFlaggingMissingValues()
+        {
+            final ConfigManager configManager = new ConfigManager( CONFIG_SOURCE, LOGGER, DEFAULTS );
+
+            configManager.setValue( "a.c", null );
+
+            assertEquals( 1, configManager.getValue( "a.b" ) );
+            assertEquals( 2, configManager.getValue( "a.c" ) );
+            assertNull( configManager.getConfigValue( "d" ) );
+            assertFalse( configManager.isMissingValues() );
+
+            assertNull( configManager.getValue( "e" ) );
+            assertTrue( configManager.isMissingValues() );
+        }
+
+        @Test
+        @DisplayName( "Section fields include the shared defaults" )
+        void sectionFieldsIncludeTheSharedDefaults()
+        {
+            final ConfigManager configManager = new ConfigManager( CONFIG_SOURCE, LOGGER, DEFAULTS );
+
+            configManager.setValue( "a.e", 5 );
+
+            assertEquals( 3, configManager.getConfigSectionFields( "a", true, false ).size() );
+        }
+
+    }
+
+}
@@ -8,6 +8,10 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -170,4 +174,38 @@ final class ConfigValueTest
 
     }
 
+    @Nested
+    @DisplayName( "Typed Conversion Testing" )
+    final class TypedConversionTesting
+    {
+
+        @Test
+        @DisplayName( "Caches the conversion until the value is set" )
+        void cachesTheConversionUntilTheValueIsSet()
+        {
+            final ConfigValue configValue = new ConfigValue( "1024" );
+            final Long        first       = configValue.getAs( Long.class );
+
+            assertEquals( 1024L, first );
+            assertSame( first, configValue.getAs( long.class ) );
+
+            configValue.setValue( "2048" );
+
+            final Long second = configValue.getAs( Long.class );
+
+            assertEquals( 2048L, second );
+            assertNotSame( first, second );
+        }
+
+        @Test
+        @DisplayName( "Converts missing and invalid values" )
+        void convertsMissingAndInvalidValues()
+        {
+            assertNull( new ConfigValue( null, DEFAULT_VALUE ).getAs( Integer.class ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> new ConfigValue( "ten" ).getAs( Integer.class ) );
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.qhucy.configmanager.value;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit Testing for the StringSlice and SlicedConfigValue classes.
+ *
+ * @see StringSlice
+ * @see SlicedConfigValue
+ * <p>
+ * MIT License - Copyright (c) 2022 Qhucy Sijyo.
+ */
+@DisplayName( "StringSlice Class Testing" )
+final class StringSliceTest
+{
+
+    // The text that the slices are taken from.
+    private final static String TEXT = "join: Welcome\nquit: Goodbye";
+
+    @Nested
+    @DisplayName( "CharSequence Testing" )
+    final class CharSequenceTest
+    {
+
+        @Test
+        @DisplayName( "Throws on an invalid range" )
+        void throwsOnAnInvalidRange()
+        {
+            assertThrows( IllegalArgumentException.class, () -> new StringSlice( TEXT, 5, 4 ) );
+            assertThrows( IllegalArgumentException.class,
+                          () -> new StringSlice( TEXT, 0, TEXT.length() + 1 ) );
+            assertThrows( IndexOutOfBoundsException.class,
+                          () -> new StringSlice( TEXT, 6, 13 ).charAt( 7 ) );
+        }
+
+        @Test
+        @DisplayName( "Views a range of the source" )
+        void viewsARangeOfTheSource()
+        {
+            final StringSlice slice = new StringSlice( TEXT, 6, 13 );
+
+            assertEquals( 7, slice.length() );
+            assertEquals( 'W', slice.charAt( 0 ) );
+            assertEquals( "Welcome", slice.toString() );
+            assertEquals( "come", slice.subSequence( 3, 7 ).toString() );
+            assertSame( TEXT, slice.getSource() );
+        }
+
+        @Test
+        @DisplayName( "Compares by characters" )
+        void comparesByCharacters()
+        {
+            final StringSlice slice = new StringSlice( TEXT, 6, 13 );
+
+            assertEquals( new StringSlice( "Welcome", 0, 7 ), slice );
+            assertEquals( "Welcome".hashCode(), slice.hashCode() );
+            assertNotEquals( new StringSlice( TEXT, 20, 27 ), slice );
+        }
+
+        @Test
+        @DisplayName( "Materializes interned Strings" )
+        void materializesInternedStrings()
+        {
+            assertSame( "Welcome", new StringSlice( TEXT, 6, 13 ).materialize() );
+        }
+
+    }
+
+    @Nested
+    @DisplayName( "SlicedConfigValue Testing" )
+    final class SlicedConfigValueTest
+    {
+
+        @Test
+        @DisplayName( "Replaces the slice on first read" )
+        void replacesTheSliceOnFirstRead()
+        {
+            final SlicedConfigValue configValue =
+                    new SlicedConfigValue( new StringSlice( TEXT, 20, 27 ) );
+
+            assertTrue( configValue.isSliced() );
+            assertTrue( configValue.getStoredValue() instanceof StringSlice );
+            assertEquals( "Goodbye", configValue.getValue() );
+            assertFalse( configValue.isSliced() );
+            assertSame( configValue.getValue(), configValue.getStoredValue() );
+        }
+
+    }
+
+}